@@ -0,0 +1,113 @@
+package com.nemo.backend.domain.album.controller;
+
+import com.nemo.backend.domain.album.dto.AlbumCoverRequest;
+import com.nemo.backend.domain.album.dto.AlbumPhotosRequest;
+import com.nemo.backend.domain.album.dto.AlbumSummaryResponse;
+import com.nemo.backend.domain.album.export.AlbumExporter;
+import com.nemo.backend.domain.album.service.AlbumService;
+import com.nemo.backend.global.annotation.LoginUser;
+import com.nemo.backend.global.response.CursorPageResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Controller for the current user's albums.
+ */
+@RestController
+@RequestMapping("/api/albums")
+public class AlbumController {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final MediaType ZIP = MediaType.parseMediaType("application/zip");
+    private final AlbumService albumService;
+    private final AlbumExporter albumExporter;
+
+    public AlbumController(AlbumService albumService, AlbumExporter albumExporter) {
+        this.albumService = albumService;
+        this.albumExporter = albumExporter;
+    }
+
+    /** 커서 기반 목록: 응답의 nextCursor 를 다음 요청의 cursor 로 전달 */
+    @GetMapping
+    public ResponseEntity<CursorPageResponse<AlbumSummaryResponse>> list(@LoginUser Long userId,
+                                                                         @RequestParam(required = false) String cursor,
+                                                                         @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(albumService.list(userId, cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE))));
+    }
+
+    /** 앨범 삭제: 바로 응답하고 사진은 백그라운드에서 정리됨 */
+    @DeleteMapping("/{albumId}")
+    public ResponseEntity<Map<String, Object>> delete(@LoginUser Long userId, @PathVariable Long albumId) {
+        albumService.delete(userId, albumId);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("albumId", albumId);
+        body.put("message", "앨범이 성공적으로 삭제되었습니다.");
+        return ResponseEntity.ok(body);
+    }
+
+    /** 사진 여러 장을 한 번에 앨범에 추가 (이미 들어 있던 사진은 addedCount 에서 제외) */
+    @PostMapping("/{albumId}/photos")
+    public ResponseEntity<Map<String, Object>> addPhotos(@LoginUser Long userId, @PathVariable Long albumId,
+                                                         @RequestBody AlbumPhotosRequest request) {
+        int added = albumService.addPhotos(userId, albumId, request.getPhotoIdList());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("albumId", albumId);
+        body.put("addedCount", added);
+        return ResponseEntity.ok(body);
+    }
+
+    /** 사진 여러 장을 한 번에 앨범에서 빼기 (사진 자체는 삭제하지 않음) */
+    @DeleteMapping("/{albumId}/photos")
+    public ResponseEntity<Map<String, Object>> removePhotos(@LoginUser Long userId, @PathVariable Long albumId,
+                                                            @RequestBody AlbumPhotosRequest request) {
+        int removed = albumService.removePhotos(userId, albumId, request.getPhotoIdList());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("albumId", albumId);
+        body.put("removedCount", removed);
+        return ResponseEntity.ok(body);
+    }
+
+    /** 앨범 안의 사진 한 장을 표지로 지정 */
+    @PutMapping("/{albumId}/cover")
+    public ResponseEntity<Map<String, Object>> setCover(@LoginUser Long userId, @PathVariable Long albumId,
+                                                        @RequestBody AlbumCoverRequest request) {
+        String coverPhotoUrl = albumService.setCover(userId, albumId, request.getPhotoId());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("albumId", albumId);
+        body.put("coverPhotoId", request.getPhotoId());
+        body.put("coverPhotoUrl", coverPhotoUrl);
+        return ResponseEntity.ok(body);
+    }
+
+    /** 앨범 전체를 ZIP 으로 내려받기 (서버에 모으지 않고 응답으로 바로 흘려 보냄) */
+    @GetMapping("/{albumId}/export")
+    public ResponseEntity<StreamingResponseBody> export(@LoginUser Long userId, @PathVariable Long albumId,
+                                                        NativeWebRequest request) {
+        AlbumExporter.Export export = albumExporter.open(userId, albumId);
+        // 본문이 실행되지 못하고 끝난 요청(대기 중 끊김/타임아웃/실행 거부)도 자리를 반환
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(export, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest completed, Callable<T> task) {
+                export.release();
+            }
+        });
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(export.fileName(), StandardCharsets.UTF_8)
+                .build();
+        return ResponseEntity.ok()
+                .contentType(ZIP)
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(export.body());
+    }
+}
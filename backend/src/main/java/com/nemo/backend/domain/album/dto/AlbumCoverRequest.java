@@ -0,0 +1,16 @@
+package com.nemo.backend.domain.album.dto;
+
+/**
+ * Request body for choosing an album's cover photo.
+ */
+public class AlbumCoverRequest {
+    private Long photoId;
+
+    public Long getPhotoId() {
+        return photoId;
+    }
+
+    public void setPhotoId(Long photoId) {
+        this.photoId = photoId;
+    }
+}
@@ -0,0 +1,18 @@
+package com.nemo.backend.domain.album.dto;
+
+import java.util.List;
+
+/**
+ * Request body for adding photos to or removing them from an album.
+ */
+public class AlbumPhotosRequest {
+    private List<Long> photoIdList;
+
+    public List<Long> getPhotoIdList() {
+        return photoIdList;
+    }
+
+    public void setPhotoIdList(List<Long> photoIdList) {
+        this.photoIdList = photoIdList;
+    }
+}
@@ -0,0 +1,44 @@
+package com.nemo.backend.domain.album.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the album list, read from the album row alone: the cover and
+ * photo count are denormalized columns kept up to date by
+ * {@link com.nemo.backend.domain.album.service.AlbumStatsService}.
+ */
+public class AlbumSummaryResponse {
+    private final Long albumId;
+    private final String title;
+    private final String description;
+    private final Long coverPhotoId;
+    private final String coverPhotoUrl;
+    private final long photoCount;
+    private final LocalDateTime lastPhotoAt;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public AlbumSummaryResponse(Long albumId, String title, String description, Long coverPhotoId,
+                                String coverPhotoUrl, long photoCount, LocalDateTime lastPhotoAt,
+                                LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.albumId = albumId;
+        this.title = title;
+        this.description = description;
+        this.coverPhotoId = coverPhotoId;
+        this.coverPhotoUrl = coverPhotoUrl;
+        this.photoCount = photoCount;
+        this.lastPhotoAt = lastPhotoAt;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getAlbumId() { return albumId; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public Long getCoverPhotoId() { return coverPhotoId; }
+    public String getCoverPhotoUrl() { return coverPhotoUrl; }
+    public long getPhotoCount() { return photoCount; }
+    public LocalDateTime getLastPhotoAt() { return lastPhotoAt; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -2,20 +2,31 @@ package com.nemo.backend.domain.album.entity;
 
 import com.nemo.backend.domain.user.entity.User;
 import com.nemo.backend.domain.photo.entity.Photo;
+import com.nemo.backend.domain.photo.entity.ThumbnailStatus;
 import com.nemo.backend.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "album")
+@Table(name = "album", indexes = {
+        @Index(name = "idx_album_user_created", columnList = "user_id, createdAt desc, id desc")
+})
+// 삭제된 앨범은 정리 작업이 사진과 함께 지울 때까지 행만 남고 조회에서는 빠짐
+@SQLRestriction("deleted_at is null")
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Album extends BaseEntity {
+    // 앨범 카드에 맞는 축소본 긴 변 길이 (없으면 그보다 작은 것 중 가장 큰 것)
+    private static final int COVER_SIZE = 512;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "album_seq")
+    @SequenceGenerator(name = "album_seq", sequenceName = "album_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -23,6 +34,24 @@ public class Album extends BaseEntity {
 
     private String description;
 
+    /*
+     * 목록용 비정규화 컬럼: 앨범 행을 잠근 트랜잭션 안에서 사진 추가/제거/삭제와 함께 갱신되고,
+     * 어긋난 값은 AlbumStatsRepairJob 이 다시 계산함. 목록 조회는 photo 테이블을 읽지 않음.
+     */
+    private Long coverPhotoId;
+
+    private String coverThumbnailUrl;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long photoCount = 0L;
+
+    // 앨범에 든 사진 중 가장 최근에 업로드된 사진의 업로드 시각
+    private LocalDateTime lastPhotoAt;
+
+    private LocalDateTime deletedAt;
+
     // 소유자 (User)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -31,4 +60,29 @@ public class Album extends BaseEntity {
     // 앨범에 포함된 사진
     @OneToMany(mappedBy = "album", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Photo> photos;
+
+    /** Makes {@code photo} the cover, or clears the cover when it is {@code null}. */
+    public void setCover(Photo photo) {
+        coverPhotoId = photo == null ? null : photo.getId();
+        coverThumbnailUrl = photo == null ? null
+                : coverUrl(photo.getImageUrl(), photo.getThumbnailStatus(), photo.getThumbnailSizes());
+    }
+
+    /**
+     * URL of the thumbnail closest to the album card size once thumbnails
+     * are ready, otherwise the original image.
+     */
+    public static String coverUrl(String imageUrl, ThumbnailStatus status, String sizes) {
+        if (imageUrl == null || status != ThumbnailStatus.READY || sizes == null || sizes.isEmpty()) {
+            return imageUrl;
+        }
+        String chosen = null;
+        for (String size : sizes.split(",")) {
+            chosen = size;
+            if (Integer.parseInt(size) >= COVER_SIZE) {
+                break;
+            }
+        }
+        return imageUrl + "/" + chosen;
+    }
 }
@@ -0,0 +1,268 @@
+package com.nemo.backend.domain.album.export;
+
+import com.nemo.backend.domain.album.entity.Album;
+import com.nemo.backend.domain.album.repository.AlbumRepository;
+import com.nemo.backend.domain.photo.repository.PhotoRepository;
+import com.nemo.backend.domain.photo.storage.PhotoStorage;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams an album as a ZIP archive straight into the response.  Nothing is
+ * assembled in memory or in a temporary file: photos are read in id-ordered
+ * keyset pages and every original is copied through one fixed-size buffer,
+ * so heap use per export is the same for ten photos or ten thousand.
+ * Photos are already compressed, so entries use {@link ZipEntry#STORED};
+ * a stored entry needs its CRC before the data, which costs a second read
+ * of the (usually page-cached) file instead of any CPU spent on deflate.
+ *
+ * <p>At most {@code album.export.max-concurrent} exports run at once;
+ * beyond that the request fails fast with {@link ErrorCode#SERVER_BUSY}.
+ * When the client disconnects the next write fails and the export stops.
+ * A failure on the server side, such as an original that cannot be read or
+ * changes between the two reads, also stops the export but is logged and
+ * counted separately from client aborts.
+ */
+@Component
+public class AlbumExporter {
+    private static final Logger log = LoggerFactory.getLogger(AlbumExporter.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int PAGE_SIZE = 200;
+    private static final DateTimeFormatter ENTRY_TIME = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private final AlbumRepository albumRepository;
+    private final PhotoRepository photoRepository;
+    private final PhotoStorage photoStorage;
+    private final Semaphore permits;
+    private final long retryAfterSeconds;
+    private final Counter rejected;
+    private final Counter aborted;
+    private final Counter failed;
+
+    public AlbumExporter(AlbumRepository albumRepository,
+                         PhotoRepository photoRepository,
+                         PhotoStorage photoStorage,
+                         MeterRegistry meterRegistry,
+                         @Value("${album.export.max-concurrent:4}") int maxConcurrent,
+                         @Value("${album.export.retry-after-seconds:10}") long retryAfterSeconds) {
+        this.albumRepository = albumRepository;
+        this.photoRepository = photoRepository;
+        this.photoStorage = photoStorage;
+        this.permits = new Semaphore(maxConcurrent);
+        this.retryAfterSeconds = retryAfterSeconds;
+        Gauge.builder("album.export.active", permits, p -> maxConcurrent - p.availablePermits())
+                .description("Album exports currently streaming")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("album.export.rejected")
+                .description("Album exports refused because the concurrency limit was reached")
+                .register(meterRegistry);
+        this.aborted = Counter.builder("album.export.aborted")
+                .description("Album exports stopped because the client went away")
+                .register(meterRegistry);
+        this.failed = Counter.builder("album.export.failed")
+                .description("Album exports stopped because an original could not be read")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks that the album belongs to the user and reserves an export slot.
+     * The slot is released when the returned body has been written, or by
+     * {@link Export#release()} if the body never runs.
+     *
+     * @throws ApiException {@link ErrorCode#ALBUM_NOT_FOUND} for an album the
+     *         user does not own, {@link ErrorCode#SERVER_BUSY} when too many
+     *         exports are running
+     */
+    public Export open(Long userId, Long albumId) {
+        Album album = albumRepository.findById(albumId)
+                .filter(found -> Objects.equals(found.getUser().getId(), userId))
+                .orElseThrow(() -> new ApiException(ErrorCode.ALBUM_NOT_FOUND));
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            throw new ApiException(ErrorCode.SERVER_BUSY, retryAfterSeconds);
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        return new Export(album.getName() + ".zip", release, out -> {
+            ClientStream client = new ClientStream(out);
+            try {
+                write(albumId, client);
+            } catch (IOException e) {
+                // 응답 쓰기에서 난 예외만 클라이언트 중단으로 셈
+                if (client.broken) {
+                    aborted.increment();
+                } else {
+                    failed.increment();
+                    log.error("Album {} export failed while reading originals", albumId, e);
+                }
+                throw e;
+            } finally {
+                release.run();
+            }
+        });
+    }
+
+    private void write(Long albumId, OutputStream out) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        ZipOutputStream zip = new ZipOutputStream(out);
+        zip.setMethod(ZipOutputStream.STORED);
+        Long afterId = 0L;
+        List<PhotoRepository.ExportView> page;
+        do {
+            page = photoRepository.findExportPage(albumId, afterId, PageRequest.of(0, PAGE_SIZE));
+            for (PhotoRepository.ExportView photo : page) {
+                writeEntry(zip, photo, buffer);
+                afterId = photo.getId();
+            }
+        } while (page.size() == PAGE_SIZE);
+        // 응답 스트림은 컨테이너가 닫으므로 중앙 디렉터리만 쓰고 닫지 않음
+        zip.finish();
+        zip.flush();
+    }
+
+    private void writeEntry(ZipOutputStream zip, PhotoRepository.ExportView photo, ByteBuffer buffer)
+            throws IOException {
+        Path file = photoStorage.resolve(photo.getContentHash());
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            log.warn("Skipping photo {} in album export: original {} is missing", photo.getId(), file);
+            return;
+        }
+        try (channel) {
+            // STORED 항목은 헤더에 크기와 CRC 가 먼저 들어가므로 한 번 읽어 CRC 를 구한 뒤 다시 읽으며 씀
+            CRC32 crc = new CRC32();
+            long size = 0L;
+            String contentType = null;
+            buffer.clear();
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                if (contentType == null) {
+                    contentType = PhotoStorage.sniffContentType(buffer.array(), buffer.limit());
+                }
+                size += buffer.remaining();
+                crc.update(buffer);
+                buffer.clear();
+            }
+            ZipEntry entry = new ZipEntry(entryName(photo, contentType));
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(size);
+            entry.setCompressedSize(size);
+            entry.setCrc(crc.getValue());
+            entry.setTimeLocal(entryTime(photo));
+            zip.putNextEntry(entry);
+            channel.position(0L);
+            long copied = 0L;
+            while (channel.read(buffer) != -1) {
+                copied += buffer.position();
+                zip.write(buffer.array(), 0, buffer.position());
+                buffer.clear();
+            }
+            if (copied != size) {
+                throw new IOException("Original " + file + " changed during export");
+            }
+            zip.closeEntry();
+        }
+    }
+
+    private static LocalDateTime entryTime(PhotoRepository.ExportView photo) {
+        return photo.getTakenAt() != null ? photo.getTakenAt() : photo.getCreatedAt();
+    }
+
+    // 촬영 시각 순으로 정렬되도록 시각을 앞에 두고, 같은 시각의 사진은 id 로 구분
+    private static String entryName(PhotoRepository.ExportView photo, String contentType) {
+        String extension = switch (contentType == null ? "" : contentType) {
+            case "image/jpeg" -> "jpg";
+            case "image/png" -> "png";
+            case "image/gif" -> "gif";
+            case "image/webp" -> "webp";
+            case "image/heic" -> "heic";
+            default -> "bin";
+        };
+        return ENTRY_TIME.format(entryTime(photo)) + "_" + photo.getId() + "." + extension;
+    }
+
+    /** 응답 스트림 쓰기가 실패했는지 기록해 원본 읽기 실패와 구분 */
+    private static final class ClientStream extends FilterOutputStream {
+        private boolean broken;
+
+        private ClientStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            try {
+                out.write(b, off, len);
+            } catch (IOException e) {
+                broken = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                broken = true;
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * @param fileName suggested download name
+     * @param slot     releases the export slot; only the first call counts
+     * @param body     writes the archive and releases the export slot
+     */
+    public record Export(String fileName, Runnable slot, StreamingResponseBody body) {
+
+        /**
+         * Gives the export slot back if the body has not already.  Called when
+         * the async request completes, so a body that never runs (client gone
+         * or timed out while queued, task rejected by the executor) does not
+         * keep its slot.
+         */
+        public void release() {
+            slot.run();
+        }
+    }
+}
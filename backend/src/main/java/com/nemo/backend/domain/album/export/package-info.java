@@ -0,0 +1 @@
+package com.nemo.backend.domain.album.export;
\ No newline at end of file
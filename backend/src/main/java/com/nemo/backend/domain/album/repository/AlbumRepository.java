@@ -0,0 +1,104 @@
+package com.nemo.backend.domain.album.repository;
+
+import com.nemo.backend.domain.album.dto.AlbumSummaryResponse;
+import com.nemo.backend.domain.album.entity.Album;
+import com.nemo.backend.domain.photo.entity.Photo;
+import com.nemo.backend.domain.photo.entity.ThumbnailStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Repository for {@link Album} persistence.
+ */
+@Repository
+public interface AlbumRepository extends JpaRepository<Album, Long> {
+
+    /*
+     * 앨범 카드 한 페이지를 쿼리 한 번으로 읽음: 표지와 사진 수는 앨범 행의 비정규화 컬럼이므로
+     * photo 테이블도 Album.photos 컬렉션도 건드리지 않음.
+     */
+    @Query("select new com.nemo.backend.domain.album.dto.AlbumSummaryResponse("
+            + "a.id, a.name, a.description, a.coverPhotoId, a.coverThumbnailUrl, a.photoCount, a.lastPhotoAt, "
+            + "a.createdAt, a.updatedAt) "
+            + "from Album a where a.user.id = :userId "
+            + "and a.createdAt <= :createdAt and (a.createdAt < :createdAt or a.id < :id) "
+            + "order by a.user.id, a.createdAt desc, a.id desc")
+    List<AlbumSummaryResponse> findPage(@Param("userId") Long userId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    /** 앨범 단위로 사진 추가/제거와 카운터 갱신을 직렬화할 때 사용 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Album a where a.id = :id")
+    Optional<Album> findByIdForUpdate(@Param("id") Long id);
+
+    /** 앨범에 든 사진을 (album_id, id) 인덱스로 집계: 카운터 재계산용 */
+    @Query("select count(p) as photoCount, max(p.createdAt) as lastPhotoAt "
+            + "from Photo p where p.album.id = :albumId")
+    AlbumPhotoStats computeStats(@Param("albumId") Long albumId);
+
+    /** 새 표지 후보: 목록과 같은 (createdAt, id) 순서로 가장 최근에 올린 사진 */
+    @Query("select p from Photo p where p.album.id = :albumId order by p.createdAt desc, p.id desc")
+    List<Photo> findNewestPhotos(@Param("albumId") Long albumId, Pageable pageable);
+
+    /** 비정규화 컬럼과 실제 사진으로 계산한 값을 나란히 읽음 (id 순 청크, 비교는 AlbumStatsView#isDrifted) */
+    @Query("select a.id as id, a.photoCount as photoCount, a.lastPhotoAt as lastPhotoAt, "
+            + "a.coverPhotoId as coverPhotoId, a.coverThumbnailUrl as coverThumbnailUrl, "
+            + "(select count(p) from Photo p where p.album = a) as actualPhotoCount, "
+            + "(select max(p.createdAt) from Photo p where p.album = a) as actualLastPhotoAt, "
+            + "c.imageUrl as coverImageUrl, c.thumbnailStatus as coverThumbnailStatus, "
+            + "c.thumbnailSizes as coverThumbnailSizes "
+            + "from Album a left join Photo c on c.id = a.coverPhotoId and c.album = a "
+            + "where a.id > :afterId order by a.id")
+    List<AlbumStatsView> findStatsPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    /** 표지 사진의 축소본이 준비되면 같은 원본을 표지로 쓰는 앨범의 URL 을 바꿈 */
+    @Modifying(clearAutomatically = true)
+    @Query("update Album a set a.coverThumbnailUrl = :url "
+            + "where a.coverPhotoId in (select p.id from Photo p where p.contentHash = :contentHash)")
+    int updateCoverThumbnail(@Param("contentHash") String contentHash, @Param("url") String url);
+
+    interface AlbumStatsView {
+        Long getId();
+        long getPhotoCount();
+        LocalDateTime getLastPhotoAt();
+        Long getCoverPhotoId();
+        String getCoverThumbnailUrl();
+        long getActualPhotoCount();
+        LocalDateTime getActualLastPhotoAt();
+        String getCoverImageUrl();
+        ThumbnailStatus getCoverThumbnailStatus();
+        String getCoverThumbnailSizes();
+
+        /** 사진 수, 마지막 업로드 시각, 표지 사진, 표지 URL 중 하나라도 실제와 다른지 */
+        default boolean isDrifted() {
+            if (getPhotoCount() != getActualPhotoCount()
+                    || !Objects.equals(getLastPhotoAt(), getActualLastPhotoAt())) {
+                return true;
+            }
+            if (getCoverPhotoId() == null) {
+                return getActualPhotoCount() > 0;
+            }
+            // 표지 사진이 앨범을 떠났으면 조인된 이미지 URL 이 없음
+            return getCoverImageUrl() == null || !Objects.equals(getCoverThumbnailUrl(),
+                    Album.coverUrl(getCoverImageUrl(), getCoverThumbnailStatus(), getCoverThumbnailSizes()));
+        }
+    }
+
+    interface AlbumPhotoStats {
+        long getPhotoCount();
+        LocalDateTime getLastPhotoAt();
+    }
+}
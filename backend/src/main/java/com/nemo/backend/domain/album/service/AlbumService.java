@@ -0,0 +1,207 @@
+package com.nemo.backend.domain.album.service;
+
+import com.nemo.backend.domain.album.dto.AlbumSummaryResponse;
+import com.nemo.backend.domain.album.entity.Album;
+import com.nemo.backend.domain.album.repository.AlbumRepository;
+import com.nemo.backend.domain.photo.entity.Photo;
+import com.nemo.backend.domain.photo.repository.PhotoRepository;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import com.nemo.backend.global.response.CursorPageResponse;
+import com.nemo.backend.global.util.KeysetCursor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Service layer for album operations.  Bulk photo changes load the photos
+ * with one query and let Hibernate send the row updates as JDBC batches
+ * ({@code hibernate.jdbc.batch_size}) when the transaction commits.  The
+ * album rows involved are locked for the change, always in ascending id
+ * order, and their covers and counters are updated by
+ * {@link AlbumStatsService} in the same transaction.
+ */
+@Service
+public class AlbumService {
+    public static final int MAX_BULK_PHOTOS = 500;
+    private final AlbumRepository albumRepository;
+    private final PhotoRepository photoRepository;
+    private final AlbumStatsService albumStatsService;
+    private final TransactionTemplate transactionTemplate;
+
+    public AlbumService(AlbumRepository albumRepository,
+                        PhotoRepository photoRepository,
+                        AlbumStatsService albumStatsService,
+                        PlatformTransactionManager transactionManager) {
+        this.albumRepository = albumRepository;
+        this.photoRepository = photoRepository;
+        this.albumStatsService = albumStatsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Lists the user's albums newest first, one keyset page at a time.  Each
+     * page is a single projection query over the album rows.
+     */
+    public CursorPageResponse<AlbumSummaryResponse> list(Long userId, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<AlbumSummaryResponse> rows = albumRepository.findPage(userId, after.createdAt(), after.id(),
+                PageRequest.of(0, size + 1));
+        return CursorPageResponse.of(rows, size, Function.identity(),
+                album -> new KeysetCursor(album.getCreatedAt(), album.getAlbumId()).encode());
+    }
+
+    /**
+     * Moves the user's photos into the album and returns how many were not
+     * already in it.  Either all photos are moved or, when one of them is
+     * missing or belongs to someone else, none.  The target album and every
+     * album the photos come from are locked in one ascending-id pass, so two
+     * requests moving photos between the same albums in opposite directions
+     * wait for each other instead of deadlocking.
+     */
+    public int addPhotos(Long userId, Long albumId, List<Long> photoIds) {
+        Set<Long> ids = validate(photoIds);
+        while (true) {
+            Integer added = transactionTemplate.execute(status -> {
+                Integer moved = moveIntoAlbum(userId, albumId, ids);
+                if (moved == null) {
+                    status.setRollbackOnly();
+                }
+                return moved;
+            });
+            if (added != null) {
+                return added;
+            }
+        }
+    }
+
+    // 잠그기 전에 다른 요청이 사진을 다른 앨범으로 옮겼으면 null (새 트랜잭션에서 다시 시도)
+    private Integer moveIntoAlbum(Long userId, Long albumId, Set<Long> ids) {
+        List<Photo> photos = findOwnedPhotos(userId, ids);
+        Map<Long, Long> sourceOf = new HashMap<>();
+        for (Photo photo : photos) {
+            sourceOf.put(photo.getId(), photo.getAlbum() == null ? null : photo.getAlbum().getId());
+        }
+        Set<Long> lockOrder = new TreeSet<>();
+        lockOrder.add(albumId);
+        sourceOf.values().stream().filter(Objects::nonNull).forEach(lockOrder::add);
+        Map<Long, Album> locked = new HashMap<>();
+        for (Long id : lockOrder) {
+            albumRepository.findByIdForUpdate(id).ifPresent(album -> locked.put(id, album));
+        }
+        Album album = Optional.ofNullable(locked.get(albumId))
+                .filter(found -> Objects.equals(found.getUser().getId(), userId))
+                .orElseThrow(() -> new ApiException(ErrorCode.ALBUM_NOT_FOUND));
+        for (PhotoRepository.AlbumAssignmentView current : photoRepository.findAlbumAssignments(ids)) {
+            if (!Objects.equals(current.getAlbumId(), sourceOf.get(current.getId()))) {
+                return null;
+            }
+        }
+        List<Photo> added = new ArrayList<>();
+        Map<Long, List<Photo>> leaving = new TreeMap<>();
+        for (Photo photo : photos) {
+            Long previousId = sourceOf.get(photo.getId());
+            if (albumId.equals(previousId)) {
+                continue;
+            }
+            if (previousId != null) {
+                leaving.computeIfAbsent(previousId, id -> new ArrayList<>()).add(photo);
+            }
+            photo.setAlbum(album);
+            added.add(photo);
+        }
+        // 다른 앨범에서 옮겨 온 사진은 원래 앨범의 카운터도 줄임 (삭제되어 잠그지 못한 앨범은 건너뜀)
+        leaving.forEach((previousId, moved) -> {
+            Album previous = locked.get(previousId);
+            if (previous != null) {
+                albumStatsService.photosRemoved(previous, moved);
+            }
+        });
+        albumStatsService.photosAdded(album, added);
+        return added.size();
+    }
+
+    /**
+     * Takes the user's photos out of the album (the photos themselves are
+     * kept) and returns how many were in it.
+     */
+    public int removePhotos(Long userId, Long albumId, List<Long> photoIds) {
+        Set<Long> ids = validate(photoIds);
+        return transactionTemplate.execute(status -> {
+            Album album = findOwnedAlbum(userId, albumId);
+            List<Photo> removed = new ArrayList<>();
+            for (Photo photo : findOwnedPhotos(userId, ids)) {
+                if (photo.getAlbum() != null && albumId.equals(photo.getAlbum().getId())) {
+                    photo.setAlbum(null);
+                    removed.add(photo);
+                }
+            }
+            albumStatsService.photosRemoved(album, removed);
+            return removed.size();
+        });
+    }
+
+    /** Makes one of the album's photos its cover and returns the new cover URL. */
+    public String setCover(Long userId, Long albumId, Long photoId) {
+        if (photoId == null) {
+            throw new ApiException(ErrorCode.INVALID_ALBUM_REQUEST);
+        }
+        return transactionTemplate.execute(status -> {
+            Album album = findOwnedAlbum(userId, albumId);
+            Photo photo = photoRepository.findById(photoId)
+                    .filter(found -> found.getAlbum() != null && albumId.equals(found.getAlbum().getId()))
+                    .orElseThrow(() -> new ApiException(ErrorCode.PHOTO_NOT_FOUND));
+            album.setCover(photo);
+            return album.getCoverThumbnailUrl();
+        });
+    }
+
+    /**
+     * Marks the album deleted and returns at once; its photos are removed in
+     * the background by {@link com.nemo.backend.domain.purge.service.PurgeWorker}.
+     */
+    public void delete(Long userId, Long albumId) {
+        transactionTemplate.executeWithoutResult(status ->
+                findOwnedAlbum(userId, albumId).setDeletedAt(LocalDateTime.now()));
+    }
+
+    private static Set<Long> validate(List<Long> photoIds) {
+        if (photoIds == null || photoIds.isEmpty() || photoIds.stream().anyMatch(Objects::isNull)) {
+            throw new ApiException(ErrorCode.INVALID_ALBUM_REQUEST);
+        }
+        Set<Long> ids = new LinkedHashSet<>(photoIds);
+        if (ids.size() > MAX_BULK_PHOTOS) {
+            throw new ApiException(ErrorCode.INVALID_ALBUM_REQUEST);
+        }
+        return ids;
+    }
+
+    private Album findOwnedAlbum(Long userId, Long albumId) {
+        return albumRepository.findByIdForUpdate(albumId)
+                .filter(album -> Objects.equals(album.getUser().getId(), userId))
+                .orElseThrow(() -> new ApiException(ErrorCode.ALBUM_NOT_FOUND));
+    }
+
+    // 한 번의 IN 조회로 읽고, 하나라도 없거나 남의 사진이면 전체를 거절
+    private List<Photo> findOwnedPhotos(Long userId, Set<Long> ids) {
+        List<Photo> photos = photoRepository.findByUserIdAndIdIn(userId, ids);
+        if (photos.size() != ids.size()) {
+            throw new ApiException(ErrorCode.PHOTO_NOT_FOUND);
+        }
+        return photos;
+    }
+}
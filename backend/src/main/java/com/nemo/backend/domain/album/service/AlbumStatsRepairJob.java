@@ -0,0 +1,71 @@
+package com.nemo.backend.domain.album.service;
+
+import com.nemo.backend.domain.album.repository.AlbumRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Periodically finds albums whose denormalized cover, cover URL, photo
+ * count or last photo time no longer matches their photos (rows changed
+ * outside the application, a bug) and recomputes them.  Albums are scanned in id order in chunks and
+ * each album is repaired in its own short transaction under its row lock.
+ */
+@Component
+public class AlbumStatsRepairJob {
+    private static final Logger log = LoggerFactory.getLogger(AlbumStatsRepairJob.class);
+    private final AlbumRepository albumRepository;
+    private final AlbumStatsService albumStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Counter repaired;
+
+    public AlbumStatsRepairJob(AlbumRepository albumRepository,
+                               AlbumStatsService albumStatsService,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${album.stats.repair-chunk-size:500}") int chunkSize) {
+        this.albumRepository = albumRepository;
+        this.albumStatsService = albumStatsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.repaired = Counter.builder("album.stats.repaired")
+                .description("Albums whose cover, photo count or last photo time had drifted and was recomputed")
+                .register(meterRegistry);
+    }
+
+    /** Repairs every drifted album and returns how many were changed. */
+    @Scheduled(cron = "${album.stats.repair-cron:0 43 4 * * *}")
+    public int repairDrifted() {
+        long afterId = 0L;
+        int total = 0;
+        while (true) {
+            List<AlbumRepository.AlbumStatsView> page = albumRepository.findStatsPage(afterId,
+                    PageRequest.of(0, chunkSize));
+            for (AlbumRepository.AlbumStatsView view : page) {
+                if (view.isDrifted() && Boolean.TRUE.equals(
+                        transactionTemplate.execute(status -> albumStatsService.repair(view.getId())))) {
+                    total++;
+                }
+            }
+            if (page.size() < chunkSize) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+        if (total > 0) {
+            repaired.increment(total);
+            log.warn("Recomputed drifted cover/photo count/last photo time for {} albums", total);
+        }
+        return total;
+    }
+}
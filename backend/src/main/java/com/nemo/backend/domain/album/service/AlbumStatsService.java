@@ -0,0 +1,123 @@
+package com.nemo.backend.domain.album.service;
+
+import com.nemo.backend.domain.album.entity.Album;
+import com.nemo.backend.domain.album.repository.AlbumRepository;
+import com.nemo.backend.domain.photo.entity.Photo;
+import com.nemo.backend.domain.photo.repository.PhotoRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Maintains the denormalized cover, photo count and last photo time on
+ * {@link Album}.  Every method runs in the caller's transaction with the
+ * album row locked ({@link AlbumRepository#findByIdForUpdate}), so the
+ * columns change together with the photo rows and concurrent changes to the
+ * same album are applied one after another.  The cover stays put until it
+ * is replaced or its photo leaves the album; then the newest remaining
+ * photo takes over.
+ */
+@Service
+public class AlbumStatsService {
+    // 목록과 같은 (createdAt, id) 순서: id 는 업로드 순서를 보장하지 않음 (pooled 시퀀스, 이전 데이터)
+    private static final Comparator<Photo> NEWEST = Comparator
+            .comparing(Photo::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Photo::getId);
+
+    private final AlbumRepository albumRepository;
+    private final PhotoRepository photoRepository;
+
+    public AlbumStatsService(AlbumRepository albumRepository, PhotoRepository photoRepository) {
+        this.albumRepository = albumRepository;
+        this.photoRepository = photoRepository;
+    }
+
+    /** Accounts for {@code photos} having just been moved into the locked {@code album}. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void photosAdded(Album album, Collection<Photo> photos) {
+        if (photos.isEmpty()) {
+            return;
+        }
+        album.setPhotoCount(album.getPhotoCount() + photos.size());
+        photos.stream().map(Photo::getCreatedAt).filter(Objects::nonNull).max(Comparator.naturalOrder())
+                .filter(latest -> album.getLastPhotoAt() == null || latest.isAfter(album.getLastPhotoAt()))
+                .ifPresent(album::setLastPhotoAt);
+        if (album.getCoverPhotoId() == null) {
+            photos.stream().max(NEWEST).ifPresent(album::setCover);
+        }
+    }
+
+    /**
+     * Accounts for {@code photos} having just left the locked {@code album}.
+     * Only when the cover or the newest photo left is the album re-read.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void photosRemoved(Album album, Collection<Photo> photos) {
+        if (photos.isEmpty()) {
+            return;
+        }
+        album.setPhotoCount(Math.max(0L, album.getPhotoCount() - photos.size()));
+        boolean coverLeft = photos.stream().anyMatch(photo -> photo.getId().equals(album.getCoverPhotoId()));
+        boolean newestLeft = photos.stream()
+                .anyMatch(photo -> Objects.equals(photo.getCreatedAt(), album.getLastPhotoAt()));
+        if (coverLeft || newestLeft) {
+            recompute(album, coverLeft);
+        }
+    }
+
+    /** Takes a photo that is about to be deleted out of its album, if it is in one. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void photoDeleted(Photo photo) {
+        if (photo.getAlbum() == null) {
+            return;
+        }
+        albumRepository.findByIdForUpdate(photo.getAlbum().getId()).ifPresent(album -> {
+            photo.setAlbum(null);
+            photosRemoved(album, List.of(photo));
+        });
+    }
+
+    /**
+     * Recomputes every column of the album from its photos and returns
+     * whether anything changed.  Used by {@link AlbumStatsRepairJob}.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean repair(Long albumId) {
+        return albumRepository.findByIdForUpdate(albumId).map(album -> {
+            long count = album.getPhotoCount();
+            LocalDateTime lastPhotoAt = album.getLastPhotoAt();
+            Long coverPhotoId = album.getCoverPhotoId();
+            String coverThumbnailUrl = album.getCoverThumbnailUrl();
+            Photo cover = coverPhotoId == null ? null : photoRepository.findById(coverPhotoId)
+                    .filter(photo -> photo.getAlbum() != null && albumId.equals(photo.getAlbum().getId()))
+                    .orElse(null);
+            recompute(album, cover == null);
+            if (cover != null) {
+                // 표지는 그대로 두고 URL 만 현재 축소본 상태에 맞춤
+                album.setCover(cover);
+            }
+            return count != album.getPhotoCount()
+                    || !Objects.equals(lastPhotoAt, album.getLastPhotoAt())
+                    || !Objects.equals(coverPhotoId, album.getCoverPhotoId())
+                    || !Objects.equals(coverThumbnailUrl, album.getCoverThumbnailUrl());
+        }).orElse(false);
+    }
+
+    // 변경된 사진 행이 먼저 flush 된 뒤 집계되도록 JPQL 로 읽음 (자동 flush)
+    private void recompute(Album album, boolean replaceCover) {
+        AlbumRepository.AlbumPhotoStats stats = albumRepository.computeStats(album.getId());
+        album.setPhotoCount(stats.getPhotoCount());
+        album.setLastPhotoAt(stats.getLastPhotoAt());
+        if (replaceCover) {
+            album.setCover(albumRepository.findNewestPhotos(album.getId(), PageRequest.of(0, 1)).stream()
+                    .findFirst().orElse(null));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.nemo.backend.domain.auth.controller;
+
+import com.nemo.backend.domain.auth.dto.EmailVerificationConfirmRequest;
+import com.nemo.backend.domain.auth.dto.EmailVerificationSendRequest;
+import com.nemo.backend.domain.auth.dto.PasswordResetLinkRequest;
+import com.nemo.backend.domain.auth.service.EmailVerificationService;
+import com.nemo.backend.domain.auth.service.PasswordResetService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Email verification and password reset endpoints under /api/auth.  Each
+ * call only writes to the database and queues a mail, so response times do
+ * not depend on the mail server.
+ */
+@RestController
+@RequestMapping("/api/auth")
+public class AuthController {
+    private final EmailVerificationService emailVerificationService;
+    private final PasswordResetService passwordResetService;
+
+    public AuthController(EmailVerificationService emailVerificationService,
+                          PasswordResetService passwordResetService) {
+        this.emailVerificationService = emailVerificationService;
+        this.passwordResetService = passwordResetService;
+    }
+
+    @PostMapping("/email/verification/send")
+    public ResponseEntity<Map<String, String>> sendVerification(@RequestBody EmailVerificationSendRequest request) {
+        emailVerificationService.sendCode(request.getEmail());
+        return ResponseEntity.ok(Collections.singletonMap("message", "인증 메일이 발송되었습니다."));
+    }
+
+    @PostMapping("/email/verification/confirm")
+    public ResponseEntity<Map<String, String>> confirmVerification(@RequestBody EmailVerificationConfirmRequest request) {
+        emailVerificationService.confirm(request.getEmail(), request.getCode());
+        return ResponseEntity.ok(Collections.singletonMap("message", "이메일 인증이 완료되었습니다."));
+    }
+
+    @PostMapping("/password/reset-link")
+    public ResponseEntity<Map<String, String>> sendPasswordResetLink(@RequestBody PasswordResetLinkRequest request) {
+        passwordResetService.sendResetLink(request.getEmail());
+        return ResponseEntity.ok(Collections.singletonMap("message", "비밀번호 재설정 링크가 이메일로 발송되었습니다."));
+    }
+}
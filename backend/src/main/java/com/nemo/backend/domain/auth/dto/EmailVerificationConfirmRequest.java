@@ -0,0 +1,25 @@
+package com.nemo.backend.domain.auth.dto;
+
+/**
+ * Request body for confirming an email verification code.
+ */
+public class EmailVerificationConfirmRequest {
+    private String email;
+    private String code;
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+}
@@ -0,0 +1,16 @@
+package com.nemo.backend.domain.auth.dto;
+
+/**
+ * Request body for sending an email verification code.
+ */
+public class EmailVerificationSendRequest {
+    private String email;
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+}
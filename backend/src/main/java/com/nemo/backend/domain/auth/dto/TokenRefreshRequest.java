@@ -0,0 +1,16 @@
+package com.nemo.backend.domain.auth.dto;
+
+/**
+ * Request body for rotating a refresh token.
+ */
+public class TokenRefreshRequest {
+    private String refreshToken;
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
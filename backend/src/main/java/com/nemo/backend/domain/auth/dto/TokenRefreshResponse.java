@@ -0,0 +1,23 @@
+package com.nemo.backend.domain.auth.dto;
+
+/**
+ * Response returned after a refresh token has been rotated.  The submitted
+ * refresh token is no longer valid; clients must store the new one.
+ */
+public class TokenRefreshResponse {
+    private String accessToken;
+    private String refreshToken;
+
+    public TokenRefreshResponse(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+}
@@ -0,0 +1,131 @@
+package com.nemo.backend.domain.auth.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Set of HS256 keys shared by every backend node.  One key is the current
+ * signing key; the others are verify-only so tokens signed before a rotation
+ * stay valid until they expire.  Keys are read from the properties file at
+ * {@code jwt.key-ring.location}:
+ *
+ * <pre>
+ * current=2026-10
+ * key.2026-10=&lt;base64 secret, at least 256 bits&gt;
+ * key.2026-07=&lt;previous secret, verify only&gt;
+ * </pre>
+ *
+ * The file is re-read when it changes, so a rotation needs no restart: first
+ * add the new key everywhere, then point {@code current} at it, and drop the
+ * old key once its last token has expired.  Without a configured location a
+ * random key is generated, which only suits a single local instance.
+ */
+@Component
+public class JwtKeyRing {
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyRing.class);
+    private static final String CURRENT = "current";
+    private static final String KEY_PREFIX = "key.";
+    private final Resource resource;
+    private final ApplicationEventPublisher eventPublisher;
+    private volatile Snapshot snapshot;
+    private volatile long lastModified;
+
+    public JwtKeyRing(ResourceLoader resourceLoader,
+                      ApplicationEventPublisher eventPublisher,
+                      @Value("${jwt.key-ring.location:}") String location) {
+        this.eventPublisher = eventPublisher;
+        if (location.isBlank()) {
+            this.resource = null;
+            log.warn("jwt.key-ring.location is not set; using a random signing key that is lost on restart");
+            this.snapshot = new Snapshot("local", Map.of("local", Keys.secretKeyFor(SignatureAlgorithm.HS256)));
+        } else {
+            this.resource = resourceLoader.getResource(location);
+            this.lastModified = lastModified();
+            this.snapshot = load();
+        }
+    }
+
+    /** Current signing key together with its kid, read from a single snapshot. */
+    public SigningKey currentSigningKey() {
+        Snapshot current = snapshot;
+        return new SigningKey(current.currentKid(), current.keys().get(current.currentKid()));
+    }
+
+    /** Returns the key for {@code kid}, or {@code null} if it is not (or no longer) in the ring. */
+    public SecretKey key(String kid) {
+        return kid == null ? null : snapshot.keys().get(kid);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.key-ring.reload-interval:PT30S}")
+    public void reloadIfChanged() {
+        if (resource == null) {
+            return;
+        }
+        long modified = lastModified();
+        if (modified == lastModified) {
+            return;
+        }
+        try {
+            Snapshot reloaded = load();
+            lastModified = modified;
+            snapshot = reloaded;
+            log.info("Reloaded JWT key ring: current={}, kids={}", reloaded.currentKid(), reloaded.keys().keySet());
+            eventPublisher.publishEvent(new JwtKeyRingReloadedEvent(this));
+        } catch (RuntimeException e) {
+            // 잘못된 파일이면 기존 키를 유지
+            log.error("Failed to reload JWT key ring from {}; keeping previous keys", resource, e);
+        }
+    }
+
+    private Snapshot load() {
+        Properties properties = new Properties();
+        try (InputStream in = resource.getInputStream()) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read JWT key ring from " + resource, e);
+        }
+        Map<String, SecretKey> keys = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(KEY_PREFIX)) {
+                byte[] secret = Decoders.BASE64.decode(properties.getProperty(name).trim());
+                keys.put(name.substring(KEY_PREFIX.length()), Keys.hmacShaKeyFor(secret));
+            }
+        }
+        String currentKid = properties.getProperty(CURRENT, "").trim();
+        if (!keys.containsKey(currentKid)) {
+            throw new IllegalStateException("JWT key ring has no key for current kid '" + currentKid + "'");
+        }
+        return new Snapshot(currentKid, Collections.unmodifiableMap(keys));
+    }
+
+    private long lastModified() {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return lastModified;
+        }
+    }
+
+    public record SigningKey(String kid, SecretKey key) {
+    }
+
+    private record Snapshot(String currentKid, Map<String, SecretKey> keys) {
+    }
+}
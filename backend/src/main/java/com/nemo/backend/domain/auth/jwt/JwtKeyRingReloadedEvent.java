@@ -0,0 +1,14 @@
+package com.nemo.backend.domain.auth.jwt;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published after {@link JwtKeyRing} picked up a changed key file.  Caches of
+ * verified tokens listen for it so tokens signed with a retired key stop
+ * being accepted immediately.
+ */
+public class JwtKeyRingReloadedEvent extends ApplicationEvent {
+    public JwtKeyRingReloadedEvent(JwtKeyRing source) {
+        super(source);
+    }
+}
@@ -2,48 +2,74 @@ package com.nemo.backend.domain.auth.jwt;
 
 import com.nemo.backend.domain.user.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
 import org.springframework.stereotype.Component;
 
-import jakarta.annotation.PostConstruct;
 import java.security.Key;
 import java.util.Date;
 
 /**
  * Utility for creating and validating JWT access tokens.  The access token
  * encodes the user id as the subject claim and expires after a fixed
- * duration.
+ * duration.  Tokens carry the {@code kid} of the {@link JwtKeyRing} key that
+ * signed them, so any node sharing the ring can verify them.
  */
 @Component
 public class JwtTokenProvider {
     private static final long ACCESS_TOKEN_VALIDITY_MS = 30 * 60 * 1000L;
-    private Key key;
-    @PostConstruct
-    public void init() {
-        this.key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    private final JwtKeyRing keyRing;
+    // JwtParser 는 불변이며 thread-safe 하므로 한 번만 만들어 재사용 (키는 kid 로 매번 조회)
+    private final JwtParser parser;
+
+    public JwtTokenProvider(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = keyRing.key(header.getKeyId());
+                        if (key == null) {
+                            throw new SignatureException("Unknown signing key id: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
     }
     public String generateAccessToken(User user) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + ACCESS_TOKEN_VALIDITY_MS);
+        JwtKeyRing.SigningKey signingKey = keyRing.currentSigningKey();
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
                 .setSubject(String.valueOf(user.getId()))
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .signWith(key)
+                .signWith(signingKey.key())
                 .compact();
     }
+    /**
+     * Verifies the signature and expiry of the token and returns its claims.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, expired
+     *         or signed with a key that is not in the key ring
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
     public Long getUserId(String token) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
-        return Long.valueOf(claims.getSubject());
+        return Long.valueOf(parseClaims(token).getSubject());
     }
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            parseClaims(token);
             return true;
         } catch (Exception e) {
             return false;
         }
     }
-}
\ No newline at end of file
+}
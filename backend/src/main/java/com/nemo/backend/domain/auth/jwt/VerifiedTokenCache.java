@@ -0,0 +1,91 @@
+package com.nemo.backend.domain.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nemo.backend.global.util.HashUtils;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Size-bounded cache of access tokens whose signature has already been
+ * verified.  Entries are keyed by the SHA-256 digest of the token (the raw
+ * bearer token is never retained) and expire together with the token itself,
+ * so a repeated request with the same access token skips JWT parsing and the
+ * HMAC check for the rest of the token's lifetime.
+ */
+@Component
+public class VerifiedTokenCache {
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.verified-cache.max-size:10000}") long maxSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+    }
+
+    /**
+     * Returns the user id encoded in the token, or {@code null} when the token
+     * is invalid or expired.  Invalid tokens are not cached.
+     */
+    public Long resolveUserId(String token) {
+        String digest = HashUtils.sha256(token);
+        VerifiedToken cached = cache.getIfPresent(digest);
+        if (cached != null) {
+            return cached.userId();
+        }
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.parseClaims(token);
+        } catch (Exception e) {
+            return null;
+        }
+        Long userId = Long.valueOf(claims.getSubject());
+        cache.put(digest, new VerifiedToken(userId, claims.getExpiration().getTime()));
+        return userId;
+    }
+
+    /** 키가 교체·폐기되면 이전 키로 검증된 항목을 모두 버린다. */
+    @EventListener(JwtKeyRingReloadedEvent.class)
+    public void onKeyRingReloaded() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private record VerifiedToken(Long userId, long expiresAtMillis) {
+    }
+
+    /** 토큰의 exp 클레임 시각에 맞춰 캐시 항목을 만료시킨다. */
+    private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMs = value.expiresAtMillis() - System.currentTimeMillis();
+            return Math.max(0L, remainingMs) * 1_000_000L;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.nemo.backend.domain.auth.password;
+
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs BCrypt hashing and verification on a dedicated, size-limited pool so
+ * a login storm cannot occupy every request thread.  When the pool and its
+ * queue are full the caller fails fast with {@link ErrorCode#SERVER_BUSY}
+ * and a {@code Retry-After} hint instead of waiting.
+ */
+@Component
+public class PasswordHasher {
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final long retryAfterSeconds;
+    private final Counter rejected;
+
+    public PasswordHasher(MeterRegistry meterRegistry,
+                          @Value("${auth.password.bcrypt-strength:10}") int strength,
+                          @Value("${auth.password.pool-size:0}") int poolSize,
+                          @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+                          @Value("${auth.password.timeout:5s}") Duration timeout,
+                          @Value("${auth.password.retry-after-seconds:2}") long retryAfterSeconds) {
+        this.encoder = new BCryptPasswordEncoder(strength);
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("bcrypt-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeout = timeout;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.rejected = Counter.builder("auth.password.rejected")
+                .description("Password hashing tasks rejected because the pool was saturated")
+                .register(meterRegistry);
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "bcrypt");
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> encoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Whether the stored hash was produced with a lower cost than the
+     * configured one and should be replaced after a successful login.
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        return encoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ApiException(ErrorCode.SERVER_BUSY, retryAfterSeconds);
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ApiException(ErrorCode.SERVER_BUSY, retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.SERVER_BUSY, retryAfterSeconds);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<Runnable> pending = executor.shutdownNow();
+        pending.forEach(task -> ((Future<?>) task).cancel(true));
+    }
+}
@@ -0,0 +1 @@
+package com.nemo.backend.domain.auth.password;
\ No newline at end of file
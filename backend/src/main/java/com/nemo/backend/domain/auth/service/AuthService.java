@@ -4,89 +4,209 @@ import com.nemo.backend.domain.auth.dto.LoginRequest;
 import com.nemo.backend.domain.auth.dto.LoginResponse;
 import com.nemo.backend.domain.auth.dto.SignUpRequest;
 import com.nemo.backend.domain.auth.dto.SignUpResponse;
+import com.nemo.backend.domain.auth.dto.TokenRefreshResponse;
+import com.nemo.backend.domain.auth.password.PasswordHasher;
+import com.nemo.backend.domain.auth.throttle.LoginThrottle;
 import com.nemo.backend.domain.auth.token.RefreshToken;
 import com.nemo.backend.domain.auth.token.RefreshTokenRepository;
+import com.nemo.backend.domain.mail.repository.MailOutboxRepository;
 import com.nemo.backend.domain.user.entity.User;
 import com.nemo.backend.domain.user.repository.UserRepository;
+import com.nemo.backend.domain.user.service.EmailAvailabilityService;
+import com.nemo.backend.domain.user.service.UserProfileCache;
 import com.nemo.backend.global.exception.ApiException;
 import com.nemo.backend.global.exception.ErrorCode;
+import com.nemo.backend.global.util.HashUtils;
+import com.nemo.backend.global.util.TransactionUtils;
 import com.nemo.backend.domain.auth.jwt.JwtTokenProvider;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.UUID;
 
 /**
  * Service layer encapsulating authentication and account lifecycle logic.
+ * Password hashing runs through {@link PasswordHasher} before any
+ * transaction is opened so a slow BCrypt round never pins a database
+ * connection.
  */
 @Service
 public class AuthService {
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final UserProfileCache userProfileCache;
+    private final PasswordHasher passwordHasher;
+    private final LoginThrottle loginThrottle;
+    private final EmailAvailabilityService emailAvailabilityService;
+    private final MailOutboxRepository mailOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
 
     public AuthService(UserRepository userRepository,
                        RefreshTokenRepository refreshTokenRepository,
-                       JwtTokenProvider jwtTokenProvider) {
+                       JwtTokenProvider jwtTokenProvider,
+                       UserProfileCache userProfileCache,
+                       PasswordHasher passwordHasher,
+                       LoginThrottle loginThrottle,
+                       EmailAvailabilityService emailAvailabilityService,
+                       MailOutboxRepository mailOutboxRepository,
+                       PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
         this.refreshTokenRepository = refreshTokenRepository;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.userProfileCache = userProfileCache;
+        this.passwordHasher = passwordHasher;
+        this.loginThrottle = loginThrottle;
+        this.emailAvailabilityService = emailAvailabilityService;
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
-    @Transactional
     public SignUpResponse signUp(SignUpRequest request) {
-        userRepository.findByEmail(request.getEmail()).ifPresent(u -> {
-            throw new ApiException(ErrorCode.DUPLICATE_EMAIL);
-        });
+        String encodedPassword = null;
+        if (request.getPassword() != null && !request.getPassword().isEmpty()) {
+            encodedPassword = passwordHasher.encode(request.getPassword());
+        }
         User user = new User();
         user.setEmail(request.getEmail());
         user.setNickname(request.getNickname());
         user.setProvider("LOCAL");
-        if (request.getPassword() != null && !request.getPassword().isEmpty()) {
-            user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(encodedPassword);
+        // 사전 조회 없이 email 유니크 제약으로 중복을 판정 (조회-저장 사이 경합 제거)
+        try {
+            transactionTemplate.executeWithoutResult(status -> userRepository.saveAndFlush(user));
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEmail(e)) {
+                throw new ApiException(ErrorCode.DUPLICATE_EMAIL);
+            }
+            throw e;
         }
-        userRepository.save(user);
+        emailAvailabilityService.registered(user.getEmail());
         return new SignUpResponse(user.getId(), user.getEmail(), user.getNickname(), user.getProfileImageUrl());
     }
 
-    @Transactional
-    public LoginResponse login(LoginRequest request) {
+    // 이메일 유니크 제약 위반만 중복 가입으로 보고 다른 무결성 오류는 그대로 전파
+    private static boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String name = violation.getConstraintName();
+                return name != null && name.toLowerCase(Locale.ROOT).contains(User.EMAIL_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
+    public LoginResponse login(LoginRequest request, String clientIp) {
+        // 조회·BCrypt 비교 전에 시도 횟수부터 제한
+        loginThrottle.acquire(request.getEmail(), clientIp);
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new ApiException(ErrorCode.INVALID_CREDENTIALS));
-        if (user.getPassword() == null || !passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        String storedPassword = user.getPassword();
+        if (storedPassword == null || !passwordHasher.matches(request.getPassword(), storedPassword)) {
             throw new ApiException(ErrorCode.INVALID_CREDENTIALS);
         }
-        refreshTokenRepository.deleteByUserId(user.getId());
+        loginThrottle.reset(request.getEmail());
+        String upgradedPassword = upgradedHash(request.getPassword(), storedPassword);
+        return transactionTemplate.execute(status -> {
+            if (upgradedPassword != null) {
+                userRepository.updatePasswordIfUnchanged(user.getId(), storedPassword, upgradedPassword);
+            }
+            refreshTokenRepository.deleteAllByUserId(user.getId());
+            String accessToken = jwtTokenProvider.generateAccessToken(user);
+            String refreshToken = createAndSaveRefreshToken(user.getId());
+            return new LoginResponse(user.getId(), user.getEmail(), user.getNickname(), user.getProfileImageUrl(),
+                    accessToken, refreshToken);
+        });
+    }
+
+    /**
+     * Rehashes a password stored with a lower cost than the configured one.
+     * The rehash is opportunistic: when the BCrypt pool is saturated it is
+     * skipped and retried on a later login rather than failing this one.
+     */
+    private String upgradedHash(String rawPassword, String storedPassword) {
+        if (!passwordHasher.needsUpgrade(storedPassword)) {
+            return null;
+        }
+        try {
+            return passwordHasher.encode(rawPassword);
+        } catch (ApiException e) {
+            if (e.getErrorCode() != ErrorCode.SERVER_BUSY) {
+                throw e;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Exchanges a refresh token for a new access/refresh token pair.  The old
+     * row is consumed with a single-row delete; if a concurrent request
+     * already consumed it the delete affects nothing and the call fails, so a
+     * refresh token can be used at most once.
+     */
+    @Transactional
+    public TokenRefreshResponse refresh(String rawRefreshToken) {
+        if (rawRefreshToken == null || rawRefreshToken.isEmpty()) {
+            throw new ApiException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(HashUtils.sha256(rawRefreshToken))
+                .orElseThrow(() -> new ApiException(ErrorCode.INVALID_REFRESH_TOKEN));
+        if (stored.getExpiry() != null && stored.getExpiry().isBefore(LocalDateTime.now())) {
+            // 만료된 행은 정리 작업이 일괄 삭제
+            throw new ApiException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        if (refreshTokenRepository.deleteOne(stored.getId()) == 0) {
+            throw new ApiException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        User user = userRepository.findById(stored.getUserId())
+                .orElseThrow(() -> new ApiException(ErrorCode.INVALID_REFRESH_TOKEN));
         String accessToken = jwtTokenProvider.generateAccessToken(user);
         String refreshToken = createAndSaveRefreshToken(user.getId());
-        return new LoginResponse(user.getId(), user.getEmail(), user.getNickname(), user.getProfileImageUrl(),
-                accessToken, refreshToken);
+        return new TokenRefreshResponse(accessToken, refreshToken);
     }
 
     @Transactional
     public void logout(Long userId) {
         userRepository.findById(userId).orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED));
-        refreshTokenRepository.deleteByUserId(userId);
+        refreshTokenRepository.deleteAllByUserId(userId);
     }
 
+    /**
+     * Marks the account deleted and returns at once.  The email is freed
+     * immediately by replacing it with a placeholder, and mail still queued
+     * for the old address is dropped with it (the outbox is keyed by address
+     * only).  Photos, albums and the other rows that reference the user are
+     * removed in the background by
+     * {@link com.nemo.backend.domain.purge.service.PurgeWorker}.
+     */
     @Transactional
     public void deleteAccount(Long userId) {
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdForUpdate(userId)
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_ALREADY_DELETED));
-        refreshTokenRepository.deleteByUserId(userId);
-        userRepository.delete(user);
+        String email = user.getEmail();
+        refreshTokenRepository.deleteAllByUserId(userId);
+        mailOutboxRepository.deleteAllByRecipient(email);
+        user.setDeletedAt(LocalDateTime.now());
+        user.setEmail("deleted-" + userId + "@deleted.invalid");
+        user.setSocialId(null);
+        user.setPassword(null);
+        userProfileCache.evictAfterCommit(userId);
+        TransactionUtils.afterCommit(() -> emailAvailabilityService.released(email));
     }
 
     private String createAndSaveRefreshToken(Long userId) {
         String token = UUID.randomUUID().toString();
         RefreshToken refreshToken = new RefreshToken();
         refreshToken.setUserId(userId);
-        refreshToken.setToken(token);
+        refreshToken.setTokenHash(HashUtils.sha256(token));
         refreshToken.setExpiry(LocalDateTime.now().plusDays(14));
         refreshTokenRepository.save(refreshToken);
         return token;
     }
-}
\ No newline at end of file
+}
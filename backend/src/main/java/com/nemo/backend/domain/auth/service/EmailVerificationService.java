@@ -0,0 +1,91 @@
+package com.nemo.backend.domain.auth.service;
+
+import com.nemo.backend.domain.auth.verification.EmailVerification;
+import com.nemo.backend.domain.auth.verification.EmailVerificationRepository;
+import com.nemo.backend.domain.mail.service.MailOutboxService;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import com.nemo.backend.global.util.HashUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Issues and checks time-limited email verification codes.  Sending only
+ * stores the code and queues the mail in the outbox; delivery happens in the
+ * background.
+ */
+@Service
+public class EmailVerificationService {
+    private final EmailVerificationRepository emailVerificationRepository;
+    private final MailOutboxService mailOutboxService;
+    private final SecureRandom random = new SecureRandom();
+    private final Duration codeTtl;
+    private final Duration resendInterval;
+    private final int maxAttempts;
+
+    public EmailVerificationService(EmailVerificationRepository emailVerificationRepository,
+                                    MailOutboxService mailOutboxService,
+                                    @Value("${auth.email-verification.code-ttl:10m}") Duration codeTtl,
+                                    @Value("${auth.email-verification.resend-interval:60s}") Duration resendInterval,
+                                    @Value("${auth.email-verification.max-attempts:5}") int maxAttempts) {
+        this.emailVerificationRepository = emailVerificationRepository;
+        this.mailOutboxService = mailOutboxService;
+        this.codeTtl = codeTtl;
+        this.resendInterval = resendInterval;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Transactional
+    public void sendCode(String email) {
+        if (email == null || email.isBlank()) {
+            throw new ApiException(ErrorCode.INVALID_EMAIL);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        emailVerificationRepository.findTopByEmailOrderByIdDesc(email).ifPresent(latest -> {
+            LocalDateTime resendAt = latest.getCreatedAt().plus(resendInterval);
+            if (resendAt.isAfter(now)) {
+                long seconds = Math.max(1L, Duration.between(now, resendAt).toSeconds());
+                throw new ApiException(ErrorCode.TOO_MANY_VERIFICATION_REQUESTS, seconds);
+            }
+        });
+        String code = String.format("%06d", random.nextInt(1_000_000));
+        LocalDateTime expiresAt = now.plus(codeTtl);
+        emailVerificationRepository.save(EmailVerification.builder()
+                .email(email)
+                .codeHash(hash(email, code))
+                .expiresAt(expiresAt)
+                .failedAttempts(0)
+                .build());
+        mailOutboxService.enqueue(email, "[Nemo] 이메일 인증 코드",
+                "인증 코드: " + code + "\n" + codeTtl.toMinutes() + "분 안에 앱에 입력해주세요.", expiresAt);
+    }
+
+    // 틀린 코드로 실패해도 시도 횟수는 저장되어야 하므로 롤백하지 않음
+    @Transactional(noRollbackFor = ApiException.class)
+    public void confirm(String email, String code) {
+        EmailVerification verification = emailVerificationRepository.findTopByEmailOrderByIdDesc(email)
+                .orElseThrow(() -> new ApiException(ErrorCode.INVALID_VERIFICATION_CODE));
+        if (verification.getVerifiedAt() != null) {
+            return;
+        }
+        if (verification.getExpiresAt().isBefore(LocalDateTime.now())
+                || verification.getFailedAttempts() >= maxAttempts) {
+            throw new ApiException(ErrorCode.INVALID_VERIFICATION_CODE);
+        }
+        if (code == null || !verification.getCodeHash().equals(hash(email, code.trim()))) {
+            // 동시에 틀린 코드를 보내도 한도를 넘겨 세지 않도록 DB 에서 조건부로 증가
+            emailVerificationRepository.incrementFailedAttempts(verification.getId(), maxAttempts);
+            throw new ApiException(ErrorCode.INVALID_VERIFICATION_CODE);
+        }
+        verification.setVerifiedAt(LocalDateTime.now());
+    }
+
+    private static String hash(String email, String code) {
+        return HashUtils.sha256(email + ":" + code);
+    }
+}
@@ -0,0 +1,62 @@
+package com.nemo.backend.domain.auth.service;
+
+import com.nemo.backend.domain.auth.token.PasswordResetToken;
+import com.nemo.backend.domain.auth.token.PasswordResetTokenRepository;
+import com.nemo.backend.domain.mail.service.MailOutboxService;
+import com.nemo.backend.domain.user.repository.UserRepository;
+import com.nemo.backend.global.util.HashUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Issues password reset links.  Unknown emails are accepted silently so the
+ * endpoint cannot be used to probe which addresses have accounts.
+ */
+@Service
+public class PasswordResetService {
+    private final UserRepository userRepository;
+    private final PasswordResetTokenRepository passwordResetTokenRepository;
+    private final MailOutboxService mailOutboxService;
+    private final SecureRandom random = new SecureRandom();
+    private final String resetUrl;
+    private final Duration tokenTtl;
+
+    public PasswordResetService(UserRepository userRepository,
+                                PasswordResetTokenRepository passwordResetTokenRepository,
+                                MailOutboxService mailOutboxService,
+                                @Value("${auth.password-reset.url:https://nemo.app/reset-password}") String resetUrl,
+                                @Value("${auth.password-reset.token-ttl:30m}") Duration tokenTtl) {
+        this.userRepository = userRepository;
+        this.passwordResetTokenRepository = passwordResetTokenRepository;
+        this.mailOutboxService = mailOutboxService;
+        this.resetUrl = resetUrl;
+        this.tokenTtl = tokenTtl;
+    }
+
+    @Transactional
+    public void sendResetLink(String email) {
+        if (email == null || email.isBlank()) {
+            return;
+        }
+        userRepository.findByEmail(email).ifPresent(user -> {
+            byte[] bytes = new byte[32];
+            random.nextBytes(bytes);
+            String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+            LocalDateTime expiresAt = LocalDateTime.now().plus(tokenTtl);
+            passwordResetTokenRepository.save(PasswordResetToken.builder()
+                    .userId(user.getId())
+                    .tokenHash(HashUtils.sha256(token))
+                    .expiresAt(expiresAt)
+                    .build());
+            mailOutboxService.enqueue(email, "[Nemo] 비밀번호 재설정 안내",
+                    "아래 링크에서 " + tokenTtl.toMinutes() + "분 안에 비밀번호를 재설정해주세요.\n"
+                            + resetUrl + "?token=" + token, expiresAt);
+        });
+    }
+}
@@ -0,0 +1,140 @@
+package com.nemo.backend.domain.auth.throttle;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-email and per-client-IP token buckets checked before a login touches
+ * the database or BCrypt.  Each bucket is a single {@link AtomicLong}
+ * holding its theoretical arrival time (GCRA), updated with CAS, so a check
+ * never takes a lock.  Buckets live in size-bounded caches and are dropped
+ * once idle for a full refill window, at which point they would be full
+ * anyway.
+ *
+ * <p>The client IP is the container's remote address; behind a load balancer
+ * it comes from {@code X-Forwarded-For} only when the proxy is trusted
+ * ({@code server.forward-headers-strategy}).
+ */
+@Component
+public class LoginThrottle {
+    private final Limiter emailLimiter;
+    private final Limiter ipLimiter;
+    private final LongSupplier nanoClock;
+    private final Counter throttled;
+
+    @Autowired
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         @Value("${auth.login-throttle.email-burst:5}") int emailBurst,
+                         @Value("${auth.login-throttle.email-interval:1m}") Duration emailInterval,
+                         @Value("${auth.login-throttle.ip-burst:30}") int ipBurst,
+                         @Value("${auth.login-throttle.ip-interval:2s}") Duration ipInterval,
+                         @Value("${auth.login-throttle.max-entries:100000}") long maxEntries) {
+        this(meterRegistry, emailBurst, emailInterval, ipBurst, ipInterval, maxEntries, System::nanoTime);
+    }
+
+    LoginThrottle(MeterRegistry meterRegistry, int emailBurst, Duration emailInterval, int ipBurst,
+                  Duration ipInterval, long maxEntries, LongSupplier nanoClock) {
+        this.emailLimiter = new Limiter(emailBurst, emailInterval, maxEntries);
+        this.ipLimiter = new Limiter(ipBurst, ipInterval, maxEntries);
+        this.nanoClock = nanoClock;
+        this.throttled = Counter.builder("auth.login.throttled")
+                .description("Login attempts rejected before password verification")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Consumes one attempt for the client IP and the email.  An attempt
+     * rejected by either bucket is charged to neither.
+     *
+     * @throws ApiException {@link ErrorCode#TOO_MANY_LOGIN_ATTEMPTS} with a
+     *         retry delay when either bucket is empty
+     */
+    public void acquire(String email, String clientIp) {
+        long waitNanos = tryAcquire(email, clientIp);
+        if (waitNanos > 0L) {
+            throttled.increment();
+            long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            throw new ApiException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS, retryAfterSeconds);
+        }
+    }
+
+    /**
+     * Non-throwing variant of {@link #acquire}.  Returns 0 when the attempt is
+     * allowed, otherwise the nanoseconds until it would be.
+     */
+    public long tryAcquire(String email, String clientIp) {
+        long now = nanoClock.getAsLong();
+        long waitNanos = clientIp == null ? 0L : ipLimiter.tryAcquire(clientIp, now);
+        if (waitNanos == 0L && email != null) {
+            waitNanos = emailLimiter.tryAcquire(normalize(email), now);
+            if (waitNanos > 0L && clientIp != null) {
+                // 이메일 버킷에서 거절된 시도로 같은 IP 의 다른 계정 로그인까지 막히지 않도록 환불
+                ipLimiter.refund(clientIp);
+            }
+        }
+        return waitNanos;
+    }
+
+    /** 로그인 성공 시 해당 이메일의 실패 기록을 초기화 */
+    public void reset(String email) {
+        if (email != null) {
+            emailLimiter.buckets.invalidate(normalize(email));
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Limiter {
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final Cache<String, AtomicLong> buckets;
+
+        Limiter(int burst, Duration interval, long maxEntries) {
+            this.intervalNanos = interval.toNanos();
+            this.toleranceNanos = (burst - 1L) * intervalNanos;
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxEntries)
+                    .expireAfterAccess(interval.multipliedBy(burst))
+                    .build();
+        }
+
+        /** Returns 0 when the attempt is allowed, otherwise the nanoseconds until it would be. */
+        long tryAcquire(String key, long now) {
+            AtomicLong tat = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+            while (true) {
+                long current = tat.get();
+                long base = Math.max(current, now);
+                long wait = base - now - toleranceNanos;
+                if (wait > 0L) {
+                    return wait;
+                }
+                if (tat.compareAndSet(current, base + intervalNanos)) {
+                    return 0L;
+                }
+            }
+        }
+
+        /** Gives back one attempt taken by {@link #tryAcquire}. */
+        void refund(String key) {
+            AtomicLong tat = buckets.getIfPresent(key);
+            if (tat != null) {
+                tat.addAndGet(-intervalNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1 @@
+package com.nemo.backend.domain.auth.throttle;
\ No newline at end of file
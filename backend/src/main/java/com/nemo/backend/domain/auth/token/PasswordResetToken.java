@@ -0,0 +1,35 @@
+package com.nemo.backend.domain.auth.token;
+
+import com.nemo.backend.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One-time password reset token mailed to the user.  As with refresh
+ * tokens, only the SHA-256 hash of the token is stored.
+ */
+@Entity
+@Table(name = "password_reset_tokens", indexes = {
+        @Index(name = "idx_password_reset_tokens_user_id", columnList = "userId")
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class PasswordResetToken extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime usedAt;
+}
@@ -0,0 +1,11 @@
+package com.nemo.backend.domain.auth.token;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for {@link PasswordResetToken} persistence.
+ */
+@Repository
+public interface PasswordResetTokenRepository extends JpaRepository<PasswordResetToken, Long> {
+}
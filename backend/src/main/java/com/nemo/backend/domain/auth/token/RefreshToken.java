@@ -6,19 +6,24 @@ import java.time.LocalDateTime;
 /**
  * RefreshToken entity represents a persisted refresh token tied to a user.
  * It is kept in the auth/token sub‑package according to the domain
- * structure.  When a user logs out or their account is deleted, these
- * tokens are removed.
+ * structure.  Only the SHA-256 hash of the token is stored, so a leaked
+ * table cannot be replayed.  When a user logs out, rotates the token or
+ * deletes their account, these rows are removed with bulk statements.
  */
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_user_id", columnList = "userId"),
+        @Index(name = "idx_refresh_tokens_expiry", columnList = "expiry")
+})
 public class RefreshToken {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_tokens_seq")
+    @SequenceGenerator(name = "refresh_tokens_seq", sequenceName = "refresh_tokens_seq", allocationSize = 50)
     private Long id;
     @Column(nullable = false)
     private Long userId;
-    @Column(nullable = false, unique = true)
-    private String token;
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
     @Column
     private LocalDateTime expiry;
 
@@ -34,11 +39,11 @@ public class RefreshToken {
     public void setUserId(Long userId) {
         this.userId = userId;
     }
-    public String getToken() {
-        return token;
+    public String getTokenHash() {
+        return tokenHash;
     }
-    public void setToken(String token) {
-        this.token = token;
+    public void setTokenHash(String tokenHash) {
+        this.tokenHash = tokenHash;
     }
     public LocalDateTime getExpiry() {
         return expiry;
@@ -46,4 +51,4 @@ public class RefreshToken {
     public void setExpiry(LocalDateTime expiry) {
         this.expiry = expiry;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.nemo.backend.domain.auth.token;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Periodically removes expired refresh tokens.  Rows are deleted in chunks,
+ * each in its own short transaction, so the purge never holds long locks on
+ * {@code refresh_tokens} even after millions of sessions were issued.
+ */
+@Component
+public class RefreshTokenPurgeJob {
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenPurgeJob.class);
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public RefreshTokenPurgeJob(RefreshTokenRepository refreshTokenRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${auth.refresh-token.purge-chunk-size:1000}") int chunkSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${auth.refresh-token.purge-cron:0 17 * * * *}")
+    public void purgeExpired() {
+        purgeExpiredBefore(LocalDateTime.now());
+    }
+
+    /** Deletes every token that expired before {@code now} and returns how many were removed. */
+    public int purgeExpiredBefore(LocalDateTime now) {
+        int total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, chunkSize));
+                return ids.isEmpty() ? 0 : refreshTokenRepository.deleteAllByIdIn(ids);
+            });
+            total += deleted;
+            if (deleted < chunkSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Purged {} expired refresh tokens", total);
+        }
+        return total;
+    }
+}
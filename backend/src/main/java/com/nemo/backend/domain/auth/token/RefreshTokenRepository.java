@@ -1,15 +1,41 @@
 package com.nemo.backend.domain.auth.token;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
- * Repository for {@link RefreshToken} persistence.
+ * Repository for {@link RefreshToken} persistence.  Deletes are issued as
+ * single bulk statements instead of loading each row first.
  */
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByToken(String token);
-    void deleteByUserId(Long userId);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * Deletes a single token row.  Returns 0 if another request already
+     * consumed it, which lets rotation detect concurrent reuse.
+     */
+    @Modifying
+    @Query("delete from RefreshToken r where r.id = :id")
+    int deleteOne(@Param("id") Long id);
+
+    @Query("select r.id from RefreshToken r where r.expiry < :now order by r.id")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,39 @@
+package com.nemo.backend.domain.auth.verification;
+
+import com.nemo.backend.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A verification code sent to an email address.  Only the hash of the code
+ * is stored; the newest row for an email is the one that counts.
+ */
+@Entity
+@Table(name = "email_verification", indexes = {
+        @Index(name = "idx_email_verification_email", columnList = "email")
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class EmailVerification extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Column(nullable = false, length = 64)
+    private String codeHash;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 잘못된 코드 입력 횟수
+    @Column(nullable = false)
+    private int failedAttempts;
+
+    private LocalDateTime verifiedAt;
+}
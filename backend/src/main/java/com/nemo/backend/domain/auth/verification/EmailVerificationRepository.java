@@ -0,0 +1,27 @@
+package com.nemo.backend.domain.auth.verification;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository for {@link EmailVerification} persistence.
+ */
+@Repository
+public interface EmailVerificationRepository extends JpaRepository<EmailVerification, Long> {
+    Optional<EmailVerification> findTopByEmailOrderByIdDesc(String email);
+
+    /**
+     * Counts one wrong code unless the limit is already reached.  The
+     * increment happens in the database, so concurrent wrong guesses are
+     * all counted and never push the count past {@code max}.
+     */
+    @Modifying
+    @Query("update EmailVerification v set v.failedAttempts = v.failedAttempts + 1 "
+            + "where v.id = :id and v.failedAttempts < :max")
+    int incrementFailedAttempts(@Param("id") Long id, @Param("max") int max);
+}
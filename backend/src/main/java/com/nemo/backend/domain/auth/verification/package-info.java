@@ -0,0 +1 @@
+package com.nemo.backend.domain.auth.verification;
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.nemo.backend.domain.friend.controller;
+
+import com.nemo.backend.domain.friend.dto.FriendSuggestionResponse;
+import com.nemo.backend.domain.friend.service.FriendService;
+import com.nemo.backend.global.annotation.LoginUser;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controller for the current user's friends.
+ */
+@RestController
+@RequestMapping("/api/friends")
+public class FriendController {
+    private final FriendService friendService;
+
+    public FriendController(FriendService friendService) {
+        this.friendService = friendService;
+    }
+
+    /** 친구 추가 (이미 친구이면 added 가 false) */
+    @PostMapping("/{friendId}")
+    public ResponseEntity<Map<String, Object>> add(@LoginUser Long userId, @PathVariable Long friendId) {
+        boolean added = friendService.add(userId, friendId);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("friendId", friendId);
+        body.put("added", added);
+        return ResponseEntity.ok(body);
+    }
+
+    @DeleteMapping("/{friendId}")
+    public ResponseEntity<Map<String, Object>> remove(@LoginUser Long userId, @PathVariable Long friendId) {
+        friendService.remove(userId, friendId);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("friendId", friendId);
+        body.put("message", "친구가 삭제되었습니다.");
+        return ResponseEntity.ok(body);
+    }
+
+    /** 다른 사용자와 함께 아는 친구 수 */
+    @GetMapping("/{otherId}/mutual-count")
+    public ResponseEntity<Map<String, Object>> mutualCount(@LoginUser Long userId, @PathVariable Long otherId) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("userId", otherId);
+        body.put("mutualCount", friendService.mutualCount(userId, otherId));
+        return ResponseEntity.ok(body);
+    }
+
+    /** 알 수도 있는 사람: 함께 아는 친구가 많은 순 */
+    @GetMapping("/suggestions")
+    public ResponseEntity<List<FriendSuggestionResponse>> suggestions(@LoginUser Long userId,
+                                                                      @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(friendService.suggestions(userId,
+                Math.max(1, Math.min(size, FriendService.MAX_SUGGESTIONS))));
+    }
+}
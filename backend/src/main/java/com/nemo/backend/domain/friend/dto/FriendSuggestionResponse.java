@@ -0,0 +1,21 @@
+package com.nemo.backend.domain.friend.dto;
+
+/**
+ * A friend of a friend suggested to the user, with how many friends they
+ * already share.
+ */
+public class FriendSuggestionResponse {
+    private final Long userId;
+    private final String nickname;
+    private final int mutualCount;
+
+    public FriendSuggestionResponse(Long userId, String nickname, int mutualCount) {
+        this.userId = userId;
+        this.nickname = nickname;
+        this.mutualCount = mutualCount;
+    }
+
+    public Long getUserId() { return userId; }
+    public String getNickname() { return nickname; }
+    public int getMutualCount() { return mutualCount; }
+}
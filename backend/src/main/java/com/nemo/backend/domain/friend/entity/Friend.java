@@ -5,14 +5,24 @@ import com.nemo.backend.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+/**
+ * One direction of a friendship: {@code user}'s friend list contains
+ * {@code friend}.  A friendship is stored as two rows, one per direction, so
+ * a user's friends are always the rows whose {@code user_id} is that user.
+ */
 @Entity
-@Table(name = "friend")
+@Table(name = "friend", indexes = {
+        @Index(name = "idx_friend_user_id", columnList = "user_id, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_friend_user_friend", columnNames = {"user_id", "friend_id"})
+})
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Friend extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "friend_seq")
+    @SequenceGenerator(name = "friend_seq", sequenceName = "friend_seq", allocationSize = 50)
     private Long id;
 
     // 친구 요청 보낸 사람
@@ -0,0 +1,288 @@
+package com.nemo.backend.domain.friend.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Friend lists held as one sorted {@code long[]} per user in an
+ * open-addressing table keyed by user id, so no id is ever boxed.  A user's
+ * friends are the {@code user_id -> friend_id} edges leaving them.  Mutual
+ * friends are counted by intersecting two sorted arrays, and suggestions
+ * rank friends of friends by how many of the user's friends know them.
+ * Users whose last friend is removed keep their (empty) slot.  Not
+ * thread-safe.
+ */
+public class FriendGraph {
+    private static final long[] NONE = new long[0];
+    // 작은 목록이 큰 목록보다 이만큼 이상 짧으면 병합 대신 이진 탐색으로 교집합을 셈
+    private static final int GALLOP_RATIO = 16;
+
+    // 키 0 은 빈 슬롯 (id 는 항상 양수)
+    private long[] keys = new long[16];
+    private long[][] lists = new long[16][];
+    private int[] sizes = new int[16];
+    private int slotsUsed;
+    private long edges;
+
+    /** A friend of a friend and how many of the user's friends they share. */
+    public record Suggestion(long userId, int mutualCount) {
+    }
+
+    /** Adds the edge; returns {@code false} if it is already present. */
+    public boolean add(long userId, long friendId) {
+        if (userId <= 0 || friendId <= 0 || userId == friendId) {
+            throw new IllegalArgumentException("Invalid friend edge " + userId + " -> " + friendId);
+        }
+        int slot = slot(userId, true);
+        long[] list = lists[slot];
+        int size = sizes[slot];
+        int index = Arrays.binarySearch(list, 0, size, friendId);
+        if (index >= 0) {
+            return false;
+        }
+        int insertAt = -index - 1;
+        if (size == list.length) {
+            list = lists[slot] = Arrays.copyOf(list, Math.max(4, size * 2));
+        }
+        System.arraycopy(list, insertAt, list, insertAt + 1, size - insertAt);
+        list[insertAt] = friendId;
+        sizes[slot] = size + 1;
+        edges++;
+        return true;
+    }
+
+    /** Removes the edge; returns {@code false} if it was not present. */
+    public boolean remove(long userId, long friendId) {
+        int slot = slot(userId, false);
+        if (slot < 0) {
+            return false;
+        }
+        long[] list = lists[slot];
+        int size = sizes[slot];
+        int index = Arrays.binarySearch(list, 0, size, friendId);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(list, index + 1, list, index, size - index - 1);
+        sizes[slot] = size - 1;
+        edges--;
+        return true;
+    }
+
+    /**
+     * Removes the user's friend list and the user from every other list.
+     * The graph can hold one direction of a friendship without the other
+     * (the two rows are deleted in separate transactions and a reload can
+     * land between them), so every list is searched rather than only those
+     * of the user's own friends; that is one binary search per user.
+     */
+    public void removeUser(long userId) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] == 0) {
+                continue;
+            }
+            if (keys[slot] == userId) {
+                edges -= sizes[slot];
+                lists[slot] = NONE;
+                sizes[slot] = 0;
+            } else {
+                remove(keys[slot], userId);
+            }
+        }
+    }
+
+    public boolean contains(long userId, long friendId) {
+        int slot = slot(userId, false);
+        return slot >= 0 && Arrays.binarySearch(lists[slot], 0, sizes[slot], friendId) >= 0;
+    }
+
+    public int degree(long userId) {
+        int slot = slot(userId, false);
+        return slot < 0 ? 0 : sizes[slot];
+    }
+
+    /** The user's friends in ascending id order. */
+    public long[] friends(long userId) {
+        int slot = slot(userId, false);
+        return slot < 0 ? NONE : Arrays.copyOf(lists[slot], sizes[slot]);
+    }
+
+    /** Number of users who are friends of both {@code userId} and {@code otherId}. */
+    public int mutualCount(long userId, long otherId) {
+        int a = slot(userId, false);
+        int b = slot(otherId, false);
+        if (a < 0 || b < 0) {
+            return 0;
+        }
+        if (sizes[a] > sizes[b]) {
+            int swap = a;
+            a = b;
+            b = swap;
+        }
+        return intersect(lists[a], sizes[a], lists[b], sizes[b]);
+    }
+
+    /**
+     * Friends of the user's friends who are not yet the user's friends, most
+     * mutual friends first and then by id.  Friends with more than
+     * {@code maxHubDegree} friends of their own are not expanded: they would
+     * dominate the work while saying little about who the user knows.
+     */
+    public List<Suggestion> suggest(long userId, int limit, int maxHubDegree) {
+        int slot = slot(userId, false);
+        if (slot < 0 || limit <= 0) {
+            return List.of();
+        }
+        long[] own = lists[slot];
+        int ownSize = sizes[slot];
+        // 친구들의 친구 목록을 한 배열에 모아 정렬하면 같은 id 의 연속 구간 길이가 곧 공통 친구 수
+        int total = 0;
+        for (int i = 0; i < ownSize; i++) {
+            int size = degree(own[i]);
+            if (size <= maxHubDegree) {
+                total += size;
+            }
+        }
+        long[] candidates = new long[total];
+        int n = 0;
+        for (int i = 0; i < ownSize; i++) {
+            int friendSlot = slot(own[i], false);
+            // 반대 방향 행만 남은 친구는 자기 목록이 없음
+            if (friendSlot < 0) {
+                continue;
+            }
+            int size = sizes[friendSlot];
+            if (size <= maxHubDegree) {
+                System.arraycopy(lists[friendSlot], 0, candidates, n, size);
+                n += size;
+            }
+        }
+        Arrays.sort(candidates, 0, n);
+
+        long[] topIds = new long[limit];
+        int[] topCounts = new int[limit];
+        int found = 0;
+        for (int start = 0; start < n; ) {
+            long candidate = candidates[start];
+            int end = start + 1;
+            while (end < n && candidates[end] == candidate) {
+                end++;
+            }
+            int count = end - start;
+            start = end;
+            if (candidate == userId || Arrays.binarySearch(own, 0, ownSize, candidate) >= 0) {
+                continue;
+            }
+            // id 오름차순으로 지나가므로 공통 친구 수가 같으면 먼저 들어온 쪽이 앞섬
+            if (found == limit && count <= topCounts[limit - 1]) {
+                continue;
+            }
+            int at = found < limit ? found++ : limit - 1;
+            while (at > 0 && topCounts[at - 1] < count) {
+                topIds[at] = topIds[at - 1];
+                topCounts[at] = topCounts[at - 1];
+                at--;
+            }
+            topIds[at] = candidate;
+            topCounts[at] = count;
+        }
+        List<Suggestion> suggestions = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            suggestions.add(new Suggestion(topIds[i], topCounts[i]));
+        }
+        return suggestions;
+    }
+
+    public long edgeCount() {
+        return edges;
+    }
+
+    public int userCount() {
+        return slotsUsed;
+    }
+
+    // 크기 차이가 크면 작은 쪽 원소마다 큰 쪽을 이진 탐색 (탐색 시작점은 계속 앞으로만 이동)
+    private static int intersect(long[] small, int smallSize, long[] large, int largeSize) {
+        int count = 0;
+        if ((long) smallSize * GALLOP_RATIO < largeSize) {
+            int from = 0;
+            for (int i = 0; i < smallSize && from < largeSize; i++) {
+                int index = Arrays.binarySearch(large, from, largeSize, small[i]);
+                if (index >= 0) {
+                    count++;
+                    from = index + 1;
+                } else {
+                    from = -index - 1;
+                }
+            }
+            return count;
+        }
+        int i = 0;
+        int j = 0;
+        while (i < smallSize && j < largeSize) {
+            long a = small[i];
+            long b = large[j];
+            if (a == b) {
+                count++;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return count;
+    }
+
+    private int slot(long userId, boolean create) {
+        int mask = keys.length - 1;
+        int slot = mix(userId) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == userId) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (!create) {
+            return -1;
+        }
+        if ((slotsUsed + 1) * 4 > keys.length * 3) {
+            grow();
+            return slot(userId, true);
+        }
+        keys[slot] = userId;
+        lists[slot] = NONE;
+        slotsUsed++;
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[][] oldLists = lists;
+        int[] oldSizes = sizes;
+        keys = new long[oldKeys.length * 2];
+        lists = new long[oldKeys.length * 2][];
+        sizes = new int[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == 0) {
+                continue;
+            }
+            int slot = mix(oldKeys[i]) & mask;
+            while (keys[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            lists[slot] = oldLists[i];
+            sizes[slot] = oldSizes[i];
+        }
+    }
+
+    // 연속된 시퀀스 id 가 인접 슬롯에 몰리지 않도록 섞음
+    private static int mix(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,173 @@
+package com.nemo.backend.domain.friend.graph;
+
+import com.nemo.backend.domain.friend.repository.FriendRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * The whole friend graph in memory as a {@link FriendGraph}.  It is read
+ * from the {@code friend} table in id-ordered chunks at startup and then
+ * kept current by {@link #refresh} and {@link #userRemoved} as friendships
+ * are committed on this node, so mutual-friend counts and suggestions never
+ * query the table.  Changes committed by other nodes are picked up by a full
+ * reload every {@code friend.graph.reload-interval}; the new graph is built
+ * beside the old one and swapped in, so readers are never blocked by the
+ * scan and memory briefly holds two graphs.
+ */
+@Component
+public class FriendGraphIndex {
+    private static final Logger log = LoggerFactory.getLogger(FriendGraphIndex.class);
+    private final FriendRepository friendRepository;
+    private final int loadChunkSize;
+    private final int hubDegree;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 같은 쌍의 갱신은 DB 조회부터 반영까지 순서대로 (전역 쓰기 잠금은 반영할 때만)
+    private final Object[] pairLocks = new Object[64];
+    // 다시 읽는 동안 바뀐 쌍과 사용자: 새 그래프로 바꾼 뒤 한 번 더 반영
+    private final Set<Pair> touchedDuringLoad = ConcurrentHashMap.newKeySet();
+    private final Set<Long> removedDuringLoad = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading;
+    private FriendGraph graph = new FriendGraph();
+
+    public FriendGraphIndex(FriendRepository friendRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${friend.graph.load-chunk-size:10000}") int loadChunkSize,
+                            @Value("${friend.graph.hub-degree:5000}") int hubDegree) {
+        this.friendRepository = friendRepository;
+        this.loadChunkSize = loadChunkSize;
+        this.hubDegree = hubDegree;
+        for (int i = 0; i < pairLocks.length; i++) {
+            pairLocks[i] = new Object();
+        }
+        Gauge.builder("friend.graph.edges", this, index -> index.read(() -> index.graph.edgeCount()))
+                .description("Friend edges held in the in-memory graph")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reads the whole {@code friend} table into a new graph and swaps it in.
+     * Pairs refreshed and users removed while the table was being read are
+     * applied again to the new graph, since the scan may have read their
+     * rows before the change.
+     */
+    @PostConstruct
+    public synchronized void load() {
+        long started = System.nanoTime();
+        touchedDuringLoad.clear();
+        removedDuringLoad.clear();
+        loading = true;
+        FriendGraph loaded = new FriendGraph();
+        try {
+            long afterId = 0;
+            List<FriendRepository.EdgeView> chunk;
+            do {
+                chunk = friendRepository.findEdges(afterId, PageRequest.of(0, loadChunkSize));
+                for (FriendRepository.EdgeView edge : chunk) {
+                    loaded.add(edge.getUserId(), edge.getFriendId());
+                    afterId = edge.getId();
+                }
+            } while (chunk.size() == loadChunkSize);
+            write(() -> graph = loaded);
+        } finally {
+            loading = false;
+        }
+        for (Pair pair : touchedDuringLoad) {
+            refresh(pair.userId(), pair.friendId());
+        }
+        removedDuringLoad.forEach(userId -> write(() -> graph.removeUser(userId)));
+        log.info("Loaded {} friend edges for {} users in {} ms", loaded.edgeCount(), loaded.userCount(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    /** 다른 노드에서 커밋된 친구 관계를 반영하기 위해 주기적으로 전체를 다시 읽음 */
+    @Scheduled(initialDelayString = "${friend.graph.reload-interval:PT15M}",
+            fixedDelayString = "${friend.graph.reload-interval:PT15M}")
+    public void reload() {
+        load();
+    }
+
+    public int mutualCount(Long userId, Long otherId) {
+        return read(() -> graph.mutualCount(userId, otherId));
+    }
+
+    public List<FriendGraph.Suggestion> suggest(Long userId, int limit) {
+        return read(() -> graph.suggest(userId, limit, hubDegree));
+    }
+
+    /**
+     * Brings the pair's edges in line with the committed rows.  The rows are
+     * read outside the graph lock but under a lock for the pair, so when two
+     * commits for the same pair refresh in either order the later refresh
+     * reads and applies the final state.
+     */
+    public void refresh(Long userId, Long friendId) {
+        if (loading) {
+            touchedDuringLoad.add(new Pair(userId, friendId));
+        }
+        synchronized (pairLock(userId, friendId)) {
+            boolean forward = friendRepository.existsByUserIdAndFriendId(userId, friendId);
+            boolean backward = friendRepository.existsByUserIdAndFriendId(friendId, userId);
+            write(() -> {
+                apply(userId, friendId, forward);
+                apply(friendId, userId, backward);
+            });
+        }
+    }
+
+    /** Drops every friendship of a purged account. */
+    public void userRemoved(Long userId) {
+        if (loading) {
+            removedDuringLoad.add(userId);
+        }
+        write(() -> graph.removeUser(userId));
+    }
+
+    private Object pairLock(long userId, long friendId) {
+        long key = Math.min(userId, friendId) * 31 + Math.max(userId, friendId);
+        return pairLocks[Math.floorMod(Long.hashCode(key), pairLocks.length)];
+    }
+
+    private void apply(Long userId, Long friendId, boolean exists) {
+        if (exists) {
+            graph.add(userId, friendId);
+        } else {
+            graph.remove(userId, friendId);
+        }
+    }
+
+    private <T> T read(Supplier<T> query) {
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record Pair(long userId, long friendId) {
+    }
+}
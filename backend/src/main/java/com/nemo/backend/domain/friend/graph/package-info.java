@@ -0,0 +1 @@
+package com.nemo.backend.domain.friend.graph;
\ No newline at end of file
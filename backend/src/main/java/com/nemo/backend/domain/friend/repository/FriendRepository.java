@@ -0,0 +1,43 @@
+package com.nemo.backend.domain.friend.repository;
+
+import com.nemo.backend.domain.friend.entity.Friend;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for {@link Friend} persistence.
+ */
+@Repository
+public interface FriendRepository extends JpaRepository<Friend, Long> {
+
+    long countByUserId(Long userId);
+
+    boolean existsByUserIdAndFriendId(Long userId, Long friendId);
+
+    /** 사용자의 친구 행 id 를 (user_id, id) 인덱스 순으로 한 청크씩 읽음 (피드 배치 복사용) */
+    @Query("select f.id from Friend f where f.user.id = :userId and f.id > :afterId order by f.user.id, f.id")
+    List<Long> findRowIds(@Param("userId") Long userId, @Param("afterId") long afterId, Pageable pageable);
+
+    /** 친구 그래프 적재용: 전체 간선을 id 순 청크로 읽음 */
+    @Query("select f.id as id, f.user.id as userId, f.friend.id as friendId from Friend f "
+            + "where f.id > :afterId order by f.id")
+    List<EdgeView> findEdges(@Param("afterId") long afterId, Pageable pageable);
+
+    /** 친구 관계의 양방향 행을 함께 지움 */
+    @Modifying
+    @Query("delete from Friend f where (f.user.id = :userId and f.friend.id = :friendId) "
+            + "or (f.user.id = :friendId and f.friend.id = :userId)")
+    int deletePair(@Param("userId") Long userId, @Param("friendId") Long friendId);
+
+    interface EdgeView {
+        Long getId();
+        Long getUserId();
+        Long getFriendId();
+    }
+}
@@ -0,0 +1,148 @@
+package com.nemo.backend.domain.friend.service;
+
+import com.nemo.backend.domain.friend.dto.FriendSuggestionResponse;
+import com.nemo.backend.domain.friend.entity.Friend;
+import com.nemo.backend.domain.friend.graph.FriendGraph;
+import com.nemo.backend.domain.friend.graph.FriendGraphIndex;
+import com.nemo.backend.domain.friend.repository.FriendRepository;
+import com.nemo.backend.domain.timeline.service.TimelineService;
+import com.nemo.backend.domain.user.entity.User;
+import com.nemo.backend.domain.user.repository.UserRepository;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import com.nemo.backend.global.util.TransactionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service layer for friendships.  A friendship is written as two
+ * {@link Friend} rows, one per direction, with both users locked in id
+ * order.  Mutual-friend counts and suggestions are answered from the
+ * in-memory {@link FriendGraphIndex}, which is refreshed after each commit.
+ */
+@Service
+public class FriendService {
+    public static final int MAX_SUGGESTIONS = 50;
+    private final FriendRepository friendRepository;
+    private final UserRepository userRepository;
+    private final FriendGraphIndex friendGraphIndex;
+    private final TimelineService timelineService;
+    private final TransactionTemplate transactionTemplate;
+
+    public FriendService(FriendRepository friendRepository,
+                         UserRepository userRepository,
+                         FriendGraphIndex friendGraphIndex,
+                         TimelineService timelineService,
+                         PlatformTransactionManager transactionManager) {
+        this.friendRepository = friendRepository;
+        this.userRepository = userRepository;
+        this.friendGraphIndex = friendGraphIndex;
+        this.timelineService = timelineService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Makes the two users friends and returns {@code false} if they already
+     * were.
+     *
+     * @throws ApiException {@link ErrorCode#FRIEND_NOT_FOUND} when the other
+     *         user does not exist or has been deleted
+     */
+    public boolean add(Long userId, Long friendId) {
+        if (friendId == null || friendId.equals(userId)) {
+            throw new ApiException(ErrorCode.INVALID_FRIEND_REQUEST);
+        }
+        return transactionTemplate.execute(status -> {
+            User[] pair = lockPair(userId, friendId);
+            boolean added = false;
+            if (!friendRepository.existsByUserIdAndFriendId(userId, friendId)) {
+                friendRepository.save(Friend.builder().user(pair[0]).friend(pair[1]).build());
+                added = true;
+            }
+            if (!friendRepository.existsByUserIdAndFriendId(friendId, userId)) {
+                friendRepository.save(Friend.builder().user(pair[1]).friend(pair[0]).build());
+                added = true;
+            }
+            TransactionUtils.afterCommit(() -> friendGraphIndex.refresh(userId, friendId));
+            return added;
+        });
+    }
+
+    /**
+     * Ends the friendship in both directions and takes each user's posts out
+     * of the other's feed.
+     *
+     * @throws ApiException {@link ErrorCode#FRIEND_NOT_FOUND} when the users
+     *         are not friends
+     */
+    public void remove(Long userId, Long friendId) {
+        if (friendId == null || friendId.equals(userId)) {
+            throw new ApiException(ErrorCode.INVALID_FRIEND_REQUEST);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            lockPair(userId, friendId);
+            if (friendRepository.deletePair(userId, friendId) == 0) {
+                throw new ApiException(ErrorCode.FRIEND_NOT_FOUND);
+            }
+            timelineService.friendshipEnded(userId, friendId);
+            TransactionUtils.afterCommit(() -> friendGraphIndex.refresh(userId, friendId));
+        });
+    }
+
+    /** Number of friends the user shares with {@code otherId}. */
+    public int mutualCount(Long userId, Long otherId) {
+        return friendGraphIndex.mutualCount(userId, otherId);
+    }
+
+    /** Friends of the user's friends, most mutual friends first. */
+    public List<FriendSuggestionResponse> suggestions(Long userId, int size) {
+        List<FriendGraph.Suggestion> ranked = friendGraphIndex.suggest(userId, size);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        // 탈퇴 처리된 사용자는 조회되지 않으므로 여기서 빠짐
+        Map<Long, User> users = userRepository.findAllById(ranked.stream().map(FriendGraph.Suggestion::userId).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<FriendSuggestionResponse> suggestions = new ArrayList<>(ranked.size());
+        for (FriendGraph.Suggestion suggestion : ranked) {
+            User user = users.get(suggestion.userId());
+            if (user != null) {
+                suggestions.add(new FriendSuggestionResponse(user.getId(), user.getNickname(),
+                        suggestion.mutualCount()));
+            }
+        }
+        return suggestions;
+    }
+
+    // 두 사용자를 id 순으로 잠가 서로를 동시에 추가/삭제해도 교착되지 않게 함 ({user, friend} 순으로 반환)
+    private User[] lockPair(Long userId, Long friendId) {
+        User user;
+        User friend;
+        if (userId < friendId) {
+            user = lockUser(userId);
+            friend = lockFriend(friendId);
+        } else {
+            friend = lockFriend(friendId);
+            user = lockUser(userId);
+        }
+        return new User[]{user, friend};
+    }
+
+    private User lockUser(Long userId) {
+        return userRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new ApiException(ErrorCode.USER_ALREADY_DELETED));
+    }
+
+    private User lockFriend(Long friendId) {
+        return userRepository.findByIdForUpdate(friendId)
+                .orElseThrow(() -> new ApiException(ErrorCode.FRIEND_NOT_FOUND));
+    }
+}
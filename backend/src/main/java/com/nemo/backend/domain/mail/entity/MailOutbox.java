@@ -0,0 +1,63 @@
+package com.nemo.backend.domain.mail.entity;
+
+import com.nemo.backend.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A mail waiting to be delivered.  Request threads only insert rows here;
+ * {@link com.nemo.backend.domain.mail.service.MailDispatcher} sends them in
+ * the background so request latency never depends on the SMTP server.  The
+ * body can carry a verification code or reset link, so it is kept only until
+ * the mail is sent or given up on, and finished rows are purged after
+ * {@code mail.outbox.retention}.
+ */
+@Entity
+@Table(name = "mail_outbox", indexes = {
+        @Index(name = "idx_mail_outbox_due", columnList = "status, nextAttemptAt"),
+        @Index(name = "idx_mail_outbox_claim", columnList = "claimToken"),
+        @Index(name = "idx_mail_outbox_recipient", columnList = "recipient")
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class MailOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Lob
+    @Column(nullable = false)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private MailOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // 다음 발송 시도 시각 (발송 중에는 임대 만료 시각으로 사용)
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 이 행을 가져간 발송 배치의 식별자
+    @Column(length = 36)
+    private String claimToken;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime sentAt;
+
+    // 본문의 코드·링크가 만료되는 시각 (지나면 발송하지 않음)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,7 @@
+package com.nemo.backend.domain.mail.entity;
+
+public enum MailOutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
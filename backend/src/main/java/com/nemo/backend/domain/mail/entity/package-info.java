@@ -0,0 +1 @@
+package com.nemo.backend.domain.mail.entity;
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.nemo.backend.domain.mail.repository;
+
+import com.nemo.backend.domain.mail.entity.MailOutbox;
+import com.nemo.backend.domain.mail.entity.MailOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for {@link MailOutbox}.  Rows are claimed with a conditional
+ * bulk update so several dispatcher instances never send the same mail.
+ */
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    @Query("select m.id from MailOutbox m where m.status = :status and m.nextAttemptAt <= :now order by m.id")
+    List<Long> findDueIds(@Param("status") MailOutboxStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("update MailOutbox m set m.claimToken = :claimToken, m.nextAttemptAt = :leaseUntil "
+            + "where m.id in :ids and m.status = :status and m.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids, @Param("status") MailOutboxStatus status,
+              @Param("claimToken") String claimToken, @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("now") LocalDateTime now);
+
+    List<MailOutbox> findByClaimToken(String claimToken);
+
+    @Modifying
+    @Query("update MailOutbox m set m.status = :status, m.sentAt = :sentAt, m.claimToken = null, "
+            + "m.attempts = m.attempts + 1, m.body = '' where m.id in :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("status") MailOutboxStatus status,
+                 @Param("sentAt") LocalDateTime sentAt);
+
+    // 발송이 끝난 행은 nextAttemptAt 이 마지막 임대 시각이므로 발송 대기 인덱스로 오래된 행을 찾음
+    @Query("select m.id from MailOutbox m where m.status = :status and m.nextAttemptAt < :cutoff order by m.id")
+    List<Long> findFinishedIds(@Param("status") MailOutboxStatus status, @Param("cutoff") LocalDateTime cutoff,
+                               Pageable pageable);
+
+    @Modifying
+    @Query("delete from MailOutbox m where m.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from MailOutbox m where m.recipient = :recipient")
+    int deleteAllByRecipient(@Param("recipient") String recipient);
+}
@@ -0,0 +1 @@
+package com.nemo.backend.domain.mail.repository;
\ No newline at end of file
@@ -0,0 +1,195 @@
+package com.nemo.backend.domain.mail.service;
+
+import com.nemo.backend.domain.mail.entity.MailOutbox;
+import com.nemo.backend.domain.mail.entity.MailOutboxStatus;
+import com.nemo.backend.domain.mail.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Background sender for {@link MailOutbox} rows.  Each run claims a batch of
+ * due rows, sends them with a single {@link JavaMailSender#send(MimeMessage...)}
+ * call (one SMTP connection per batch) outside of any transaction, then
+ * records the outcome.  Failed mails are retried with exponential backoff
+ * until {@code mail.outbox.max-attempts} is reached.  A claim is a lease: if
+ * the node dies mid-batch the rows become due again once it runs out.
+ * Mails whose content expired while queued are dropped, and the body is
+ * cleared once a mail is sent or given up on.
+ */
+@Component
+public class MailDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(MailDispatcher.class);
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final String from;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration lease;
+    private final Counter sent;
+    private final Counter failed;
+
+    public MailDispatcher(MailOutboxRepository mailOutboxRepository,
+                          JavaMailSender mailSender,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${mail.outbox.enabled:true}") boolean enabled,
+                          @Value("${mail.from:no-reply@nemo.app}") String from,
+                          @Value("${mail.outbox.batch-size:50}") int batchSize,
+                          @Value("${mail.outbox.max-attempts:6}") int maxAttempts,
+                          @Value("${mail.outbox.initial-backoff:10s}") Duration initialBackoff,
+                          @Value("${mail.outbox.lease:2m}") Duration lease) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.from = from;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.lease = lease;
+        this.sent = Counter.builder("mail.outbox.sent").register(meterRegistry);
+        this.failed = Counter.builder("mail.outbox.failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval:PT1S}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+        while (dispatchBatch() == batchSize) {
+            // 밀린 메일이 있으면 다음 폴링을 기다리지 않고 계속 발송
+        }
+    }
+
+    /** Sends one batch and returns how many rows it claimed. */
+    public int dispatchBatch() {
+        String claimToken = UUID.randomUUID().toString();
+        List<MailOutbox> batch = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = mailOutboxRepository.findDueIds(MailOutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            mailOutboxRepository.claim(ids, MailOutboxStatus.PENDING, claimToken, now.plus(lease), now);
+            return mailOutboxRepository.findByClaimToken(claimToken);
+        });
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Exception> failures = new HashMap<>();
+        Map<MimeMessage, Long> messages = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (MailOutbox mail : batch) {
+            if (mail.getExpiresAt() != null && mail.getExpiresAt().isBefore(now)) {
+                failures.put(mail.getId(), new MailExpiredException());
+                continue;
+            }
+            try {
+                messages.put(toMessage(mail), mail.getId());
+            } catch (MessagingException e) {
+                failures.put(mail.getId(), e);
+            }
+        }
+        if (!messages.isEmpty()) {
+            try {
+                mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                Map<Object, Exception> failedMessages = e.getFailedMessages();
+                if (failedMessages.isEmpty()) {
+                    messages.values().forEach(id -> failures.put(id, e));
+                } else {
+                    failedMessages.forEach((message, cause) -> failures.put(messages.get(message), cause));
+                }
+            } catch (MailException e) {
+                messages.values().forEach(id -> failures.put(id, e));
+            }
+        }
+        record(batch, failures);
+        return batch.size();
+    }
+
+    private MimeMessage toMessage(MailOutbox mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, StandardCharsets.UTF_8.name());
+        helper.setFrom(from);
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getBody(), false);
+        return message;
+    }
+
+    private void record(List<MailOutbox> batch, Map<Long, Exception> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> sentIds = new ArrayList<>();
+        List<MailOutbox> failedMails = new ArrayList<>();
+        for (MailOutbox mail : batch) {
+            Exception failure = failures.get(mail.getId());
+            if (failure == null) {
+                sentIds.add(mail.getId());
+                continue;
+            }
+            int attempts = mail.getAttempts() + 1;
+            mail.setAttempts(attempts);
+            mail.setClaimToken(null);
+            mail.setLastError(abbreviate(String.valueOf(failure.getMessage())));
+            if (failure instanceof MailExpiredException) {
+                mail.setStatus(MailOutboxStatus.FAILED);
+                mail.setBody("");
+            } else if (attempts >= maxAttempts) {
+                mail.setStatus(MailOutboxStatus.FAILED);
+                mail.setBody("");
+                log.error("Giving up on mail {} to {} after {} attempts", mail.getId(), mail.getRecipient(), attempts, failure);
+            } else {
+                mail.setNextAttemptAt(now.plus(initialBackoff.multipliedBy(1L << (attempts - 1))));
+            }
+            failedMails.add(mail);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                mailOutboxRepository.markSent(sentIds, MailOutboxStatus.SENT, now);
+            }
+            mailOutboxRepository.saveAll(failedMails);
+        });
+        sent.increment(sentIds.size());
+        failed.increment(failedMails.size());
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+
+    /** 큐에 있는 동안 본문의 코드·링크가 만료되어 보내지 않은 메일 */
+    private static final class MailExpiredException extends Exception {
+        MailExpiredException() {
+            super("Expired before delivery", null, false, false);
+        }
+    }
+}
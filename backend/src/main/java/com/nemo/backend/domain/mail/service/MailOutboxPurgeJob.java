@@ -0,0 +1,67 @@
+package com.nemo.backend.domain.mail.service;
+
+import com.nemo.backend.domain.mail.entity.MailOutboxStatus;
+import com.nemo.backend.domain.mail.repository.MailOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Periodically removes sent and given-up mails once they are older than
+ * {@code mail.outbox.retention}.  Rows are deleted in chunks, each in its own
+ * short transaction, so the purge never holds long locks on
+ * {@code mail_outbox} while the dispatcher is claiming rows.
+ */
+@Component
+public class MailOutboxPurgeJob {
+    private static final Logger log = LoggerFactory.getLogger(MailOutboxPurgeJob.class);
+    private final MailOutboxRepository mailOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int chunkSize;
+
+    public MailOutboxPurgeJob(MailOutboxRepository mailOutboxRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${mail.outbox.retention:7d}") Duration retention,
+                              @Value("${mail.outbox.purge-chunk-size:1000}") int chunkSize) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${mail.outbox.purge-cron:0 23 * * * *}")
+    public void purgeFinished() {
+        purgeFinishedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    /** Deletes every finished mail last touched before {@code cutoff} and returns how many were removed. */
+    public int purgeFinishedBefore(LocalDateTime cutoff) {
+        int total = 0;
+        for (MailOutboxStatus status : List.of(MailOutboxStatus.SENT, MailOutboxStatus.FAILED)) {
+            while (true) {
+                Integer deleted = transactionTemplate.execute(tx -> {
+                    List<Long> ids = mailOutboxRepository.findFinishedIds(status, cutoff, PageRequest.of(0, chunkSize));
+                    return ids.isEmpty() ? 0 : mailOutboxRepository.deleteAllByIdIn(ids);
+                });
+                total += deleted;
+                if (deleted < chunkSize) {
+                    break;
+                }
+            }
+        }
+        if (total > 0) {
+            log.info("Purged {} finished outbox mails", total);
+        }
+        return total;
+    }
+}
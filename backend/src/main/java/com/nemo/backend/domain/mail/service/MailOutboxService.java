@@ -0,0 +1,46 @@
+package com.nemo.backend.domain.mail.service;
+
+import com.nemo.backend.domain.mail.entity.MailOutbox;
+import com.nemo.backend.domain.mail.entity.MailOutboxStatus;
+import com.nemo.backend.domain.mail.repository.MailOutboxRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entry point for queueing mail.  The row is written in the caller's
+ * transaction, so a mail is sent if and only if the business change that
+ * produced it commits.
+ */
+@Service
+public class MailOutboxService {
+    private final MailOutboxRepository mailOutboxRepository;
+
+    public MailOutboxService(MailOutboxRepository mailOutboxRepository) {
+        this.mailOutboxRepository = mailOutboxRepository;
+    }
+
+    @Transactional
+    public void enqueue(String recipient, String subject, String body) {
+        enqueue(recipient, subject, body, null);
+    }
+
+    /**
+     * Queues a mail whose content stops being useful at {@code expiresAt}
+     * (a verification code or reset link); it is dropped instead of sent
+     * late.
+     */
+    @Transactional
+    public void enqueue(String recipient, String subject, String body, LocalDateTime expiresAt) {
+        mailOutboxRepository.save(MailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .status(MailOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .expiresAt(expiresAt)
+                .build());
+    }
+}
@@ -0,0 +1 @@
+package com.nemo.backend.domain.mail.service;
\ No newline at end of file
@@ -0,0 +1,183 @@
+package com.nemo.backend.domain.photo.controller;
+
+import com.nemo.backend.domain.photo.storage.PhotoStorage;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves stored originals and thumbnails under immutable content-hash URLs
+ * ({@code /api/images/{hash}} and {@code /api/images/{hash}/{size}}).  The
+ * bytes behind a URL never change, so responses carry a strong ETag and
+ * {@code Cache-Control: immutable}; a conditional request is answered with
+ * 304 without touching the disk.  A missing image is answered with
+ * {@code no-store}, so a 404 for a file that is still being written or was
+ * purged is never cached as immutable.  Single byte ranges are supported, and the
+ * body is handed to Tomcat's sendfile (or {@link FileChannel#transferTo})
+ * so it is never copied through heap buffers.
+ */
+@RestController
+@RequestMapping("/api/images")
+public class ImageController {
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String NO_STORE = "no-store";
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+    // Tomcat NIO 커넥터가 지원하는 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private final PhotoStorage photoStorage;
+
+    public ImageController(PhotoStorage photoStorage) {
+        this.photoStorage = photoStorage;
+    }
+
+    @RequestMapping(value = "/{hash}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void original(@PathVariable String hash, HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        serve(resolve(hash, null, response), "\"" + hash + "\"", null, request, response);
+    }
+
+    @RequestMapping(value = "/{hash}/{size}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void derivative(@PathVariable String hash, @PathVariable int size, HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        serve(resolve(hash, size, response), "\"" + hash + "-" + size + "\"", "image/jpeg", request, response);
+    }
+
+    private Path resolve(String hash, Integer size, HttpServletResponse response) {
+        try {
+            return size == null ? photoStorage.resolve(hash) : photoStorage.resolveDerivative(hash, size);
+        } catch (IllegalArgumentException e) {
+            throw notFound(response);
+        }
+    }
+
+    // 아직 생성 중인 축소본이나 삭제된 원본의 404 가 캐시에 남지 않도록 함
+    private static ApiException notFound(HttpServletResponse response) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, NO_STORE);
+        return new ApiException(ErrorCode.IMAGE_NOT_FOUND);
+    }
+
+    private void serve(Path file, String etag, String contentType, HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        // URL 이 내용의 해시이므로 ETag 가 맞으면 파일 존재 여부도 확인할 필요가 없음
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            cachingHeaders(response, etag);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        if (!Files.isRegularFile(file)) {
+            throw notFound(response);
+        }
+        long length = Files.size(file);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        long start = 0;
+        long end = length;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            Matcher matcher = RANGE.matcher(range.trim());
+            // 여러 구간 요청이나 형식이 틀린 구간(bytes=9-3 등)은 Range 가 없는 것처럼 전체를 보냄 (RFC 9110)
+            if (matcher.matches() && !(matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+                String first = matcher.group(1);
+                String last = matcher.group(2);
+                if (first.isEmpty() || last.isEmpty() || position(last) >= position(first)) {
+                    if (first.isEmpty()) {
+                        start = Math.max(0, length - position(last));
+                    } else {
+                        start = position(first);
+                        if (!last.isEmpty()) {
+                            end = Math.min(length - 1, position(last)) + 1;
+                        }
+                    }
+                    // 형식은 맞지만 파일 끝 이후에서 시작하는 구간만 만족할 수 없음
+                    if (start >= length) {
+                        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                        response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                        return;
+                    }
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (end - 1) + "/" + length);
+                }
+            }
+        }
+        cachingHeaders(response, etag);
+        response.setContentType(contentType != null ? contentType : sniffContentType(file));
+        response.setContentLengthLong(end - start);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            OutputStream out = response.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            while (position < end) {
+                position += channel.transferTo(position, end - position, target);
+            }
+            out.flush();
+        }
+    }
+
+    // long 범위를 넘는 위치는 어떤 파일 길이보다도 큼
+    private static long position(String digits) {
+        try {
+            return Long.parseLong(digits);
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static void cachingHeaders(HttpServletResponse response, String etag) {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 원본은 DB 조회 없이 파일 앞부분의 시그니처로 형식을 판별 */
+    private static String sniffContentType(Path file) throws IOException {
+        byte[] head = new byte[12];
+        int read;
+        try (InputStream in = Files.newInputStream(file)) {
+            read = in.readNBytes(head, 0, head.length);
+        }
+        return PhotoStorage.sniffContentType(head, read);
+    }
+}
@@ -0,0 +1,93 @@
+package com.nemo.backend.domain.photo.controller;
+
+import com.nemo.backend.domain.photo.dto.DuplicatePhotoResponse;
+import com.nemo.backend.domain.photo.dto.PhotoFacetsResponse;
+import com.nemo.backend.domain.photo.dto.PhotoResponse;
+import com.nemo.backend.domain.photo.dto.PhotoUploadRequest;
+import com.nemo.backend.domain.photo.dto.QrImportRequest;
+import com.nemo.backend.domain.photo.service.PhotoFacetService;
+import com.nemo.backend.domain.photo.service.PhotoService;
+import com.nemo.backend.domain.photo.service.QrImportService;
+import com.nemo.backend.global.annotation.LoginUser;
+import com.nemo.backend.global.response.CursorPageResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controller for uploading and managing the current user's photos.
+ */
+@RestController
+@RequestMapping("/api/photos")
+public class PhotoController {
+    private static final int MAX_PAGE_SIZE = 100;
+    private final PhotoService photoService;
+    private final QrImportService qrImportService;
+    private final PhotoFacetService photoFacetService;
+
+    public PhotoController(PhotoService photoService, QrImportService qrImportService,
+                           PhotoFacetService photoFacetService) {
+        this.photoService = photoService;
+        this.qrImportService = qrImportService;
+        this.photoFacetService = photoFacetService;
+    }
+
+    /** 커서 기반 목록: 응답의 nextCursor 를 다음 요청의 cursor 로 전달 */
+    @GetMapping
+    public ResponseEntity<CursorPageResponse<PhotoResponse>> list(@LoginUser Long userId,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(photoService.list(userId, cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE))));
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<PhotoResponse> upload(@LoginUser Long userId,
+                                                @RequestPart("image") MultipartFile image,
+                                                @ModelAttribute PhotoUploadRequest request) {
+        PhotoResponse response = photoService.upload(userId, image, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /** 포토부스 QR 로 사진 가져오기: 새로 만들면 201, 이미 가져온 QR 이면 기존 사진과 200 */
+    @PostMapping("/qr-import")
+    public ResponseEntity<PhotoResponse> importFromQr(@LoginUser Long userId,
+                                                      @RequestBody QrImportRequest request) {
+        QrImportService.Result result = qrImportService.importPhoto(userId, request);
+        return ResponseEntity.status(result.created() ? HttpStatus.CREATED : HttpStatus.OK).body(result.photo());
+    }
+
+    /** 비슷해 보이는 (중복 가능성이 있는) 내 다른 사진들 */
+    @GetMapping("/{photoId}/duplicates")
+    public ResponseEntity<List<DuplicatePhotoResponse>> duplicates(@LoginUser Long userId,
+                                                                   @PathVariable Long photoId) {
+        return ResponseEntity.ok(photoService.duplicates(userId, photoId));
+    }
+
+    /** 필터 칩/통계용 브랜드·태그별 사진 수 */
+    @GetMapping("/facets")
+    public ResponseEntity<PhotoFacetsResponse> facets(@LoginUser Long userId) {
+        return ResponseEntity.ok(photoFacetService.facets(userId));
+    }
+
+    /** 하트 토글: 바뀐 뒤의 즐겨찾기 상태를 isFavorite 로 응답 */
+    @PostMapping("/{photoId}/favorite")
+    public ResponseEntity<Map<String, Object>> toggleFavorite(@LoginUser Long userId, @PathVariable Long photoId) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("photoId", photoId);
+        body.put("isFavorite", photoService.toggleFavorite(userId, photoId));
+        return ResponseEntity.ok(body);
+    }
+
+    @DeleteMapping("/{photoId}")
+    public ResponseEntity<?> delete(@LoginUser Long userId, @PathVariable Long photoId) {
+        photoService.delete(userId, photoId);
+        return ResponseEntity.ok(Collections.singletonMap("message", "사진이 성공적으로 삭제되었습니다."));
+    }
+}
@@ -0,0 +1,49 @@
+package com.nemo.backend.domain.photo.controller;
+
+import com.nemo.backend.domain.photo.dto.MapClusterResponse;
+import com.nemo.backend.domain.photo.dto.MapPhotosResponse;
+import com.nemo.backend.domain.photo.service.PhotoMapService;
+import com.nemo.backend.global.annotation.LoginUser;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Map view of the current user's geotagged photos.  Both endpoints take the
+ * viewport as {@code south}, {@code west}, {@code north} and {@code east} in
+ * degrees; a viewport crossing the antimeridian has {@code west > east}.
+ */
+@RestController
+@RequestMapping("/api/photos/map")
+public class PhotoMapController {
+    private static final int MAX_PHOTOS = 500;
+    private final PhotoMapService photoMapService;
+
+    public PhotoMapController(PhotoMapService photoMapService) {
+        this.photoMapService = photoMapService;
+    }
+
+    /** 확대된 지도: 개별 사진 마커 */
+    @GetMapping("/photos")
+    public ResponseEntity<MapPhotosResponse> photos(@LoginUser Long userId,
+                                                    @RequestParam double south,
+                                                    @RequestParam double west,
+                                                    @RequestParam double north,
+                                                    @RequestParam double east,
+                                                    @RequestParam(defaultValue = "200") int limit) {
+        return ResponseEntity.ok(photoMapService.photos(userId, south, west, north, east,
+                Math.max(1, Math.min(limit, MAX_PHOTOS))));
+    }
+
+    /** 축소된 지도: 줌 레벨에 맞춘 geohash 셀 단위 클러스터 */
+    @GetMapping("/clusters")
+    public ResponseEntity<List<MapClusterResponse>> clusters(@LoginUser Long userId,
+                                                             @RequestParam double south,
+                                                             @RequestParam double west,
+                                                             @RequestParam double north,
+                                                             @RequestParam double east,
+                                                             @RequestParam int zoom) {
+        return ResponseEntity.ok(photoMapService.clusters(userId, south, west, north, east, zoom));
+    }
+}
@@ -0,0 +1,38 @@
+package com.nemo.backend.domain.photo.dto;
+
+import com.nemo.backend.domain.photo.entity.Photo;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * A photo that looks like the requested one.  {@code distance} is the number
+ * of differing perceptual-hash bits; 0 means visually identical.
+ */
+public class DuplicatePhotoResponse {
+    private final Long photoId;
+    private final String imageUrl;
+    private final Map<Integer, String> thumbnails;
+    private final LocalDateTime takenAt;
+    private final int distance;
+
+    public DuplicatePhotoResponse(Long photoId, String imageUrl, Map<Integer, String> thumbnails,
+                                  LocalDateTime takenAt, int distance) {
+        this.photoId = photoId;
+        this.imageUrl = imageUrl;
+        this.thumbnails = thumbnails;
+        this.takenAt = takenAt;
+        this.distance = distance;
+    }
+
+    public static DuplicatePhotoResponse from(Photo photo, int distance) {
+        return new DuplicatePhotoResponse(photo.getId(), photo.getImageUrl(), photo.getThumbnailUrls(),
+                photo.getTakenAt(), distance);
+    }
+
+    public Long getPhotoId() { return photoId; }
+    public String getImageUrl() { return imageUrl; }
+    public Map<Integer, String> getThumbnails() { return thumbnails; }
+    public LocalDateTime getTakenAt() { return takenAt; }
+    public int getDistance() { return distance; }
+}
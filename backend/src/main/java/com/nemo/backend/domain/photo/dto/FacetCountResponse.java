@@ -0,0 +1,17 @@
+package com.nemo.backend.domain.photo.dto;
+
+/**
+ * One brand or tag and how many of the user's photos carry it.
+ */
+public class FacetCountResponse {
+    private final String value;
+    private final long count;
+
+    public FacetCountResponse(String value, long count) {
+        this.value = value;
+        this.count = count;
+    }
+
+    public String getValue() { return value; }
+    public long getCount() { return count; }
+}
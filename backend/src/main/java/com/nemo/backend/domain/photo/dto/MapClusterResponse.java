@@ -0,0 +1,50 @@
+package com.nemo.backend.domain.photo.dto;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Photos of one geohash cell aggregated for a map zoom level.  The
+ * position is the centroid of the photos, not the cell centre, so a marker
+ * sits where the photos actually are.
+ */
+public class MapClusterResponse {
+    private static final Comparator<MapClusterResponse> BY_PHOTO_AGE = Comparator
+            .comparing((MapClusterResponse cluster) -> cluster.photoCreatedAt,
+                    Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(cluster -> cluster.photoId);
+
+    private final String geohash;
+    private final long count;
+    private final double latitude;
+    private final double longitude;
+    // 대표 사진 (가장 최근에 올린 사진)과 그 업로드 시각
+    private final Long photoId;
+    private final LocalDateTime photoCreatedAt;
+
+    public MapClusterResponse(String geohash, Long count, Double latitude, Double longitude, Long photoId,
+                              LocalDateTime photoCreatedAt) {
+        this.geohash = geohash;
+        this.count = count;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.photoId = photoId;
+        this.photoCreatedAt = photoCreatedAt;
+    }
+
+    /** 같은 셀이 여러 범위 조회에 걸쳐 나뉘어 집계된 경우 합침 */
+    public MapClusterResponse merge(MapClusterResponse other) {
+        long total = count + other.count;
+        MapClusterResponse newest = BY_PHOTO_AGE.compare(this, other) >= 0 ? this : other;
+        return new MapClusterResponse(geohash, total,
+                (latitude * count + other.latitude * other.count) / total,
+                (longitude * count + other.longitude * other.count) / total,
+                newest.photoId, newest.photoCreatedAt);
+    }
+
+    public String getGeohash() { return geohash; }
+    public long getCount() { return count; }
+    public double getLatitude() { return latitude; }
+    public double getLongitude() { return longitude; }
+    public Long getPhotoId() { return photoId; }
+}
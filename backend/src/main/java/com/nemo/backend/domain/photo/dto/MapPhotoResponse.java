@@ -0,0 +1,40 @@
+package com.nemo.backend.domain.photo.dto;
+
+import com.nemo.backend.domain.photo.entity.ThumbnailStatus;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * A single photo marker on the map.  Only the columns a marker needs are
+ * selected; the smallest thumbnail is used when it is ready.
+ */
+public class MapPhotoResponse {
+    /** 여러 범위 조회 결과를 합칠 때의 순서: 최근에 올린 사진부터 (목록과 같은 createdAt, id 순) */
+    public static final Comparator<MapPhotoResponse> NEWEST_FIRST = Comparator
+            .comparing((MapPhotoResponse photo) -> photo.createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(photo -> photo.photoId)
+            .reversed();
+
+    private final Long photoId;
+    private final double latitude;
+    private final double longitude;
+    private final String thumbnailUrl;
+    private final LocalDateTime createdAt;
+
+    public MapPhotoResponse(Long photoId, Double latitude, Double longitude, String imageUrl,
+                            ThumbnailStatus thumbnailStatus, String thumbnailSizes, LocalDateTime createdAt) {
+        this.photoId = photoId;
+        this.createdAt = createdAt;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.thumbnailUrl = thumbnailStatus == ThumbnailStatus.READY && thumbnailSizes != null
+                ? imageUrl + "/" + thumbnailSizes.split(",")[0]
+                : imageUrl;
+    }
+
+    public Long getPhotoId() { return photoId; }
+    public double getLatitude() { return latitude; }
+    public double getLongitude() { return longitude; }
+    public String getThumbnailUrl() { return thumbnailUrl; }
+}
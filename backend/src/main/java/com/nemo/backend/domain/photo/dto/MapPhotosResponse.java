@@ -0,0 +1,20 @@
+package com.nemo.backend.domain.photo.dto;
+
+import java.util.List;
+
+/**
+ * Photos inside a map viewport.  {@code truncated} means the viewport holds
+ * more photos than were returned and the client should switch to clusters.
+ */
+public class MapPhotosResponse {
+    private final List<MapPhotoResponse> photos;
+    private final boolean truncated;
+
+    public MapPhotosResponse(List<MapPhotoResponse> photos, boolean truncated) {
+        this.photos = photos;
+        this.truncated = truncated;
+    }
+
+    public List<MapPhotoResponse> getPhotos() { return photos; }
+    public boolean isTruncated() { return truncated; }
+}
@@ -0,0 +1,19 @@
+package com.nemo.backend.domain.photo.dto;
+
+import java.util.List;
+
+/**
+ * Photo counts of the current user by brand and by tag, most used first.
+ */
+public class PhotoFacetsResponse {
+    private final List<FacetCountResponse> brands;
+    private final List<FacetCountResponse> tags;
+
+    public PhotoFacetsResponse(List<FacetCountResponse> brands, List<FacetCountResponse> tags) {
+        this.brands = brands;
+        this.tags = tags;
+    }
+
+    public List<FacetCountResponse> getBrands() { return brands; }
+    public List<FacetCountResponse> getTags() { return tags; }
+}
@@ -0,0 +1,85 @@
+package com.nemo.backend.domain.photo.dto;
+
+import com.nemo.backend.domain.photo.entity.Photo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Photo details returned by the photo endpoints.
+ */
+public class PhotoResponse {
+    private final Long photoId;
+    private final String imageUrl;
+    private final LocalDateTime takenAt;
+    private final String location;
+    private final Double latitude;
+    private final Double longitude;
+    private final Integer width;
+    private final Integer height;
+    private final Integer orientation;
+    private final String brand;
+    private final String memo;
+    private final boolean favorite;
+    private final Long sizeBytes;
+    private final String thumbnailStatus;
+    private final Map<Integer, String> thumbnails;
+    private final Long possibleDuplicateOf;
+    private final List<String> tagList;
+
+    public PhotoResponse(Long photoId, String imageUrl, LocalDateTime takenAt, String location,
+                         Double latitude, Double longitude, Integer width, Integer height, Integer orientation,
+                         String brand, String memo, boolean favorite, Long sizeBytes, String thumbnailStatus, Map<Integer, String> thumbnails,
+                         Long possibleDuplicateOf, List<String> tagList) {
+        this.photoId = photoId;
+        this.imageUrl = imageUrl;
+        this.takenAt = takenAt;
+        this.location = location;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.width = width;
+        this.height = height;
+        this.orientation = orientation;
+        this.brand = brand;
+        this.memo = memo;
+        this.favorite = favorite;
+        this.sizeBytes = sizeBytes;
+        this.thumbnailStatus = thumbnailStatus;
+        this.thumbnails = thumbnails;
+        this.possibleDuplicateOf = possibleDuplicateOf;
+        this.tagList = tagList;
+    }
+
+    public static PhotoResponse from(Photo photo) {
+        return from(photo, photo.isFavorite());
+    }
+
+    /** {@code favorite} overrides the stored flag with a toggle that has not been flushed yet. */
+    public static PhotoResponse from(Photo photo, boolean favorite) {
+        return new PhotoResponse(photo.getId(), photo.getImageUrl(), photo.getTakenAt(), photo.getLocation(),
+                photo.getLatitude(), photo.getLongitude(), photo.getWidth(), photo.getHeight(), photo.getOrientation(),
+                photo.getBrand(), photo.getMemo(), favorite, photo.getSizeBytes(),
+                photo.getThumbnailStatus() == null ? null : photo.getThumbnailStatus().name(),
+                photo.getThumbnailUrls(), photo.getPossibleDuplicateOf(),
+                List.copyOf(photo.getTags()));
+    }
+
+    public Long getPhotoId() { return photoId; }
+    public String getImageUrl() { return imageUrl; }
+    public LocalDateTime getTakenAt() { return takenAt; }
+    public String getLocation() { return location; }
+    public Double getLatitude() { return latitude; }
+    public Double getLongitude() { return longitude; }
+    public Integer getWidth() { return width; }
+    public Integer getHeight() { return height; }
+    public Integer getOrientation() { return orientation; }
+    public String getBrand() { return brand; }
+    public String getMemo() { return memo; }
+    public boolean isFavorite() { return favorite; }
+    public Long getSizeBytes() { return sizeBytes; }
+    public String getThumbnailStatus() { return thumbnailStatus; }
+    public Map<Integer, String> getThumbnails() { return thumbnails; }
+    public Long getPossibleDuplicateOf() { return possibleDuplicateOf; }
+    public List<String> getTagList() { return tagList; }
+}
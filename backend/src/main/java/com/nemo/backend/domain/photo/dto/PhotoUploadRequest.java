@@ -0,0 +1,56 @@
+package com.nemo.backend.domain.photo.dto;
+
+import java.util.List;
+
+/**
+ * Form fields sent alongside the image part of a photo upload.  All fields
+ * are plain strings because they arrive as multipart form values.
+ */
+public class PhotoUploadRequest {
+    private String takenAt;
+    private String location;
+    private String brand;
+    private String memo;
+    // 멀티파트에서는 JSON 배열 문자열 하나로 오기도 함 (예: ["QR업로드"])
+    private List<String> tagList;
+
+    public String getTakenAt() {
+        return takenAt;
+    }
+
+    public void setTakenAt(String takenAt) {
+        this.takenAt = takenAt;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getBrand() {
+        return brand;
+    }
+
+    public void setBrand(String brand) {
+        this.brand = brand;
+    }
+
+    public String getMemo() {
+        return memo;
+    }
+
+    public void setMemo(String memo) {
+        this.memo = memo;
+    }
+
+    public List<String> getTagList() {
+        return tagList;
+    }
+
+    public void setTagList(List<String> tagList) {
+        this.tagList = tagList;
+    }
+}
@@ -0,0 +1,18 @@
+package com.nemo.backend.domain.photo.dto;
+
+/**
+ * Request body for importing a photo from a photobooth QR code.  The photo
+ * fields are the same as for a direct upload; {@code brand} may be omitted
+ * when the booth can be recognised from the QR URL.
+ */
+public class QrImportRequest extends PhotoUploadRequest {
+    private String qrCode;
+
+    public String getQrCode() {
+        return qrCode;
+    }
+
+    public void setQrCode(String qrCode) {
+        this.qrCode = qrCode;
+    }
+}
@@ -0,0 +1,9 @@
+package com.nemo.backend.domain.photo.entity;
+
+/**
+ * Photo attribute a {@link PhotoFacet} counts by.
+ */
+public enum FacetType {
+    BRAND,
+    TAG
+}
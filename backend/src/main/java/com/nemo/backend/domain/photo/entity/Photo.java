@@ -1,18 +1,41 @@
 package com.nemo.backend.domain.photo.entity;
 
 import com.nemo.backend.domain.album.entity.Album;
+import com.nemo.backend.domain.user.entity.User;
 import com.nemo.backend.global.entity.BaseEntity;
+import com.nemo.backend.global.util.GeoHash;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 
 @Entity
-@Table(name = "photo")
+@Table(name = "photo", indexes = {
+        @Index(name = "idx_photo_content_hash", columnList = "contentHash"),
+        @Index(name = "idx_photo_user_created", columnList = "user_id, createdAt desc, id desc"),
+        @Index(name = "idx_photo_user_geohash", columnList = "user_id, geohash"),
+        @Index(name = "idx_photo_album", columnList = "album_id, id"),
+        @Index(name = "idx_photo_thumbnail_status", columnList = "thumbnailStatus, createdAt")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_photo_user_qr_payload", columnNames = {"user_id", "qrPayloadKey"})
+})
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Photo extends BaseEntity {
+    public static final int MAX_TAG_LENGTH = 30;
+    public static final int MAX_TAGS = 10;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert 배치를 끄므로 50개 단위로 미리 받아 두는 pooled 시퀀스 사용
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "photo_seq")
+    @SequenceGenerator(name = "photo_seq", sequenceName = "photo_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -25,7 +48,101 @@ public class Photo extends BaseEntity {
     private Double latitude;  // 위도
     private Double longitude; // 경도
 
+    // 위경도의 geohash (지도 범위 조회용 인덱스 컬럼, 저장 시 자동 갱신)
+    @Column(length = GeoHash.MAX_PRECISION)
+    private String geohash;
+
+    private LocalDateTime takenAt; // 촬영 시각
+
+    // 원본 헤더(EXIF/SOF)에서 읽은 픽셀 크기와 EXIF 방향값 (1 = 회전 없음)
+    private Integer width;
+    private Integer height;
+    private Integer orientation;
+
+    private String memo;
+
+    // 즐겨찾기 (하트): 토글은 FavoriteBuffer 에 모였다가 배치로 반영됨
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    @Builder.Default
+    private boolean favorite = false;
+
+    // 브랜드/태그 카운터(photo_facet)에 반영됐는지: 카운터 도입 전 사진은 FacetBackfillJob 이 반영
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    @Builder.Default
+    private boolean facetsCounted = false;
+
+    // 원본 파일의 SHA-256 (저장소 경로이자 중복 판별 키)
+    @Column(length = 64)
+    private String contentHash;
+
+    private Long sizeBytes;
+
+    private String contentType;
+
+    // 목록/그리드용 축소본 생성 상태와 생성된 크기 목록 (예: "128,512,1080")
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    @Builder.Default
+    private ThumbnailStatus thumbnailStatus = ThumbnailStatus.PENDING;
+
+    @Column(length = 64)
+    private String thumbnailSizes;
+
+    // QR 가져오기로 생성된 경우 정규화된 QR 페이로드의 해시 (같은 QR 재스캔 판별용)
+    @Column(length = 64)
+    private String qrPayloadKey;
+
+    // 지각 해시 (dHash, 64비트): 재인코딩된 같은 사진은 몇 비트 차이로 가까움
+    private Long perceptualHash;
+
+    // 업로드 시점에 이미 있던 비슷한 사진의 id (중복 가능성 표시용)
+    private Long possibleDuplicateOf;
+
+    // 사용자가 붙인 태그 (예: QR업로드); 목록 조회 시 한 페이지의 태그를 한 번에 읽음
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "photo_tag", joinColumns = @JoinColumn(name = "photo_id"))
+    @Column(name = "tag", length = MAX_TAG_LENGTH, nullable = false)
+    @BatchSize(size = 100)
+    @Builder.Default
+    private Set<String> tags = new LinkedHashSet<>();
+
+    // 업로드한 사용자
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "album_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // 사진은 앨범 없이도 존재할 수 있음
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "album_id")
     private Album album;
+
+    @PrePersist
+    @PreUpdate
+    void updateGeohash() {
+        geohash = latitude == null || longitude == null
+                ? null
+                : GeoHash.encode(latitude, longitude, GeoHash.MAX_PRECISION);
+    }
+
+    /**
+     * Derivative URLs keyed by their long-edge size in pixels; empty until the
+     * thumbnails are {@link ThumbnailStatus#READY}.
+     */
+    public Map<Integer, String> getThumbnailUrls() {
+        return thumbnailUrls(imageUrl, thumbnailStatus, thumbnailSizes);
+    }
+
+    /** Same as {@link #getThumbnailUrls()} for rows read as a projection. */
+    public static Map<Integer, String> thumbnailUrls(String imageUrl, ThumbnailStatus status, String sizes) {
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        if (status != ThumbnailStatus.READY || sizes == null || sizes.isEmpty()) {
+            return urls;
+        }
+        Arrays.stream(sizes.split(","))
+                .map(Integer::valueOf)
+                .forEach(size -> urls.put(size, imageUrl + "/" + size));
+        return urls;
+    }
 }
@@ -0,0 +1,38 @@
+package com.nemo.backend.domain.photo.entity;
+
+import com.nemo.backend.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Number of a user's photos with a given brand or tag.  Rows are adjusted
+ * in the same transaction that inserts or deletes the photo, so filter chips
+ * and stats read one row per facet instead of grouping the photo table.
+ */
+@Entity
+@Table(name = "photo_facet", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_photo_facet_user_type_value", columnNames = {"user_id", "type", "facetValue"})
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class PhotoFacet {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private FacetType type;
+
+    // 브랜드명 또는 태그 (VALUE 는 예약어라 facetValue 로 둠)
+    @Column(nullable = false)
+    private String facetValue;
+
+    @Column(nullable = false)
+    private long photoCount;
+}
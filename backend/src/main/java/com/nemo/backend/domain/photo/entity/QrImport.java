@@ -0,0 +1,35 @@
+package com.nemo.backend.domain.photo.entity;
+
+import com.nemo.backend.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Result of fetching a booth image for a normalized QR payload.  Any later
+ * scan of the same QR, by any user, reuses the stored content instead of
+ * downloading the image again.
+ */
+@Entity
+@Table(name = "qr_import")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class QrImport extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 정규화된 페이로드의 SHA-256
+    @Column(nullable = false, unique = true, length = 64)
+    private String payloadKey;
+
+    @Column(nullable = false, length = 2048)
+    private String sourceUrl;
+
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    private Long sizeBytes;
+
+    private String contentType;
+}
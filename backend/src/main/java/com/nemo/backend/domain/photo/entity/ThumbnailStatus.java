@@ -0,0 +1,7 @@
+package com.nemo.backend.domain.photo.entity;
+
+public enum ThumbnailStatus {
+    PENDING,
+    READY,
+    FAILED
+}
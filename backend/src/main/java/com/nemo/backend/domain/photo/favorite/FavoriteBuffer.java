@@ -0,0 +1,277 @@
+package com.nemo.backend.domain.photo.favorite;
+
+import com.nemo.backend.domain.photo.entity.Photo;
+import com.nemo.backend.domain.photo.repository.PhotoRepository;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Write-behind buffer for favorite toggles.  Each user has a small map of
+ * photo id to the favorite state that has not reached the database yet;
+ * repeated taps on the same photo overwrite one entry, and a photo toggled
+ * back to its stored state is dropped without any write.  A scheduled flush
+ * (and a final one on shutdown) writes everything pending as a single JDBC
+ * batch in one transaction.  Every write sets the absolute state
+ * ({@code SET favorite = ?}), so replaying a flush is harmless.  Reads go
+ * through {@link #isFavorite} so a user sees their own toggles before they
+ * are flushed.
+ *
+ * <p>The buffer lives in the node that received the toggle.  A request the
+ * load balancer sends to another node reads the database value until the
+ * next flush, so with several nodes either route a user's requests to one
+ * node (sticky sessions keyed by the access token subject) or run
+ * {@link Durability#WRITE_THROUGH}.
+ *
+ * <p>In {@link Durability#WRITE_BEHIND} mode a crash loses at most one flush
+ * interval of toggles.  {@link Durability#WRITE_THROUGH} writes every toggle
+ * immediately instead, and a full buffer falls back to it as well.
+ */
+@Component
+public class FavoriteBuffer {
+    private static final Logger log = LoggerFactory.getLogger(FavoriteBuffer.class);
+    private static final String UPDATE_SQL = "update photo set favorite = ? where id = ? and user_id = ?";
+    private static final String COMPARE_AND_SET_SQL = UPDATE_SQL + " and favorite = ?";
+
+    public enum Durability { WRITE_BEHIND, WRITE_THROUGH }
+
+    private final PhotoRepository photoRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Durability durability;
+    private final int maxPending;
+    private final int batchSize;
+    private final Map<Long, UserBuffer> buffers = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Timer flushDuration;
+    private final Timer flushLag;
+    private final Counter flushed;
+    private final Counter flushFailures;
+
+    public FavoriteBuffer(PhotoRepository photoRepository,
+                          JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${photo.favorite.durability:WRITE_BEHIND}") Durability durability,
+                          @Value("${photo.favorite.max-pending:100000}") int maxPending,
+                          @Value("${photo.favorite.batch-size:500}") int batchSize) {
+        this.photoRepository = photoRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.durability = durability;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+        Gauge.builder("photo.favorite.pending", pending, AtomicInteger::get)
+                .description("Favorite toggles waiting for the next flush")
+                .register(meterRegistry);
+        this.flushDuration = Timer.builder("photo.favorite.flush.duration")
+                .description("Time spent writing one flush batch")
+                .register(meterRegistry);
+        this.flushLag = Timer.builder("photo.favorite.flush.lag")
+                .description("Time from the first buffered toggle to its write reaching the database")
+                .register(meterRegistry);
+        this.flushed = Counter.builder("photo.favorite.flushed")
+                .description("Rows written by favorite flushes")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("photo.favorite.flush.failed")
+                .description("Flushes that failed and were left pending for a retry")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Flips the favorite state of the user's photo and returns the new state.
+     * The database is read and, in write-through mode, written outside the
+     * user's buffer lock; a flush that lands in between makes the toggle
+     * start over from the new stored state.
+     *
+     * @throws ApiException {@link ErrorCode#PHOTO_NOT_FOUND} when the photo
+     *         does not exist or belongs to another user
+     */
+    public boolean toggle(Long userId, Long photoId) {
+        while (true) {
+            UserBuffer buffer = buffers.computeIfAbsent(userId, id -> new UserBuffer());
+            long flushes;
+            synchronized (buffer) {
+                if (buffer.retired) {
+                    continue;
+                }
+                Pending current = buffer.photos.get(photoId);
+                if (current != null) {
+                    boolean next = !current.favorite();
+                    buffer.photos.put(photoId, new Pending(next, current.stored(), current.since()));
+                    return next;
+                }
+                flushes = buffer.flushes;
+            }
+            boolean stored = photoRepository.findFavorite(userId, photoId)
+                    .orElseThrow(() -> new ApiException(ErrorCode.PHOTO_NOT_FOUND));
+            boolean next = !stored;
+            if (durability == Durability.WRITE_THROUGH || pending.get() >= maxPending) {
+                // 읽은 값이 그대로일 때만 씀: 동시에 누른 두 번이 한 번으로 합쳐지지 않음
+                Integer updated = transactionTemplate.execute(status ->
+                        jdbcTemplate.update(COMPARE_AND_SET_SQL, next, photoId, userId, stored));
+                if (updated != null && updated > 0) {
+                    return next;
+                }
+                continue;
+            }
+            synchronized (buffer) {
+                // 조회하는 동안 flush 가 이 사용자의 값을 썼거나 다른 토글이 먼저 담았으면 다시 시작
+                if (buffer.retired || buffer.flushes != flushes || buffer.photos.containsKey(photoId)) {
+                    continue;
+                }
+                pending.incrementAndGet();
+                buffer.photos.put(photoId, new Pending(next, stored, System.nanoTime()));
+                return next;
+            }
+        }
+    }
+
+    /** Favorite state of {@code photo} as its owner sees it, including unflushed toggles. */
+    public boolean isFavorite(Long userId, Photo photo) {
+        UserBuffer buffer = buffers.get(userId);
+        if (buffer == null) {
+            return photo.isFavorite();
+        }
+        synchronized (buffer) {
+            Pending current = buffer.photos.get(photo.getId());
+            return current != null ? current.favorite() : photo.isFavorite();
+        }
+    }
+
+    /** Drops a pending toggle for a photo that has been deleted. */
+    public void discard(Long userId, Long photoId) {
+        UserBuffer buffer = buffers.get(userId);
+        if (buffer == null) {
+            return;
+        }
+        synchronized (buffer) {
+            if (buffer.photos.remove(photoId) != null) {
+                pending.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Writes every pending toggle in one transaction and returns the number
+     * of update statements sent.  On failure the toggles stay buffered for
+     * the next run.  Flushes are serialized so an older snapshot can never
+     * overwrite a newer one; the batch is written outside every user's
+     * buffer lock, so toggles never wait for it.
+     */
+    @Scheduled(fixedDelayString = "${photo.favorite.flush-interval:PT1S}")
+    public synchronized int flush() {
+        Map<Long, Map<Long, Pending>> snapshot = snapshot();
+        if (snapshot.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> rows = new ArrayList<>();
+        snapshot.forEach((userId, photos) -> photos.forEach((photoId, entry) ->
+                rows.add(new Object[]{entry.favorite(), photoId, userId})));
+        long started = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, rows, batchSize,
+                    (ps, row) -> {
+                        ps.setBoolean(1, (Boolean) row[0]);
+                        ps.setLong(2, (Long) row[1]);
+                        ps.setLong(3, (Long) row[2]);
+                    }));
+        } catch (RuntimeException e) {
+            flushFailures.increment();
+            log.warn("Favorite flush of {} toggles failed; keeping them for the next run", rows.size(), e);
+            return 0;
+        }
+        long written = System.nanoTime();
+        flushDuration.record(written - started, TimeUnit.NANOSECONDS);
+        flushed.increment(rows.size());
+        snapshot.forEach((userId, photos) -> {
+            photos.values().forEach(entry -> flushLag.record(written - entry.since(), TimeUnit.NANOSECONDS));
+            complete(userId, photos);
+        });
+        return rows.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // 원래 값으로 되돌아간 항목은 쓰지 않고 버리고, 나머지는 복사해 잠금 밖에서 씀
+    private Map<Long, Map<Long, Pending>> snapshot() {
+        Map<Long, Map<Long, Pending>> snapshot = new HashMap<>();
+        buffers.forEach((userId, buffer) -> {
+            synchronized (buffer) {
+                buffer.photos.values().removeIf(entry -> {
+                    if (entry.favorite() != entry.stored()) {
+                        return false;
+                    }
+                    pending.decrementAndGet();
+                    return true;
+                });
+                if (buffer.photos.isEmpty()) {
+                    buffer.retired = true;
+                    buffers.remove(userId, buffer);
+                } else {
+                    snapshot.put(userId, new HashMap<>(buffer.photos));
+                }
+            }
+        });
+        return snapshot;
+    }
+
+    // 쓰는 동안 다시 토글된 항목은 남겨 두되, DB 기준값은 방금 쓴 값으로 바꿈
+    private void complete(Long userId, Map<Long, Pending> written) {
+        UserBuffer buffer = buffers.get(userId);
+        if (buffer == null) {
+            return;
+        }
+        synchronized (buffer) {
+            buffer.flushes++;
+            written.forEach((photoId, entry) -> {
+                Pending current = buffer.photos.get(photoId);
+                if (current == entry) {
+                    buffer.photos.remove(photoId);
+                    pending.decrementAndGet();
+                } else if (current != null) {
+                    buffer.photos.put(photoId, new Pending(current.favorite(), entry.favorite(), current.since()));
+                }
+            });
+        }
+    }
+
+    private static final class UserBuffer {
+        private final Map<Long, Pending> photos = new HashMap<>();
+        // 이 사용자의 값이 flush 로 DB 에 쓰인 횟수: 잠금 밖에서 읽은 DB 값이 아직 유효한지 판별
+        private long flushes;
+        // 비어서 맵에서 빠진 버퍼: 잠금을 기다리던 토글은 새 버퍼로 다시 시도
+        private boolean retired;
+    }
+
+    /**
+     * @param favorite state to write
+     * @param stored   state the database had when the entry was created
+     * @param since    {@link System#nanoTime()} of the first unflushed toggle
+     */
+    private record Pending(boolean favorite, boolean stored, long since) {
+    }
+}
@@ -0,0 +1 @@
+package com.nemo.backend.domain.photo.favorite;
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.nemo.backend.domain.photo.metadata;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Pass-through stream that keeps a copy of the first {@code limit} bytes
+ * read through it.  Image headers sit at the start of the file, so wrapping
+ * an upload in this stream lets the header be parsed after the body has
+ * been streamed to storage without reading the file a second time or
+ * buffering more than {@code limit} bytes.
+ */
+public class HeadCapturingInputStream extends FilterInputStream {
+    private static final int INITIAL_CAPACITY = 8192;
+    private final int limit;
+    private byte[] head;
+    private int captured;
+
+    public HeadCapturingInputStream(InputStream in, int limit) {
+        super(in);
+        this.limit = limit;
+        this.head = new byte[Math.min(limit, INITIAL_CAPACITY)];
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0 && captured < limit) {
+            ensureCapacity(captured + 1);
+            head[captured++] = (byte) b;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0 && captured < limit) {
+            int copy = Math.min(n, limit - captured);
+            ensureCapacity(captured + copy);
+            System.arraycopy(b, off, head, captured, copy);
+            captured += copy;
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // 건너뛴 바이트는 복사할 수 없으므로 앞부분을 읽는 동안에는 read 로 처리
+        if (captured < limit) {
+            byte[] buffer = new byte[(int) Math.min(n, 8192)];
+            int read = read(buffer, 0, buffer.length);
+            return Math.max(read, 0);
+        }
+        return super.skip(n);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    // 작은 파일에 limit 전체를 할당하지 않도록 필요한 만큼만 늘림
+    private void ensureCapacity(int required) {
+        if (required > head.length) {
+            head = Arrays.copyOf(head, Math.min(limit, Math.max(required, head.length * 2)));
+        }
+    }
+
+    /** The bytes captured so far. */
+    public byte[] head() {
+        return Arrays.copyOf(head, captured);
+    }
+}
@@ -0,0 +1,21 @@
+package com.nemo.backend.domain.photo.metadata;
+
+import java.time.LocalDateTime;
+
+/**
+ * Facts read from an image header.  Every field is {@code null} when the
+ * header does not carry it.
+ *
+ * @param orientation EXIF orientation (1-8); 1 means the pixels are upright
+ * @param takenAt     capture time in the server's zone when the camera
+ *                    recorded an offset, otherwise the camera's local time
+ */
+public record ImageMetadata(Integer width, Integer height, Integer orientation,
+                            LocalDateTime takenAt, Double latitude, Double longitude) {
+
+    public static final ImageMetadata EMPTY = new ImageMetadata(null, null, null, null, null, null);
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+}
@@ -0,0 +1,390 @@
+package com.nemo.backend.domain.photo.metadata;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads capture time, GPS position, orientation and pixel dimensions from
+ * the header of a JPEG or PNG file.  Only the metadata segments in front of
+ * the pixel data are walked (JPEG APP1 EXIF/XMP and SOF, PNG IHDR, eXIf and
+ * iTXt XMP); nothing is decoded.  Anything missing, truncated or malformed
+ * is simply left {@code null}.  The capture time is taken from EXIF
+ * DateTimeOriginal, then from the XMP capture date, and only then from the
+ * EXIF DateTime tag, which most editors rewrite on save.
+ */
+public final class ImageMetadataReader {
+    private static final byte[] EXIF_ID = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] XMP_ID = "http://ns.adobe.com/xap/1.0/\0".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+    private static final String PNG_XMP_KEYWORD = "XML:com.adobe.xmp";
+    private static final DateTimeFormatter EXIF_DATE_TIME = DateTimeFormatter.ofPattern("yyyy:MM:dd HH:mm:ss");
+    private static final Pattern XMP_DATE = Pattern.compile(
+            "(?:exif:DateTimeOriginal|xmp:CreateDate|photoshop:DateCreated)\\s*(?:=\\s*\"|>)([^\"<]+)");
+    private static final Pattern XMP_GPS = Pattern.compile(
+            "exif:GPS(Latitude|Longitude)\\s*(?:=\\s*\"|>)\\s*(\\d+),(\\d+(?:\\.\\d+)?)(?:,(\\d+(?:\\.\\d+)?))?([NSEW])");
+
+    // EXIF 태그 번호
+    private static final int TAG_ORIENTATION = 0x0112;
+    private static final int TAG_DATE_TIME = 0x0132;
+    private static final int TAG_EXIF_IFD = 0x8769;
+    private static final int TAG_GPS_IFD = 0x8825;
+    private static final int TAG_DATE_TIME_ORIGINAL = 0x9003;
+    private static final int TAG_OFFSET_TIME_ORIGINAL = 0x9011;
+    private static final int TAG_PIXEL_X = 0xA002;
+    private static final int TAG_PIXEL_Y = 0xA003;
+    private static final int TAG_GPS_LATITUDE_REF = 1;
+    private static final int TAG_GPS_LATITUDE = 2;
+    private static final int TAG_GPS_LONGITUDE_REF = 3;
+    private static final int TAG_GPS_LONGITUDE = 4;
+
+    // 읽는 ASCII 값은 날짜(20바이트)와 짧은 참조값뿐이므로 선언된 길이를 믿지 않고 잘라 읽음
+    private static final int MAX_ASCII_LENGTH = 64;
+
+    private ImageMetadataReader() {
+    }
+
+    /** Reads the metadata from the first {@code maxBytes} bytes of {@code file}. */
+    public static ImageMetadata read(Path file, int maxBytes) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in.readNBytes(maxBytes));
+        }
+    }
+
+    /** Reads the metadata from the leading bytes of an image file. */
+    public static ImageMetadata read(byte[] head) {
+        Fields fields = new Fields();
+        if (startsWith(head, 0, new byte[]{(byte) 0xFF, (byte) 0xD8})) {
+            readJpeg(head, fields);
+        } else if (startsWith(head, 0, PNG_SIGNATURE)) {
+            readPng(head, fields);
+        }
+        return fields.toMetadata();
+    }
+
+    private static void readJpeg(byte[] data, Fields fields) {
+        int pos = 2;
+        while (pos + 4 <= data.length && (data[pos] & 0xFF) == 0xFF) {
+            int marker = data[pos + 1] & 0xFF;
+            if (marker == 0xFF) {
+                pos++;
+                continue;
+            }
+            // SOS 뒤부터는 픽셀 데이터이므로 더 읽지 않음
+            if (marker == 0xDA || marker == 0xD9) {
+                return;
+            }
+            int length = u16(data, pos + 2);
+            int start = pos + 4;
+            int end = Math.min(pos + 2 + length, data.length);
+            if (length < 2) {
+                return;
+            }
+            try {
+                if (marker == 0xE1 && startsWith(data, start, EXIF_ID)) {
+                    readTiff(data, start + EXIF_ID.length, end, fields);
+                } else if (marker == 0xE1 && startsWith(data, start, XMP_ID)) {
+                    readXmp(new String(data, start + XMP_ID.length, end - start - XMP_ID.length,
+                            StandardCharsets.UTF_8), fields);
+                } else if (isStartOfFrame(marker) && start + 5 <= end) {
+                    fields.height = u16(data, start + 1);
+                    fields.width = u16(data, start + 3);
+                }
+            } catch (RuntimeException e) {
+                // 손상된 세그먼트는 무시하고 다음 세그먼트로
+            }
+            pos = pos + 2 + length;
+        }
+    }
+
+    private static void readPng(byte[] data, Fields fields) {
+        int pos = PNG_SIGNATURE.length;
+        while (pos + 8 <= data.length) {
+            int length = ByteBuffer.wrap(data, pos, 4).getInt();
+            String type = new String(data, pos + 4, 4, StandardCharsets.US_ASCII);
+            int start = pos + 8;
+            if (length < 0 || type.equals("IDAT")) {
+                return;
+            }
+            int end = (int) Math.min((long) start + length, data.length);
+            try {
+                switch (type) {
+                    case "IHDR" -> {
+                        ByteBuffer header = ByteBuffer.wrap(data, start, 8);
+                        fields.width = header.getInt();
+                        fields.height = header.getInt();
+                    }
+                    case "eXIf" -> readTiff(data, start, end, fields);
+                    case "iTXt" -> readPngXmp(data, start, end, fields);
+                    default -> {
+                    }
+                }
+            } catch (RuntimeException e) {
+                // 손상된 청크는 무시
+            }
+            pos = start + length + 4;
+        }
+    }
+
+    /** iTXt: keyword \0 compression-flag method language \0 translated \0 text */
+    private static void readPngXmp(byte[] data, int start, int end, Fields fields) {
+        int keywordEnd = indexOf(data, start, end, (byte) 0);
+        if (keywordEnd < 0
+                || !new String(data, start, keywordEnd - start, StandardCharsets.ISO_8859_1).equals(PNG_XMP_KEYWORD)
+                || data[keywordEnd + 1] != 0) {
+            return;
+        }
+        int languageEnd = indexOf(data, keywordEnd + 3, end, (byte) 0);
+        int translatedEnd = languageEnd < 0 ? -1 : indexOf(data, languageEnd + 1, end, (byte) 0);
+        if (translatedEnd >= 0) {
+            readXmp(new String(data, translatedEnd + 1, end - translatedEnd - 1, StandardCharsets.UTF_8), fields);
+        }
+    }
+
+    private static void readTiff(byte[] data, int start, int end, Fields fields) {
+        ByteBuffer tiff = ByteBuffer.wrap(data, start, end - start).slice();
+        if (tiff.get(0) == 'I' && tiff.get(1) == 'I') {
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (tiff.get(0) != 'M' || tiff.get(1) != 'M') {
+            return;
+        }
+        if (tiff.getShort(2) != 42) {
+            return;
+        }
+        int exifIfd = -1;
+        int gpsIfd = -1;
+        String dateTime = null;
+        int ifd0 = tiff.getInt(4);
+        for (int i = 0, n = entryCount(tiff, ifd0); i < n; i++) {
+            int entry = ifd0 + 2 + i * 12;
+            switch (tag(tiff, entry)) {
+                case TAG_ORIENTATION -> fields.orientation = intValue(tiff, entry);
+                case TAG_DATE_TIME -> dateTime = ascii(tiff, entry);
+                case TAG_EXIF_IFD -> exifIfd = intValue(tiff, entry);
+                case TAG_GPS_IFD -> gpsIfd = intValue(tiff, entry);
+                default -> {
+                }
+            }
+        }
+        String original = null;
+        String offset = null;
+        if (exifIfd > 0) {
+            for (int i = 0, n = entryCount(tiff, exifIfd); i < n; i++) {
+                int entry = exifIfd + 2 + i * 12;
+                switch (tag(tiff, entry)) {
+                    case TAG_DATE_TIME_ORIGINAL -> original = ascii(tiff, entry);
+                    case TAG_OFFSET_TIME_ORIGINAL -> offset = ascii(tiff, entry);
+                    case TAG_PIXEL_X -> fields.exifWidth = intValue(tiff, entry);
+                    case TAG_PIXEL_Y -> fields.exifHeight = intValue(tiff, entry);
+                    default -> {
+                    }
+                }
+            }
+        }
+        // 파일 수정 시각(DateTime)은 촬영 시각이 EXIF 와 XMP 어디에도 없을 때만 사용
+        LocalDateTime takenAt = exifDateTime(original, offset);
+        if (takenAt != null) {
+            fields.takenAt = takenAt;
+        }
+        fields.modifiedAt = exifDateTime(dateTime, null);
+        if (gpsIfd > 0) {
+            readGps(tiff, gpsIfd, fields);
+        }
+    }
+
+    private static void readGps(ByteBuffer tiff, int ifd, Fields fields) {
+        String latitudeRef = null;
+        String longitudeRef = null;
+        Double latitude = null;
+        Double longitude = null;
+        for (int i = 0, n = entryCount(tiff, ifd); i < n; i++) {
+            int entry = ifd + 2 + i * 12;
+            switch (tag(tiff, entry)) {
+                case TAG_GPS_LATITUDE_REF -> latitudeRef = ascii(tiff, entry);
+                case TAG_GPS_LATITUDE -> latitude = degrees(tiff, entry);
+                case TAG_GPS_LONGITUDE_REF -> longitudeRef = ascii(tiff, entry);
+                case TAG_GPS_LONGITUDE -> longitude = degrees(tiff, entry);
+                default -> {
+                }
+            }
+        }
+        if (latitude == null || longitude == null) {
+            return;
+        }
+        fields.setLocation("S".equals(latitudeRef) ? -latitude : latitude,
+                "W".equals(longitudeRef) ? -longitude : longitude);
+    }
+
+    private static void readXmp(String xmp, Fields fields) {
+        if (fields.takenAt == null) {
+            Matcher date = XMP_DATE.matcher(xmp);
+            if (date.find()) {
+                fields.takenAt = isoDateTime(date.group(1).trim());
+            }
+        }
+        if (fields.latitude == null) {
+            Double latitude = null;
+            Double longitude = null;
+            Matcher gps = XMP_GPS.matcher(xmp);
+            while (gps.find()) {
+                // XMP GPS 형식: "DDD,MM.mmk" 또는 "DDD,MM,SSk"
+                double value = Double.parseDouble(gps.group(2)) + Double.parseDouble(gps.group(3)) / 60
+                        + (gps.group(4) == null ? 0 : Double.parseDouble(gps.group(4)) / 3600);
+                boolean negative = gps.group(5).equals("S") || gps.group(5).equals("W");
+                if (gps.group(1).equals("Latitude")) {
+                    latitude = negative ? -value : value;
+                } else {
+                    longitude = negative ? -value : value;
+                }
+            }
+            if (latitude != null && longitude != null) {
+                fields.setLocation(latitude, longitude);
+            }
+        }
+    }
+
+    private static int entryCount(ByteBuffer tiff, int ifd) {
+        return tiff.getShort(ifd) & 0xFFFF;
+    }
+
+    private static int tag(ByteBuffer tiff, int entry) {
+        return tiff.getShort(entry) & 0xFFFF;
+    }
+
+    /** SHORT(3) 또는 LONG(4) 값 하나 */
+    private static int intValue(ByteBuffer tiff, int entry) {
+        int type = tiff.getShort(entry + 2) & 0xFFFF;
+        return type == 3 ? tiff.getShort(entry + 8) & 0xFFFF : tiff.getInt(entry + 8);
+    }
+
+    private static String ascii(ByteBuffer tiff, int entry) {
+        int count = tiff.getInt(entry + 4);
+        int offset = count <= 4 ? entry + 8 : tiff.getInt(entry + 8);
+        if (count <= 0 || offset < 0 || offset >= tiff.limit()) {
+            return null;
+        }
+        byte[] bytes = new byte[Math.min(Math.min(count, tiff.limit() - offset), MAX_ASCII_LENGTH)];
+        tiff.get(offset, bytes);
+        int length = 0;
+        while (length < bytes.length && bytes[length] != 0) {
+            length++;
+        }
+        return new String(bytes, 0, length, StandardCharsets.US_ASCII).trim();
+    }
+
+    /** 도/분/초 세 개의 RATIONAL 을 십진 도로 변환 */
+    private static Double degrees(ByteBuffer tiff, int entry) {
+        int offset = tiff.getInt(entry + 8);
+        double value = 0;
+        double scale = 1;
+        for (int i = 0; i < 3; i++) {
+            long numerator = Integer.toUnsignedLong(tiff.getInt(offset + i * 8));
+            long denominator = Integer.toUnsignedLong(tiff.getInt(offset + i * 8 + 4));
+            if (denominator == 0) {
+                return null;
+            }
+            value += (double) numerator / denominator / scale;
+            scale *= 60;
+        }
+        return value;
+    }
+
+    private static LocalDateTime exifDateTime(String value, String offset) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            LocalDateTime local = LocalDateTime.parse(value, EXIF_DATE_TIME);
+            if (offset == null || offset.isEmpty()) {
+                return local;
+            }
+            return OffsetDateTime.of(local, ZoneOffset.of(offset))
+                    .atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (DateTimeException e) {
+            // 카메라가 "0000:00:00 00:00:00" 같은 빈 값을 쓰는 경우
+            return null;
+        }
+    }
+
+    private static LocalDateTime isoDateTime(String value) {
+        try {
+            return OffsetDateTime.parse(value).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(value);
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private static boolean isStartOfFrame(int marker) {
+        return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+    }
+
+    private static int u16(byte[] data, int pos) {
+        return ((data[pos] & 0xFF) << 8) | (data[pos + 1] & 0xFF);
+    }
+
+    private static boolean startsWith(byte[] data, int offset, byte[] prefix) {
+        if (offset + prefix.length > data.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(byte[] data, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static final class Fields {
+        private Integer width;
+        private Integer height;
+        private Integer exifWidth;
+        private Integer exifHeight;
+        private Integer orientation;
+        private LocalDateTime takenAt;
+        private LocalDateTime modifiedAt;
+        private Double latitude;
+        private Double longitude;
+
+        void setLocation(double latitude, double longitude) {
+            if (Double.isFinite(latitude) && Double.isFinite(longitude)
+                    && Math.abs(latitude) <= 90 && Math.abs(longitude) <= 180) {
+                this.latitude = latitude;
+                this.longitude = longitude;
+            }
+        }
+
+        ImageMetadata toMetadata() {
+            // 실제 프레임 크기(SOF/IHDR)를 우선하고, 없으면 EXIF 에 기록된 크기 사용
+            boolean frame = width != null && height != null;
+            return new ImageMetadata(frame ? width : exifWidth, frame ? height : exifHeight,
+                    orientation != null && orientation >= 1 && orientation <= 8 ? orientation : null,
+                    takenAt != null ? takenAt : modifiedAt, latitude, longitude);
+        }
+    }
+}
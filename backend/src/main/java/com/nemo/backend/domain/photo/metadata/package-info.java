@@ -0,0 +1 @@
+package com.nemo.backend.domain.photo.metadata;
\ No newline at end of file
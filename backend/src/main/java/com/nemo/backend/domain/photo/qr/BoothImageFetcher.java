@@ -0,0 +1,263 @@
+package com.nemo.backend.domain.photo.qr;
+
+import com.nemo.backend.domain.photo.storage.PhotoStorage;
+import com.nemo.backend.domain.photo.storage.StoredContent;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Downloads booth images referenced by QR codes straight into
+ * {@link PhotoStorage}.  Fetches run on virtual threads, so hundreds of slow
+ * booth servers cost no platform threads, over a single pooled
+ * {@link HttpClient}.  A per-host semaphore caps how many requests hit one
+ * booth server at a time.
+ *
+ * <p>The body is written to storage on the fetching virtual thread with
+ * {@link PhotoStorage#storeCopying}, whose plain read/write loop does not pin
+ * the carrier the way {@link java.nio.channels.FileChannel#transferFrom}
+ * would.  The HTTP client's request timeout only covers the response
+ * headers, so the body gets its own deadline of the same length: when it
+ * passes, the body stream is closed and the blocked read fails.
+ *
+ * <p>Only booth domains ({@link PhotoBooth}) and explicitly configured hosts
+ * are fetched.  Redirects are followed manually and only to public addresses,
+ * so a QR code cannot make the server call into the internal network.
+ */
+@Component
+public class BoothImageFetcher {
+    private static final Logger log = LoggerFactory.getLogger(BoothImageFetcher.class);
+    private static final int MAX_REDIRECTS = 3;
+    private final PhotoStorage photoStorage;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("qr-fetch-", 0).factory());
+    private final ScheduledExecutorService deadlines = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("qr-deadline").daemon().factory());
+    private final HttpClient client;
+    private final Duration requestTimeout;
+    private final Duration permitTimeout;
+    private final long maxBytes;
+    private final int perHostConcurrency;
+    private final List<String> extraAllowedHosts;
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+    private final Timer fetchTimer;
+
+    public BoothImageFetcher(PhotoStorage photoStorage,
+                             MeterRegistry meterRegistry,
+                             @Value("${photo.qr.connect-timeout:3s}") Duration connectTimeout,
+                             @Value("${photo.qr.request-timeout:15s}") Duration requestTimeout,
+                             @Value("${photo.qr.per-host-concurrency:8}") int perHostConcurrency,
+                             @Value("${photo.qr.permit-timeout:5s}") Duration permitTimeout,
+                             @Value("${photo.qr.max-bytes:31457280}") long maxBytes,
+                             @Value("${photo.qr.extra-allowed-hosts:}") String[] extraAllowedHosts) {
+        this.photoStorage = photoStorage;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(executor)
+                .build();
+        this.requestTimeout = requestTimeout;
+        this.perHostConcurrency = perHostConcurrency;
+        this.permitTimeout = permitTimeout;
+        this.maxBytes = maxBytes;
+        this.extraAllowedHosts = Arrays.stream(extraAllowedHosts)
+                .map(String::trim)
+                .filter(host -> !host.isEmpty())
+                .map(host -> host.toLowerCase(Locale.ROOT))
+                .toList();
+        this.fetchTimer = Timer.builder("photo.qr.fetch")
+                .description("Time spent downloading booth images")
+                .register(meterRegistry);
+    }
+
+    /** Whether images behind {@code host} may be imported at all. */
+    public boolean isAllowedHost(String host) {
+        return PhotoBooth.fromHost(host).isPresent() || extraAllowedHosts.contains(host);
+    }
+
+    /**
+     * Fetches {@code uri} on a virtual thread.  The future fails with an
+     * {@link ApiException} when the URL is not importable or the booth server
+     * cannot deliver an image.
+     */
+    public CompletableFuture<FetchedImage> fetch(URI uri) {
+        return CompletableFuture.supplyAsync(() -> fetchTimer.record(() -> fetchBlocking(uri)), executor);
+    }
+
+    private FetchedImage fetchBlocking(URI uri) {
+        if (!isAllowedHost(uri.getHost())) {
+            throw new ApiException(ErrorCode.INVALID_QR_CODE);
+        }
+        URI current = uri;
+        for (int redirects = 0; redirects <= MAX_REDIRECTS; redirects++) {
+            Semaphore permits = hostPermits.computeIfAbsent(current.getHost(),
+                    host -> new Semaphore(perHostConcurrency));
+            acquire(permits);
+            try {
+                HttpResponse<InputStream> response = send(current);
+                int status = response.statusCode();
+                if (status >= 300 && status < 400) {
+                    response.body().close();
+                    current = redirectTarget(current, response);
+                    continue;
+                }
+                try (InputStream body = response.body()) {
+                    String contentType = response.headers().firstValue("Content-Type").orElse("");
+                    if (status != 200 || !contentType.startsWith("image/")) {
+                        // 만료된 QR 은 보통 404 나 안내용 HTML 페이지를 돌려줌
+                        throw new ApiException(status >= 500 ? ErrorCode.QR_FETCH_FAILED : ErrorCode.INVALID_QR_CODE);
+                    }
+                    return new FetchedImage(store(body), contentType.split(";")[0].trim());
+                }
+            } catch (IOException e) {
+                log.warn("Booth image fetch from {} failed: {}", current.getHost(), e.toString());
+                throw new ApiException(ErrorCode.QR_FETCH_FAILED);
+            } finally {
+                permits.release();
+            }
+        }
+        throw new ApiException(ErrorCode.INVALID_QR_CODE);
+    }
+
+    // 본문을 보내다 멈춘 서버가 가상 스레드를 붙잡지 않도록 기한이 지나면 스트림을 닫아 읽기를 끝냄
+    private StoredContent store(InputStream body) throws IOException {
+        ScheduledFuture<?> deadline = deadlines.schedule(() -> {
+            try {
+                body.close();
+            } catch (IOException ignored) {
+                // 닫는 중의 오류는 읽는 쪽에서 실패로 드러남
+            }
+        }, requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        try {
+            return photoStorage.storeCopying(new LimitedInputStream(body, maxBytes));
+        } finally {
+            deadline.cancel(false);
+        }
+    }
+
+    private HttpResponse<InputStream> send(URI uri) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("Accept", "image/*")
+                .GET()
+                .build();
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching " + uri.getHost(), e);
+        }
+    }
+
+    private void acquire(Semaphore permits) {
+        try {
+            if (!permits.tryAcquire(permitTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new ApiException(ErrorCode.SERVER_BUSY, permitTimeout.toSeconds());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.SERVER_BUSY, permitTimeout.toSeconds());
+        }
+    }
+
+    private URI redirectTarget(URI current, HttpResponse<?> response) {
+        String location = response.headers().firstValue("Location")
+                .orElseThrow(() -> new ApiException(ErrorCode.QR_FETCH_FAILED));
+        URI target = current.resolve(location);
+        String scheme = target.getScheme() == null ? "" : target.getScheme().toLowerCase(Locale.ROOT);
+        if (!(scheme.equals("http") || scheme.equals("https")) || target.getHost() == null) {
+            throw new ApiException(ErrorCode.INVALID_QR_CODE);
+        }
+        // 부스 서버는 보통 CDN 으로 리다이렉트하므로 허용 목록 대신 공인 주소인지만 확인
+        if (!isAllowedHost(target.getHost()) && !isPublicHost(target.getHost())) {
+            throw new ApiException(ErrorCode.INVALID_QR_CODE);
+        }
+        return target;
+    }
+
+    private static boolean isPublicHost(String host) {
+        try {
+            for (InetAddress address : InetAddress.getAllByName(host)) {
+                if (address.isLoopbackAddress() || address.isSiteLocalAddress() || address.isLinkLocalAddress()
+                        || address.isAnyLocalAddress() || address.isMulticastAddress()
+                        || (address.getAddress().length == 16 && (address.getAddress()[0] & 0xfe) == 0xfc)) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        deadlines.shutdownNow();
+    }
+
+    /** 부스 서버가 비정상적으로 큰 응답을 보내도 디스크를 채우지 못하도록 제한 */
+    private static final class LimitedInputStream extends FilterInputStream {
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                consume(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                consume(n);
+            }
+            return n;
+        }
+
+        private void consume(long n) throws IOException {
+            remaining -= n;
+            if (remaining < 0) {
+                throw new IOException("Booth image exceeds the size limit");
+            }
+        }
+    }
+}
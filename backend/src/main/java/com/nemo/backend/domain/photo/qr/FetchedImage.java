@@ -0,0 +1,12 @@
+package com.nemo.backend.domain.photo.qr;
+
+import com.nemo.backend.domain.photo.storage.StoredContent;
+
+/**
+ * Booth image downloaded into {@link com.nemo.backend.domain.photo.storage.PhotoStorage}.
+ *
+ * @param stored      the stored content
+ * @param contentType media type reported by the booth server
+ */
+public record FetchedImage(StoredContent stored, String contentType) {
+}
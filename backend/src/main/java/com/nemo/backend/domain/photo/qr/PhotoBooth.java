@@ -0,0 +1,38 @@
+package com.nemo.backend.domain.photo.qr;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Photobooth brands whose QR download hosts are trusted for server-side
+ * import.  A host matches a booth when it equals or is a subdomain of one of
+ * the booth's domains.
+ */
+public enum PhotoBooth {
+    LIFE4CUT("인생네컷", "life4cut.co.kr"),
+    PHOTOISM("포토이즘", "photoism.co.kr"),
+    HARUFILM("하루필름", "harufilm.com"),
+    PHOTO_SIGNATURE("포토시그니처", "photosignature.co.kr");
+
+    private final String brand;
+    private final String[] domains;
+
+    PhotoBooth(String brand, String... domains) {
+        this.brand = brand;
+        this.domains = domains;
+    }
+
+    public String getBrand() {
+        return brand;
+    }
+
+    public static Optional<PhotoBooth> fromHost(String host) {
+        return Arrays.stream(values())
+                .filter(booth -> Arrays.stream(booth.domains).anyMatch(domain -> matches(host, domain)))
+                .findFirst();
+    }
+
+    static boolean matches(String host, String domain) {
+        return host.equals(domain) || host.endsWith("." + domain);
+    }
+}
@@ -0,0 +1,72 @@
+package com.nemo.backend.domain.photo.qr;
+
+import com.nemo.backend.global.util.HashUtils;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * A booth URL extracted from a scanned QR payload.  {@link #key()} is the
+ * SHA-256 of a normalized form (lower-case scheme and host, no default port,
+ * no fragment, sorted query parameters), so cosmetic differences between
+ * two scans of the same QR map to the same key.  The URL itself is fetched
+ * as scanned, because booths may sign the query string.
+ *
+ * @param sourceUrl URL to fetch, without its fragment
+ * @param key       SHA-256 of the normalized URL
+ */
+public record QrPayload(URI sourceUrl, String key) {
+    // 클라이언트(qr_import.dart)와 같은 규칙으로 첫 번째 URL 을 사용
+    private static final Pattern URL = Pattern.compile("https?://\\S+", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Extracts the first http(s) URL in {@code payload}.
+     *
+     * @throws IllegalArgumentException if the payload contains no usable URL
+     */
+    public static QrPayload parse(String payload) {
+        if (payload == null) {
+            throw new IllegalArgumentException("Empty QR payload");
+        }
+        Matcher matcher = URL.matcher(payload.trim());
+        if (!matcher.find()) {
+            throw new IllegalArgumentException("QR payload has no URL");
+        }
+        URI uri;
+        try {
+            uri = new URI(matcher.group());
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Malformed QR URL", e);
+        }
+        if (uri.getHost() == null) {
+            throw new IllegalArgumentException("QR URL has no host");
+        }
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        int port = uri.getPort();
+        if (("http".equals(scheme) && port == 80) || ("https".equals(scheme) && port == 443)) {
+            port = -1;
+        }
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        String query = uri.getRawQuery();
+        try {
+            URI source = new URI(scheme + "://" + host + (port == -1 ? "" : ":" + port) + path
+                    + (query == null ? "" : "?" + query));
+            String normalizedQuery = query == null || query.isEmpty() ? ""
+                    : "?" + Arrays.stream(query.split("&")).sorted().collect(Collectors.joining("&"));
+            String normalized = scheme + "://" + host + (port == -1 ? "" : ":" + port) + path + normalizedQuery;
+            return new QrPayload(source, HashUtils.sha256(normalized));
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Malformed QR URL", e);
+        }
+    }
+
+    public String host() {
+        return sourceUrl.getHost();
+    }
+}
@@ -0,0 +1 @@
+package com.nemo.backend.domain.photo.qr;
\ No newline at end of file
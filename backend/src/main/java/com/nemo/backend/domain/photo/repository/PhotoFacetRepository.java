@@ -0,0 +1,31 @@
+package com.nemo.backend.domain.photo.repository;
+
+import com.nemo.backend.domain.photo.entity.FacetType;
+import com.nemo.backend.domain.photo.entity.PhotoFacet;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for {@link PhotoFacet} counters.
+ */
+@Repository
+public interface PhotoFacetRepository extends JpaRepository<PhotoFacet, Long> {
+
+    /** 카운터를 읽지 않고 DB 에서 바로 더함; 행이 없으면 0 을 반환 */
+    @Modifying
+    @Query("update PhotoFacet f set f.photoCount = f.photoCount + :delta "
+            + "where f.user.id = :userId and f.type = :type and f.facetValue = :value")
+    int increment(@Param("userId") Long userId,
+                  @Param("type") FacetType type,
+                  @Param("value") String value,
+                  @Param("delta") long delta);
+
+    @Query("select f from PhotoFacet f where f.user.id = :userId and f.photoCount > 0 "
+            + "order by f.type, f.photoCount desc, f.facetValue")
+    List<PhotoFacet> findNonEmpty(@Param("userId") Long userId);
+}
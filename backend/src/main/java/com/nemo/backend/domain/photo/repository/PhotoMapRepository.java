@@ -0,0 +1,22 @@
+package com.nemo.backend.domain.photo.repository;
+
+import com.nemo.backend.domain.photo.dto.MapClusterResponse;
+import com.nemo.backend.domain.photo.dto.MapPhotoResponse;
+
+import java.util.List;
+
+/**
+ * Map queries over the {@code (user_id, geohash)} index.  Each call scans one
+ * geohash range ({@code from} inclusive, {@code to} exclusive or open when
+ * {@code null}) and applies the exact bounding box in the database, so only
+ * markers or aggregated clusters reach the JVM.
+ */
+public interface PhotoMapRepository {
+
+    List<MapPhotoResponse> findMapPhotos(Long userId, String from, String to,
+                                         double south, double west, double north, double east, int limit);
+
+    /** Groups the photos in the range by their geohash prefix of length {@code precision}. */
+    List<MapClusterResponse> findMapClusters(Long userId, String from, String to,
+                                             double south, double west, double north, double east, int precision);
+}
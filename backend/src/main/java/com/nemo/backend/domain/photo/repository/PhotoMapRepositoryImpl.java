@@ -0,0 +1,69 @@
+package com.nemo.backend.domain.photo.repository;
+
+import com.nemo.backend.domain.photo.dto.MapClusterResponse;
+import com.nemo.backend.domain.photo.dto.MapPhotoResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+
+/**
+ * JPQL implementation of {@link PhotoMapRepository}, picked up by Spring Data
+ * as a fragment of {@link PhotoRepository}.
+ */
+class PhotoMapRepositoryImpl implements PhotoMapRepository {
+    private static final String RANGE_AND_BOX = " from Photo p where p.user.id = :userId and p.geohash >= :from%s "
+            + "and p.latitude between :south and :north and p.longitude between :west and :east";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<MapPhotoResponse> findMapPhotos(Long userId, String from, String to,
+                                                double south, double west, double north, double east, int limit) {
+        String jpql = "select new com.nemo.backend.domain.photo.dto.MapPhotoResponse("
+                + "p.id, p.latitude, p.longitude, p.imageUrl, p.thumbnailStatus, p.thumbnailSizes, p.createdAt)"
+                + rangeAndBox(to) + " order by p.createdAt desc, p.id desc";
+        TypedQuery<MapPhotoResponse> query = entityManager.createQuery(jpql, MapPhotoResponse.class);
+        bind(query, userId, from, to, south, west, north, east);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<MapClusterResponse> findMapClusters(Long userId, String from, String to,
+                                                    double south, double west, double north, double east,
+                                                    int precision) {
+        // 파티션 식이 모든 창 함수에서 같아야 하므로 길이는 바인딩 변수가 아닌 정수 리터럴로 넣음
+        String cell = "substring(p.geohash, 1, " + precision + ")";
+        String window = " over (partition by " + cell + ")";
+        // 셀마다 대표 사진은 목록과 같은 (createdAt, id) 순서의 첫 행
+        String jpql = "select new com.nemo.backend.domain.photo.dto.MapClusterResponse("
+                + "c.cell, c.photoCount, c.latitude, c.longitude, c.photoId, c.createdAt) from ("
+                + "select " + cell + " as cell, count(p)" + window + " as photoCount, "
+                + "avg(p.latitude)" + window + " as latitude, avg(p.longitude)" + window + " as longitude, "
+                + "p.id as photoId, p.createdAt as createdAt, row_number() over (partition by " + cell
+                + " order by p.createdAt desc, p.id desc) as rank"
+                + rangeAndBox(to) + ") c where c.rank = 1";
+        TypedQuery<MapClusterResponse> query = entityManager.createQuery(jpql, MapClusterResponse.class);
+        bind(query, userId, from, to, south, west, north, east);
+        return query.getResultList();
+    }
+
+    private static String rangeAndBox(String to) {
+        return RANGE_AND_BOX.formatted(to == null ? "" : " and p.geohash < :to");
+    }
+
+    private static void bind(TypedQuery<?> query, Long userId, String from, String to,
+                             double south, double west, double north, double east) {
+        query.setParameter("userId", userId)
+                .setParameter("from", from)
+                .setParameter("south", south)
+                .setParameter("north", north)
+                .setParameter("west", west)
+                .setParameter("east", east);
+        if (to != null) {
+            query.setParameter("to", to);
+        }
+    }
+}
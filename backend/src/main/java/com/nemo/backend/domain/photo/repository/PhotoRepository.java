@@ -0,0 +1,110 @@
+package com.nemo.backend.domain.photo.repository;
+
+import com.nemo.backend.domain.photo.entity.Photo;
+import com.nemo.backend.domain.photo.entity.ThumbnailStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for {@link Photo} persistence.
+ */
+@Repository
+public interface PhotoRepository extends JpaRepository<Photo, Long>, PhotoMapRepository {
+
+    /*
+     * 목록 쿼리는 (user_id, createdAt desc, id desc) 인덱스 순서 그대로 읽도록 작성:
+     * ORDER BY 에 user_id 를 넣어야 옵티마이저가 정렬 없이 인덱스 순서를 사용하고,
+     * createdAt <= :createdAt 조건이 있어야 커서 위치로 바로 범위 탐색함.
+     * 첫 페이지도 KeysetCursor.FIRST 로 같은 쿼리를 사용 (user_id 조건만 있으면
+     * 옵티마이저가 FK 인덱스를 골라 전체 정렬함).
+     */
+    @Query("select p from Photo p where p.user.id = :userId "
+            + "and p.createdAt <= :createdAt and (p.createdAt < :createdAt or p.id < :id) "
+            + "order by p.user.id, p.createdAt desc, p.id desc")
+    List<Photo> findPage(@Param("userId") Long userId,
+                         @Param("createdAt") LocalDateTime createdAt,
+                         @Param("id") Long id,
+                         Pageable pageable);
+
+    /** 유사 사진 색인을 채울 때 엔티티 대신 (id, 해시) 두 컬럼만 읽음 */
+    @Query("select p.id as id, p.perceptualHash as perceptualHash from Photo p "
+            + "where p.user.id = :userId and p.perceptualHash is not null")
+    List<PerceptualHashView> findPerceptualHashes(@Param("userId") Long userId);
+
+    /** 즐겨찾기 토글의 기준값: 내 사진이 아니면 비어 있음 */
+    @Query("select p.favorite from Photo p where p.id = :photoId and p.user.id = :userId")
+    Optional<Boolean> findFavorite(@Param("userId") Long userId, @Param("photoId") Long photoId);
+
+    List<Photo> findByUserIdAndIdIn(Long userId, Collection<Long> ids);
+
+    /** 사진이 지금 든 앨범 id: 영속성 컨텍스트에 읽어 둔 엔티티가 아니라 DB 의 현재 값 */
+    @Query("select p.id as id, p.album.id as albumId from Photo p where p.id in :ids")
+    List<AlbumAssignmentView> findAlbumAssignments(@Param("ids") Collection<Long> ids);
+
+    Optional<Photo> findByUserIdAndQrPayloadKey(Long userId, String qrPayloadKey);
+
+    /* 대부분 READY 이므로 (thumbnailStatus, createdAt) 인덱스로 밀린 행만 읽음 */
+    @Query("select distinct p.contentHash from Photo p "
+            + "where p.thumbnailStatus = :status and p.createdAt < :before and p.contentHash is not null")
+    List<String> findContentHashesByThumbnailStatus(@Param("status") ThumbnailStatus status,
+                                                    @Param("before") LocalDateTime before,
+                                                    Pageable pageable);
+
+    /** 같은 원본을 공유하는 사진은 축소본도 공유하므로 해시 단위로 한 번에 갱신 */
+    @Modifying(clearAutomatically = true)
+    @Query("update Photo p set p.thumbnailStatus = :status, p.thumbnailSizes = :sizes "
+            + "where p.contentHash = :contentHash")
+    int updateThumbnails(@Param("contentHash") String contentHash,
+                         @Param("status") ThumbnailStatus status,
+                         @Param("sizes") String sizes);
+
+    /** 앨범 내보내기: 원본 파일을 찾는 데 필요한 컬럼만 id 순 키셋 페이지로 읽음 */
+    @Query("select p.id as id, p.contentHash as contentHash, p.takenAt as takenAt, p.createdAt as createdAt "
+            + "from Photo p where p.album.id = :albumId and p.id > :afterId and p.contentHash is not null "
+            + "order by p.id")
+    List<ExportView> findExportPage(@Param("albumId") Long albumId,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
+    /** geohash 컬럼 도입 전에 올라온 위치 있는 사진을 id 순 키셋 페이지로 찾음 */
+    @Query("select p.id from Photo p where p.id > :afterId and p.geohash is null "
+            + "and p.latitude is not null and p.longitude is not null order by p.id")
+    List<Long> findMissingGeohashIds(@Param("afterId") Long afterId, Pageable pageable);
+
+    /** 브랜드/태그 카운터 도입 전에 올라온 사진을 id 순 키셋 페이지로 찾음 */
+    @Query("select p.id from Photo p where p.id > :afterId and p.facetsCounted = false order by p.id")
+    List<Long> findUncountedFacetIds(@Param("afterId") Long afterId, Pageable pageable);
+
+    /** 삭제할 사진을 잠가 카운터 반영 여부가 백필과 엇갈리지 않게 함 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Photo p where p.id = :id")
+    Optional<Photo> findByIdForUpdate(@Param("id") Long id);
+
+    interface PerceptualHashView {
+        Long getId();
+        Long getPerceptualHash();
+    }
+
+    interface AlbumAssignmentView {
+        Long getId();
+        Long getAlbumId();
+    }
+
+    interface ExportView {
+        Long getId();
+        String getContentHash();
+        LocalDateTime getTakenAt();
+        LocalDateTime getCreatedAt();
+    }
+}
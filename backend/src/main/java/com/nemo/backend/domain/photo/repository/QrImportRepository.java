@@ -0,0 +1,15 @@
+package com.nemo.backend.domain.photo.repository;
+
+import com.nemo.backend.domain.photo.entity.QrImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository for {@link QrImport} persistence.
+ */
+@Repository
+public interface QrImportRepository extends JpaRepository<QrImport, Long> {
+    Optional<QrImport> findByPayloadKey(String payloadKey);
+}
@@ -0,0 +1,69 @@
+package com.nemo.backend.domain.photo.service;
+
+import com.nemo.backend.domain.photo.repository.PhotoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Adds photos saved before the brand and tag counters existed to those
+ * counters, so filter chips and stats include the whole library.  Runs once
+ * at startup; uncounted photos are scanned in id order in chunks and each
+ * chunk is counted and marked in its own short transaction.  Uploads are
+ * counted as they are saved, so after the first complete pass there is
+ * nothing left to add.
+ */
+@Component
+public class FacetBackfillJob {
+    private static final Logger log = LoggerFactory.getLogger(FacetBackfillJob.class);
+    private final PhotoRepository photoRepository;
+    private final PhotoFacetService photoFacetService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public FacetBackfillJob(PhotoRepository photoRepository,
+                            PhotoFacetService photoFacetService,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${photo.facet.backfill-chunk-size:500}") int chunkSize) {
+        this.photoRepository = photoRepository;
+        this.photoFacetService = photoFacetService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        backfill();
+    }
+
+    /** Counts every photo the counters do not include yet and returns how many were added. */
+    public int backfill() {
+        long afterId = 0L;
+        int total = 0;
+        while (true) {
+            List<Long> ids = photoRepository.findUncountedFacetIds(afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            long firstId = ids.get(0);
+            long lastId = ids.get(ids.size() - 1);
+            total += transactionTemplate.execute(status -> photoFacetService.countUncounted(firstId, lastId));
+            if (ids.size() < chunkSize) {
+                break;
+            }
+            afterId = lastId;
+        }
+        if (total > 0) {
+            log.info("Backfilled brand and tag counters for {} photos", total);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,71 @@
+package com.nemo.backend.domain.photo.service;
+
+import com.nemo.backend.domain.photo.entity.Photo;
+import com.nemo.backend.domain.photo.repository.PhotoRepository;
+import com.nemo.backend.global.util.GeoHash;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Fills {@code geohash} for photos that were saved with coordinates before
+ * the column existed, so they show up on the map.  Runs once at startup;
+ * photos are scanned in id order in chunks and each chunk is updated in its
+ * own short transaction.  New and edited photos get their geohash from the
+ * entity callback, so after the first complete pass there is nothing left
+ * to fill.
+ */
+@Component
+public class GeohashBackfillJob {
+    private static final Logger log = LoggerFactory.getLogger(GeohashBackfillJob.class);
+    private final PhotoRepository photoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public GeohashBackfillJob(PhotoRepository photoRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${photo.map.geohash-backfill-chunk-size:500}") int chunkSize) {
+        this.photoRepository = photoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        backfill();
+    }
+
+    /** Computes the geohash of every located photo that has none and returns how many were filled. */
+    public int backfill() {
+        long afterId = 0L;
+        int total = 0;
+        while (true) {
+            List<Long> ids = photoRepository.findMissingGeohashIds(afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Photo photo : photoRepository.findAllById(ids)) {
+                    photo.setGeohash(GeoHash.encode(photo.getLatitude(), photo.getLongitude(), GeoHash.MAX_PRECISION));
+                }
+            });
+            total += ids.size();
+            if (ids.size() < chunkSize) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+        if (total > 0) {
+            log.info("Backfilled geohash for {} photos", total);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,126 @@
+package com.nemo.backend.domain.photo.service;
+
+import com.nemo.backend.domain.photo.dto.FacetCountResponse;
+import com.nemo.backend.domain.photo.dto.PhotoFacetsResponse;
+import com.nemo.backend.domain.photo.entity.FacetType;
+import com.nemo.backend.domain.photo.entity.Photo;
+import com.nemo.backend.domain.photo.entity.PhotoFacet;
+import com.nemo.backend.domain.photo.repository.PhotoFacetRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Maintains the per-user brand and tag counters in {@link PhotoFacet}.
+ * Counters are adjusted by the transaction that inserts or deletes the
+ * photo, so they commit or roll back with it and never drift; reads cost
+ * one row per facet however many photos the user has.  Every adjustment is
+ * a single {@code SET photo_count = photo_count + :delta} statement, so
+ * concurrent uploads only wait on the counter rows they share, never on a
+ * per-user lock.  Photos saved before the counters existed are not counted
+ * ({@code facetsCounted = false}) until {@link FacetBackfillJob} adds them.
+ */
+@Service
+public class PhotoFacetService {
+    // 행이 없으면 만들고 있으면 더하는 한 문장: 호출한 트랜잭션 안에서 실행됨
+    private static final String ADD = "merge into photo_facet f "
+            + "using (values (cast(? as bigint), cast(? as varchar(16)), cast(? as varchar(255)), cast(? as bigint))) "
+            + "s(user_id, type, facet_value, delta) "
+            + "on f.user_id = s.user_id and f.type = s.type and f.facet_value = s.facet_value "
+            + "when matched then update set photo_count = f.photo_count + s.delta "
+            + "when not matched then insert (user_id, type, facet_value, photo_count) "
+            + "values (s.user_id, s.type, s.facet_value, s.delta)";
+
+    private final PhotoFacetRepository photoFacetRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public PhotoFacetService(PhotoFacetRepository photoFacetRepository, JdbcTemplate jdbcTemplate) {
+        this.photoFacetRepository = photoFacetRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Adds {@code delta} to every counter the photo contributes to, creating
+     * missing counters in the caller's transaction.  Photos the counters do
+     * not include yet are left alone.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void adjust(Photo photo, long delta) {
+        if (!photo.isFacetsCounted()) {
+            return;
+        }
+        Long userId = photo.getUser().getId();
+        adjust(userId, FacetType.BRAND, photo.getBrand(), delta);
+        // 태그 행은 항상 같은 순서로 잠가 두 업로드가 서로의 행을 기다리는 교착을 막음
+        for (String tag : new TreeSet<>(photo.getTags())) {
+            adjust(userId, FacetType.TAG, tag, delta);
+        }
+    }
+
+    /**
+     * Adds the photos in {@code [firstId, lastId]} that are not counted yet
+     * to their owners' counters and marks them counted.  The rows are locked
+     * first, so a delete of one of them either finishes before (and the photo
+     * is gone) or waits and then sees it counted.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int countUncounted(long firstId, long lastId) {
+        List<Long> ids = jdbcTemplate.queryForList("select id from photo where id between ? and ? "
+                + "and facets_counted = false for update", Long.class, firstId, lastId);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> rows = new ArrayList<>();
+        jdbcTemplate.query("select user_id, brand, count(*) from photo where id between ? and ? "
+                        + "and facets_counted = false group by user_id, brand order by user_id, brand",
+                rs -> {
+                    rows.add(new Object[]{rs.getLong(1), FacetType.BRAND, rs.getString(2), rs.getLong(3)});
+                }, firstId, lastId);
+        jdbcTemplate.query("select p.user_id, t.tag, count(*) from photo_tag t join photo p on p.id = t.photo_id "
+                        + "where p.id between ? and ? and p.facets_counted = false "
+                        + "group by p.user_id, t.tag order by p.user_id, t.tag",
+                rs -> {
+                    rows.add(new Object[]{rs.getLong(1), FacetType.TAG, rs.getString(2), rs.getLong(3)});
+                }, firstId, lastId);
+        for (Object[] row : rows) {
+            add((Long) row[0], (FacetType) row[1], (String) row[2], (Long) row[3]);
+        }
+        jdbcTemplate.update("update photo set facets_counted = true where id between ? and ? "
+                + "and facets_counted = false", firstId, lastId);
+        return ids.size();
+    }
+
+    @Transactional(readOnly = true)
+    public PhotoFacetsResponse facets(Long userId) {
+        List<FacetCountResponse> brands = new ArrayList<>();
+        List<FacetCountResponse> tags = new ArrayList<>();
+        for (PhotoFacet facet : photoFacetRepository.findNonEmpty(userId)) {
+            FacetCountResponse count = new FacetCountResponse(facet.getFacetValue(), facet.getPhotoCount());
+            (facet.getType() == FacetType.BRAND ? brands : tags).add(count);
+        }
+        return new PhotoFacetsResponse(brands, tags);
+    }
+
+    private void adjust(Long userId, FacetType type, String value, long delta) {
+        if (delta > 0) {
+            add(userId, type, value, delta);
+        } else {
+            photoFacetRepository.increment(userId, type, value, delta);
+        }
+    }
+
+    private void add(Long userId, FacetType type, String value, long delta) {
+        try {
+            jdbcTemplate.update(ADD, userId, type.name(), value, delta);
+        } catch (DuplicateKeyException e) {
+            // 다른 업로드가 같은 행을 먼저 만들고 커밋함: 그 행에 더하면 됨
+            jdbcTemplate.update(ADD, userId, type.name(), value, delta);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.nemo.backend.domain.photo.service;
+
+import com.nemo.backend.domain.photo.dto.MapClusterResponse;
+import com.nemo.backend.domain.photo.dto.MapPhotoResponse;
+import com.nemo.backend.domain.photo.dto.MapPhotosResponse;
+import com.nemo.backend.domain.photo.repository.PhotoRepository;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import com.nemo.backend.global.util.GeoHash;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Map view queries over the user's geotagged photos.  A viewport is covered
+ * by a handful of geohash cells; adjacent cells are merged into contiguous
+ * ranges of the {@code (user_id, geohash)} index and each range is scanned
+ * with the exact bounding box applied in the database.  Clusters are counted
+ * and averaged by the database, so a zoomed-out view over thousands of
+ * photos returns a few dozen rows.
+ */
+@Service
+@Transactional(readOnly = true)
+public class PhotoMapService {
+    // 뷰포트 하나를 덮는 geohash 셀 수 상한 (= 인덱스 범위 스캔 수 상한)
+    private static final int MAX_COVER_CELLS = 8;
+    // 클러스터 셀 하나가 타일 폭의 1/8 정도가 되도록 정밀도를 고름
+    private static final int CELLS_PER_TILE_SHIFT = 3;
+
+    private final PhotoRepository photoRepository;
+
+    public PhotoMapService(PhotoRepository photoRepository) {
+        this.photoRepository = photoRepository;
+    }
+
+    /**
+     * Returns up to {@code limit} of the newest photos inside the box.  The
+     * box may cross the antimeridian ({@code west > east}).
+     */
+    public MapPhotosResponse photos(Long userId, double south, double west, double north, double east, int limit) {
+        validate(south, west, north, east);
+        List<MapPhotoResponse> photos = new ArrayList<>();
+        for (double[] box : split(west, east)) {
+            for (String[] range : ranges(south, box[0], north, box[1])) {
+                photos.addAll(photoRepository.findMapPhotos(userId, range[0], range[1],
+                        south, box[0], north, box[1], limit + 1));
+            }
+        }
+        photos.sort(MapPhotoResponse.NEWEST_FIRST);
+        boolean truncated = photos.size() > limit;
+        return new MapPhotosResponse(truncated ? photos.subList(0, limit) : photos, truncated);
+    }
+
+    /** Returns the photos inside the box grouped into geohash cells sized for the map zoom level. */
+    public List<MapClusterResponse> clusters(Long userId, double south, double west, double north, double east,
+                                             int zoom) {
+        validate(south, west, north, east);
+        int precision = precisionForZoom(zoom);
+        Map<String, MapClusterResponse> clusters = new TreeMap<>();
+        for (double[] box : split(west, east)) {
+            for (String[] range : ranges(south, box[0], north, box[1])) {
+                for (MapClusterResponse cluster : photoRepository.findMapClusters(userId, range[0], range[1],
+                        south, box[0], north, box[1], precision)) {
+                    clusters.merge(cluster.getGeohash(), cluster, MapClusterResponse::merge);
+                }
+            }
+        }
+        return new ArrayList<>(clusters.values());
+    }
+
+    /** The finest geohash precision whose cells are still at least 1/8 of a map tile wide. */
+    static int precisionForZoom(int zoom) {
+        double tileWidth = 360.0 / (1L << Math.max(0, Math.min(zoom, 30)));
+        double target = tileWidth / (1 << CELLS_PER_TILE_SHIFT);
+        int precision = 1;
+        while (precision < GeoHash.MAX_PRECISION && GeoHash.cellWidth(precision + 1) >= target) {
+            precision++;
+        }
+        return precision;
+    }
+
+    /** 날짜 변경선을 넘는 상자는 동/서 두 개로 나눔 */
+    private static List<double[]> split(double west, double east) {
+        if (west <= east) {
+            return List.of(new double[]{west, east});
+        }
+        return List.of(new double[]{west, 180.0}, new double[]{-180.0, east});
+    }
+
+    /** Covering cells merged into {@code [from, to)} ranges; {@code to} is null for an open end. */
+    private static List<String[]> ranges(double south, double west, double north, double east) {
+        List<String[]> ranges = new ArrayList<>();
+        String from = null;
+        String to = null;
+        for (String cell : GeoHash.cover(south, west, north, east, MAX_COVER_CELLS)) {
+            if (from != null && cell.equals(to)) {
+                to = GeoHash.nextPrefix(cell);
+                continue;
+            }
+            if (from != null) {
+                ranges.add(new String[]{from, to});
+            }
+            from = cell;
+            to = GeoHash.nextPrefix(cell);
+        }
+        if (from != null) {
+            ranges.add(new String[]{from, to});
+        }
+        return ranges;
+    }
+
+    private static void validate(double south, double west, double north, double east) {
+        if (!(south >= -90 && north <= 90 && south <= north && west >= -180 && west <= 180
+                && east >= -180 && east <= 180)) {
+            throw new ApiException(ErrorCode.INVALID_MAP_BOUNDS);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.nemo.backend.domain.photo.service;
+
+import com.nemo.backend.domain.album.service.AlbumStatsService;
+import com.nemo.backend.domain.photo.dto.DuplicatePhotoResponse;
+import com.nemo.backend.domain.photo.dto.PhotoResponse;
+import com.nemo.backend.domain.photo.dto.PhotoUploadRequest;
+import com.nemo.backend.domain.photo.entity.Photo;
+import com.nemo.backend.domain.photo.favorite.FavoriteBuffer;
+import com.nemo.backend.domain.photo.metadata.HeadCapturingInputStream;
+import com.nemo.backend.domain.photo.metadata.ImageMetadata;
+import com.nemo.backend.domain.photo.metadata.ImageMetadataReader;
+import com.nemo.backend.domain.photo.repository.PhotoRepository;
+import com.nemo.backend.domain.photo.similarity.HammingIndex;
+import com.nemo.backend.domain.photo.similarity.DuplicateIndex;
+import com.nemo.backend.domain.photo.similarity.PerceptualHasher;
+import com.nemo.backend.domain.photo.storage.PhotoStorage;
+import com.nemo.backend.domain.photo.storage.StoredContent;
+import com.nemo.backend.domain.photo.thumbnail.ThumbnailService;
+import com.nemo.backend.domain.purge.repository.PurgeRepository;
+import com.nemo.backend.domain.timeline.service.TimelineService;
+import com.nemo.backend.domain.user.entity.User;
+import com.nemo.backend.domain.user.repository.UserRepository;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import com.nemo.backend.global.response.CursorPageResponse;
+import com.nemo.backend.global.util.KeysetCursor;
+import com.nemo.backend.global.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service layer for photo uploads, listing and deletion.  The image is
+ * streamed into {@link PhotoStorage} before any transaction is opened and its
+ * header metadata is parsed on the way; only the row changes are
+ * transactional, and the work that follows a commit (thumbnails, duplicate
+ * index, favorites) is handed to the collaborators that own it.
+ */
+@Service
+public class PhotoService {
+    private final PhotoRepository photoRepository;
+    private final UserRepository userRepository;
+    private final PhotoStorage photoStorage;
+    private final ThumbnailService thumbnailService;
+    private final PerceptualHasher perceptualHasher;
+    private final DuplicateIndex duplicateIndex;
+    private final PhotoFacetService photoFacetService;
+    private final FavoriteBuffer favoriteBuffer;
+    private final AlbumStatsService albumStatsService;
+    private final TimelineService timelineService;
+    private final PurgeRepository purgeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String imageBaseUrl;
+    private final int metadataHeaderBytes;
+
+    public PhotoService(PhotoRepository photoRepository,
+                        UserRepository userRepository,
+                        PhotoStorage photoStorage,
+                        ThumbnailService thumbnailService,
+                        PerceptualHasher perceptualHasher,
+                        DuplicateIndex duplicateIndex,
+                        PhotoFacetService photoFacetService,
+                        FavoriteBuffer favoriteBuffer,
+                        AlbumStatsService albumStatsService,
+                        TimelineService timelineService,
+                        PurgeRepository purgeRepository,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${photo.image-base-url:/api/images}") String imageBaseUrl,
+                        @Value("${photo.metadata.max-header-bytes:262144}") int metadataHeaderBytes) {
+        this.photoRepository = photoRepository;
+        this.userRepository = userRepository;
+        this.photoStorage = photoStorage;
+        this.thumbnailService = thumbnailService;
+        this.perceptualHasher = perceptualHasher;
+        this.duplicateIndex = duplicateIndex;
+        this.photoFacetService = photoFacetService;
+        this.favoriteBuffer = favoriteBuffer;
+        this.albumStatsService = albumStatsService;
+        this.timelineService = timelineService;
+        this.purgeRepository = purgeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.imageBaseUrl = imageBaseUrl;
+        this.metadataHeaderBytes = metadataHeaderBytes;
+    }
+
+    public PhotoResponse upload(Long userId, MultipartFile image, PhotoUploadRequest request) {
+        if (image == null || image.isEmpty()
+                || image.getContentType() == null || !image.getContentType().startsWith("image/")) {
+            throw new ApiException(ErrorCode.INVALID_IMAGE);
+        }
+        if (request.getBrand() == null || request.getBrand().isBlank()) {
+            throw new ApiException(ErrorCode.INVALID_PHOTO_REQUEST);
+        }
+        for (int attempt = 0; ; attempt++) {
+            StoredContent stored;
+            ImageMetadata metadata;
+            try (HeadCapturingInputStream in = new HeadCapturingInputStream(image.getInputStream(), metadataHeaderBytes)) {
+                stored = photoStorage.store(in);
+                metadata = ImageMetadataReader.read(in.head());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to store uploaded photo", e);
+            }
+            try {
+                return register(userId, stored, image.getContentType(), request, null, metadata);
+            } catch (ApiException e) {
+                // 같은 내용의 원본이 방금 정리됐으면 한 번 더 저장
+                if (e.getErrorCode() != ErrorCode.IMAGE_NOT_FOUND || attempt > 0) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the photo row for content that is already in {@link PhotoStorage}
+     * and queues its thumbnails once the insert has committed.
+     *
+     * @param qrPayloadKey normalized QR payload key when the photo was imported
+     *                     from a booth QR code, otherwise {@code null}
+     * @throws ApiException {@link ErrorCode#IMAGE_NOT_FOUND} when the stored
+     *         file was purged before the photo could take it back
+     */
+    public PhotoResponse register(Long userId, StoredContent stored, String contentType,
+                                  PhotoUploadRequest request, String qrPayloadKey) {
+        ImageMetadata metadata;
+        try {
+            // 스트림을 가로챌 수 없었던 내용(QR 가져오기 등)은 저장된 파일의 앞부분만 읽음
+            metadata = ImageMetadataReader.read(photoStorage.resolve(stored.contentHash()), metadataHeaderBytes);
+        } catch (NoSuchFileException e) {
+            throw new ApiException(ErrorCode.IMAGE_NOT_FOUND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read stored photo " + stored.contentHash(), e);
+        }
+        return register(userId, stored, contentType, request, qrPayloadKey, metadata);
+    }
+
+    private PhotoResponse register(Long userId, StoredContent stored, String contentType,
+                                   PhotoUploadRequest request, String qrPayloadKey, ImageMetadata metadata) {
+        Set<String> tags = parseTags(request.getTagList());
+        // 해시 계산과 색인 조회는 트랜잭션 밖에서 (DB 커넥션을 잡지 않음)
+        Long perceptualHash = perceptualHash(stored.contentHash());
+        Long possibleDuplicateOf = perceptualHash == null ? null
+                : duplicateIndex.findClosest(userId, perceptualHash).map(HammingIndex.Match::photoId).orElse(null);
+        Photo saved = transactionTemplate.execute(status -> {
+            // 정리 대기 중인 원본을 되찾음; 정리가 먼저 잠갔다면 그 판단이 끝난 뒤 파일이 남았는지 확인
+            purgeRepository.dequeueContent(stored.contentHash());
+            if (!photoStorage.exists(stored.contentHash())) {
+                throw new ApiException(ErrorCode.IMAGE_NOT_FOUND);
+            }
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new ApiException(ErrorCode.USER_ALREADY_DELETED));
+            Photo photo = photoRepository.saveAndFlush(Photo.builder()
+                    .user(user)
+                    .imageUrl(imageBaseUrl + "/" + stored.contentHash())
+                    .contentHash(stored.contentHash())
+                    .sizeBytes(stored.sizeBytes())
+                    .contentType(contentType)
+                    .brand(request.getBrand())
+                    .location(request.getLocation())
+                    .memo(request.getMemo())
+                    // 클라이언트가 보내는 takenAt 은 업로드 시각인 경우가 많아 EXIF 촬영 시각을 우선
+                    .takenAt(metadata.takenAt() != null ? metadata.takenAt() : parseTakenAt(request.getTakenAt()))
+                    .latitude(metadata.latitude())
+                    .longitude(metadata.longitude())
+                    .width(metadata.width())
+                    .height(metadata.height())
+                    .orientation(metadata.orientation())
+                    .qrPayloadKey(qrPayloadKey)
+                    .perceptualHash(perceptualHash)
+                    .possibleDuplicateOf(possibleDuplicateOf)
+                    .tags(tags)
+                    .facetsCounted(true)
+                    .build());
+            photoFacetService.adjust(photo, 1);
+            TransactionUtils.afterCommit(() -> thumbnailService.enqueue(stored.contentHash()));
+            if (perceptualHash != null) {
+                TransactionUtils.afterCommit(() -> duplicateIndex.add(userId, photo.getId(), perceptualHash));
+            }
+            return photo;
+        });
+        return PhotoResponse.from(saved);
+    }
+
+    /** Lists the user's photos newest first, one keyset page at a time. */
+    public CursorPageResponse<PhotoResponse> list(Long userId, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Photo> rows = photoRepository.findPage(userId, after.createdAt(), after.id(),
+                PageRequest.of(0, size + 1));
+        return CursorPageResponse.of(rows, size,
+                photo -> PhotoResponse.from(photo, favoriteBuffer.isFavorite(userId, photo)),
+                photo -> new KeysetCursor(photo.getCreatedAt(), photo.getId()).encode());
+    }
+
+    /**
+     * Deletes the photo row together with the timeline entries that show it.
+     * Other photos may share the stored original, so it is only queued in
+     * {@code purged_content} by the same transaction; the purge sweep
+     * deletes the file once nothing points at it, unless a registration takes
+     * the content back first (see {@link PurgeRepository#dequeueContent}).
+     */
+    public void delete(Long userId, Long photoId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!userRepository.existsById(userId)) {
+                throw new ApiException(ErrorCode.USER_ALREADY_DELETED);
+            }
+            Photo photo = photoRepository.findByIdForUpdate(photoId)
+                    .filter(found -> found.getUser().getId().equals(userId))
+                    .orElseThrow(() -> new ApiException(ErrorCode.PHOTO_NOT_FOUND));
+            timelineService.photoDeleted(photoId);
+            photoFacetService.adjust(photo, -1);
+            albumStatsService.photoDeleted(photo);
+            photoRepository.delete(photo);
+            if (photo.getContentHash() != null) {
+                purgeRepository.queueContent(photo.getContentHash(), LocalDateTime.now());
+            }
+            TransactionUtils.afterCommit(() -> favoriteBuffer.discard(userId, photoId));
+            Long perceptualHash = photo.getPerceptualHash();
+            if (perceptualHash != null) {
+                TransactionUtils.afterCommit(() -> duplicateIndex.remove(userId, photoId, perceptualHash));
+            }
+        });
+    }
+
+    /** Flips the favorite flag of the user's photo and returns the new state. */
+    public boolean toggleFavorite(Long userId, Long photoId) {
+        return favoriteBuffer.toggle(userId, photoId);
+    }
+
+    /** Lists the user's other photos that look like {@code photoId}, most similar first. */
+    public List<DuplicatePhotoResponse> duplicates(Long userId, Long photoId) {
+        Photo photo = photoRepository.findById(photoId)
+                .filter(found -> found.getUser().getId().equals(userId))
+                .orElseThrow(() -> new ApiException(ErrorCode.PHOTO_NOT_FOUND));
+        if (photo.getPerceptualHash() == null) {
+            return List.of();
+        }
+        List<HammingIndex.Match> matches = duplicateIndex.findSimilar(userId, photo.getPerceptualHash()).stream()
+                .filter(match -> match.photoId() != photoId)
+                .toList();
+        Map<Long, Photo> photos = photoRepository.findAllById(matches.stream().map(HammingIndex.Match::photoId).toList())
+                .stream()
+                .collect(Collectors.toMap(Photo::getId, Function.identity()));
+        return matches.stream()
+                .filter(match -> photos.containsKey(match.photoId()))
+                .map(match -> DuplicatePhotoResponse.from(photos.get(match.photoId()), match.distance()))
+                .toList();
+    }
+
+    /**
+     * Trims, de-duplicates and validates the tags.  Multipart clients send
+     * the list as one JSON array string, which the binder has already split
+     * at its commas, so the pieces are joined back before parsing.
+     */
+    private static Set<String> parseTags(List<String> tagList) {
+        Set<String> tags = new LinkedHashSet<>();
+        if (tagList == null || tagList.isEmpty()) {
+            return tags;
+        }
+        String joined = String.join(",", tagList).trim();
+        if (joined.startsWith("[") && joined.endsWith("]")) {
+            joined = joined.substring(1, joined.length() - 1);
+        }
+        for (String piece : joined.split(",")) {
+            String tag = piece.trim();
+            if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                tag = tag.substring(1, tag.length() - 1).trim();
+            }
+            if (tag.isEmpty()) {
+                continue;
+            }
+            if (tag.length() > Photo.MAX_TAG_LENGTH || tag.indexOf('"') >= 0) {
+                throw new ApiException(ErrorCode.INVALID_PHOTO_REQUEST);
+            }
+            tags.add(tag);
+        }
+        if (tags.size() > Photo.MAX_TAGS) {
+            throw new ApiException(ErrorCode.INVALID_PHOTO_REQUEST);
+        }
+        return tags;
+    }
+
+    private Long perceptualHash(String contentHash) {
+        try {
+            return perceptualHasher.hash(photoStorage.resolve(contentHash));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read stored photo " + contentHash, e);
+        }
+    }
+
+    // 클라이언트는 오프셋이 있거나 없는 ISO-8601 문자열을 보냄
+    private static LocalDateTime parseTakenAt(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(value);
+            } catch (DateTimeParseException ignored) {
+                throw new ApiException(ErrorCode.INVALID_PHOTO_REQUEST);
+            }
+        }
+    }
+}
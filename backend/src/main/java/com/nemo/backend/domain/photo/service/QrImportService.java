@@ -0,0 +1,173 @@
+package com.nemo.backend.domain.photo.service;
+
+import com.nemo.backend.domain.photo.dto.PhotoResponse;
+import com.nemo.backend.domain.photo.dto.QrImportRequest;
+import com.nemo.backend.domain.photo.entity.QrImport;
+import com.nemo.backend.domain.photo.qr.BoothImageFetcher;
+import com.nemo.backend.domain.photo.qr.FetchedImage;
+import com.nemo.backend.domain.photo.qr.PhotoBooth;
+import com.nemo.backend.domain.photo.qr.QrPayload;
+import com.nemo.backend.domain.photo.repository.PhotoRepository;
+import com.nemo.backend.domain.photo.repository.QrImportRepository;
+import com.nemo.backend.domain.photo.storage.PhotoStorage;
+import com.nemo.backend.domain.photo.storage.StoredContent;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Imports a photo from a photobooth QR code without the client downloading
+ * and re-uploading the image.  Work is keyed by the normalized QR payload:
+ * <ul>
+ *     <li>the same user scanning the same QR again gets the existing photo;</li>
+ *     <li>another user scanning it (friends sharing one booth session) gets
+ *     a new photo backed by the already stored file;</li>
+ *     <li>concurrent scans of a new QR share a single download.</li>
+ * </ul>
+ */
+@Service
+public class QrImportService {
+    private static final String DEFAULT_BRAND = "기타";
+    private final PhotoService photoService;
+    private final PhotoRepository photoRepository;
+    private final QrImportRepository qrImportRepository;
+    private final PhotoStorage photoStorage;
+    private final BoothImageFetcher fetcher;
+    private final Duration timeout;
+    private final Map<String, CompletableFuture<FetchedImage>> inFlight = new ConcurrentHashMap<>();
+    private final Counter reused;
+    private final Counter fetched;
+
+    public QrImportService(PhotoService photoService,
+                           PhotoRepository photoRepository,
+                           QrImportRepository qrImportRepository,
+                           PhotoStorage photoStorage,
+                           BoothImageFetcher fetcher,
+                           MeterRegistry meterRegistry,
+                           @Value("${photo.qr.import-timeout:20s}") Duration timeout) {
+        this.photoService = photoService;
+        this.photoRepository = photoRepository;
+        this.qrImportRepository = qrImportRepository;
+        this.photoStorage = photoStorage;
+        this.fetcher = fetcher;
+        this.timeout = timeout;
+        this.reused = Counter.builder("photo.qr.imports").tag("source", "reused")
+                .description("QR imports by whether the booth image had to be downloaded")
+                .register(meterRegistry);
+        this.fetched = Counter.builder("photo.qr.imports").tag("source", "fetched")
+                .description("QR imports by whether the booth image had to be downloaded")
+                .register(meterRegistry);
+    }
+
+    public Result importPhoto(Long userId, QrImportRequest request) {
+        QrPayload payload;
+        try {
+            payload = QrPayload.parse(request.getQrCode());
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(ErrorCode.INVALID_QR_CODE);
+        }
+        if (!fetcher.isAllowedHost(payload.host())) {
+            throw new ApiException(ErrorCode.INVALID_QR_CODE);
+        }
+        Optional<PhotoResponse> existing = findExisting(userId, payload.key());
+        if (existing.isPresent()) {
+            reused.increment();
+            return new Result(existing.get(), false);
+        }
+        if (request.getBrand() == null || request.getBrand().isBlank()) {
+            request.setBrand(PhotoBooth.fromHost(payload.host()).map(PhotoBooth::getBrand).orElse(DEFAULT_BRAND));
+        }
+        try {
+            return new Result(register(userId, request, payload), true);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자가 같은 QR 을 동시에 두 번 보낸 경우 먼저 저장된 사진을 돌려줌
+            return findExisting(userId, payload.key())
+                    .map(photo -> new Result(photo, false))
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private PhotoResponse register(Long userId, QrImportRequest request, QrPayload payload) {
+        FetchedImage image = resolveImage(payload);
+        try {
+            return photoService.register(userId, image.stored(), image.contentType(), request, payload.key());
+        } catch (ApiException e) {
+            // 재사용하려던 원본이 그 사이 정리됐으면 다시 내려받음
+            if (e.getErrorCode() != ErrorCode.IMAGE_NOT_FOUND) {
+                throw e;
+            }
+            image = resolveImage(payload);
+            return photoService.register(userId, image.stored(), image.contentType(), request, payload.key());
+        }
+    }
+
+    private Optional<PhotoResponse> findExisting(Long userId, String payloadKey) {
+        return photoRepository.findByUserIdAndQrPayloadKey(userId, payloadKey).map(PhotoResponse::from);
+    }
+
+    private FetchedImage resolveImage(QrPayload payload) {
+        Optional<QrImport> previous = qrImportRepository.findByPayloadKey(payload.key())
+                .filter(qrImport -> photoStorage.exists(qrImport.getContentHash()));
+        if (previous.isPresent()) {
+            reused.increment();
+            QrImport qrImport = previous.get();
+            return new FetchedImage(new StoredContent(qrImport.getContentHash(), qrImport.getSizeBytes(), false),
+                    qrImport.getContentType());
+        }
+        // 같은 QR 이 동시에 들어오면 다운로드는 한 번만 수행
+        CompletableFuture<FetchedImage> future = inFlight.computeIfAbsent(payload.key(), key -> {
+            fetched.increment();
+            return fetcher.fetch(payload.sourceUrl())
+                    .thenApply(image -> record(payload, image))
+                    .whenComplete((image, error) -> inFlight.remove(key));
+        });
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ApiException(ErrorCode.QR_FETCH_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.QR_FETCH_FAILED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private FetchedImage record(QrPayload payload, FetchedImage image) {
+        try {
+            qrImportRepository.save(QrImport.builder()
+                    .payloadKey(payload.key())
+                    .sourceUrl(payload.sourceUrl().toString())
+                    .contentHash(image.stored().contentHash())
+                    .sizeBytes(image.stored().sizeBytes())
+                    .contentType(image.contentType())
+                    .build());
+        } catch (DataIntegrityViolationException ignored) {
+            // 다른 노드가 먼저 기록함; 내용 주소 저장소이므로 결과는 동일
+        }
+        return image;
+    }
+
+    /**
+     * @param photo   the imported (or previously imported) photo
+     * @param created whether a new photo row was created by this call
+     */
+    public record Result(PhotoResponse photo, boolean created) {
+    }
+}
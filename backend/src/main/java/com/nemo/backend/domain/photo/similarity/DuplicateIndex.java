@@ -0,0 +1,109 @@
+package com.nemo.backend.domain.photo.similarity;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.nemo.backend.domain.photo.repository.PhotoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-user {@link HammingIndex} of photo perceptual hashes.  A user's index
+ * is loaded from the {@code (id, perceptualHash)} columns the first time it
+ * is needed and then kept current by {@link #add} as photos are committed,
+ * so the photo table is never rescanned while the index stays cached.  Idle
+ * indexes are evicted and simply reloaded on the next lookup.
+ */
+@Component
+public class DuplicateIndex {
+    private final PhotoRepository photoRepository;
+    private final LoadingCache<Long, UserIndex> indexes;
+    private final int maxDistance;
+
+    public DuplicateIndex(PhotoRepository photoRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${photo.duplicate.max-distance:6}") int maxDistance,
+                          @Value("${photo.duplicate.index-max-users:1000}") long maxUsers,
+                          @Value("${photo.duplicate.index-idle-ttl:30m}") Duration idleTtl) {
+        this.photoRepository = photoRepository;
+        this.maxDistance = maxDistance;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(idleTtl)
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "photo.duplicate-index");
+    }
+
+    /** The closest photo of the user within the duplicate threshold, if any. */
+    public Optional<HammingIndex.Match> findClosest(Long userId, long hash) {
+        return findSimilar(userId, hash).stream().findFirst();
+    }
+
+    /** Every photo of the user within the duplicate threshold, nearest first. */
+    public List<HammingIndex.Match> findSimilar(Long userId, long hash) {
+        UserIndex index = indexes.get(userId);
+        index.lock.readLock().lock();
+        try {
+            return index.hashes.search(hash, maxDistance);
+        } finally {
+            index.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a committed photo to the user's index if it is cached.  An uncached
+     * index will read the photo from the database when it is loaded; adding a
+     * photo the load already picked up is a no-op.
+     */
+    public void add(Long userId, long photoId, long hash) {
+        // 로딩 중인 항목이면 로딩이 끝날 때까지 기다렸다가 반영됨
+        indexes.asMap().computeIfPresent(userId, (id, index) -> {
+            index.lock.writeLock().lock();
+            try {
+                index.hashes.add(hash, photoId);
+            } finally {
+                index.lock.writeLock().unlock();
+            }
+            return index;
+        });
+    }
+
+    /** Drops the user's whole index, e.g. once their account has been purged. */
+    public void evict(Long userId) {
+        indexes.invalidate(userId);
+    }
+
+    /** Removes a deleted photo from the user's index if it is cached. */
+    public void remove(Long userId, long photoId, long hash) {
+        indexes.asMap().computeIfPresent(userId, (id, index) -> {
+            index.lock.writeLock().lock();
+            try {
+                index.hashes.remove(hash, photoId);
+            } finally {
+                index.lock.writeLock().unlock();
+            }
+            return index;
+        });
+    }
+
+    private UserIndex load(Long userId) {
+        UserIndex index = new UserIndex();
+        for (PhotoRepository.PerceptualHashView row : photoRepository.findPerceptualHashes(userId)) {
+            index.hashes.add(row.getPerceptualHash(), row.getId());
+        }
+        return index;
+    }
+
+    private static final class UserIndex {
+        private final HammingIndex hashes = new HammingIndex();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    }
+}
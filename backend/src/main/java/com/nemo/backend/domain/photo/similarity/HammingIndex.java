@@ -0,0 +1,150 @@
+package com.nemo.backend.domain.photo.similarity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Index of 64-bit hashes for Hamming-distance range queries (multi-index
+ * hashing).  Each hash is split into eight 8-bit blocks and filed in one
+ * bucket per block.  Two hashes within 7 bits of each other must agree
+ * exactly on at least one block, so a query only verifies the entries in
+ * its eight buckets, about {@code size / 32} of them, instead of every hash.
+ * Insertions and removals touch eight buckets; the index is never rebuilt.
+ * Not thread-safe.
+ */
+public class HammingIndex {
+    /** Largest distance for which a search is exact. */
+    public static final int MAX_DISTANCE = 7;
+    private static final int BLOCKS = MAX_DISTANCE + 1;
+    private static final int BUCKETS_PER_BLOCK = 256;
+
+    // 항목은 슬롯 배열에 저장하고 버킷에는 슬롯 번호만 둠 (삭제된 슬롯은 재사용)
+    private long[] hashes = new long[16];
+    private long[] photoIds = new long[16];
+    private int slotCount;
+    private int[] freeSlots = new int[0];
+    private int freeCount;
+    private final int[][] buckets = new int[BLOCKS * BUCKETS_PER_BLOCK][];
+    private final int[] bucketSizes = new int[BLOCKS * BUCKETS_PER_BLOCK];
+    private int size;
+
+    /** A photo whose hash is {@code distance} bits away from the query. */
+    public record Match(long photoId, int distance) {
+    }
+
+    /** Adds the photo; returns {@code false} if it is already in the index. */
+    public boolean add(long hash, long photoId) {
+        if (find(hash, photoId) >= 0) {
+            return false;
+        }
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == hashes.length) {
+                hashes = Arrays.copyOf(hashes, slotCount * 2);
+                photoIds = Arrays.copyOf(photoIds, slotCount * 2);
+            }
+            slot = slotCount++;
+        }
+        hashes[slot] = hash;
+        photoIds[slot] = photoId;
+        for (int block = 0; block < BLOCKS; block++) {
+            int bucket = bucket(hash, block);
+            int[] entries = buckets[bucket];
+            if (entries == null) {
+                entries = buckets[bucket] = new int[4];
+            } else if (bucketSizes[bucket] == entries.length) {
+                entries = buckets[bucket] = Arrays.copyOf(entries, entries.length * 2);
+            }
+            entries[bucketSizes[bucket]++] = slot;
+        }
+        size++;
+        return true;
+    }
+
+    /** Removes the photo; returns {@code false} if it was not in the index. */
+    public boolean remove(long hash, long photoId) {
+        int slot = find(hash, photoId);
+        if (slot < 0) {
+            return false;
+        }
+        for (int block = 0; block < BLOCKS; block++) {
+            int bucket = bucket(hash, block);
+            int[] entries = buckets[bucket];
+            for (int i = 0; i < bucketSizes[bucket]; i++) {
+                if (entries[i] == slot) {
+                    entries[i] = entries[--bucketSizes[bucket]];
+                    break;
+                }
+            }
+        }
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, Math.max(4, freeCount * 2));
+        }
+        freeSlots[freeCount++] = slot;
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns every photo within {@code maxDistance} bits of {@code hash},
+     * nearest first.
+     *
+     * @throws IllegalArgumentException if {@code maxDistance} exceeds {@link #MAX_DISTANCE}
+     */
+    public List<Match> search(long hash, int maxDistance) {
+        if (maxDistance < 0 || maxDistance > MAX_DISTANCE) {
+            throw new IllegalArgumentException("maxDistance must be between 0 and " + MAX_DISTANCE);
+        }
+        List<Match> matches = new ArrayList<>();
+        for (int block = 0; block < BLOCKS; block++) {
+            int bucket = bucket(hash, block);
+            int[] entries = buckets[bucket];
+            for (int i = 0; i < bucketSizes[bucket]; i++) {
+                int slot = entries[i];
+                long candidate = hashes[slot];
+                int distance = Long.bitCount(hash ^ candidate);
+                // 여러 블록이 일치하는 항목은 처음 일치한 블록에서만 보고 (중복 제거용 집합이 필요 없음)
+                if (distance <= maxDistance && firstMatchingBlock(hash, candidate) == block) {
+                    matches.add(new Match(photoIds[slot], distance));
+                }
+            }
+        }
+        matches.sort((a, b) -> Integer.compare(a.distance(), b.distance()));
+        return matches;
+    }
+
+    /** Number of photos in the index. */
+    public int size() {
+        return size;
+    }
+
+    private int find(long hash, long photoId) {
+        int bucket = bucket(hash, 0);
+        int[] entries = buckets[bucket];
+        for (int i = 0; i < bucketSizes[bucket]; i++) {
+            int slot = entries[i];
+            if (hashes[slot] == hash && photoIds[slot] == photoId) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private static int firstMatchingBlock(long a, long b) {
+        return Long.numberOfTrailingZeros(matchingBlocks(a ^ b)) / 8;
+    }
+
+    /** 0 인 바이트 자리만 0x80 이 켜진 값 (같은 블록 표시) */
+    private static long matchingBlocks(long diff) {
+        long high = 0x8080808080808080L;
+        long low = 0x7f7f7f7f7f7f7f7fL;
+        return ~(((diff & low) + low) | diff | low) & high;
+    }
+
+    private static int bucket(long hash, int block) {
+        return block * BUCKETS_PER_BLOCK + (int) ((hash >>> (block * 8)) & 0xff);
+    }
+}
@@ -0,0 +1,77 @@
+package com.nemo.backend.domain.photo.similarity;
+
+import com.nemo.backend.domain.photo.thumbnail.SubsampledDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Computes a 64-bit difference hash (dHash) of an image.  The image is
+ * decoded at roughly 1/50 of its resolution, reduced to a 9x8 grid of mean
+ * luminance, and each bit records whether a cell is darker than its right
+ * neighbour.  Re-encoded, resized or slightly recompressed copies of the
+ * same picture land within a few bits of each other, which a byte-level
+ * content hash cannot detect.
+ */
+@Component
+public class PerceptualHasher {
+    private static final int GRID_WIDTH = 9;
+    private static final int GRID_HEIGHT = 8;
+    // 9x8 격자를 채우기에 충분한 해상도만 디코딩
+    private static final int DECODE_SIZE = 72;
+
+    private final Timer timer;
+
+    public PerceptualHasher(MeterRegistry meterRegistry) {
+        this.timer = Timer.builder("photo.phash.duration")
+                .description("Time spent computing perceptual hashes")
+                .register(meterRegistry);
+    }
+
+    /** Returns the hash of the image at {@code file}, or {@code null} if it cannot be decoded. */
+    public Long hash(Path file) throws IOException {
+        Timer.Sample sample = Timer.start();
+        try {
+            BufferedImage image = SubsampledDecoder.decode(file, DECODE_SIZE);
+            return image == null ? null : hash(image);
+        } finally {
+            sample.stop(timer);
+        }
+    }
+
+    static long hash(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double[] sums = new double[GRID_WIDTH * GRID_HEIGHT];
+        int[] counts = new int[GRID_WIDTH * GRID_HEIGHT];
+        for (int y = 0; y < height; y++) {
+            int row = y * GRID_HEIGHT / height;
+            for (int x = 0; x < width; x++) {
+                int rgb = image.getRGB(x, y);
+                double luminance = 0.299 * ((rgb >> 16) & 0xff) + 0.587 * ((rgb >> 8) & 0xff) + 0.114 * (rgb & 0xff);
+                int cell = row * GRID_WIDTH + x * GRID_WIDTH / width;
+                sums[cell] += luminance;
+                counts[cell]++;
+            }
+        }
+        long bits = 0;
+        for (int row = 0; row < GRID_HEIGHT; row++) {
+            for (int col = 0; col < GRID_WIDTH - 1; col++) {
+                int cell = row * GRID_WIDTH + col;
+                bits <<= 1;
+                if (mean(sums, counts, cell) < mean(sums, counts, cell + 1)) {
+                    bits |= 1;
+                }
+            }
+        }
+        return bits;
+    }
+
+    private static double mean(double[] sums, int[] counts, int cell) {
+        return counts[cell] == 0 ? 0 : sums[cell] / counts[cell];
+    }
+}
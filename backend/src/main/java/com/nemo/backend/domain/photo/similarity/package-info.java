@@ -0,0 +1 @@
+package com.nemo.backend.domain.photo.similarity;
\ No newline at end of file
@@ -0,0 +1,197 @@
+package com.nemo.backend.domain.photo.storage;
+
+import com.nemo.backend.global.util.HashUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed file store for photo originals.  Files live under
+ * {@code <root>/<aa>/<bb>/<sha256>} where {@code aa}/{@code bb} are the first
+ * two byte pairs of the hash.  Uploads are streamed to a temporary file
+ * through {@link FileChannel#transferFrom} while the SHA-256 is computed, so
+ * heap use per upload does not grow with the file size; the temporary file
+ * is then atomically moved into place or discarded when the same bytes are
+ * already stored.
+ */
+@Component
+public class PhotoStorage {
+    private static final long TRANSFER_CHUNK = 1L << 20;
+    private static final int COPY_CHUNK = 64 * 1024;
+    private final Path root;
+    private final Path tmpDir;
+
+    public PhotoStorage(@Value("${photo.storage.root:./data/photos}") String root) throws IOException {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.tmpDir = this.root.resolve("tmp");
+        Files.createDirectories(tmpDir);
+    }
+
+    public StoredContent store(InputStream in) throws IOException {
+        Path tmp = Files.createTempFile(tmpDir, "upload-", ".part");
+        try {
+            MessageDigest digest = HashUtils.newSha256();
+            long size = 0L;
+            try (ReadableByteChannel source = Channels.newChannel(new DigestInputStream(in, digest));
+                 FileChannel target = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                long transferred;
+                while ((transferred = target.transferFrom(source, size, TRANSFER_CHUNK)) > 0) {
+                    size += transferred;
+                }
+            }
+            return commit(tmp, HexFormat.of().formatHex(digest.digest()), size);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Same as {@link #store} but copies with plain {@link InputStream#read}
+     * and {@link FileChannel#write} calls.  {@code transferFrom} holds the
+     * channel's lock while it waits on the source, which pins a virtual
+     * thread's carrier; this loop only holds it for each local write, so a
+     * virtual thread can read a slow network body without pinning.
+     */
+    public StoredContent storeCopying(InputStream in) throws IOException {
+        Path tmp = Files.createTempFile(tmpDir, "upload-", ".part");
+        try {
+            MessageDigest digest = HashUtils.newSha256();
+            long size = 0L;
+            byte[] chunk = new byte[COPY_CHUNK];
+            try (FileChannel target = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                int read;
+                while ((read = in.read(chunk)) != -1) {
+                    digest.update(chunk, 0, read);
+                    ByteBuffer buffer = ByteBuffer.wrap(chunk, 0, read);
+                    while (buffer.hasRemaining()) {
+                        target.write(buffer);
+                    }
+                    size += read;
+                }
+            }
+            return commit(tmp, HexFormat.of().formatHex(digest.digest()), size);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    // 임시 파일을 해시 경로로 옮김 (같은 내용이 이미 있으면 버림)
+    private StoredContent commit(Path tmp, String hash, long size) throws IOException {
+        Path path = resolve(hash);
+        if (Files.exists(path)) {
+            return new StoredContent(hash, size, false);
+        }
+        Files.createDirectories(path.getParent());
+        try {
+            // 같은 내용이 동시에 올라와도 rename 은 원자적이고 내용이 같으므로 안전
+            Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            return new StoredContent(hash, size, false);
+        }
+        return new StoredContent(hash, size, true);
+    }
+
+    /** Path of the stored file for {@code contentHash}; the file may not exist. */
+    public Path resolve(String contentHash) {
+        if (!contentHash.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Not a SHA-256 hex digest: " + contentHash);
+        }
+        return root.resolve(contentHash.substring(0, 2)).resolve(contentHash.substring(2, 4)).resolve(contentHash);
+    }
+
+    /**
+     * Path of the derivative of {@code contentHash} scaled to {@code size}
+     * pixels on the long edge; the file may not exist.
+     */
+    public Path resolveDerivative(String contentHash, int size) {
+        Path original = resolve(contentHash);
+        return root.resolve("derivatives").resolve(Integer.toString(size))
+                .resolve(root.relativize(original.getParent()))
+                .resolve(contentHash + ".jpg");
+    }
+
+    /**
+     * Writes a derivative through a temporary file and moves it into place,
+     * so readers never observe a partially written image.
+     */
+    public void storeDerivative(String contentHash, int size, DerivativeWriter writer) throws IOException {
+        Path target = resolveDerivative(contentHash, size);
+        Path tmp = Files.createTempFile(tmpDir, "derivative-", ".part");
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                writer.write(out);
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    public boolean exists(String contentHash) {
+        return Files.exists(resolve(contentHash));
+    }
+
+    /** Deletes the original and every derivative size generated from it. */
+    public void delete(String contentHash) throws IOException {
+        Files.deleteIfExists(resolve(contentHash));
+        Path derivatives = root.resolve("derivatives");
+        if (!Files.isDirectory(derivatives)) {
+            return;
+        }
+        // 설정된 크기 목록이 바뀌었어도 예전 크기의 파일까지 지우도록 디렉터리 기준으로 찾음
+        try (Stream<Path> sizes = Files.list(derivatives)) {
+            for (Path size : (Iterable<Path>) sizes::iterator) {
+                if (size.getFileName().toString().matches("\\d+")) {
+                    Files.deleteIfExists(resolveDerivative(contentHash, Integer.parseInt(size.getFileName().toString())));
+                }
+            }
+        }
+    }
+
+    /**
+     * Content type of a stored original judged from its first bytes (at
+     * least 12 for every format to be recognised); originals are stored
+     * without an extension.
+     */
+    public static String sniffContentType(byte[] head, int read) {
+        if (read >= 3 && (head[0] & 0xff) == 0xff && (head[1] & 0xff) == 0xd8 && (head[2] & 0xff) == 0xff) {
+            return "image/jpeg";
+        }
+        if (read >= 8 && (head[0] & 0xff) == 0x89 && head[1] == 'P' && head[2] == 'N' && head[3] == 'G') {
+            return "image/png";
+        }
+        if (read >= 6 && head[0] == 'G' && head[1] == 'I' && head[2] == 'F') {
+            return "image/gif";
+        }
+        if (read >= 12 && head[0] == 'R' && head[1] == 'I' && head[2] == 'F' && head[3] == 'F'
+                && head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P') {
+            return "image/webp";
+        }
+        if (read >= 12 && head[4] == 'f' && head[5] == 't' && head[6] == 'y' && head[7] == 'p') {
+            return "image/heic";
+        }
+        return "application/octet-stream";
+    }
+
+    @FunctionalInterface
+    public interface DerivativeWriter {
+        void write(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,11 @@
+package com.nemo.backend.domain.photo.storage;
+
+/**
+ * Result of writing a file to {@link PhotoStorage}.
+ *
+ * @param contentHash lowercase hex SHA-256 of the bytes
+ * @param sizeBytes   number of bytes read
+ * @param created     {@code false} when identical bytes were already stored
+ */
+public record StoredContent(String contentHash, long sizeBytes, boolean created) {
+}
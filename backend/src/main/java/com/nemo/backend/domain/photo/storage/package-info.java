@@ -0,0 +1 @@
+package com.nemo.backend.domain.photo.storage;
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.nemo.backend.domain.photo.thumbnail;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * Decodes an image with source subsampling, so that no more pixels are
+ * decoded than a target long edge needs.
+ */
+public final class SubsampledDecoder {
+
+    private SubsampledDecoder() {
+    }
+
+    /**
+     * Returns the image with its long edge subsampled down towards
+     * {@code targetSize} (never below it), or {@code null} when the file is
+     * not a decodable image.  Failures to read the file itself are thrown,
+     * so the caller can retry them instead of giving up on the image.
+     */
+    public static BufferedImage decode(Path file, int targetSize) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int longEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                // 필요한 해상도 이상은 디코딩하지 않음 (4000px 원본에서 1080px 을 만들 때 1/3 만 읽음)
+                int step = Math.max(1, longEdge / targetSize);
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } catch (IIOException | EOFException | RuntimeException e) {
+                // 손상되었거나 잘렸거나 지원하지 않는 형식 (디스크 읽기 오류는 호출자가 재시도)
+                return null;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+}
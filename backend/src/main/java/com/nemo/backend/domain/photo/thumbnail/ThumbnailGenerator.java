@@ -0,0 +1,204 @@
+package com.nemo.backend.domain.photo.thumbnail;
+
+import com.nemo.backend.domain.photo.metadata.ImageMetadataReader;
+import com.nemo.backend.domain.photo.storage.PhotoStorage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Produces the JPEG derivatives of a stored original.  The original is
+ * decoded once by {@link SubsampledDecoder}, so that no more pixels are decoded
+ * than the largest derivative needs, and the sizes are then produced from
+ * largest to smallest, each one scaled from the previous result.  The EXIF
+ * orientation of the original is applied after decoding, so derivatives are
+ * always stored upright.  Images
+ * smaller than a target size are never upscaled; the derivative simply keeps
+ * the original dimensions so every configured size has a URL.
+ */
+@Component
+public class ThumbnailGenerator {
+    private final PhotoStorage photoStorage;
+    private final int[] sizes;
+    private final float jpegQuality;
+    private final int metadataHeaderBytes;
+    private final Timer decodeTimer;
+    private final Map<Integer, Timer> sizeTimers = new HashMap<>();
+
+    public ThumbnailGenerator(PhotoStorage photoStorage,
+                              MeterRegistry meterRegistry,
+                              @Value("${photo.thumbnail.sizes:128,512,1080}") int[] sizes,
+                              @Value("${photo.thumbnail.jpeg-quality:0.85}") float jpegQuality,
+                              @Value("${photo.metadata.max-header-bytes:262144}") int metadataHeaderBytes) {
+        this.photoStorage = photoStorage;
+        this.sizes = Arrays.stream(sizes).sorted().toArray();
+        this.jpegQuality = jpegQuality;
+        this.metadataHeaderBytes = metadataHeaderBytes;
+        // 축소본은 작으므로 ImageIO 의 디스크 캐시 대신 메모리 버퍼로 인코딩
+        ImageIO.setUseCache(false);
+        this.decodeTimer = Timer.builder("photo.thumbnail.duration")
+                .description("Time spent producing photo derivatives")
+                .tag("size", "decode")
+                .register(meterRegistry);
+        for (int size : this.sizes) {
+            sizeTimers.put(size, Timer.builder("photo.thumbnail.duration")
+                    .description("Time spent producing photo derivatives")
+                    .tag("size", Integer.toString(size))
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Writes every configured derivative of {@code contentHash} that does not
+     * exist yet and returns the sizes now available, smallest first.  Returns
+     * an empty list when the original is not a decodable image.
+     */
+    public List<Integer> generate(String contentHash) throws IOException {
+        List<Integer> pending = new ArrayList<>();
+        for (int size : sizes) {
+            if (!Files.exists(photoStorage.resolveDerivative(contentHash, size))) {
+                pending.add(size);
+            }
+        }
+        if (pending.isEmpty()) {
+            return sizeList();
+        }
+        int largest = pending.get(pending.size() - 1);
+        long start = System.nanoTime();
+        BufferedImage image = SubsampledDecoder.decode(photoStorage.resolve(contentHash), largest);
+        decodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (image == null) {
+            return List.of();
+        }
+        Integer orientation = ImageMetadataReader.read(photoStorage.resolve(contentHash), metadataHeaderBytes)
+                .orientation();
+        if (orientation != null && orientation != 1) {
+            image = orient(toRgb(image), orientation);
+        }
+        for (int i = pending.size() - 1; i >= 0; i--) {
+            int size = pending.get(i);
+            long sizeStart = System.nanoTime();
+            image = scale(image, size);
+            BufferedImage derivative = image;
+            photoStorage.storeDerivative(contentHash, size, out -> writeJpeg(derivative, out));
+            sizeTimers.get(size).record(System.nanoTime() - sizeStart, TimeUnit.NANOSECONDS);
+        }
+        return sizeList();
+    }
+
+    public int[] sizes() {
+        return sizes.clone();
+    }
+
+    private List<Integer> sizeList() {
+        return Arrays.stream(sizes).boxed().toList();
+    }
+
+    /** 긴 변이 {@code size} 이하가 되도록 절반씩 줄여가며 축소 (한 번에 크게 줄이면 계단 현상이 생김) */
+    private static BufferedImage scale(BufferedImage source, int size) {
+        BufferedImage current = toRgb(source);
+        int longEdge = Math.max(current.getWidth(), current.getHeight());
+        if (longEdge <= size) {
+            return current;
+        }
+        double ratio = (double) size / longEdge;
+        int targetWidth = Math.max(1, (int) Math.round(current.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(current.getHeight() * ratio));
+        while (current.getWidth() != targetWidth || current.getHeight() != targetHeight) {
+            int width = Math.max(targetWidth, current.getWidth() / 2);
+            int height = Math.max(targetHeight, current.getHeight() / 2);
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    /**
+     * Turns pixels stored with EXIF orientation {@code orientation} (2-8)
+     * upright.  Orientations 5-8 swap width and height.
+     */
+    static BufferedImage orient(BufferedImage source, int orientation) {
+        int w = source.getWidth();
+        int h = source.getHeight();
+        // 원본 좌표 (x, y) 를 바로 선 이미지 좌표로 옮기는 변환
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);
+            default -> null;
+        };
+        if (transform == null) {
+            return source;
+        }
+        boolean swap = orientation >= 5;
+        BufferedImage upright = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = upright.createGraphics();
+        try {
+            g.drawImage(source, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return upright;
+    }
+
+    /** JPEG 은 알파 채널이 없으므로 투명 영역은 흰색으로 채움 */
+    private static BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.drawImage(source, 0, 0, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    private void writeJpeg(BufferedImage image, OutputStream out) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.nemo.backend.domain.photo.thumbnail;
+
+import com.nemo.backend.domain.album.entity.Album;
+import com.nemo.backend.domain.album.repository.AlbumRepository;
+import com.nemo.backend.domain.photo.entity.ThumbnailStatus;
+import com.nemo.backend.domain.photo.repository.PhotoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Generates photo derivatives on a dedicated, bounded worker pool after the
+ * upload has committed.  Work is keyed by content hash, so photos sharing
+ * the same original are handled by a single job and marked ready together.
+ * When the queue is full the job is dropped rather than run on the caller;
+ * the photo stays {@link ThumbnailStatus#PENDING} and a periodic sweep picks
+ * it up again.  Albums whose cover uses the original switch to the cover
+ * thumbnail in the same transaction that marks it ready.
+ */
+@Service
+public class ThumbnailService {
+    private static final Logger log = LoggerFactory.getLogger(ThumbnailService.class);
+    private final ThumbnailGenerator generator;
+    private final PhotoRepository photoRepository;
+    private final AlbumRepository albumRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final Duration sweepDelay;
+    private final int sweepBatchSize;
+    private final String imageBaseUrl;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter rejected;
+    private final Counter failed;
+
+    public ThumbnailService(ThumbnailGenerator generator,
+                            PhotoRepository photoRepository,
+                            AlbumRepository albumRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${photo.thumbnail.pool-size:2}") int poolSize,
+                            @Value("${photo.thumbnail.queue-capacity:256}") int queueCapacity,
+                            @Value("${photo.thumbnail.sweep-delay:2m}") Duration sweepDelay,
+                            @Value("${photo.thumbnail.sweep-batch-size:100}") int sweepBatchSize,
+                            @Value("${photo.image-base-url:/api/images}") String imageBaseUrl) {
+        this.generator = generator;
+        this.photoRepository = photoRepository;
+        this.albumRepository = albumRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("thumbnail-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.sweepDelay = sweepDelay;
+        this.sweepBatchSize = sweepBatchSize;
+        this.imageBaseUrl = imageBaseUrl;
+        this.rejected = Counter.builder("photo.thumbnail.rejected")
+                .description("Thumbnail jobs dropped because the queue was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("photo.thumbnail.failed")
+                .description("Originals that could not be decoded into thumbnails")
+                .register(meterRegistry);
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "thumbnail");
+    }
+
+    /**
+     * Queues derivative generation for {@code contentHash}.  Returns
+     * {@code false} when the queue is full; the sweep retries later.
+     */
+    public boolean enqueue(String contentHash) {
+        if (!inFlight.add(contentHash)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    process(contentHash);
+                } finally {
+                    inFlight.remove(contentHash);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(contentHash);
+            rejected.increment();
+            return false;
+        }
+    }
+
+    /** 큐가 가득 찼거나 재시작으로 유실된 작업을 다시 넣는다. */
+    @Scheduled(fixedDelayString = "${photo.thumbnail.sweep-interval:PT1M}")
+    public void sweepPending() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(sweepDelay);
+        List<String> hashes = photoRepository.findContentHashesByThumbnailStatus(
+                ThumbnailStatus.PENDING, cutoff, PageRequest.of(0, sweepBatchSize));
+        for (String hash : hashes) {
+            if (!enqueue(hash)) {
+                break;
+            }
+        }
+    }
+
+    void process(String contentHash) {
+        List<Integer> sizes;
+        try {
+            sizes = generator.generate(contentHash);
+        } catch (IOException e) {
+            // 디스크 오류 등 일시적인 문제는 PENDING 으로 남겨 다음 sweep 에서 재시도
+            log.warn("Thumbnail generation failed for {}", contentHash, e);
+            return;
+        }
+        if (sizes.isEmpty()) {
+            failed.increment();
+            updateStatus(contentHash, ThumbnailStatus.FAILED, null);
+            return;
+        }
+        String joined = sizes.stream().map(String::valueOf).collect(Collectors.joining(","));
+        updateStatus(contentHash, ThumbnailStatus.READY, joined);
+    }
+
+    private void updateStatus(String contentHash, ThumbnailStatus status, String sizes) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            photoRepository.updateThumbnails(contentHash, status, sizes);
+            if (status == ThumbnailStatus.READY) {
+                albumRepository.updateCoverThumbnail(contentHash,
+                        Album.coverUrl(imageBaseUrl + "/" + contentHash, status, sizes));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
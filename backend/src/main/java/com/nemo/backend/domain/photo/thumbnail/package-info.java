@@ -0,0 +1 @@
+package com.nemo.backend.domain.photo.thumbnail;
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.nemo.backend.domain.purge.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lease that lets only one node run the purge at a time.  A run takes it by
+ * writing its own holder id while the previous lease has expired, renews it
+ * as it goes and expires it when done, so a node that dies mid-run blocks
+ * the others for at most {@code purge.lease}.
+ */
+@Entity
+@Table(name = "purge_lease")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class PurgeLease {
+
+    @Id
+    @Column(length = 32)
+    private String name;
+
+    @Column(length = 36)
+    private String holder;
+
+    @Column(nullable = false)
+    private LocalDateTime leaseUntil;
+}
@@ -0,0 +1,25 @@
+package com.nemo.backend.domain.purge.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A stored original whose last photo row may have been purged.  The row is
+ * written in the same transaction that deletes the photos, so the file is
+ * checked and removed even if the process stops before getting to it.
+ */
+@Entity
+@Table(name = "purged_content")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class PurgedContent {
+
+    @Id
+    @Column(length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private LocalDateTime queuedAt;
+}
@@ -0,0 +1 @@
+package com.nemo.backend.domain.purge.entity;
\ No newline at end of file
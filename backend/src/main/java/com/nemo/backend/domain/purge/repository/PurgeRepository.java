@@ -0,0 +1,229 @@
+package com.nemo.backend.domain.purge.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk SQL used by {@link com.nemo.backend.domain.purge.service.PurgeWorker}.
+ * It goes through JDBC because soft-deleted users and albums are hidden from
+ * entity queries, and because every step must touch a bounded set of rows
+ * without loading them as entities.  A chunk is the first {@code limit} rows
+ * by id; it is deleted with {@code id <= lastId}, which keeps the statements
+ * free of long IN lists.
+ */
+@Repository
+public class PurgeRepository {
+    private static final String LEASE = "purge";
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Which column ties the photos being purged to the deleted owner. */
+    public enum Scope {
+        ALBUM("album_id"), USER("user_id");
+
+        private final String column;
+
+        Scope(String column) {
+            this.column = column;
+        }
+    }
+
+    public PurgeRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<Long> findDeletedAlbumIds(int limit) {
+        return jdbcTemplate.queryForList("select id from album where deleted_at is not null "
+                + "order by deleted_at, id limit ?", Long.class, limit);
+    }
+
+    public List<Long> findDeletedUserIds(int limit) {
+        return jdbcTemplate.queryForList("select id from users where deleted_at is not null "
+                + "order by deleted_at, id limit ?", Long.class, limit);
+    }
+
+    public long countDeletedAlbums() {
+        return jdbcTemplate.queryForObject("select count(*) from album where deleted_at is not null", Long.class);
+    }
+
+    public long countDeletedUsers() {
+        return jdbcTemplate.queryForObject("select count(*) from users where deleted_at is not null", Long.class);
+    }
+
+    public long countQueuedContent() {
+        return jdbcTemplate.queryForObject("select count(*) from purged_content", Long.class);
+    }
+
+    /** Deletion time of the oldest album or account still waiting to be purged, or {@code null}. */
+    public LocalDateTime findOldestDeletion() {
+        LocalDateTime album = jdbcTemplate.queryForObject(
+                "select min(deleted_at) from album where deleted_at is not null", LocalDateTime.class);
+        LocalDateTime user = jdbcTemplate.queryForObject(
+                "select min(deleted_at) from users where deleted_at is not null", LocalDateTime.class);
+        if (album == null || user == null) {
+            return album != null ? album : user;
+        }
+        return album.isBefore(user) ? album : user;
+    }
+
+    public List<PhotoRow> findPhotoChunk(Scope scope, Long ownerId, int limit) {
+        return jdbcTemplate.query("select id, user_id, perceptual_hash from photo where " + scope.column
+                        + " = ? order by id limit ?",
+                (rs, rowNum) -> new PhotoRow(rs.getLong("id"), rs.getLong("user_id"),
+                        rs.getObject("perceptual_hash", Long.class)),
+                ownerId, limit);
+    }
+
+    /**
+     * Takes the chunk's photos out of their owners' brand and tag counters.
+     * Only needed when the owners themselves are not being purged.  Photos
+     * the counters do not include yet are skipped; the chunk is locked first
+     * so the startup backfill cannot count one of them in between.
+     */
+    public void decrementFacets(Scope scope, Long ownerId, long lastId) {
+        jdbcTemplate.queryForList("select id from photo where " + scope.column + " = ? and id <= ? for update",
+                Long.class, ownerId, lastId);
+        List<Object[]> rows = new ArrayList<>();
+        jdbcTemplate.query("select user_id, brand, count(*) from photo where " + scope.column + " = ? and id <= ? "
+                        + "and facets_counted = true group by user_id, brand",
+                rs -> {
+                    rows.add(new Object[]{rs.getLong(3), rs.getLong(1), "BRAND", rs.getString(2)});
+                }, ownerId, lastId);
+        jdbcTemplate.query("select p.user_id, t.tag, count(*) from photo_tag t join photo p on p.id = t.photo_id "
+                        + "where p." + scope.column + " = ? and p.id <= ? and p.facets_counted = true "
+                        + "group by p.user_id, t.tag",
+                rs -> {
+                    rows.add(new Object[]{rs.getLong(3), rs.getLong(1), "TAG", rs.getString(2)});
+                }, ownerId, lastId);
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("update photo_facet set photo_count = photo_count - ? "
+                    + "where user_id = ? and type = ? and facet_value = ?", rows);
+        }
+    }
+
+    /**
+     * Deletes the chunk's photos with their tags, timeline entries and the
+     * feed inbox copies of those entries, and queues their originals for the
+     * file sweep.  Returns the photos deleted.
+     */
+    public int deletePhotoChunk(Scope scope, Long ownerId, long lastId, LocalDateTime now) {
+        String chunk = "select id from photo where " + scope.column + " = ? and id <= ?";
+        jdbcTemplate.update("delete from feed_entry where timeline_id in (select id from timeline where photo_id in ("
+                + chunk + "))", ownerId, lastId);
+        jdbcTemplate.update("delete from timeline where photo_id in (" + chunk + ")", ownerId, lastId);
+        jdbcTemplate.update("delete from photo_tag where photo_id in (" + chunk + ")", ownerId, lastId);
+        jdbcTemplate.update("insert into purged_content (content_hash, queued_at) "
+                        + "select distinct p.content_hash, ? from photo p where p." + scope.column + " = ? "
+                        + "and p.id <= ? and p.content_hash is not null "
+                        + "and not exists (select 1 from purged_content c where c.content_hash = p.content_hash)",
+                Timestamp.valueOf(now), ownerId, lastId);
+        return jdbcTemplate.update("delete from photo where " + scope.column + " = ? and id <= ?", ownerId, lastId);
+    }
+
+    /** Deletes up to {@code limit} rows of {@code table} owned through {@code column}. */
+    public int deleteChunk(String table, String column, Long ownerId, int limit) {
+        List<Long> ids = jdbcTemplate.queryForList("select id from " + table + " where " + column + " = ? "
+                + "order by id limit ?", Long.class, ownerId, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("delete from " + table + " where " + column + " = ? and id <= ?",
+                ownerId, ids.get(ids.size() - 1));
+    }
+
+    public boolean deleteAlbum(Long albumId) {
+        return jdbcTemplate.update("delete from album where id = ? and deleted_at is not null", albumId) > 0;
+    }
+
+    public boolean deleteUser(Long userId) {
+        return jdbcTemplate.update("delete from users where id = ? and deleted_at is not null", userId) > 0;
+    }
+
+    public List<String> findQueuedContent(LocalDateTime queuedBefore, int limit) {
+        return jdbcTemplate.queryForList("select content_hash from purged_content where queued_at <= ? "
+                + "order by queued_at, content_hash limit ?", String.class, Timestamp.valueOf(queuedBefore), limit);
+    }
+
+    /**
+     * Queues the original of a single deleted photo for the file sweep, which
+     * waits {@code purge.content-grace} and then deletes it only if no photo
+     * points at it any more.  Already queued content keeps its place.
+     */
+    public void queueContent(String contentHash, LocalDateTime now) {
+        try {
+            jdbcTemplate.update("insert into purged_content (content_hash, queued_at) select ?, ? "
+                            + "where not exists (select 1 from purged_content c where c.content_hash = ?)",
+                    contentHash, Timestamp.valueOf(now), contentHash);
+        } catch (DuplicateKeyException e) {
+            // 같은 원본을 쓰는 다른 사진의 삭제가 먼저 넣음
+        }
+    }
+
+    /**
+     * Locks the queue row of {@code contentHash} until the transaction ends.
+     * Returns {@code false} when the row is gone, i.e. a new photo took the
+     * content back or another sweep already handled it.
+     */
+    public boolean claimQueuedContent(String contentHash) {
+        return !jdbcTemplate.queryForList("select content_hash from purged_content where content_hash = ? for update",
+                String.class, contentHash).isEmpty();
+    }
+
+    /**
+     * Whether any photo still points at the stored original.  QR imports are
+     * only a download cache and do not keep a file alive; see
+     * {@link #deleteQrImports}.
+     */
+    public boolean isContentReferenced(String contentHash) {
+        return jdbcTemplate.queryForObject("select count(*) from photo where content_hash = ?",
+                Long.class, contentHash) > 0;
+    }
+
+    /** Forgets the QR downloads of a deleted original so the next scan fetches the image again. */
+    public void deleteQrImports(String contentHash) {
+        jdbcTemplate.update("delete from qr_import where content_hash = ?", contentHash);
+    }
+
+    /**
+     * Removes the queue row of {@code contentHash}.  Registering a new photo
+     * for stored content calls this first, which waits for a sweep that has
+     * claimed the row; see {@link #claimQueuedContent}.
+     */
+    public void dequeueContent(String contentHash) {
+        jdbcTemplate.update("delete from purged_content where content_hash = ?", contentHash);
+    }
+
+    /**
+     * Takes or renews the purge lease for {@code holder} until {@code until}.
+     * Returns {@code false} while another holder's lease has not expired.
+     */
+    public boolean acquireLease(String holder, LocalDateTime now, LocalDateTime until) {
+        if (jdbcTemplate.update("update purge_lease set holder = ?, lease_until = ? "
+                        + "where name = ? and (holder = ? or lease_until < ?)",
+                holder, Timestamp.valueOf(until), LEASE, holder, Timestamp.valueOf(now)) > 0) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update("insert into purge_lease (name, holder, lease_until) values (?, ?, ?)",
+                    LEASE, holder, Timestamp.valueOf(until)) > 0;
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 먼저 행을 만들고 임대를 가져감
+            return false;
+        }
+    }
+
+    /** Expires the lease if {@code holder} still has it. */
+    public void releaseLease(String holder, LocalDateTime now) {
+        jdbcTemplate.update("update purge_lease set lease_until = ? where name = ? and holder = ?",
+                Timestamp.valueOf(now), LEASE, holder);
+    }
+
+    /** A photo about to be purged, with what the in-memory indexes need to forget it. */
+    public record PhotoRow(long id, long userId, Long perceptualHash) {
+    }
+}
@@ -0,0 +1 @@
+package com.nemo.backend.domain.purge.repository;
\ No newline at end of file
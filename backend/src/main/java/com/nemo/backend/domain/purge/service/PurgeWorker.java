@@ -0,0 +1,335 @@
+package com.nemo.backend.domain.purge.service;
+
+import com.nemo.backend.domain.friend.graph.FriendGraphIndex;
+import com.nemo.backend.domain.photo.favorite.FavoriteBuffer;
+import com.nemo.backend.domain.photo.similarity.DuplicateIndex;
+import com.nemo.backend.domain.photo.storage.PhotoStorage;
+import com.nemo.backend.domain.purge.repository.PurgeRepository;
+import com.nemo.backend.domain.purge.repository.PurgeRepository.PhotoRow;
+import com.nemo.backend.domain.purge.repository.PurgeRepository.Scope;
+import com.nemo.backend.global.util.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Removes soft-deleted albums and accounts in the background.  Deleting only
+ * stamps {@code deleted_at}; this worker then deletes the dependent rows in
+ * chunks of at most {@code purge.chunk-size}, each chunk in its own short
+ * transaction, and finally the album or user row itself.  Originals of the
+ * purged photos are queued in {@code purged_content} by the same
+ * transactions and deleted from disk once no photo points at them any more
+ * and they have waited {@code purge.content-grace}.  The sweep holds the
+ * queue row's lock while it checks and deletes a file, and registering a
+ * photo for stored content removes that row first, so an upload of the
+ * same bytes either keeps the file or sees that it is gone and stores it
+ * again.  The grace period covers a registration that started before the
+ * row was queued.
+ *
+ * <p>All progress lives in the database (the soft-deleted rows and the
+ * content queue), so a crash or restart simply resumes with the next chunk.
+ * Only one node purges at a time: a run takes the {@code purge_lease} row,
+ * renews it before every album, account and sweep batch, and skips the run
+ * when another node holds it.
+ * Backlog sizes are published as {@code purge.pending} and the age of the
+ * oldest unfinished deletion as {@code purge.lag}.
+ */
+@Component
+public class PurgeWorker {
+    private static final Logger log = LoggerFactory.getLogger(PurgeWorker.class);
+    // 계정 정리 시 사진 다음으로 지울 행들 (앨범은 사진이 모두 빠진 뒤에 지움)
+    private static final String[][] ACCOUNT_TABLES = {
+            {"feed_entry", "owner_id"},
+            {"feed_entry", "author_id"},
+            {"timeline", "user_id"},
+            {"feed_pull_author", "author_id"},
+            {"album", "user_id"},
+            {"photo_facet", "user_id"},
+            {"friend", "user_id"},
+            {"friend", "friend_id"},
+            {"refresh_tokens", "user_id"},
+            {"password_reset_tokens", "user_id"}
+    };
+
+    private final PurgeRepository purgeRepository;
+    private final PhotoStorage photoStorage;
+    private final FavoriteBuffer favoriteBuffer;
+    private final DuplicateIndex duplicateIndex;
+    private final FriendGraphIndex friendGraphIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration lease;
+    private final Duration contentGrace;
+    // 현재 실행의 임대 식별자 (purgeAll 안에서만 사용)
+    private String leaseHolder;
+    private final AtomicLong pendingAlbums = new AtomicLong();
+    private final AtomicLong pendingAccounts = new AtomicLong();
+    private final AtomicLong pendingFiles = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Timer chunkDuration;
+    private final Counter photosPurged;
+    private final Counter filesDeleted;
+    private final Counter albumsPurged;
+    private final Counter accountsPurged;
+    private final Counter failures;
+
+    public PurgeWorker(PurgeRepository purgeRepository,
+                       PhotoStorage photoStorage,
+                       FavoriteBuffer favoriteBuffer,
+                       DuplicateIndex duplicateIndex,
+                       FriendGraphIndex friendGraphIndex,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${purge.chunk-size:500}") int chunkSize,
+                       @Value("${purge.lease:PT10M}") Duration lease,
+                       @Value("${purge.content-grace:PT10M}") Duration contentGrace) {
+        this.purgeRepository = purgeRepository;
+        this.photoStorage = photoStorage;
+        this.favoriteBuffer = favoriteBuffer;
+        this.duplicateIndex = duplicateIndex;
+        this.friendGraphIndex = friendGraphIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.lease = lease;
+        this.contentGrace = contentGrace;
+        Gauge.builder("purge.pending", pendingAlbums, AtomicLong::get).tag("kind", "album")
+                .description("Deleted albums waiting to be purged").register(meterRegistry);
+        Gauge.builder("purge.pending", pendingAccounts, AtomicLong::get).tag("kind", "account")
+                .description("Deleted accounts waiting to be purged").register(meterRegistry);
+        Gauge.builder("purge.pending", pendingFiles, AtomicLong::get).tag("kind", "file")
+                .description("Stored originals waiting for the orphan check").register(meterRegistry);
+        Gauge.builder("purge.lag", lagSeconds, AtomicLong::get).baseUnit("seconds")
+                .description("Age of the oldest album or account deletion not yet purged")
+                .register(meterRegistry);
+        this.chunkDuration = Timer.builder("purge.chunk.duration")
+                .description("Time spent deleting one chunk of rows")
+                .register(meterRegistry);
+        this.photosPurged = Counter.builder("purge.photos")
+                .description("Photo rows removed by the purge worker")
+                .register(meterRegistry);
+        this.filesDeleted = Counter.builder("purge.files")
+                .description("Orphaned originals deleted from storage")
+                .register(meterRegistry);
+        this.albumsPurged = Counter.builder("purge.completed").tag("kind", "album")
+                .description("Deleted albums fully purged").register(meterRegistry);
+        this.accountsPurged = Counter.builder("purge.completed").tag("kind", "account")
+                .description("Deleted accounts fully purged").register(meterRegistry);
+        this.failures = Counter.builder("purge.failed")
+                .description("Purges that failed and were left for the next run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${purge.interval:PT10S}")
+    public void run() {
+        purgeAll();
+    }
+
+    /**
+     * Purges every album and account deleted so far, then sweeps the content
+     * queue.  Returns how many albums and accounts were completed, or 0 when
+     * another node holds the purge lease.  A failing album or account is
+     * logged and retried on the next run.
+     */
+    public synchronized int purgeAll() {
+        leaseHolder = UUID.randomUUID().toString();
+        if (!renewLease()) {
+            log.debug("Purge lease is held by another node; skipping this run");
+            return 0;
+        }
+        try {
+            refreshBacklog();
+            int completed = purgeDeleted();
+            if (renewLease()) {
+                sweepContent();
+            }
+            refreshBacklog();
+            return completed;
+        } finally {
+            purgeRepository.releaseLease(leaseHolder, LocalDateTime.now());
+        }
+    }
+
+    private int purgeDeleted() {
+        int completed = 0;
+        List<Long> albumIds;
+        while (!(albumIds = purgeRepository.findDeletedAlbumIds(chunkSize)).isEmpty()) {
+            int before = completed;
+            for (Long albumId : albumIds) {
+                if (!renewLease()) {
+                    return completed;
+                }
+                completed += attempt("album", albumId, () -> purgeAlbum(albumId));
+            }
+            if (completed == before) {
+                break;
+            }
+        }
+        List<Long> userIds;
+        while (!(userIds = purgeRepository.findDeletedUserIds(chunkSize)).isEmpty()) {
+            int before = completed;
+            for (Long userId : userIds) {
+                if (!renewLease()) {
+                    return completed;
+                }
+                completed += attempt("account", userId, () -> purgeAccount(userId));
+            }
+            if (completed == before) {
+                break;
+            }
+        }
+        return completed;
+    }
+
+    // 임대가 만료돼 다른 노드가 가져갔으면 false; 이번 실행은 거기서 멈춤
+    private boolean renewLease() {
+        LocalDateTime now = LocalDateTime.now();
+        if (purgeRepository.acquireLease(leaseHolder, now, now.plus(lease))) {
+            return true;
+        }
+        log.debug("Purge lease {} is not available", leaseHolder);
+        return false;
+    }
+
+    private int attempt(String kind, Long id, Runnable purge) {
+        try {
+            purge.run();
+            return 1;
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Purge of {} {} failed; it will be retried on the next run", kind, id, e);
+            return 0;
+        }
+    }
+
+    private void purgeAlbum(Long albumId) {
+        long photos = purgePhotos(Scope.ALBUM, albumId);
+        if (Boolean.TRUE.equals(transactionTemplate.execute(status -> purgeRepository.deleteAlbum(albumId)))) {
+            albumsPurged.increment();
+            log.info("Purged album {} with {} photos", albumId, photos);
+        }
+    }
+
+    private void purgeAccount(Long userId) {
+        long photos = purgePhotos(Scope.USER, userId);
+        for (String[] table : ACCOUNT_TABLES) {
+            int deleted;
+            do {
+                deleted = inChunk(() -> purgeRepository.deleteChunk(table[0], table[1], userId, chunkSize));
+            } while (deleted > 0);
+        }
+        if (Boolean.TRUE.equals(transactionTemplate.execute(status -> purgeRepository.deleteUser(userId)))) {
+            duplicateIndex.evict(userId);
+            friendGraphIndex.userRemoved(userId);
+            accountsPurged.increment();
+            log.info("Purged account {} with {} photos", userId, photos);
+        }
+    }
+
+    // 계정 전체를 지울 때는 패싯 행도 통째로 지우므로 카운터를 줄일 필요가 없음
+    private long purgePhotos(Scope scope, Long ownerId) {
+        long total = 0;
+        while (true) {
+            int deleted = inChunk(() -> {
+                List<PhotoRow> rows = purgeRepository.findPhotoChunk(scope, ownerId, chunkSize);
+                if (rows.isEmpty()) {
+                    return 0;
+                }
+                long lastId = rows.get(rows.size() - 1).id();
+                if (scope == Scope.ALBUM) {
+                    purgeRepository.decrementFacets(scope, ownerId, lastId);
+                }
+                int count = purgeRepository.deletePhotoChunk(scope, ownerId, lastId, LocalDateTime.now());
+                TransactionUtils.afterCommit(() -> rows.forEach(this::forget));
+                return count;
+            });
+            if (deleted == 0) {
+                return total;
+            }
+            photosPurged.increment(deleted);
+            total += deleted;
+        }
+    }
+
+    private void forget(PhotoRow row) {
+        favoriteBuffer.discard(row.userId(), row.id());
+        if (row.perceptualHash() != null) {
+            duplicateIndex.remove(row.userId(), row.id(), row.perceptualHash());
+        }
+    }
+
+    /*
+     * 행이 지워진 원본 중 더 이상 참조되지 않는 파일만 지움. 큐 행을 잠근 채 확인하고 지우므로
+     * 같은 내용을 다시 등록하는 트랜잭션은 이 판단이 끝난 뒤에 파일이 남았는지 확인함.
+     */
+    private void sweepContent() {
+        List<String> hashes;
+        while (!(hashes = purgeRepository.findQueuedContent(LocalDateTime.now().minus(contentGrace), chunkSize))
+                .isEmpty()) {
+            if (!renewLease()) {
+                return;
+            }
+            for (String hash : hashes) {
+                try {
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(status -> sweep(hash)))) {
+                        filesDeleted.increment();
+                    }
+                } catch (UncheckedIOException e) {
+                    // 큐에 남겨 다음 실행에서 다시 시도
+                    failures.increment();
+                    log.warn("Could not delete purged original {}", hash, e);
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean sweep(String hash) {
+        if (!purgeRepository.claimQueuedContent(hash)) {
+            return false;
+        }
+        boolean orphaned = !purgeRepository.isContentReferenced(hash);
+        if (orphaned) {
+            try {
+                photoStorage.delete(hash);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            purgeRepository.deleteQrImports(hash);
+        }
+        purgeRepository.dequeueContent(hash);
+        return orphaned;
+    }
+
+    private int inChunk(IntSupplier step) {
+        long started = System.nanoTime();
+        Integer count = transactionTemplate.execute(status -> step.getAsInt());
+        chunkDuration.record(Duration.ofNanos(System.nanoTime() - started));
+        return count == null ? 0 : count;
+    }
+
+    private void refreshBacklog() {
+        pendingAlbums.set(purgeRepository.countDeletedAlbums());
+        pendingAccounts.set(purgeRepository.countDeletedUsers());
+        pendingFiles.set(purgeRepository.countQueuedContent());
+        LocalDateTime oldest = purgeRepository.findOldestDeletion();
+        lagSeconds.set(oldest == null ? 0L
+                : Math.max(0L, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+    }
+}
@@ -0,0 +1 @@
+package com.nemo.backend.domain.purge.service;
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.nemo.backend.domain.timeline.controller;
+
+import com.nemo.backend.domain.timeline.dto.FeedItemResponse;
+import com.nemo.backend.domain.timeline.dto.TimelinePostRequest;
+import com.nemo.backend.domain.timeline.service.TimelineService;
+import com.nemo.backend.global.annotation.LoginUser;
+import com.nemo.backend.global.response.CursorPageResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Controller for posting to and reading the friends timeline.
+ */
+@RestController
+@RequestMapping("/api/timeline")
+public class TimelineController {
+    private static final int MAX_PAGE_SIZE = 100;
+    private final TimelineService timelineService;
+
+    public TimelineController(TimelineService timelineService) {
+        this.timelineService = timelineService;
+    }
+
+    /** 내 사진 한 장을 친구들의 피드에 공유 (친구 피드에는 잠시 후 반영됨) */
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> post(@LoginUser Long userId, @RequestBody TimelinePostRequest request) {
+        Long timelineId = timelineService.post(userId, request.getPhotoId(), request.getContent());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timelineId", timelineId);
+        body.put("photoId", request.getPhotoId());
+        return ResponseEntity.ok(body);
+    }
+
+    /** 커서 기반 친구 피드: 응답의 nextCursor 를 다음 요청의 cursor 로 전달 */
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPageResponse<FeedItemResponse>> feed(@LoginUser Long userId,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(timelineService.feed(userId, cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE))));
+    }
+}
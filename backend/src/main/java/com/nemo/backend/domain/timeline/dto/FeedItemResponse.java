@@ -0,0 +1,44 @@
+package com.nemo.backend.domain.timeline.dto;
+
+import com.nemo.backend.domain.photo.entity.Photo;
+import com.nemo.backend.domain.photo.entity.ThumbnailStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * One post in the friends feed, read as a projection together with its
+ * author and photo.
+ */
+public class FeedItemResponse {
+    private final Long timelineId;
+    private final Long authorId;
+    private final String authorNickname;
+    private final Long photoId;
+    private final String imageUrl;
+    private final Map<Integer, String> thumbnailUrls;
+    private final String content;
+    private final LocalDateTime createdAt;
+
+    public FeedItemResponse(Long timelineId, Long authorId, String authorNickname, Long photoId, String imageUrl,
+                            ThumbnailStatus thumbnailStatus, String thumbnailSizes, String content,
+                            LocalDateTime createdAt) {
+        this.timelineId = timelineId;
+        this.authorId = authorId;
+        this.authorNickname = authorNickname;
+        this.photoId = photoId;
+        this.imageUrl = imageUrl;
+        this.thumbnailUrls = Photo.thumbnailUrls(imageUrl, thumbnailStatus, thumbnailSizes);
+        this.content = content;
+        this.createdAt = createdAt;
+    }
+
+    public Long getTimelineId() { return timelineId; }
+    public Long getAuthorId() { return authorId; }
+    public String getAuthorNickname() { return authorNickname; }
+    public Long getPhotoId() { return photoId; }
+    public String getImageUrl() { return imageUrl; }
+    public Map<Integer, String> getThumbnailUrls() { return thumbnailUrls; }
+    public String getContent() { return content; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
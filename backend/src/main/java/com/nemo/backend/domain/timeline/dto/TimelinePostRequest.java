@@ -0,0 +1,25 @@
+package com.nemo.backend.domain.timeline.dto;
+
+/**
+ * Request body for sharing one of the user's photos with their friends.
+ */
+public class TimelinePostRequest {
+    private Long photoId;
+    private String content;
+
+    public Long getPhotoId() {
+        return photoId;
+    }
+
+    public void setPhotoId(Long photoId) {
+        this.photoId = photoId;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+}
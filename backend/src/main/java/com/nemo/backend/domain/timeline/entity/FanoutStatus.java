@@ -0,0 +1,12 @@
+package com.nemo.backend.domain.timeline.entity;
+
+/**
+ * How far a {@link Timeline} entry has been copied into its author's
+ * friends' feed inboxes.
+ */
+public enum FanoutStatus {
+    PENDING,
+    DONE,
+    // 친구가 너무 많아 복사하지 않음: 읽을 때 합쳐서 보여줌
+    SKIPPED
+}
@@ -0,0 +1,42 @@
+package com.nemo.backend.domain.timeline.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One {@link Timeline} entry delivered to one reader's feed inbox.  The
+ * entry's creation time is copied from the timeline so a feed page is a
+ * single range scan over {@code (owner_id, posted_at, timeline_id)}.
+ */
+@Entity
+@Table(name = "feed_entry", indexes = {
+        @Index(name = "idx_feed_entry_owner_posted", columnList = "ownerId, postedAt desc, timelineId desc"),
+        @Index(name = "idx_feed_entry_timeline", columnList = "timelineId"),
+        @Index(name = "idx_feed_entry_owner_author", columnList = "ownerId, authorId")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_feed_entry_owner_timeline", columnNames = {"ownerId", "timelineId"})
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class FeedEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 피드를 읽는 사용자
+    @Column(nullable = false)
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private Long timelineId;
+
+    @Column(nullable = false)
+    private Long authorId;
+
+    // 타임라인 글의 작성 시각 (커서 정렬 기준)
+    @Column(nullable = false)
+    private LocalDateTime postedAt;
+}
@@ -0,0 +1,32 @@
+package com.nemo.backend.domain.timeline.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * An author with at least one {@link FanoutStatus#SKIPPED} entry.  Feed
+ * reads merge in only the authors listed here that the reader follows, so
+ * the read-time merge costs nothing for readers who follow no popular
+ * author and one index range per popular author for those who do.
+ */
+@Entity
+@Table(name = "feed_pull_author", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_feed_pull_author", columnNames = {"authorId"})
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class FeedPullAuthor {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long authorId;
+
+    // 처음으로 복사를 건너뛴 시각
+    @Column(nullable = false)
+    private LocalDateTime markedAt;
+}
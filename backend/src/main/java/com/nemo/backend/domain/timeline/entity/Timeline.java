@@ -5,15 +5,21 @@ import com.nemo.backend.domain.photo.entity.Photo;
 import com.nemo.backend.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "timeline")
+@Table(name = "timeline", indexes = {
+        @Index(name = "idx_timeline_photo", columnList = "photo_id"),
+        @Index(name = "idx_timeline_fanout", columnList = "fanoutStatus, createdAt desc, id desc"),
+        @Index(name = "idx_timeline_user_created", columnList = "user_id, createdAt desc, id desc")
+})
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Timeline extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "timeline_seq")
+    @SequenceGenerator(name = "timeline_seq", sequenceName = "timeline_seq", allocationSize = 50)
     private Long id;
 
     private String content;
@@ -25,4 +31,16 @@ public class Timeline extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "photo_id", nullable = false)
     private Photo photo;
+
+    // 친구 피드로의 복사 진행 상태 (기존 행은 복사 대상이 아니므로 DONE)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    @ColumnDefault("'DONE'")
+    @Builder.Default
+    private FanoutStatus fanoutStatus = FanoutStatus.PENDING;
+
+    // 마지막으로 복사를 마친 friend 행 id (배치 단위로 이어서 진행)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long fanoutCursor;
 }
@@ -0,0 +1,57 @@
+package com.nemo.backend.domain.timeline.repository;
+
+import com.nemo.backend.domain.timeline.dto.FeedItemResponse;
+import com.nemo.backend.domain.timeline.entity.FeedEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for {@link FeedEntry} persistence.
+ */
+@Repository
+public interface FeedEntryRepository extends JpaRepository<FeedEntry, Long> {
+
+    /*
+     * 피드 한 페이지: (owner_id, posted_at, timeline_id) 인덱스의 범위 스캔 한 번으로 행을 고르고
+     * 글/작성자/사진은 기본 키로만 붙임.
+     */
+    @Query("select new com.nemo.backend.domain.timeline.dto.FeedItemResponse("
+            + "t.id, u.id, u.nickname, p.id, p.imageUrl, p.thumbnailStatus, p.thumbnailSizes, t.content, e.postedAt) "
+            + "from FeedEntry e join Timeline t on t.id = e.timelineId join t.user u join t.photo p "
+            + "where e.ownerId = :userId "
+            + "and e.postedAt <= :createdAt and (e.postedAt < :createdAt or e.timelineId < :id) "
+            + "order by e.ownerId, e.postedAt desc, e.timelineId desc")
+    List<FeedItemResponse> findInboxPage(@Param("userId") Long userId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    /** 작성자의 친구 행 (afterId, lastId] 구간에 글 하나를 insert-select 한 번으로 배달 */
+    @Modifying
+    @Query("insert into FeedEntry (ownerId, timelineId, authorId, postedAt) "
+            + "select f.friend.id, :timelineId, :authorId, :postedAt from Friend f "
+            + "where f.user.id = :authorId and f.id > :afterId and f.id <= :lastId")
+    int deliver(@Param("timelineId") Long timelineId,
+                @Param("authorId") Long authorId,
+                @Param("postedAt") LocalDateTime postedAt,
+                @Param("afterId") long afterId,
+                @Param("lastId") long lastId);
+
+    /** 친구를 끊은 두 사용자의 글을 서로의 피드에서 지움 */
+    @Modifying
+    @Query("delete from FeedEntry e where (e.ownerId = :userId and e.authorId = :friendId) "
+            + "or (e.ownerId = :friendId and e.authorId = :userId)")
+    int deleteBetween(@Param("userId") Long userId, @Param("friendId") Long friendId);
+
+    @Modifying
+    @Query("delete from FeedEntry e where e.timelineId in :timelineIds")
+    int deleteByTimelineIdIn(@Param("timelineIds") Collection<Long> timelineIds);
+}
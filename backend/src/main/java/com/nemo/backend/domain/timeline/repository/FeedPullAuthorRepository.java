@@ -0,0 +1,23 @@
+package com.nemo.backend.domain.timeline.repository;
+
+import com.nemo.backend.domain.timeline.entity.FeedPullAuthor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for {@link FeedPullAuthor} persistence.
+ */
+@Repository
+public interface FeedPullAuthorRepository extends JpaRepository<FeedPullAuthor, Long> {
+
+    boolean existsByAuthorId(Long authorId);
+
+    /* 인기 작성자는 소수이므로 목록을 돌며 (user_id, friend_id) 유니크 인덱스로 친구 여부만 확인 */
+    @Query("select a.authorId from FeedPullAuthor a "
+            + "where exists (select 1 from Friend f where f.user.id = :userId and f.friend.id = a.authorId)")
+    List<Long> findFollowedBy(@Param("userId") Long userId);
+}
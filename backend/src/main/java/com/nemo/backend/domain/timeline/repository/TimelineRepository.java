@@ -0,0 +1,55 @@
+package com.nemo.backend.domain.timeline.repository;
+
+import com.nemo.backend.domain.timeline.dto.FeedItemResponse;
+import com.nemo.backend.domain.timeline.entity.FanoutStatus;
+import com.nemo.backend.domain.timeline.entity.Timeline;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for {@link Timeline} persistence.
+ */
+@Repository
+public interface TimelineRepository extends JpaRepository<Timeline, Long> {
+
+    /** 배치 복사와 사진 삭제가 같은 글을 동시에 다루지 않도록 잠금 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Timeline t where t.id = :id")
+    Optional<Timeline> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Timeline t where t.photo.id = :photoId")
+    List<Timeline> findByPhotoIdForUpdate(@Param("photoId") Long photoId);
+
+    /*
+     * 한 작성자의 복사하지 않은(SKIPPED) 글 한 페이지: (user_id, createdAt, id) 인덱스에서
+     * 커서 위치부터 그 작성자의 범위만 읽음.
+     */
+    @Query("select new com.nemo.backend.domain.timeline.dto.FeedItemResponse("
+            + "t.id, u.id, u.nickname, p.id, p.imageUrl, p.thumbnailStatus, p.thumbnailSizes, t.content, t.createdAt) "
+            + "from Timeline t join t.user u join t.photo p "
+            + "where t.user.id = :authorId and t.fanoutStatus = :status "
+            + "and t.createdAt <= :createdAt and (t.createdAt < :createdAt or t.id < :id) "
+            + "order by t.user.id, t.createdAt desc, t.id desc")
+    List<FeedItemResponse> findAuthorPageByStatus(@Param("authorId") Long authorId,
+                                                  @Param("status") FanoutStatus status,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    /** 큐가 가득 찼거나 재시작으로 복사가 멈춘 글 */
+    @Query("select t.id from Timeline t where t.fanoutStatus = :status and t.createdAt < :cutoff "
+            + "order by t.fanoutStatus, t.createdAt, t.id")
+    List<Long> findIdsByFanoutStatus(@Param("status") FanoutStatus status,
+                                     @Param("cutoff") LocalDateTime cutoff,
+                                     Pageable pageable);
+}
@@ -0,0 +1,201 @@
+package com.nemo.backend.domain.timeline.service;
+
+import com.nemo.backend.domain.friend.repository.FriendRepository;
+import com.nemo.backend.domain.timeline.entity.FanoutStatus;
+import com.nemo.backend.domain.timeline.entity.FeedPullAuthor;
+import com.nemo.backend.domain.timeline.entity.Timeline;
+import com.nemo.backend.domain.timeline.repository.FeedEntryRepository;
+import com.nemo.backend.domain.timeline.repository.FeedPullAuthorRepository;
+import com.nemo.backend.domain.timeline.repository.TimelineRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copies new {@link Timeline} entries into the feed inboxes of the author's
+ * friends on a bounded worker pool after the post has committed.  Friends
+ * are walked in friend-row id order, one batch per transaction; the timeline
+ * row holds the id of the last friend row delivered, so a restarted job
+ * continues where it stopped and never delivers an entry twice.
+ *
+ * <p>Authors with more than {@code feed.fanout.max-degree} friends are not
+ * copied at all: their entries are marked {@link FanoutStatus#SKIPPED}, the
+ * author is recorded as a {@link FeedPullAuthor}, and the entries are merged
+ * into each reader's feed at read time by {@link TimelineService}.
+ * Entries left {@link FanoutStatus#PENDING} by a full queue or a restart
+ * are picked up by a periodic sweep.
+ */
+@Service
+public class FeedFanout {
+    private static final Logger log = LoggerFactory.getLogger(FeedFanout.class);
+    private final TimelineRepository timelineRepository;
+    private final FriendRepository friendRepository;
+    private final FeedEntryRepository feedEntryRepository;
+    private final FeedPullAuthorRepository feedPullAuthorRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final int batchSize;
+    private final long maxDegree;
+    private final Duration sweepDelay;
+    private final int sweepBatchSize;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter delivered;
+    private final Counter skipped;
+    private final Counter rejected;
+    private final Counter failed;
+    private final Timer duration;
+
+    public FeedFanout(TimelineRepository timelineRepository,
+                      FriendRepository friendRepository,
+                      FeedEntryRepository feedEntryRepository,
+                      FeedPullAuthorRepository feedPullAuthorRepository,
+                      PlatformTransactionManager transactionManager,
+                      MeterRegistry meterRegistry,
+                      @Value("${feed.fanout.pool-size:2}") int poolSize,
+                      @Value("${feed.fanout.queue-capacity:1024}") int queueCapacity,
+                      @Value("${feed.fanout.batch-size:500}") int batchSize,
+                      @Value("${feed.fanout.max-degree:5000}") long maxDegree,
+                      @Value("${feed.fanout.sweep-delay:1m}") Duration sweepDelay,
+                      @Value("${feed.fanout.sweep-batch-size:100}") int sweepBatchSize) {
+        this.timelineRepository = timelineRepository;
+        this.friendRepository = friendRepository;
+        this.feedEntryRepository = feedEntryRepository;
+        this.feedPullAuthorRepository = feedPullAuthorRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("feed-fanout-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.batchSize = batchSize;
+        this.maxDegree = maxDegree;
+        this.sweepDelay = sweepDelay;
+        this.sweepBatchSize = sweepBatchSize;
+        this.delivered = Counter.builder("feed.fanout.entries")
+                .description("Feed inbox entries written by fan-out")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("feed.fanout.skipped")
+                .description("Timeline entries left to read-time merging because the author has too many friends")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("feed.fanout.rejected")
+                .description("Fan-out jobs dropped because the queue was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("feed.fanout.failed")
+                .description("Fan-out jobs that failed and were left for the sweep")
+                .register(meterRegistry);
+        this.duration = Timer.builder("feed.fanout.duration")
+                .description("Time to deliver one timeline entry to every friend")
+                .register(meterRegistry);
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "feed-fanout");
+    }
+
+    /**
+     * Queues fan-out of the timeline entry.  Returns {@code false} when the
+     * queue is full; the sweep retries later.
+     */
+    public boolean enqueue(Long timelineId) {
+        if (!inFlight.add(timelineId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    fanOut(timelineId);
+                } finally {
+                    inFlight.remove(timelineId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(timelineId);
+            rejected.increment();
+            return false;
+        }
+    }
+
+    /** 큐가 가득 찼거나 재시작으로 멈춘 복사를 다시 넣는다. */
+    @Scheduled(fixedDelayString = "${feed.fanout.sweep-interval:PT1M}")
+    public void sweepPending() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(sweepDelay);
+        List<Long> ids = timelineRepository.findIdsByFanoutStatus(FanoutStatus.PENDING, cutoff,
+                PageRequest.of(0, sweepBatchSize));
+        for (Long id : ids) {
+            if (!enqueue(id)) {
+                break;
+            }
+        }
+    }
+
+    void fanOut(Long timelineId) {
+        long started = System.nanoTime();
+        try {
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> deliverBatch(timelineId)))) {
+                // 배치마다 트랜잭션을 나눠 잠금을 짧게 유지
+            }
+        } catch (RuntimeException e) {
+            // 커서까지 커밋된 배치는 유지되고 나머지는 sweep 에서 이어서 진행
+            failed.increment();
+            log.warn("Feed fan-out failed for timeline {}", timelineId, e);
+            return;
+        }
+        duration.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    // 한 배치를 배달하고 남은 친구가 있으면 true
+    private boolean deliverBatch(Long timelineId) {
+        Timeline timeline = timelineRepository.findByIdForUpdate(timelineId).orElse(null);
+        if (timeline == null || timeline.getFanoutStatus() != FanoutStatus.PENDING) {
+            return false;
+        }
+        Long authorId = timeline.getUser().getId();
+        long afterId = timeline.getFanoutCursor();
+        if (afterId == 0 && friendRepository.countByUserId(authorId) > maxDegree) {
+            timeline.setFanoutStatus(FanoutStatus.SKIPPED);
+            // 동시에 같은 작성자를 표시하면 유니크 제약으로 이 배치가 실패하고 sweep 이 다시 처리함
+            if (!feedPullAuthorRepository.existsByAuthorId(authorId)) {
+                feedPullAuthorRepository.save(FeedPullAuthor.builder()
+                        .authorId(authorId)
+                        .markedAt(LocalDateTime.now())
+                        .build());
+            }
+            skipped.increment();
+            return false;
+        }
+        List<Long> rowIds = friendRepository.findRowIds(authorId, afterId, PageRequest.of(0, batchSize));
+        if (!rowIds.isEmpty()) {
+            long lastId = rowIds.get(rowIds.size() - 1);
+            delivered.increment(feedEntryRepository.deliver(timelineId, authorId, timeline.getCreatedAt(),
+                    afterId, lastId));
+            timeline.setFanoutCursor(lastId);
+        }
+        if (rowIds.size() < batchSize) {
+            timeline.setFanoutStatus(FanoutStatus.DONE);
+            return false;
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,157 @@
+package com.nemo.backend.domain.timeline.service;
+
+import com.nemo.backend.domain.photo.entity.Photo;
+import com.nemo.backend.domain.photo.repository.PhotoRepository;
+import com.nemo.backend.domain.timeline.dto.FeedItemResponse;
+import com.nemo.backend.domain.timeline.entity.FanoutStatus;
+import com.nemo.backend.domain.timeline.entity.FeedEntry;
+import com.nemo.backend.domain.timeline.entity.Timeline;
+import com.nemo.backend.domain.timeline.repository.FeedEntryRepository;
+import com.nemo.backend.domain.timeline.repository.FeedPullAuthorRepository;
+import com.nemo.backend.domain.timeline.repository.TimelineRepository;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import com.nemo.backend.global.response.CursorPageResponse;
+import com.nemo.backend.global.util.KeysetCursor;
+import com.nemo.backend.global.util.TransactionUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Posts photos to the friends timeline and reads the friends feed.  A post
+ * goes into the author's own inbox at once and into their friends' inboxes
+ * through {@link FeedFanout} after commit, so reading a feed page is one
+ * range scan over the reader's inbox.  Posts of authors too popular to fan
+ * out are merged in from the timeline table on the same cursor, one author
+ * at a time and only for the popular authors the reader follows.
+ */
+@Service
+public class TimelineService {
+    public static final int MAX_CONTENT_LENGTH = 255;
+    // 두 목록을 같은 (작성 시각, id) 내림차순으로 합침
+    private static final Comparator<FeedItemResponse> NEWEST_FIRST = Comparator
+            .comparing(FeedItemResponse::getCreatedAt)
+            .thenComparing(FeedItemResponse::getTimelineId)
+            .reversed();
+    private final TimelineRepository timelineRepository;
+    private final FeedEntryRepository feedEntryRepository;
+    private final FeedPullAuthorRepository feedPullAuthorRepository;
+    private final PhotoRepository photoRepository;
+    private final FeedFanout feedFanout;
+    private final TransactionTemplate transactionTemplate;
+
+    public TimelineService(TimelineRepository timelineRepository,
+                           FeedEntryRepository feedEntryRepository,
+                           FeedPullAuthorRepository feedPullAuthorRepository,
+                           PhotoRepository photoRepository,
+                           FeedFanout feedFanout,
+                           PlatformTransactionManager transactionManager) {
+        this.timelineRepository = timelineRepository;
+        this.feedEntryRepository = feedEntryRepository;
+        this.feedPullAuthorRepository = feedPullAuthorRepository;
+        this.photoRepository = photoRepository;
+        this.feedFanout = feedFanout;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Shares one of the user's photos with their friends and returns the new
+     * timeline entry id.
+     *
+     * @throws ApiException {@link ErrorCode#PHOTO_NOT_FOUND} when the photo
+     *         does not exist or belongs to another user
+     */
+    public Long post(Long userId, Long photoId, String content) {
+        if (photoId == null || (content != null && content.length() > MAX_CONTENT_LENGTH)) {
+            throw new ApiException(ErrorCode.INVALID_TIMELINE_REQUEST);
+        }
+        return transactionTemplate.execute(status -> {
+            Photo photo = photoRepository.findById(photoId)
+                    .filter(found -> found.getUser().getId().equals(userId))
+                    .orElseThrow(() -> new ApiException(ErrorCode.PHOTO_NOT_FOUND));
+            Timeline timeline = timelineRepository.saveAndFlush(Timeline.builder()
+                    .user(photo.getUser())
+                    .photo(photo)
+                    .content(content)
+                    .build());
+            feedEntryRepository.save(FeedEntry.builder()
+                    .ownerId(userId)
+                    .timelineId(timeline.getId())
+                    .authorId(userId)
+                    .postedAt(timeline.getCreatedAt())
+                    .build());
+            TransactionUtils.afterCommit(() -> feedFanout.enqueue(timeline.getId()));
+            return timeline.getId();
+        });
+    }
+
+    /** Reads the user's friends feed newest first, one keyset page at a time. */
+    public CursorPageResponse<FeedItemResponse> feed(Long userId, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest page = PageRequest.of(0, size + 1);
+        List<FeedItemResponse> rows = feedEntryRepository.findInboxPage(userId, after.createdAt(), after.id(), page);
+        for (Long authorId : feedPullAuthorRepository.findFollowedBy(userId)) {
+            List<FeedItemResponse> skipped = timelineRepository.findAuthorPageByStatus(authorId,
+                    FanoutStatus.SKIPPED, after.createdAt(), after.id(), page);
+            if (!skipped.isEmpty()) {
+                rows = merge(rows, skipped, size + 1);
+            }
+        }
+        return CursorPageResponse.of(rows, size, Function.identity(),
+                item -> new KeysetCursor(item.getCreatedAt(), item.getTimelineId()).encode());
+    }
+
+    /**
+     * Removes the timeline entries showing the photo, together with every
+     * inbox copy of them.  The entries are locked first so a fan-out batch
+     * running at the same time cannot deliver them again.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void photoDeleted(Long photoId) {
+        List<Timeline> timelines = timelineRepository.findByPhotoIdForUpdate(photoId);
+        if (timelines.isEmpty()) {
+            return;
+        }
+        feedEntryRepository.deleteByTimelineIdIn(timelines.stream().map(Timeline::getId).toList());
+        // 벌크 삭제는 영속성 컨텍스트에 남은 엔티티를 모르므로 엔티티 단위로 지움
+        timelineRepository.deleteAll(timelines);
+    }
+
+    /**
+     * Removes each user's posts from the other's inbox when a friendship
+     * ends, so neither keeps seeing the other's earlier posts.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void friendshipEnded(Long userId, Long friendId) {
+        feedEntryRepository.deleteBetween(userId, friendId);
+    }
+
+    private static List<FeedItemResponse> merge(List<FeedItemResponse> inbox, List<FeedItemResponse> skipped,
+                                                int limit) {
+        List<FeedItemResponse> all = new ArrayList<>(inbox);
+        all.addAll(skipped);
+        all.sort(NEWEST_FIRST);
+        Set<Long> seen = new HashSet<>();
+        List<FeedItemResponse> merged = new ArrayList<>(limit);
+        for (FeedItemResponse item : all) {
+            if (merged.size() == limit) {
+                break;
+            }
+            if (seen.add(item.getTimelineId())) {
+                merged.add(item);
+            }
+        }
+        return merged;
+    }
+}
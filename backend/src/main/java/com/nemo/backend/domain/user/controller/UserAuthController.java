@@ -2,7 +2,9 @@ package com.nemo.backend.domain.user.controller;
 
 import com.nemo.backend.domain.auth.dto.*;
 import com.nemo.backend.domain.auth.service.AuthService;
-import com.nemo.backend.domain.auth.jwt.JwtTokenProvider;
+import com.nemo.backend.domain.user.dto.EmailAvailabilityResponse;
+import com.nemo.backend.domain.user.service.EmailAvailabilityService;
+import com.nemo.backend.global.annotation.LoginUser;
 import com.nemo.backend.global.exception.ApiException;
 import com.nemo.backend.global.exception.ErrorCode;
 import org.springframework.http.HttpStatus;
@@ -21,11 +23,20 @@ import jakarta.servlet.http.HttpServletRequest;
 @RequestMapping("/api/users")
 public class UserAuthController {
     private final AuthService authService;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final EmailAvailabilityService emailAvailabilityService;
 
-    public UserAuthController(AuthService authService, JwtTokenProvider jwtTokenProvider) {
+    public UserAuthController(AuthService authService, EmailAvailabilityService emailAvailabilityService) {
         this.authService = authService;
-        this.jwtTokenProvider = jwtTokenProvider;
+        this.emailAvailabilityService = emailAvailabilityService;
+    }
+
+    @GetMapping("/email-available")
+    public ResponseEntity<EmailAvailabilityResponse> emailAvailable(@RequestParam String email) {
+        if (email.isBlank()) {
+            throw new ApiException(ErrorCode.INVALID_EMAIL);
+        }
+        boolean available = emailAvailabilityService.isAvailable(email);
+        return ResponseEntity.ok(new EmailAvailabilityResponse(email, available));
     }
 
     @PostMapping("/signup")
@@ -35,27 +46,20 @@ public class UserAuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
-        LoginResponse response = authService.login(request);
+    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request, HttpServletRequest servletRequest) {
+        LoginResponse response = authService.login(request, servletRequest.getRemoteAddr());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/token/refresh")
+    public ResponseEntity<TokenRefreshResponse> refresh(@RequestBody TokenRefreshRequest request) {
+        TokenRefreshResponse response = authService.refresh(request.getRefreshToken());
         return ResponseEntity.ok(response);
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(HttpServletRequest request) {
-        Long userId = extractUserId(request);
+    public ResponseEntity<Void> logout(@LoginUser Long userId) {
         authService.logout(userId);
         return ResponseEntity.noContent().build();
     }
-
-    private Long extractUserId(HttpServletRequest request) {
-        String authorization = request.getHeader("Authorization");
-        if (authorization == null || !authorization.startsWith("Bearer ")) {
-            throw new ApiException(ErrorCode.UNAUTHORIZED);
-        }
-        String token = authorization.substring(7);
-        if (!jwtTokenProvider.validateToken(token)) {
-            throw new ApiException(ErrorCode.UNAUTHORIZED);
-        }
-        return jwtTokenProvider.getUserId(token);
-    }
 }
\ No newline at end of file
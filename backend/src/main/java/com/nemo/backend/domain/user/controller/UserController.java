@@ -1,17 +1,13 @@
 package com.nemo.backend.domain.user.controller;
 
-import com.nemo.backend.domain.auth.jwt.JwtTokenProvider;
 import com.nemo.backend.domain.auth.service.AuthService;
 import com.nemo.backend.domain.user.dto.UpdateUserRequest;
 import com.nemo.backend.domain.user.dto.UserProfileResponse;
-import com.nemo.backend.domain.user.entity.User;
 import com.nemo.backend.domain.user.service.UserService;
-import com.nemo.backend.global.exception.ApiException;
-import com.nemo.backend.global.exception.ErrorCode;
+import com.nemo.backend.global.annotation.LoginUser;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import jakarta.servlet.http.HttpServletRequest;
 import java.util.Collections;
 
 /**
@@ -22,62 +18,25 @@ import java.util.Collections;
 public class UserController {
     private final UserService userService;
     private final AuthService authService;
-    private final JwtTokenProvider jwtTokenProvider;
 
-    public UserController(UserService userService, AuthService authService, JwtTokenProvider jwtTokenProvider) {
+    public UserController(UserService userService, AuthService authService) {
         this.userService = userService;
         this.authService = authService;
-        this.jwtTokenProvider = jwtTokenProvider;
     }
 
     @GetMapping("/me")
-    public ResponseEntity<UserProfileResponse> me(HttpServletRequest request) {
-        Long userId = extractUserId(request);
-        User user = userService.getProfile(userId);
-        UserProfileResponse response = new UserProfileResponse(
-                user.getId(),
-                user.getEmail(),
-                user.getNickname(),
-                user.getProfileImageUrl(),
-                user.getProvider(),
-                user.getSocialId(),
-                user.getCreatedAt()
-        );
-        return ResponseEntity.ok(response);
+    public ResponseEntity<UserProfileResponse> me(@LoginUser Long userId) {
+        return ResponseEntity.ok(userService.getProfile(userId));
     }
 
     @PatchMapping("/me")
-    public ResponseEntity<UserProfileResponse> updateMe(HttpServletRequest request, @RequestBody UpdateUserRequest body) {
-        Long userId = extractUserId(request);
-        User updated = userService.updateProfile(userId, body);
-        UserProfileResponse response = new UserProfileResponse(
-                updated.getId(),
-                updated.getEmail(),
-                updated.getNickname(),
-                updated.getProfileImageUrl(),
-                updated.getProvider(),
-                updated.getSocialId(),
-                updated.getCreatedAt()
-        );
-        return ResponseEntity.ok(response);
+    public ResponseEntity<UserProfileResponse> updateMe(@LoginUser Long userId, @RequestBody UpdateUserRequest body) {
+        return ResponseEntity.ok(userService.updateProfile(userId, body));
     }
 
     @DeleteMapping("/me")
-    public ResponseEntity<?> deleteMe(HttpServletRequest request) {
-        Long userId = extractUserId(request);
+    public ResponseEntity<?> deleteMe(@LoginUser Long userId) {
         authService.deleteAccount(userId);
         return ResponseEntity.ok(Collections.singletonMap("message", "회원탈퇴가 정상적으로 처리되었습니다."));
     }
-
-    private Long extractUserId(HttpServletRequest request) {
-        String authorization = request.getHeader("Authorization");
-        if (authorization == null || !authorization.startsWith("Bearer ")) {
-            throw new ApiException(ErrorCode.UNAUTHORIZED);
-        }
-        String token = authorization.substring(7);
-        if (!jwtTokenProvider.validateToken(token)) {
-            throw new ApiException(ErrorCode.UNAUTHORIZED);
-        }
-        return jwtTokenProvider.getUserId(token);
-    }
 }
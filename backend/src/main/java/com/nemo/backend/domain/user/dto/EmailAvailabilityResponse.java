@@ -0,0 +1,17 @@
+package com.nemo.backend.domain.user.dto;
+
+/**
+ * Response of the email availability check used by the sign‑up form.
+ */
+public class EmailAvailabilityResponse {
+    private final String email;
+    private final boolean available;
+
+    public EmailAvailabilityResponse(String email, boolean available) {
+        this.email = email;
+        this.available = available;
+    }
+
+    public String getEmail() { return email; }
+    public boolean isAvailable() { return available; }
+}
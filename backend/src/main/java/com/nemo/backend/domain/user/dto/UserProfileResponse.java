@@ -1,18 +1,22 @@
 package com.nemo.backend.domain.user.dto;
 
+import com.nemo.backend.domain.user.entity.User;
+
 import java.time.LocalDateTime;
 
 /**
  * Profile response DTO that omits sensitive fields such as password.
+ * Instances are immutable so the same snapshot can be shared by the profile
+ * cache and every response built from it.
  */
-public class UserProfileResponse {
-    private Long id;
-    private String email;
-    private String nickname;
-    private String profileImageUrl;
-    private String provider;
-    private String socialId;
-    private LocalDateTime createdAt;
+public final class UserProfileResponse {
+    private final Long id;
+    private final String email;
+    private final String nickname;
+    private final String profileImageUrl;
+    private final String provider;
+    private final String socialId;
+    private final LocalDateTime createdAt;
 
     public UserProfileResponse(Long id, String email, String nickname, String profileImageUrl,
                                String provider, String socialId, LocalDateTime createdAt) {
@@ -25,6 +29,18 @@ public class UserProfileResponse {
         this.createdAt = createdAt;
     }
 
+    public static UserProfileResponse from(User user) {
+        return new UserProfileResponse(
+                user.getId(),
+                user.getEmail(),
+                user.getNickname(),
+                user.getProfileImageUrl(),
+                user.getProvider(),
+                user.getSocialId(),
+                user.getCreatedAt()
+        );
+    }
+
     public Long getId() { return id; }
     public String getEmail() { return email; }
     public String getNickname() { return nickname; }
@@ -1,20 +1,29 @@
 package com.nemo.backend.domain.user.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.SQLRestriction;
+
 import java.time.LocalDateTime;
 
 /**
  * User entity representing an account within the system.  It lives in the
  * user domain because it models profile and identity information rather than
- * authentication concerns.
+ * authentication concerns.  A deleted account keeps its row (with the email
+ * scrubbed) until the purge worker has removed everything that references
+ * it; entity queries never see such rows.
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email"))
+@SQLRestriction("deleted_at is null")
 public class User {
+    /** 회원가입 중복 판정에 쓰는 이메일 유니크 제약 이름 */
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
     @Column
     private String password;
@@ -28,6 +37,8 @@ public class User {
     private String socialId;
     @Column(nullable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
+    @Column
+    private LocalDateTime deletedAt;
 
     public Long getId() {
         return id;
@@ -77,4 +88,10 @@ public class User {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
 }
\ No newline at end of file
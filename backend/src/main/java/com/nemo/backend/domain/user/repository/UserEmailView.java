@@ -0,0 +1,10 @@
+package com.nemo.backend.domain.user.repository;
+
+/**
+ * Projection used to stream user emails in id order without loading full
+ * {@link com.nemo.backend.domain.user.entity.User} entities.
+ */
+public interface UserEmailView {
+    Long getId();
+    String getEmail();
+}
@@ -1,9 +1,16 @@
 package com.nemo.backend.domain.user.repository;
 
 import com.nemo.backend.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,4 +19,23 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    boolean existsByEmail(String email);
+
+    /** 사용자 단위로 쓰기를 직렬화할 때 사용 (예: 친구 추가, 계정 삭제) */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("select u.id as id, u.email as email from User u where u.id > :afterId order by u.id")
+    List<UserEmailView> findEmailsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Replaces the password hash only if it still equals {@code expected}, so
+     * a rehash on login never overwrites a concurrent password change.
+     */
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id and u.password = :expected")
+    int updatePasswordIfUnchanged(@Param("id") Long id, @Param("expected") String expected,
+                                  @Param("password") String password);
 }
@@ -0,0 +1,120 @@
+package com.nemo.backend.domain.user.service;
+
+import com.nemo.backend.domain.user.repository.UserEmailView;
+import com.nemo.backend.domain.user.repository.UserRepository;
+import com.nemo.backend.global.util.CountingBloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Answers "is this email free?" from a counting Bloom filter of registered
+ * emails.  A negative answer from the filter is definitive; only a possible
+ * hit is confirmed against the {@code users} table.  The filter is warmed at
+ * startup and kept current on sign-up and account deletion.  Until warm-up
+ * finishes every lookup goes to the database.
+ *
+ * <p>Sign-ups on other nodes only reach this node's filter when it is rebuilt
+ * from the table every {@code user.email-filter.rebuild-interval}; until then
+ * this node may report such an email as available (sign-up itself still
+ * fails on the unique email).  The new filter is built beside the old one and
+ * swapped in, so lookups are never blocked by the scan.
+ */
+@Service
+public class EmailAvailabilityService {
+    private static final Logger log = LoggerFactory.getLogger(EmailAvailabilityService.class);
+    private static final int WARM_UP_PAGE_SIZE = 5000;
+    private final UserRepository userRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Counter filterRejects;
+    private final Counter databaseChecks;
+    private volatile CountingBloomFilter filter;
+    // 재구축 중인 새 필터: 스캔 도중 커밋된 가입도 빠지지 않도록 함께 추가
+    private volatile CountingBloomFilter rebuilding;
+    private volatile boolean ready;
+
+    public EmailAvailabilityService(UserRepository userRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${user.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                                    @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new CountingBloomFilter(expectedInsertions, falsePositiveRate);
+        this.filterRejects = Counter.builder("user.email-availability")
+                .tag("source", "filter").register(meterRegistry);
+        this.databaseChecks = Counter.builder("user.email-availability")
+                .tag("source", "database").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /** Rebuilds the filter from the {@code users} table to pick up other nodes' sign-ups. */
+    @Scheduled(initialDelayString = "${user.email-filter.rebuild-interval:PT15M}",
+            fixedDelayString = "${user.email-filter.rebuild-interval:PT15M}")
+    public synchronized void rebuild() {
+        CountingBloomFilter next = new CountingBloomFilter(expectedInsertions, falsePositiveRate);
+        rebuilding = next;
+        long lastId = 0L;
+        long loaded = 0L;
+        try {
+            while (true) {
+                List<UserEmailView> page = userRepository.findEmailsAfter(lastId,
+                        PageRequest.of(0, WARM_UP_PAGE_SIZE));
+                for (UserEmailView view : page) {
+                    next.add(view.getEmail());
+                    lastId = view.getId();
+                }
+                loaded += page.size();
+                if (page.size() < WARM_UP_PAGE_SIZE) {
+                    break;
+                }
+            }
+            filter = next;
+        } finally {
+            rebuilding = null;
+        }
+        ready = true;
+        log.info("Email availability filter built with {} emails", loaded);
+    }
+
+    public boolean isAvailable(String email) {
+        if (ready && !filter.mightContain(email)) {
+            filterRejects.increment();
+            return true;
+        }
+        databaseChecks.increment();
+        return !userRepository.existsByEmail(email);
+    }
+
+    /** Called after a sign-up commits. */
+    public void registered(String email) {
+        CountingBloomFilter next = rebuilding;
+        if (next != null) {
+            next.add(email);
+        }
+        filter.add(email);
+    }
+
+    /** Called after an account deletion commits. */
+    public void released(String email) {
+        // 워밍업 전에 삭제된 이메일은 필터에 없을 수 있으므로 제거하지 않음 (오탐만 늘 뿐);
+        // 재구축 중인 필터도 아직 읽지 않은 이메일일 수 있어 건드리지 않음
+        if (ready) {
+            filter.remove(email);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.nemo.backend.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nemo.backend.domain.user.dto.UserProfileResponse;
+import com.nemo.backend.global.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * In-process read-through cache of {@link UserProfileResponse} snapshots keyed
+ * by user id.  Writers refresh or evict entries only after their transaction
+ * commits so a rolled back update never becomes visible through the cache.
+ */
+@Component
+public class UserProfileCache {
+    private final Cache<Long, UserProfileResponse> cache;
+
+    public UserProfileCache(MeterRegistry meterRegistry,
+                            @Value("${user.profile-cache.max-size:10000}") long maxSize,
+                            @Value("${user.profile-cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.profiles");
+    }
+
+    public UserProfileResponse get(Long userId, Function<Long, UserProfileResponse> loader) {
+        return cache.get(userId, loader);
+    }
+
+    public void putAfterCommit(UserProfileResponse profile) {
+        TransactionUtils.afterCommit(() -> cache.put(profile.getId(), profile));
+    }
+
+    public void evictAfterCommit(Long userId) {
+        TransactionUtils.afterCommit(() -> cache.invalidate(userId));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
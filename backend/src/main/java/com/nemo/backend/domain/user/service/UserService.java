@@ -1,13 +1,15 @@
 package com.nemo.backend.domain.user.service;
 
+import com.nemo.backend.domain.auth.password.PasswordHasher;
 import com.nemo.backend.domain.user.dto.UpdateUserRequest;
+import com.nemo.backend.domain.user.dto.UserProfileResponse;
 import com.nemo.backend.domain.user.entity.User;
 import com.nemo.backend.domain.user.repository.UserRepository;
 import com.nemo.backend.global.exception.ApiException;
 import com.nemo.backend.global.exception.ErrorCode;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Service layer for reading and updating user profile information.
@@ -15,32 +17,50 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class UserService {
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final UserProfileCache userProfileCache;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, UserProfileCache userProfileCache,
+                       PasswordHasher passwordHasher, PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
+        this.userProfileCache = userProfileCache;
+        this.passwordHasher = passwordHasher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
-    @Transactional(readOnly = true)
-    public User getProfile(Long userId) {
-        // 탈퇴된 사용자는 USER_ALREADY_DELETED 오류로 처리
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_ALREADY_DELETED));
+    // 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션 없이 조회 (미스일 때만 findById 실행)
+    public UserProfileResponse getProfile(Long userId) {
+        return userProfileCache.get(userId, id -> userRepository.findById(id)
+                .map(UserProfileResponse::from)
+                // 탈퇴된 사용자는 USER_ALREADY_DELETED 오류로 처리
+                .orElseThrow(() -> new ApiException(ErrorCode.USER_ALREADY_DELETED)));
     }
 
-    @Transactional
-    public User updateProfile(Long userId, UpdateUserRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_ALREADY_DELETED));
-        if (request.getNickname() != null && !request.getNickname().isEmpty()) {
-            user.setNickname(request.getNickname());
-        }
-        if (request.getProfileImageUrl() != null) {
-            user.setProfileImageUrl(request.getProfileImageUrl());
-        }
-        if (request.getPassword() != null && !request.getPassword().isEmpty()) {
-            user.setPassword(passwordEncoder.encode(request.getPassword()));
-        }
-        return user;
+    /**
+     * Updates the profile.  A new password is hashed before the transaction
+     * opens, so a slow or rejected BCrypt round never holds a connection or
+     * the user row.
+     */
+    public UserProfileResponse updateProfile(Long userId, UpdateUserRequest request) {
+        String encodedPassword = request.getPassword() != null && !request.getPassword().isEmpty()
+                ? passwordHasher.encode(request.getPassword())
+                : null;
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new ApiException(ErrorCode.USER_ALREADY_DELETED));
+            if (request.getNickname() != null && !request.getNickname().isEmpty()) {
+                user.setNickname(request.getNickname());
+            }
+            if (request.getProfileImageUrl() != null) {
+                user.setProfileImageUrl(request.getProfileImageUrl());
+            }
+            if (encodedPassword != null) {
+                user.setPassword(encodedPassword);
+            }
+            UserProfileResponse profile = UserProfileResponse.from(user);
+            userProfileCache.putAfterCommit(profile);
+            return profile;
+        });
     }
 }
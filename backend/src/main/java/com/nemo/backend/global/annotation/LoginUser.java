@@ -0,0 +1,16 @@
+package com.nemo.backend.global.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds the id of the authenticated user to a {@code Long} controller
+ * parameter.  Requests without a valid access token are rejected with
+ * {@link com.nemo.backend.global.exception.ErrorCode#UNAUTHORIZED}.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUser {
+}
@@ -0,0 +1,60 @@
+package com.nemo.backend.global.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves each pooled id sequence past the ids already in its table before the
+ * application hands out any ids.  Rows written while the tables still used
+ * identity columns have ids the fresh sequences would hand out again, so a
+ * sequence that is behind {@code max(id)} is restarted one allocation block
+ * above it.  Sequences that are already ahead are never moved back.
+ */
+@Component
+public class SequenceSeeder {
+    private static final Logger log = LoggerFactory.getLogger(SequenceSeeder.class);
+    // 엔티티의 @SequenceGenerator 와 같은 값 (allocationSize = 시퀀스 increment)
+    static final int ALLOCATION_SIZE = 50;
+    static final String[][] SEQUENCES = {
+            {"users", "users_seq"},
+            {"refresh_tokens", "refresh_tokens_seq"},
+            {"album", "album_seq"},
+            {"photo", "photo_seq"},
+            {"friend", "friend_seq"},
+            {"timeline", "timeline_seq"}
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Dialect dialect;
+
+    // EntityManagerFactory 를 받아 ddl-auto 로 시퀀스가 만들어진 뒤에 실행되게 함
+    public SequenceSeeder(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+    }
+
+    @PostConstruct
+    public void seed() {
+        for (String[] sequence : SEQUENCES) {
+            seed(sequence[0], sequence[1]);
+        }
+    }
+
+    private void seed(String table, String sequence) {
+        long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        // pooled 최적화기는 시퀀스 값 v 로 (v - 50, v] 를 씀: 방금 버린 값이 max(id) 이상이면 이후 블록은 모두 새 id
+        long next = jdbcTemplate.queryForObject(
+                dialect.getSequenceSupport().getSequenceNextValString(sequence), Long.class);
+        if (next < maxId) {
+            long restart = maxId + ALLOCATION_SIZE;
+            jdbcTemplate.execute("alter sequence " + sequence + " restart with " + restart);
+            log.info("Restarted {} at {} (was {}, max id in {} is {})", sequence, restart, next, table, maxId);
+        }
+    }
+}
@@ -3,15 +3,24 @@ package com.nemo.backend.global.exception;
 /**
  * Custom runtime exception containing an {@link ErrorCode}.  Thrown by
  * services when an error occurs that should be translated into an HTTP
- * response.
+ * response.  An optional retry delay is sent back as a {@code Retry-After}
+ * header.
  */
 public class ApiException extends RuntimeException {
     private final ErrorCode errorCode;
+    private final Long retryAfterSeconds;
     public ApiException(ErrorCode errorCode) {
+        this(errorCode, null);
+    }
+    public ApiException(ErrorCode errorCode, Long retryAfterSeconds) {
         super(errorCode.getMessage());
         this.errorCode = errorCode;
+        this.retryAfterSeconds = retryAfterSeconds;
     }
     public ErrorCode getErrorCode() {
         return errorCode;
     }
+    public Long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
 }
\ No newline at end of file
@@ -7,9 +7,28 @@ import org.springframework.http.HttpStatus;
  */
 public enum ErrorCode {
     DUPLICATE_EMAIL(HttpStatus.CONFLICT, "DUPLICATE_EMAIL", "이미 사용 중인 이메일입니다."),
+    INVALID_EMAIL(HttpStatus.BAD_REQUEST, "INVALID_EMAIL", "이메일을 입력해주세요."),
+    INVALID_VERIFICATION_CODE(HttpStatus.BAD_REQUEST, "INVALID_VERIFICATION_CODE", "인증 코드가 올바르지 않거나 만료되었습니다."),
+    TOO_MANY_VERIFICATION_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_VERIFICATION_REQUESTS", "인증 메일은 잠시 후 다시 요청해주세요."),
     INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "INVALID_CREDENTIALS", "이메일 또는 비밀번호를 확인해주세요."),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_LOGIN_ATTEMPTS", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", "로그인이 필요합니다."),
-    USER_ALREADY_DELETED(HttpStatus.GONE, "USER_ALREADY_DELETED", "이미 탈퇴 처리된 사용자입니다.");
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "INVALID_REFRESH_TOKEN", "리프레시 토큰이 유효하지 않습니다. 다시 로그인해주세요."),
+    INVALID_IMAGE(HttpStatus.BAD_REQUEST, "INVALID_IMAGE", "이미지 파일을 확인해주세요."),
+    INVALID_PHOTO_REQUEST(HttpStatus.BAD_REQUEST, "INVALID_PHOTO_REQUEST", "사진 정보가 올바르지 않습니다."),
+    PHOTO_NOT_FOUND(HttpStatus.NOT_FOUND, "PHOTO_NOT_FOUND", "사진을 찾을 수 없습니다."),
+    ALBUM_NOT_FOUND(HttpStatus.NOT_FOUND, "ALBUM_NOT_FOUND", "앨범을 찾을 수 없습니다."),
+    INVALID_ALBUM_REQUEST(HttpStatus.BAD_REQUEST, "INVALID_ALBUM_REQUEST", "앨범 요청 정보가 올바르지 않습니다."),
+    IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "IMAGE_NOT_FOUND", "이미지를 찾을 수 없습니다."),
+    INVALID_MAP_BOUNDS(HttpStatus.BAD_REQUEST, "INVALID_MAP_BOUNDS", "지도 범위가 올바르지 않습니다."),
+    INVALID_QR_CODE(HttpStatus.BAD_REQUEST, "INVALID_QR_CODE", "잘못된 또는 만료된 QR입니다."),
+    QR_FETCH_FAILED(HttpStatus.BAD_GATEWAY, "QR_FETCH_FAILED", "포토부스에서 사진을 가져오지 못했습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_FRIEND_REQUEST(HttpStatus.BAD_REQUEST, "INVALID_FRIEND_REQUEST", "친구 요청 정보가 올바르지 않습니다."),
+    FRIEND_NOT_FOUND(HttpStatus.NOT_FOUND, "FRIEND_NOT_FOUND", "친구를 찾을 수 없습니다."),
+    INVALID_TIMELINE_REQUEST(HttpStatus.BAD_REQUEST, "INVALID_TIMELINE_REQUEST", "게시글 정보가 올바르지 않습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", "목록 위치 정보가 올바르지 않습니다. 처음부터 다시 조회해주세요."),
+    USER_ALREADY_DELETED(HttpStatus.GONE, "USER_ALREADY_DELETED", "이미 탈퇴 처리된 사용자입니다."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "SERVER_BUSY", "요청이 많아 잠시 후 다시 시도해주세요.");
     private final HttpStatus status;
     private final String code;
     private final String message;
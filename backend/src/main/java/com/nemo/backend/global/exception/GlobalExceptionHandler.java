@@ -1,5 +1,6 @@
 package com.nemo.backend.global.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -20,6 +21,10 @@ public class GlobalExceptionHandler {
         Map<String, Object> body = new HashMap<>();
         body.put("error", code.getCode());
         body.put("message", code.getMessage());
-        return ResponseEntity.status(code.getStatus()).body(body);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(code.getStatus());
+        if (ex.getRetryAfterSeconds() != null) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        }
+        return response.body(body);
     }
 }
@@ -0,0 +1,37 @@
+package com.nemo.backend.global.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a cursor-paginated listing.  {@code nextCursor} is passed back
+ * as the {@code cursor} parameter to fetch the following page and is
+ * {@code null} on the last page.
+ */
+public class CursorPageResponse<T> {
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public CursorPageResponse(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}; the
+     * extra row only signals that another page exists and is dropped.
+     */
+    public static <E, T> CursorPageResponse<T> of(List<E> rows, int size, Function<E, T> mapper,
+                                                  Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorPageResponse<>(page.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public List<T> getContent() { return content; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean isHasNext() { return hasNext; }
+}
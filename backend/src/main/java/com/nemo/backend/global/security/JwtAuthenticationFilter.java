@@ -0,0 +1,43 @@
+package com.nemo.backend.global.security;
+
+import com.nemo.backend.domain.auth.jwt.VerifiedTokenCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+
+/**
+ * Resolves the bearer access token once per request and stores the user id
+ * as the principal of the security context.  Requests without a valid token
+ * pass through unauthenticated; endpoints that require a login reject them
+ * via {@link com.nemo.backend.global.annotation.LoginUser}.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    private static final String BEARER_PREFIX = "Bearer ";
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader("Authorization");
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            Long userId = verifiedTokenCache.resolveUserId(authorization.substring(BEARER_PREFIX.length()));
+            if (userId != null) {
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -1,22 +1,28 @@
 package com.nemo.backend.global.security;
 
+import com.nemo.backend.domain.auth.jwt.VerifiedTokenCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, VerifiedTokenCache verifiedTokenCache) throws Exception {
         http
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/h2-console/**").permitAll()  // H2 콘솔 접근 허용
                         .anyRequest().permitAll() // 개발 중이라 전체 허용 (추후 수정 필요)
                 )
                 .csrf(csrf -> csrf.disable()) // H2 콘솔 사용 위해 CSRF 비활성화
-                .headers(headers -> headers.frameOptions(frame -> frame.disable())); // iframe 허용
+                .headers(headers -> headers.frameOptions(frame -> frame.disable())) // iframe 허용
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // 필터 빈으로 등록하면 서블릿 필터로도 중복 등록되므로 여기서 직접 생성
+                .addFilterBefore(new JwtAuthenticationFilter(verifiedTokenCache), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,100 @@
+package com.nemo.backend.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe counting Bloom filter over strings.  Each slot is a 4-bit
+ * counter packed sixteen to a {@code long} and updated with CAS, so
+ * elements can be removed as well as added.  A counter that reaches 15
+ * saturates and is never decremented again, which can only cause extra
+ * false positives, never false negatives.
+ */
+public class CountingBloomFilter {
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final long MAX_COUNT = 0xFL;
+    private final AtomicLongArray words;
+    private final long numCounters;
+    private final int numHashes;
+
+    public CountingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1L, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.numHashes = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (m + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD);
+        this.words = new AtomicLongArray(wordCount);
+        this.numCounters = (long) wordCount * COUNTERS_PER_WORD;
+    }
+
+    public void add(String value) {
+        long[] hashes = hashes(value);
+        for (int i = 0; i < numHashes; i++) {
+            update(index(hashes, i), 1);
+        }
+    }
+
+    /** Removes a value previously passed to {@link #add}; removing anything else corrupts the filter. */
+    public void remove(String value) {
+        long[] hashes = hashes(value);
+        for (int i = 0; i < numHashes; i++) {
+            update(index(hashes, i), -1);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long[] hashes = hashes(value);
+        for (int i = 0; i < numHashes; i++) {
+            if (count(index(hashes, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(long[] hashes, int i) {
+        // Kirsch–Mitzenmacher double hashing
+        return Math.floorMod(hashes[0] + i * hashes[1], numCounters);
+    }
+
+    private long count(long counter) {
+        int word = (int) (counter / COUNTERS_PER_WORD);
+        int shift = (int) (counter % COUNTERS_PER_WORD) * 4;
+        return (words.get(word) >>> shift) & MAX_COUNT;
+    }
+
+    private void update(long counter, int delta) {
+        int word = (int) (counter / COUNTERS_PER_WORD);
+        int shift = (int) (counter % COUNTERS_PER_WORD) * 4;
+        while (true) {
+            long current = words.get(word);
+            long count = (current >>> shift) & MAX_COUNT;
+            if (count == MAX_COUNT || (delta < 0 && count == 0)) {
+                return;
+            }
+            long next = current + ((long) delta << shift);
+            if (words.compareAndSet(word, current, next)) {
+                return;
+            }
+        }
+    }
+
+    private static long[] hashes(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        long h1 = 0xcbf29ce484222325L;
+        long h2 = 0x84222325cbf29ce4L;
+        for (byte b : bytes) {
+            h1 = (h1 ^ (b & 0xff)) * 0x100000001b3L;
+            h2 = (h2 ^ (b & 0xff)) * 0x9e3779b97f4a7c15L;
+        }
+        return new long[] {fmix64(h1), fmix64(h2) | 1L};
+    }
+
+    private static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
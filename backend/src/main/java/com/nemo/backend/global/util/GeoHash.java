@@ -0,0 +1,117 @@
+package com.nemo.backend.global.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Base32 geohash encoding.  A geohash names a lat/lon cell; every character
+ * narrows the cell, and all points inside a cell share its hash as a prefix.
+ * Because prefixes sort together, a B-tree index over the hash column turns
+ * "photos in this area" into a handful of index range scans.
+ */
+public final class GeoHash {
+    public static final int MAX_PRECISION = 12;
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90, minLon = -180, maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch <<= 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch <<= 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /** Height of a cell at {@code precision}, in degrees of latitude. */
+    public static double cellHeight(int precision) {
+        return 180.0 / (1L << (5 * precision / 2));
+    }
+
+    /** Width of a cell at {@code precision}, in degrees of longitude. */
+    public static double cellWidth(int precision) {
+        return 360.0 / (1L << ((5 * precision + 1) / 2));
+    }
+
+    /**
+     * Returns the sorted geohash prefixes of the cells covering the box, at
+     * the finest precision that needs no more than {@code maxCells} cells.
+     * The box must not cross the antimeridian ({@code west <= east}).
+     */
+    public static List<String> cover(double south, double west, double north, double east, int maxCells) {
+        int precision = 1;
+        while (precision < MAX_PRECISION && cellCount(south, west, north, east, precision + 1) <= maxCells) {
+            precision++;
+        }
+        double height = cellHeight(precision);
+        double width = cellWidth(precision);
+        TreeSet<String> cells = new TreeSet<>();
+        for (double lat = south; ; lat = Math.min(north, lat + height)) {
+            for (double lon = west; ; lon = Math.min(east, lon + width)) {
+                cells.add(encode(lat, lon, precision));
+                if (lon >= east) {
+                    break;
+                }
+            }
+            if (lat >= north) {
+                break;
+            }
+        }
+        return new ArrayList<>(cells);
+    }
+
+    /**
+     * The smallest hash of the same length that sorts after every hash
+     * starting with {@code prefix}, or {@code null} if there is none.
+     */
+    public static String nextPrefix(String prefix) {
+        char[] chars = prefix.toCharArray();
+        for (int i = chars.length - 1; i >= 0; i--) {
+            int index = BASE32.indexOf(chars[i]);
+            if (index < BASE32.length() - 1) {
+                chars[i] = BASE32.charAt(index + 1);
+                return new String(chars);
+            }
+            chars[i] = BASE32.charAt(0);
+        }
+        return null;
+    }
+
+    private static long cellCount(double south, double west, double north, double east, int precision) {
+        double height = cellHeight(precision);
+        double width = cellWidth(precision);
+        long rows = (long) Math.floor(north / height) - (long) Math.floor(south / height) + 1;
+        long cols = (long) Math.floor(east / width) - (long) Math.floor(west / width) + 1;
+        return rows * cols;
+    }
+}
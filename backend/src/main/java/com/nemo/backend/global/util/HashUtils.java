@@ -0,0 +1,32 @@
+package com.nemo.backend.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Hashing helpers shared by components that must not keep secrets such as
+ * bearer or refresh tokens in their raw form.
+ */
+public final class HashUtils {
+    private HashUtils() {
+    }
+
+    /** SHA-256 of the UTF-8 bytes of {@code value}, encoded as unpadded URL-safe Base64. */
+    public static String sha256(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public static byte[] sha256(byte[] value) {
+        return newSha256().digest(value);
+    }
+
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
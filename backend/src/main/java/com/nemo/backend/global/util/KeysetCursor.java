@@ -0,0 +1,50 @@
+package com.nemo.backend.global.util;
+
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position in a listing ordered by {@code (createdAt desc, id desc)}.  The
+ * next page starts strictly after this row, so the database seeks straight
+ * to it through the {@code (owner, createdAt, id)} index instead of scanning
+ * and discarding the rows of every earlier page.  Clients only see the
+ * opaque {@link #encode() encoded} form.
+ */
+public record KeysetCursor(LocalDateTime createdAt, long id) {
+    /**
+     * Position before the newest row.  The first page goes through the same
+     * seek query as every other page, so it uses the same index range scan.
+     */
+    public static final KeysetCursor FIRST =
+            new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor returned by a previous page; {@code null} or blank
+     * yields {@link #FIRST}.
+     *
+     * @throws ApiException {@link ErrorCode#INVALID_CURSOR} if the value was
+     *                      not produced by {@link #encode()}
+     */
+    public static KeysetCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new ApiException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.nemo.backend.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Helpers for running in-memory side effects (caches, filters, queues) only
+ * once the surrounding transaction has committed.
+ */
+public final class TransactionUtils {
+    private TransactionUtils() {
+    }
+
+    /** Runs {@code action} after the current transaction commits, or immediately if none is active. */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,183 @@
+package com.nemo.backend.domain.album.export;
+
+import com.nemo.backend.domain.photo.storage.PhotoStorage;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import com.nemo.backend.support.TestFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "album.export.max-concurrent=1")
+class AlbumExporterTest {
+    private static final LocalDateTime TAKEN_AT = LocalDateTime.of(2025, 7, 21, 15, 10);
+
+    @Autowired
+    private AlbumExporter albumExporter;
+    @Autowired
+    private PhotoStorage photoStorage;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void streamsEveryStoredOriginalAsStoredEntries() throws Exception {
+        Long userId = fixtures.saveUser("export").getId();
+        Long albumId = fixtures.insertAlbum(userId, "여행");
+        byte[] first = jpeg(1, 150_000);
+        byte[] second = jpeg(2, 10);
+        Long firstId = insertPhoto(userId, albumId, store(first));
+        Long secondId = insertPhoto(userId, albumId, store(second));
+        // 원본 파일이 없는 사진은 건너뜀
+        insertPhoto(userId, albumId, "0".repeat(64));
+
+        AlbumExporter.Export export = albumExporter.open(userId, albumId);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        export.body().writeTo(out);
+
+        assertThat(export.fileName()).isEqualTo("여행.zip");
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                assertThat(entry.getMethod()).isEqualTo(ZipEntry.STORED);
+                entries.put(entry.getName(), zip.readAllBytes());
+            }
+        }
+        assertThat(entries.keySet()).containsExactly(
+                "20250721_151000_" + firstId + ".jpg", "20250721_151000_" + secondId + ".jpg");
+        assertThat(entries.values()).containsExactly(first, second);
+    }
+
+    @Test
+    void limitsConcurrentExportsAndStopsWhenTheClientGoesAway() throws Exception {
+        Long userId = fixtures.saveUser("export").getId();
+        Long albumId = fixtures.insertAlbum(userId, "여름방학");
+        insertPhoto(userId, albumId, store(jpeg(3, 300_000)));
+
+        AlbumExporter.Export running = albumExporter.open(userId, albumId);
+        assertThatThrownBy(() -> albumExporter.open(userId, albumId))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SERVER_BUSY));
+
+        DisconnectingStream client = new DisconnectingStream(100_000);
+        assertThatThrownBy(() -> running.body().writeTo(client)).isInstanceOf(IOException.class);
+        assertThat(client.written).isLessThanOrEqualTo(100_000);
+
+        // 중단된 내보내기의 자리는 반환됨
+        albumExporter.open(userId, albumId).body().writeTo(OutputStream.nullOutputStream());
+    }
+
+    @Test
+    void slotOfABodyThatNeverRunsIsReleasedOnce() throws Exception {
+        Long userId = fixtures.saveUser("export").getId();
+        Long albumId = fixtures.insertAlbum(userId, "대기 중 끊김");
+
+        // 비동기 요청이 본문 실행 전에 끝난 경우: 완료 콜백만 호출됨
+        AlbumExporter.Export queued = albumExporter.open(userId, albumId);
+        queued.release();
+        queued.release();
+
+        AlbumExporter.Export next = albumExporter.open(userId, albumId);
+        assertThatThrownBy(() -> albumExporter.open(userId, albumId))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SERVER_BUSY));
+        next.body().writeTo(OutputStream.nullOutputStream());
+        next.release();
+
+        albumExporter.open(userId, albumId).release();
+    }
+
+    @Test
+    void unreadableOriginalIsCountedAsAFailureNotAClientAbort() throws Exception {
+        Long userId = fixtures.saveUser("export").getId();
+        Long albumId = fixtures.insertAlbum(userId, "깨진 앨범");
+        // 열 수는 있지만 읽을 수 없는 원본 (디렉터리)
+        String contentHash = "f".repeat(64);
+        Path original = photoStorage.resolve(contentHash);
+        Files.createDirectories(original);
+        try {
+            insertPhoto(userId, albumId, contentHash);
+            double aborted = meterRegistry.counter("album.export.aborted").count();
+            double failed = meterRegistry.counter("album.export.failed").count();
+
+            AlbumExporter.Export export = albumExporter.open(userId, albumId);
+            assertThatThrownBy(() -> export.body().writeTo(new ByteArrayOutputStream()))
+                    .isInstanceOf(IOException.class);
+
+            assertThat(meterRegistry.counter("album.export.failed").count()).isEqualTo(failed + 1);
+            assertThat(meterRegistry.counter("album.export.aborted").count()).isEqualTo(aborted);
+        } finally {
+            Files.delete(original);
+        }
+    }
+
+    @Test
+    void refusesAlbumsOfOtherUsers() {
+        Long albumId = fixtures.insertAlbum(fixtures.saveUser("export").getId(), "여행");
+        Long otherId = fixtures.saveUser("export").getId();
+
+        assertThatThrownBy(() -> albumExporter.open(otherId, albumId))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ALBUM_NOT_FOUND));
+    }
+
+    // 파일 이름이 촬영 시각으로 정해지므로 시각을 고정
+    private Long insertPhoto(Long userId, Long albumId, String contentHash) {
+        return fixtures.photo(userId).album(albumId).content(contentHash).takenAt(TAKEN_AT).insert();
+    }
+
+    private String store(byte[] bytes) throws IOException {
+        return photoStorage.store(new ByteArrayInputStream(bytes)).contentHash();
+    }
+
+    private static byte[] jpeg(long seed, int length) {
+        byte[] bytes = new byte[length];
+        new Random(seed).nextBytes(bytes);
+        bytes[0] = (byte) 0xff;
+        bytes[1] = (byte) 0xd8;
+        bytes[2] = (byte) 0xff;
+        return bytes;
+    }
+
+    /** 일정량을 받은 뒤 연결이 끊긴 클라이언트처럼 쓰기에 실패하는 스트림 */
+    private static final class DisconnectingStream extends OutputStream {
+        private final int limit;
+        private int written;
+
+        private DisconnectingStream(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (written + len > limit) {
+                throw new IOException("Broken pipe");
+            }
+            written += len;
+        }
+    }
+}
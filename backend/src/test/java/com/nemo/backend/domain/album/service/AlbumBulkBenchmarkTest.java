@@ -0,0 +1,112 @@
+package com.nemo.backend.domain.album.service;
+
+import com.nemo.backend.domain.album.entity.Album;
+import com.nemo.backend.domain.album.repository.AlbumRepository;
+import com.nemo.backend.domain.photo.entity.Photo;
+import com.nemo.backend.domain.photo.repository.PhotoRepository;
+import com.nemo.backend.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import com.nemo.backend.support.TestFixtures;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares inserting 200 photos and moving them into an album with
+ * Hibernate's JDBC batching ({@code hibernate.jdbc.batch_size}) against the
+ * same work with batching switched off for the session, which is what
+ * {@code GenerationType.IDENTITY} forced for inserts.  Reports latency and the
+ * number of statements sent.  In-memory H2 has no network hop, so the
+ * statement count is the number to watch; on a networked database each
+ * saved statement is a saved round-trip.  Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = StatementCounter.PROPERTY)
+class AlbumBulkBenchmarkTest {
+    private static final int PHOTOS = 200;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private AlbumService albumService;
+    @Autowired
+    private AlbumRepository albumRepository;
+    @Autowired
+    private PhotoRepository photoRepository;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void batchedBulkWritesTakeAHandfulOfRoundTrips() {
+        User user = fixtures.saveUser("album-bulk");
+
+        // 워밍업 후 같은 작업을 배치 on/off 로 번갈아 측정
+        run(user, true);
+        run(user, false);
+        long[] batched = new long[4];
+        long[] unbatched = new long[4];
+        for (int round = 0; round < ROUNDS; round++) {
+            add(batched, run(user, true));
+            add(unbatched, run(user, false));
+        }
+        System.out.println("mode      | insert us | insert stmts | attach us | attach stmts");
+        print("batched", batched);
+        print("unbatched", unbatched);
+
+        assertThat(batched[1] / ROUNDS).isLessThanOrEqualTo(12);
+        assertThat(batched[3] / ROUNDS).isLessThanOrEqualTo(10);
+        assertThat(unbatched[1] / ROUNDS).isGreaterThanOrEqualTo(PHOTOS);
+        assertThat(unbatched[3] / ROUNDS).isGreaterThanOrEqualTo(PHOTOS);
+    }
+
+    /** Returns {insert ns, insert statements, attach ns, attach statements}. */
+    private long[] run(User user, boolean batching) {
+        Album album = albumRepository.save(Album.builder().user(user).name("bench").build());
+        List<Photo> photos = new ArrayList<>(PHOTOS);
+        for (int i = 0; i < PHOTOS; i++) {
+            photos.add(Photo.builder().user(user).brand("인생네컷").imageUrl("/api/images/" + i).build());
+        }
+        long[] insert = measure(batching, () -> photoRepository.saveAll(photos));
+        List<Long> ids = photos.stream().map(Photo::getId).toList();
+        long[] attach = measure(batching, () -> albumService.addPhotos(user.getId(), album.getId(), ids));
+        return new long[]{insert[0], insert[1], attach[0], attach[1]};
+    }
+
+    // 바깥 트랜잭션에서 세션 배치 크기를 정하면 서비스의 트랜잭션이 그 세션에 참여함
+    private long[] measure(boolean batching, Supplier<?> work) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        StatementCounter.reset();
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!batching) {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+            }
+            work.get();
+        });
+        return new long[]{System.nanoTime() - start, StatementCounter.count()};
+    }
+
+    private static void add(long[] total, long[] sample) {
+        for (int i = 0; i < total.length; i++) {
+            total[i] += sample[i];
+        }
+    }
+
+    private static void print(String mode, long[] total) {
+        System.out.printf("%-9s | %9d | %12d | %9d | %12d%n", mode,
+                total[0] / ROUNDS / 1_000, total[1] / ROUNDS, total[2] / ROUNDS / 1_000, total[3] / ROUNDS);
+    }
+}
@@ -0,0 +1,241 @@
+package com.nemo.backend.domain.album.service;
+
+import com.nemo.backend.domain.album.dto.AlbumSummaryResponse;
+import com.nemo.backend.domain.photo.service.PhotoService;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import com.nemo.backend.global.response.CursorPageResponse;
+import com.nemo.backend.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = StatementCounter.PROPERTY)
+class AlbumServiceTest {
+    @Autowired
+    private AlbumService albumService;
+    @Autowired
+    private AlbumStatsRepairJob albumStatsRepairJob;
+    @Autowired
+    private PhotoService photoService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void eachPageIsOneQueryWithoutReadingPhotos() {
+        Long userId = fixtures.saveUser("albums").getId();
+        Long empty = insertAlbum(userId, "빈 앨범");
+        Long trip = insertAlbum(userId, "여행");
+        albumService.addPhotos(userId, trip, List.of(
+                fixtures.photo(userId).imageUrl("/api/images/a").insert(),
+                fixtures.photo(userId).imageUrl("/api/images/b").thumbnails("READY", "128,512,1080").insert()));
+        Long summer = insertAlbum(userId, "여름방학");
+        albumService.addPhotos(userId, summer, List.of(fixtures.photo(userId).imageUrl("/api/images/c").insert()));
+
+        StatementCounter.reset();
+        CursorPageResponse<AlbumSummaryResponse> first = albumService.list(userId, null, 2);
+        assertThat(StatementCounter.statements()).singleElement()
+                .satisfies(sql -> assertThat(sql).doesNotContainPattern("(?i)(from|join) photo\\b"));
+
+        assertThat(first.getContent()).extracting(AlbumSummaryResponse::getAlbumId).containsExactly(summer, trip);
+        AlbumSummaryResponse tripCard = first.getContent().get(1);
+        assertThat(tripCard.getPhotoCount()).isEqualTo(2);
+        assertThat(tripCard.getCoverPhotoUrl()).isEqualTo("/api/images/b/512");
+        assertThat(tripCard.getLastPhotoAt()).isNotNull();
+        assertThat(tripCard.getUpdatedAt()).isNotNull();
+        assertThat(first.getContent().get(0).getCoverPhotoUrl()).isEqualTo("/api/images/c");
+
+        StatementCounter.reset();
+        CursorPageResponse<AlbumSummaryResponse> second = albumService.list(userId, first.getNextCursor(), 2);
+        assertThat(StatementCounter.count()).isEqualTo(1);
+        assertThat(second.getContent()).singleElement().satisfies(album -> {
+            assertThat(album.getAlbumId()).isEqualTo(empty);
+            assertThat(album.getPhotoCount()).isZero();
+            assertThat(album.getCoverPhotoUrl()).isNull();
+        });
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    void bulkAddAndRemoveRunAsBatchedStatements() {
+        Long userId = fixtures.saveUser("albums").getId();
+        Long albumId = insertAlbum(userId, "여행");
+        List<Long> photoIds = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            photoIds.add(fixtures.photo(userId).imageUrl("/api/images/" + i).insert());
+        }
+
+        StatementCounter.reset();
+        assertThat(albumService.addPhotos(userId, albumId, photoIds)).isEqualTo(120);
+        // 사진 1 + 태그 배치 2 + 앨범 잠금 1 + 현재 앨범 재확인 1 + update 배치 3 (batch_size 50) + 앨범 카운터 1
+        assertThat(StatementCounter.count()).isLessThanOrEqualTo(9);
+        assertThat(albumPhotoCount(albumId)).isEqualTo(120);
+        assertThat(albumService.addPhotos(userId, albumId, photoIds.subList(0, 10))).isZero();
+
+        StatementCounter.reset();
+        assertThat(albumService.removePhotos(userId, albumId, photoIds.subList(0, 100))).isEqualTo(100);
+        assertThat(StatementCounter.count()).isLessThanOrEqualTo(7);
+        assertThat(albumPhotoCount(albumId)).isEqualTo(20);
+    }
+
+    @Test
+    void bulkAddIsAllOrNothing() {
+        Long userId = fixtures.saveUser("albums").getId();
+        Long albumId = insertAlbum(userId, "여행");
+        Long mine = fixtures.photo(userId).imageUrl("/api/images/mine").insert();
+        Long otherId = fixtures.saveUser("albums").getId();
+        Long theirs = fixtures.photo(otherId).imageUrl("/api/images/theirs").insert();
+
+        assertThatThrownBy(() -> albumService.addPhotos(userId, albumId, List.of(mine, theirs)))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PHOTO_NOT_FOUND));
+        assertThat(albumPhotoCount(albumId)).isZero();
+        assertThatThrownBy(() -> albumService.addPhotos(otherId, albumId, List.of(theirs)))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ALBUM_NOT_FOUND));
+    }
+
+    @Test
+    void coverAndCountFollowRemovalsAndDeletes() {
+        Long userId = fixtures.saveUser("albums").getId();
+        Long albumId = insertAlbum(userId, "여행");
+        Long first = fixtures.photo(userId).imageUrl("/api/images/first").insert();
+        Long second = fixtures.photo(userId).imageUrl("/api/images/second").insert();
+        Long third = fixtures.photo(userId).imageUrl("/api/images/third").thumbnails("READY", "128,1080").insert();
+        albumService.addPhotos(userId, albumId, List.of(first, second, third));
+        assertThat(card(userId, albumId)).satisfies(album -> {
+            assertThat(album.getPhotoCount()).isEqualTo(3);
+            assertThat(album.getCoverPhotoId()).isEqualTo(third);
+            assertThat(album.getCoverPhotoUrl()).isEqualTo("/api/images/third/1080");
+        });
+
+        assertThat(albumService.setCover(userId, albumId, first)).isEqualTo("/api/images/first");
+        albumService.removePhotos(userId, albumId, List.of(third));
+        assertThat(card(userId, albumId)).satisfies(album -> {
+            assertThat(album.getPhotoCount()).isEqualTo(2);
+            assertThat(album.getCoverPhotoId()).isEqualTo(first);
+        });
+
+        photoService.delete(userId, first);
+        assertThat(card(userId, albumId)).satisfies(album -> {
+            assertThat(album.getPhotoCount()).isEqualTo(1);
+            assertThat(album.getCoverPhotoId()).isEqualTo(second);
+            assertThat(album.getCoverPhotoUrl()).isEqualTo("/api/images/second");
+        });
+
+        // 다른 앨범으로 옮긴 사진은 원래 앨범에서 빠짐
+        Long otherAlbumId = insertAlbum(userId, "여름방학");
+        albumService.addPhotos(userId, otherAlbumId, List.of(second));
+        assertThat(card(userId, albumId)).satisfies(album -> {
+            assertThat(album.getPhotoCount()).isZero();
+            assertThat(album.getCoverPhotoId()).isNull();
+            assertThat(album.getLastPhotoAt()).isNull();
+        });
+        assertThatThrownBy(() -> albumService.setCover(userId, albumId, second))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PHOTO_NOT_FOUND));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void opposingMovesBetweenTwoAlbumsDoNotDeadlock() throws Exception {
+        Long userId = fixtures.saveUser("albums").getId();
+        Long left = insertAlbum(userId, "왼쪽");
+        Long right = insertAlbum(userId, "오른쪽");
+        List<Long> leftPhotos = new ArrayList<>();
+        List<Long> rightPhotos = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            leftPhotos.add(fixtures.photo(userId).insert());
+            rightPhotos.add(fixtures.photo(userId).insert());
+        }
+        albumService.addPhotos(userId, left, leftPhotos);
+        albumService.addPhotos(userId, right, rightPhotos);
+
+        // 양쪽이 서로의 앨범에서 사진을 가져옴: 잠금 순서가 요청마다 다르면 교착
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> movers = new ArrayList<>();
+        for (Object[] mover : new Object[][]{{left, right, leftPhotos}, {right, left, rightPhotos}}) {
+            movers.add(pool.submit(() -> {
+                start.await();
+                for (int round = 0; round < 20; round++) {
+                    albumService.addPhotos(userId, (Long) mover[1], (List<Long>) mover[2]);
+                    albumService.addPhotos(userId, (Long) mover[0], (List<Long>) mover[2]);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> mover : movers) {
+            mover.get();
+        }
+        pool.shutdown();
+
+        assertThat(albumPhotoCount(left) + albumPhotoCount(right)).isEqualTo(8);
+        assertThat(card(userId, left).getPhotoCount()).isEqualTo(albumPhotoCount(left));
+        assertThat(card(userId, right).getPhotoCount()).isEqualTo(albumPhotoCount(right));
+    }
+
+    @Test
+    void repairJobRecomputesDriftedAlbums() {
+        Long userId = fixtures.saveUser("albums").getId();
+        Long albumId = insertAlbum(userId, "여행");
+        Long photoId = fixtures.photo(userId).imageUrl("/api/images/kept").insert();
+        albumService.addPhotos(userId, albumId, List.of(photoId));
+        // 서비스를 거치지 않은 변경으로 카운터가 어긋난 상태를 만듦; id 는 더 크지만 먼저 올린 사진
+        fixtures.photo(userId).album(albumId).imageUrl("/api/images/raw")
+                .createdAt(LocalDateTime.now().minusDays(1)).insert();
+        jdbcTemplate.update("update album set cover_photo_id = null, cover_thumbnail_url = null where id = ?", albumId);
+
+        assertThat(albumStatsRepairJob.repairDrifted()).isGreaterThanOrEqualTo(1);
+        assertThat(card(userId, albumId)).satisfies(album -> {
+            assertThat(album.getPhotoCount()).isEqualTo(2);
+            assertThat(album.getCoverPhotoId()).isEqualTo(photoId);
+            assertThat(album.getCoverPhotoUrl()).isEqualTo("/api/images/kept");
+        });
+        assertThat(albumStatsRepairJob.repairDrifted()).isZero();
+
+        // 개수와 표지 id 는 맞지만 마지막 업로드 시각과 표지 URL 만 어긋난 경우
+        jdbcTemplate.update("update photo set thumbnail_status = 'READY', thumbnail_sizes = '128,512' where id = ?",
+                photoId);
+        jdbcTemplate.update("update album set last_photo_at = timestamp '2000-01-01 00:00:00' where id = ?", albumId);
+        assertThat(albumStatsRepairJob.repairDrifted()).isGreaterThanOrEqualTo(1);
+        assertThat(card(userId, albumId)).satisfies(album -> {
+            assertThat(album.getCoverPhotoId()).isEqualTo(photoId);
+            assertThat(album.getCoverPhotoUrl()).isEqualTo("/api/images/kept/512");
+            assertThat(album.getLastPhotoAt()).isAfter(LocalDateTime.of(2000, 1, 1, 0, 0));
+        });
+        assertThat(albumStatsRepairJob.repairDrifted()).isZero();
+    }
+
+    private AlbumSummaryResponse card(Long userId, Long albumId) {
+        return albumService.list(userId, null, 20).getContent().stream()
+                .filter(album -> album.getAlbumId().equals(albumId))
+                .findFirst().orElseThrow();
+    }
+
+    private int albumPhotoCount(Long albumId) {
+        return jdbcTemplate.queryForObject("select count(*) from photo where album_id = ?", Integer.class, albumId);
+    }
+
+    // 같은 생성 시각이면 id 순으로 정렬되므로 삽입 순서가 곧 목록 역순
+    private Long insertAlbum(Long userId, String name) {
+        jdbcTemplate.update("insert into album (id, user_id, name, created_at, updated_at) "
+                + "values (next value for album_seq, ?, ?, timestamp '2025-07-21 15:10:00', current_timestamp)", userId, name);
+        return jdbcTemplate.queryForObject("select max(id) from album where user_id = ?", Long.class, userId);
+    }
+}
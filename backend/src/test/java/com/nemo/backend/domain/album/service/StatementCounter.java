@@ -0,0 +1,35 @@
+package com.nemo.backend.domain.album.service;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the calling thread.  A
+ * JDBC batch is prepared once, so the count is the number of round-trips.
+ * Install it with {@code @SpringBootTest(properties = StatementCounter.PROPERTY)}.
+ */
+public class StatementCounter implements StatementInspector {
+    static final String PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "com.nemo.backend.domain.album.service.StatementCounter";
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    static void reset() {
+        STATEMENTS.get().clear();
+    }
+
+    static int count() {
+        return STATEMENTS.get().size();
+    }
+
+    static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,60 @@
+package com.nemo.backend.domain.auth.jwt;
+
+import com.nemo.backend.domain.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the per-request CPU cost of the old controller path
+ * ({@code validateToken} followed by {@code getUserId}, i.e. two full parses)
+ * with a lookup through {@link VerifiedTokenCache}.  Run with
+ * {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class JwtAuthenticationBenchmarkTest {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    void cachedLookupVersusDoubleParse() {
+        JwtTokenProvider provider = new JwtTokenProvider(new JwtKeyRing(new DefaultResourceLoader(), event -> { }, ""));
+        VerifiedTokenCache cache = new VerifiedTokenCache(provider, new SimpleMeterRegistry(), 10_000);
+        User user = new User();
+        user.setId(1L);
+        String token = provider.generateAccessToken(user);
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += doubleParse(provider, token);
+            sink += cache.resolveUserId(token);
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += doubleParse(provider, token);
+        }
+        long doubleParseNs = (threads.getCurrentThreadCpuTime() - start) / ITERATIONS;
+
+        start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += cache.resolveUserId(token);
+        }
+        long cachedNs = (threads.getCurrentThreadCpuTime() - start) / ITERATIONS;
+
+        System.out.printf("validate+getUserId: %d ns/request, cached filter: %d ns/request, saved: %d ns/request (sink=%d)%n",
+                doubleParseNs, cachedNs, doubleParseNs - cachedNs, sink);
+        assertThat(cache.stats().hitCount()).isGreaterThanOrEqualTo(ITERATIONS);
+    }
+
+    private static long doubleParse(JwtTokenProvider provider, String token) {
+        return provider.validateToken(token) ? provider.getUserId(token) : -1L;
+    }
+}
@@ -0,0 +1,80 @@
+package com.nemo.backend.domain.auth.jwt;
+
+import com.nemo.backend.domain.user.entity.User;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtKeyRingTest {
+    private static final String OLD = secret();
+    private static final String NEW = secret();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void tokensVerifyOnEveryNodeSharingTheRingAndSurviveRotation() throws IOException {
+        Path file = dir.resolve("jwt-keys.properties");
+        write(file, "current=old\nkey.old=" + OLD + "\n", 1);
+        AtomicInteger reloads = new AtomicInteger();
+        JwtKeyRing ringA = new JwtKeyRing(new DefaultResourceLoader(), event -> reloads.incrementAndGet(), file.toUri().toString());
+        JwtKeyRing ringB = new JwtKeyRing(new DefaultResourceLoader(), event -> { }, file.toUri().toString());
+        JwtTokenProvider nodeA = new JwtTokenProvider(ringA);
+        JwtTokenProvider nodeB = new JwtTokenProvider(ringB);
+
+        String oldToken = nodeA.generateAccessToken(user(5L));
+        assertThat(nodeB.getUserId(oldToken)).isEqualTo(5L);
+
+        // 새 키를 current 로 승격, 이전 키는 검증 전용으로 유지
+        write(file, "current=new\nkey.new=" + NEW + "\nkey.old=" + OLD + "\n", 2);
+        ringA.reloadIfChanged();
+        String newToken = nodeA.generateAccessToken(user(6L));
+        assertThat(reloads.get()).isEqualTo(1);
+        assertThat(nodeA.validateToken(oldToken)).isTrue();
+        assertThat(nodeA.getUserId(newToken)).isEqualTo(6L);
+
+        // 이전 키 폐기
+        write(file, "current=new\nkey.new=" + NEW + "\n", 3);
+        ringA.reloadIfChanged();
+        assertThat(nodeA.validateToken(oldToken)).isFalse();
+        assertThat(nodeA.validateToken(newToken)).isTrue();
+    }
+
+    @Test
+    void brokenFileKeepsPreviousKeys() throws IOException {
+        Path file = dir.resolve("jwt-keys.properties");
+        write(file, "current=old\nkey.old=" + OLD + "\n", 1);
+        JwtKeyRing ring = new JwtKeyRing(new DefaultResourceLoader(), event -> { }, file.toUri().toString());
+
+        write(file, "current=missing\n", 2);
+        ring.reloadIfChanged();
+
+        assertThat(ring.currentSigningKey().kid()).isEqualTo("old");
+    }
+
+    private static void write(Path file, String content, int version) throws IOException {
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(version * 10_000L));
+    }
+
+    private static String secret() {
+        return Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
@@ -0,0 +1,48 @@
+package com.nemo.backend.domain.auth.jwt;
+
+import com.nemo.backend.domain.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(new JwtKeyRing(new DefaultResourceLoader(), event -> { }, ""));
+        cache = new VerifiedTokenCache(jwtTokenProvider, new SimpleMeterRegistry(), 100);
+    }
+
+    @Test
+    void repeatedTokenIsServedFromCache() {
+        String token = jwtTokenProvider.generateAccessToken(user(42L));
+
+        assertThat(cache.resolveUserId(token)).isEqualTo(42L);
+        assertThat(cache.resolveUserId(token)).isEqualTo(42L);
+
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidTokenIsRejectedAndNotCached() {
+        String token = jwtTokenProvider.generateAccessToken(user(7L));
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThat(cache.resolveUserId(tampered)).isNull();
+        assertThat(cache.resolveUserId(tampered)).isNull();
+
+        assertThat(cache.stats().hitCount()).isZero();
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
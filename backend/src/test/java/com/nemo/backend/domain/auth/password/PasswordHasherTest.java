@@ -0,0 +1,62 @@
+package com.nemo.backend.domain.auth.password;
+
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHasherTest {
+
+    @Test
+    void hashesWithConfiguredCostAndFlagsWeakerHashes() {
+        PasswordHasher weak = hasher(4, 1, 4);
+        PasswordHasher strong = hasher(6, 1, 4);
+
+        String legacy = weak.encode("secret");
+
+        assertThat(strong.matches("secret", legacy)).isTrue();
+        assertThat(strong.needsUpgrade(legacy)).isTrue();
+        assertThat(strong.needsUpgrade(strong.encode("secret"))).isFalse();
+        weak.shutdown();
+        strong.shutdown();
+    }
+
+    @Test
+    void rejectsWithServerBusyWhenQueueIsFull() {
+        PasswordHasher hasher = hasher(12, 1, 1);
+        ExecutorService clients = Executors.newFixedThreadPool(6);
+        List<CompletableFuture<String>> calls = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            calls.add(CompletableFuture.supplyAsync(() -> hasher.encode("secret"), clients));
+        }
+
+        long busy = calls.stream().filter(call -> {
+            try {
+                call.join();
+                return false;
+            } catch (CompletionException e) {
+                return e.getCause() instanceof ApiException api && api.getErrorCode() == ErrorCode.SERVER_BUSY
+                        && api.getRetryAfterSeconds() == 2L;
+            }
+        }).count();
+
+        assertThat(busy).isPositive();
+        clients.shutdown();
+        hasher.shutdown();
+    }
+
+    private static PasswordHasher hasher(int strength, int poolSize, int queueCapacity) {
+        return new PasswordHasher(new SimpleMeterRegistry(), strength, poolSize, queueCapacity,
+                Duration.ofSeconds(30), 2L);
+    }
+}
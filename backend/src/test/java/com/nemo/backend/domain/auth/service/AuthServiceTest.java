@@ -0,0 +1,178 @@
+package com.nemo.backend.domain.auth.service;
+
+import com.nemo.backend.domain.auth.dto.LoginRequest;
+import com.nemo.backend.domain.auth.dto.LoginResponse;
+import com.nemo.backend.domain.auth.dto.SignUpRequest;
+import com.nemo.backend.domain.auth.dto.TokenRefreshResponse;
+import com.nemo.backend.domain.auth.jwt.JwtTokenProvider;
+import com.nemo.backend.domain.auth.password.PasswordHasher;
+import com.nemo.backend.domain.auth.throttle.LoginThrottle;
+import com.nemo.backend.domain.auth.token.RefreshToken;
+import com.nemo.backend.domain.auth.token.RefreshTokenPurgeJob;
+import com.nemo.backend.domain.auth.token.RefreshTokenRepository;
+import com.nemo.backend.domain.mail.repository.MailOutboxRepository;
+import com.nemo.backend.domain.user.entity.User;
+import com.nemo.backend.domain.user.repository.UserRepository;
+import com.nemo.backend.domain.user.service.EmailAvailabilityService;
+import com.nemo.backend.domain.user.service.UserProfileCache;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class AuthServiceTest {
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    private RefreshTokenPurgeJob refreshTokenPurgeJob;
+    @Autowired
+    private EmailAvailabilityService emailAvailabilityService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private UserProfileCache userProfileCache;
+    @Autowired
+    private LoginThrottle loginThrottle;
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void refreshRotatesTokenAndRejectsReuse() {
+        LoginResponse login = signUpAndLogin("rotate@nemo.com");
+
+        TokenRefreshResponse rotated = authService.refresh(login.getRefreshToken());
+
+        assertThat(rotated.getRefreshToken()).isNotEqualTo(login.getRefreshToken());
+        assertThat(rotated.getAccessToken()).isNotBlank();
+        assertThatThrownBy(() -> authService.refresh(login.getRefreshToken()))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN));
+        assertThat(authService.refresh(rotated.getRefreshToken()).getRefreshToken()).isNotBlank();
+    }
+
+    @Test
+    void duplicateSignUpIsRejectedByUniqueConstraint() {
+        signUpAndLogin("duplicate@nemo.com");
+
+        assertThatThrownBy(() -> authService.signUp(signUpRequest("duplicate@nemo.com")))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.DUPLICATE_EMAIL));
+        assertThat(emailAvailabilityService.isAvailable("duplicate@nemo.com")).isFalse();
+        assertThat(emailAvailabilityService.isAvailable("fresh@nemo.com")).isTrue();
+    }
+
+    @Test
+    void signUpsOnOtherNodesReachTheFilterOnRebuild() {
+        // 다른 노드에서 가입한 이메일: 이 노드의 필터에는 추가되지 않음
+        User other = new User();
+        other.setEmail("other-node-" + UUID.randomUUID() + "@nemo.com");
+        other.setNickname("other-node");
+        userRepository.save(other);
+        assertThat(emailAvailabilityService.isAvailable(other.getEmail())).isTrue();
+
+        emailAvailabilityService.rebuild();
+
+        assertThat(emailAvailabilityService.isAvailable(other.getEmail())).isFalse();
+        assertThat(emailAvailabilityService.isAvailable("fresh@nemo.com")).isTrue();
+    }
+
+    @Test
+    void otherIntegrityViolationsAreNotReportedAsDuplicateEmail() {
+        SignUpRequest noNickname = signUpRequest("no-nickname@nemo.com");
+        noNickname.setNickname(null);
+
+        assertThatThrownBy(() -> authService.signUp(noNickname))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void loginSucceedsWhenTheOpportunisticRehashIsRejected() {
+        authService.signUp(signUpRequest("rehash@nemo.com"));
+        String stored = userRepository.findByEmail("rehash@nemo.com").orElseThrow().getPassword();
+        // 검증은 통과하지만 재해시는 풀 포화로 거절되는 상황
+        PasswordHasher saturated = new PasswordHasher(new SimpleMeterRegistry(), 10, 1, 1, Duration.ofSeconds(5), 2) {
+            @Override
+            public boolean needsUpgrade(String encodedPassword) {
+                return true;
+            }
+
+            @Override
+            public String encode(String rawPassword) {
+                throw new ApiException(ErrorCode.SERVER_BUSY, 2L);
+            }
+        };
+        AuthService service = new AuthService(userRepository, refreshTokenRepository, jwtTokenProvider,
+                userProfileCache, saturated, loginThrottle, emailAvailabilityService, mailOutboxRepository,
+                transactionManager);
+        LoginRequest login = new LoginRequest();
+        login.setEmail("rehash@nemo.com");
+        login.setPassword("password1!");
+
+        try {
+            assertThat(service.login(login, "127.0.0.1").getAccessToken()).isNotBlank();
+        } finally {
+            saturated.shutdown();
+        }
+        assertThat(userRepository.findByEmail("rehash@nemo.com").orElseThrow().getPassword()).isEqualTo(stored);
+    }
+
+    @Test
+    void purgeRemovesOnlyExpiredTokensAcrossChunks() {
+        List<RefreshToken> tokens = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            tokens.add(token(999L, LocalDateTime.now().minusDays(1)));
+        }
+        RefreshToken live = token(999L, LocalDateTime.now().plusDays(1));
+        tokens.add(live);
+        refreshTokenRepository.saveAll(tokens);
+
+        int purged = refreshTokenPurgeJob.purgeExpiredBefore(LocalDateTime.now());
+
+        assertThat(purged).isGreaterThanOrEqualTo(2500);
+        assertThat(refreshTokenRepository.findById(live.getId())).isPresent();
+    }
+
+    private LoginResponse signUpAndLogin(String email) {
+        authService.signUp(signUpRequest(email));
+        LoginRequest login = new LoginRequest();
+        login.setEmail(email);
+        login.setPassword("password1!");
+        return authService.login(login, "127.0.0.1");
+    }
+
+    private static SignUpRequest signUpRequest(String email) {
+        SignUpRequest signUp = new SignUpRequest();
+        signUp.setEmail(email);
+        signUp.setPassword("password1!");
+        signUp.setNickname("rotator");
+        return signUp;
+    }
+
+    private static RefreshToken token(Long userId, LocalDateTime expiry) {
+        RefreshToken token = new RefreshToken();
+        token.setUserId(userId);
+        token.setTokenHash(UUID.randomUUID().toString());
+        token.setExpiry(expiry);
+        return token;
+    }
+}
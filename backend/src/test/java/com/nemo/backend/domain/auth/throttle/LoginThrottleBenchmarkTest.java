@@ -0,0 +1,73 @@
+package com.nemo.backend.domain.auth.throttle;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the cost of a throttle check while many threads hammer a small
+ * set of hot keys (worst case for CAS contention).  The figure is total
+ * wall time divided by total checks, so it stays meaningful on machines with
+ * fewer cores than threads.  Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class LoginThrottleBenchmarkTest {
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 1_000_000;
+    private static final int KEYS = 64;
+
+    @Test
+    void checkStaysBelowOneMicrosecondUnderContention() throws Exception {
+        LoginThrottle throttle = new LoginThrottle(new SimpleMeterRegistry(),
+                5, Duration.ofMinutes(1), 30, Duration.ofSeconds(2), 100_000, System::nanoTime);
+        String[] emails = new String[KEYS];
+        String[] ips = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            emails[i] = "user" + i + "@nemo.com";
+            ips[i] = "10.0.0." + i;
+        }
+
+        run(throttle, emails, ips, ITERATIONS / 10);
+        long nanosPerCheck = run(throttle, emails, ips, ITERATIONS);
+
+        System.out.printf("login throttle: %d threads, %d ns/check%n", THREADS, nanosPerCheck);
+        assertThat(nanosPerCheck).isLessThan(1_000L);
+    }
+
+    private static long run(LoginThrottle throttle, String[] emails, String[] ips, int iterations) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            results.add(pool.submit(() -> {
+                start.await();
+                long sink = 0;
+                for (int i = 0; i < iterations; i++) {
+                    int k = (i + offset) % KEYS;
+                    // 버킷이 금방 비므로 대부분 거절되는 것이 정상
+                    sink += throttle.tryAcquire(emails[k], ips[k]);
+                }
+                return sink;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<Long> result : results) {
+            result.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+        return elapsed / ((long) THREADS * iterations);
+    }
+}
@@ -0,0 +1,59 @@
+package com.nemo.backend.domain.auth.throttle;
+
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTest {
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final LoginThrottle throttle = new LoginThrottle(new SimpleMeterRegistry(),
+            3, Duration.ofSeconds(10), 100, Duration.ofMillis(1), 1000, clock::get);
+
+    @Test
+    void rejectsEmailAfterBurstUntilATokenRefills() {
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("User@Nemo.com", "10.0.0." + i);
+        }
+
+        assertThatThrownBy(() -> throttle.acquire("user@nemo.com", "10.0.0.9"))
+                .isInstanceOfSatisfying(ApiException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(10L);
+                });
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThatCode(() -> throttle.acquire("user@nemo.com", "10.0.0.9")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void attemptRejectedByEmailBucketDoesNotChargeTheIp() {
+        LoginThrottle tight = new LoginThrottle(new SimpleMeterRegistry(),
+                1, Duration.ofSeconds(10), 2, Duration.ofSeconds(10), 1000, clock::get);
+        tight.acquire("locked@nemo.com", "10.0.2.1");
+        for (int i = 0; i < 5; i++) {
+            assertThat(tight.tryAcquire("locked@nemo.com", "10.0.2.1")).isPositive();
+        }
+
+        // 같은 IP 의 다른 계정은 남은 IP 토큰으로 로그인 가능
+        assertThatCode(() -> tight.acquire("other@nemo.com", "10.0.2.1")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void resetClearsEmailBucket() {
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("reset@nemo.com", "10.0.1.1");
+        }
+
+        throttle.reset("reset@nemo.com");
+
+        assertThatCode(() -> throttle.acquire("reset@nemo.com", "10.0.1.1")).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,142 @@
+package com.nemo.backend.domain.friend.graph;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Builds a {@link FriendGraph} of one million directed edges (500,000
+ * friendships over 100,000 users, with a few popular users drawing most
+ * friendships) and measures mutual-friend counts and friend suggestions.
+ * Mutual counts are compared against the same graph held as boxed
+ * {@code HashSet<Long>} friend lists.  Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class FriendGraphBenchmarkTest {
+    private static final int USERS = 100_000;
+    private static final int FRIENDSHIPS = 500_000;
+    private static final int QUERIES = 200_000;
+    private static final int SUGGEST_QUERIES = 5_000;
+    private static final int HUB_DEGREE = 5_000;
+
+    @Test
+    void mutualCountsAndSuggestionsStayInMicroseconds() {
+        SplittableRandom random = new SplittableRandom(7);
+        FriendGraph graph = new FriendGraph();
+        Map<Long, Set<Long>> boxed = new HashMap<>();
+        long buildStart = System.nanoTime();
+        int friendships = 0;
+        while (friendships < FRIENDSHIPS) {
+            long a = skewedUser(random);
+            long b = skewedUser(random);
+            if (a != b && graph.add(a, b)) {
+                graph.add(b, a);
+                friendships++;
+            }
+        }
+        long buildNanos = System.nanoTime() - buildStart;
+        for (long user = 1; user <= USERS; user++) {
+            Set<Long> friends = new HashSet<>();
+            for (long friend : graph.friends(user)) {
+                friends.add(friend);
+            }
+            boxed.put(user, friends);
+        }
+        assertThat(graph.edgeCount()).isEqualTo(2L * FRIENDSHIPS);
+
+        // 친구의 친구 쌍으로 질의해야 교집합이 실제로 생김
+        long[] pairs = new long[QUERIES * 2];
+        for (int i = 0; i < QUERIES; i++) {
+            long user = 1 + random.nextInt(USERS);
+            long[] friends = graph.friends(user);
+            long other = friends.length == 0 ? 1 + random.nextInt(USERS) : pickFriendOfFriend(graph, friends, random);
+            pairs[2 * i] = user;
+            pairs[2 * i + 1] = other;
+        }
+
+        long graphTotal = 0;
+        long boxedTotal = 0;
+        for (int round = 0; round < 3; round++) {
+            graphTotal = mutualTotal(graph, pairs);
+            boxedTotal = boxedMutualTotal(boxed, pairs);
+        }
+        long graphStart = System.nanoTime();
+        graphTotal = mutualTotal(graph, pairs);
+        double graphNanos = (double) (System.nanoTime() - graphStart) / QUERIES;
+        long boxedStart = System.nanoTime();
+        boxedTotal = boxedMutualTotal(boxed, pairs);
+        double boxedNanos = (double) (System.nanoTime() - boxedStart) / QUERIES;
+
+        long suggested = 0;
+        for (int i = 0; i < SUGGEST_QUERIES; i++) {
+            suggested += graph.suggest(1 + random.nextInt(USERS), 20, HUB_DEGREE).size();
+        }
+        long suggestStart = System.nanoTime();
+        for (int i = 0; i < SUGGEST_QUERIES; i++) {
+            suggested += graph.suggest(1 + random.nextInt(USERS), 20, HUB_DEGREE).size();
+        }
+        double suggestMicros = (System.nanoTime() - suggestStart) / 1e3 / SUGGEST_QUERIES;
+
+        System.out.printf("friend graph: %d edges, %d users, build %.2f us/edge, max degree %d%n",
+                graph.edgeCount(), graph.userCount(), buildNanos / 1e3 / graph.edgeCount(), maxDegree(graph));
+        System.out.printf("mutual count: sorted arrays %.0f ns, boxed HashSet %.0f ns (%d mutual friends)%n",
+                graphNanos, boxedNanos, graphTotal);
+        System.out.printf("suggestions:  %.1f us per user (top 20, %d returned)%n", suggestMicros, suggested);
+        assertThat(graphTotal).isEqualTo(boxedTotal).isPositive();
+        assertThat(graphNanos).isLessThan(10_000);
+        assertThat(suggestMicros).isLessThan(1_000);
+    }
+
+    // 사용자 id 를 제곱 분포로 뽑아 작은 id 쪽에 친구가 몰리게 함 (인기 사용자)
+    private static long skewedUser(SplittableRandom random) {
+        double r = random.nextDouble();
+        return 1 + (long) (r * r * USERS);
+    }
+
+    private static long pickFriendOfFriend(FriendGraph graph, long[] friends, SplittableRandom random) {
+        long[] next = graph.friends(friends[random.nextInt(friends.length)]);
+        return next[random.nextInt(next.length)];
+    }
+
+    private static long mutualTotal(FriendGraph graph, long[] pairs) {
+        long total = 0;
+        for (int i = 0; i < pairs.length; i += 2) {
+            total += graph.mutualCount(pairs[i], pairs[i + 1]);
+        }
+        return total;
+    }
+
+    private static long boxedMutualTotal(Map<Long, Set<Long>> boxed, long[] pairs) {
+        long total = 0;
+        for (int i = 0; i < pairs.length; i += 2) {
+            Set<Long> a = boxed.get(pairs[i]);
+            Set<Long> b = boxed.get(pairs[i + 1]);
+            if (a.size() > b.size()) {
+                Set<Long> swap = a;
+                a = b;
+                b = swap;
+            }
+            for (Long friend : a) {
+                if (b.contains(friend)) {
+                    total++;
+                }
+            }
+        }
+        return total;
+    }
+
+    private static int maxDegree(FriendGraph graph) {
+        int max = 0;
+        for (long user = 1; user <= USERS; user++) {
+            max = Math.max(max, graph.degree(user));
+        }
+        return max;
+    }
+}
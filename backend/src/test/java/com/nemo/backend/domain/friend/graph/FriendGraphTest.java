@@ -0,0 +1,119 @@
+package com.nemo.backend.domain.friend.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FriendGraphTest {
+
+    @Test
+    void mutualCountsAndSuggestionsMatchBruteForce() {
+        SplittableRandom random = new SplittableRandom(42);
+        FriendGraph graph = new FriendGraph();
+        Map<Long, Set<Long>> expected = new HashMap<>();
+        // 추가와 삭제를 섞어 정렬 배열의 삽입/이동과 테이블 확장을 모두 거치게 함
+        for (int i = 0; i < 20_000; i++) {
+            long a = 1 + random.nextInt(400);
+            long b = 1 + random.nextInt(400);
+            if (a == b) {
+                continue;
+            }
+            if (random.nextInt(5) == 0) {
+                assertThat(graph.remove(a, b)).isEqualTo(expected.getOrDefault(a, Set.of()).contains(b));
+                expected.getOrDefault(a, new HashSet<>()).remove(b);
+            } else {
+                assertThat(graph.add(a, b)).isEqualTo(expected.computeIfAbsent(a, id -> new HashSet<>()).add(b));
+            }
+        }
+        assertThat(graph.edgeCount()).isEqualTo(expected.values().stream().mapToLong(Set::size).sum());
+
+        for (long a = 1; a <= 400; a++) {
+            Set<Long> own = expected.getOrDefault(a, Set.of());
+            assertThat(graph.friends(a)).containsExactly(own.stream().mapToLong(Long::longValue).sorted().toArray());
+            for (int q = 0; q < 20; q++) {
+                long b = 1 + random.nextInt(400);
+                long mutual = own.stream().filter(expected.getOrDefault(b, Set.of())::contains).count();
+                assertThat(graph.mutualCount(a, b)).isEqualTo((int) mutual);
+            }
+            assertThat(graph.suggest(a, 10, Integer.MAX_VALUE)).isEqualTo(bruteForceSuggest(expected, a, 10));
+        }
+    }
+
+    @Test
+    void smallListIsIntersectedWithALargeOneByBinarySearch() {
+        FriendGraph graph = new FriendGraph();
+        for (long id = 2; id <= 2_001; id++) {
+            graph.add(1, id);
+        }
+        graph.add(5_000, 3);
+        graph.add(5_000, 1_500);
+        graph.add(5_000, 9_999);
+        assertThat(graph.mutualCount(1, 5_000)).isEqualTo(2);
+        assertThat(graph.mutualCount(5_000, 1)).isEqualTo(2);
+    }
+
+    @Test
+    void hubsAreNotExpandedAndRemovedUsersDisappearFromEveryList() {
+        FriendGraph graph = new FriendGraph();
+        befriend(graph, 1, 2);
+        befriend(graph, 2, 3);
+        befriend(graph, 1, 10);
+        for (long fan = 100; fan < 110; fan++) {
+            befriend(graph, 10, fan);
+        }
+        assertThat(graph.suggest(1, 5, 5)).containsExactly(new FriendGraph.Suggestion(3, 1));
+
+        graph.removeUser(2);
+        assertThat(graph.degree(2)).isZero();
+        assertThat(graph.contains(1, 2)).isFalse();
+        assertThat(graph.contains(3, 2)).isFalse();
+        assertThat(graph.edgeCount()).isEqualTo(2 + 20);
+        assertThatThrownBy(() -> graph.add(1, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void oneSidedEdgesAreSuggestedAroundAndRemovedWithTheUser() {
+        // 정리 중 다시 읽어 Y -> X 방향만 남은 상태: X 는 자기 목록이 없음
+        FriendGraph graph = new FriendGraph();
+        befriend(graph, 1, 2);
+        graph.add(1, 7);
+        graph.add(2, 3);
+        assertThat(graph.suggest(1, 5, 100)).containsExactly(new FriendGraph.Suggestion(3, 1));
+
+        graph.removeUser(7);
+        assertThat(graph.contains(1, 7)).isFalse();
+        assertThat(graph.edgeCount()).isEqualTo(3);
+    }
+
+    private static void befriend(FriendGraph graph, long a, long b) {
+        graph.add(a, b);
+        graph.add(b, a);
+    }
+
+    private static List<FriendGraph.Suggestion> bruteForceSuggest(Map<Long, Set<Long>> edges, long user, int limit) {
+        Set<Long> own = edges.getOrDefault(user, Set.of());
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Long friend : own) {
+            for (Long candidate : edges.getOrDefault(friend, Set.of())) {
+                if (candidate != user && !own.contains(candidate)) {
+                    counts.merge(candidate, 1, Integer::sum);
+                }
+            }
+        }
+        List<FriendGraph.Suggestion> all = new ArrayList<>();
+        counts.forEach((id, count) -> all.add(new FriendGraph.Suggestion(id, count)));
+        all.sort(Comparator.comparingInt(FriendGraph.Suggestion::mutualCount).reversed()
+                .thenComparingLong(FriendGraph.Suggestion::userId));
+        return all.subList(0, Math.min(limit, all.size()));
+    }
+}
@@ -0,0 +1,97 @@
+package com.nemo.backend.domain.friend.service;
+
+import com.nemo.backend.domain.friend.dto.FriendSuggestionResponse;
+import com.nemo.backend.domain.friend.graph.FriendGraphIndex;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import com.nemo.backend.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+// 그래프는 컨텍스트마다 메모리에 있으므로 다른 컨텍스트가 같은 friend 테이블을 바꾸지 않도록 DB 를 따로 씀
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:friend-service-test")
+class FriendServiceTest {
+    @Autowired
+    private FriendService friendService;
+    @Autowired
+    private FriendGraphIndex friendGraphIndex;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void graphFollowsAddsAndRemovals() {
+        Long a = fixtures.saveUser("a").getId();
+        Long b = fixtures.saveUser("b").getId();
+        Long c = fixtures.saveUser("c").getId();
+        Long d = fixtures.saveUser("d").getId();
+        assertThat(friendService.add(a, b)).isTrue();
+        assertThat(friendService.add(b, a)).isFalse();
+        friendService.add(c, b);
+        friendService.add(a, d);
+        friendService.add(d, c);
+        assertThat(count("select count(*) from friend where user_id in (?, ?, ?, ?)", a, b, c, d)).isEqualTo(8);
+
+        assertThat(friendService.mutualCount(a, c)).isEqualTo(2);
+        assertThat(friendService.suggestions(a, 10))
+                .extracting(FriendSuggestionResponse::getUserId, FriendSuggestionResponse::getNickname,
+                        FriendSuggestionResponse::getMutualCount)
+                .containsExactly(tuple(c, "c", 2));
+
+        friendService.remove(b, a);
+        assertThat(friendService.mutualCount(a, c)).isEqualTo(1);
+        assertThat(friendService.suggestions(a, 10)).extracting(FriendSuggestionResponse::getMutualCount)
+                .containsExactly(1);
+        assertThat(count("select count(*) from friend where user_id in (?, ?)", a, b)).isEqualTo(2);
+    }
+
+    @Test
+    void graphIsLoadedFromTheTable() {
+        Long a = fixtures.saveUser("a").getId();
+        Long b = fixtures.saveUser("b").getId();
+        Long c = fixtures.saveUser("c").getId();
+        for (Long[] edge : new Long[][]{{a, b}, {b, a}, {b, c}, {c, b}}) {
+            jdbcTemplate.update("insert into friend (id, user_id, friend_id, created_at, updated_at) "
+                    + "values (next value for friend_seq, ?, ?, current_timestamp, current_timestamp)", edge[0], edge[1]);
+        }
+        assertThat(friendService.mutualCount(a, c)).isZero();
+
+        friendGraphIndex.load();
+        assertThat(friendService.mutualCount(a, c)).isEqualTo(1);
+        assertThat(friendService.suggestions(a, 10)).extracting(FriendSuggestionResponse::getUserId)
+                .containsExactly(c);
+
+        // 다른 노드가 지운 관계도 다시 읽으면 빠짐
+        jdbcTemplate.update("delete from friend where (user_id = ? and friend_id = ?) or (user_id = ? and friend_id = ?)",
+                b, c, c, b);
+        friendGraphIndex.reload();
+        assertThat(friendService.mutualCount(a, c)).isZero();
+    }
+
+    @Test
+    void rejectsSelfUnknownAndMissingFriends() {
+        Long a = fixtures.saveUser("a").getId();
+        Long b = fixtures.saveUser("b").getId();
+        assertThatThrownBy(() -> friendService.add(a, a))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_FRIEND_REQUEST));
+        assertThatThrownBy(() -> friendService.add(a, Long.MAX_VALUE))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.FRIEND_NOT_FOUND));
+        assertThatThrownBy(() -> friendService.remove(a, b))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.FRIEND_NOT_FOUND));
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
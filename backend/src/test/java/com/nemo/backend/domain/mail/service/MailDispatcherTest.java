@@ -0,0 +1,136 @@
+package com.nemo.backend.domain.mail.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.nemo.backend.domain.auth.service.EmailVerificationService;
+import com.nemo.backend.domain.mail.entity.MailOutbox;
+import com.nemo.backend.domain.mail.entity.MailOutboxStatus;
+import com.nemo.backend.domain.mail.repository.MailOutboxRepository;
+import com.nemo.backend.global.exception.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 다른 테스트 컨텍스트의 발송 스케줄러가 같은 인메모리 DB 의 outbox 행을 가져가지 않도록 DB 를 분리
+@SpringBootTest(properties = {"spring.mail.port=3025", "mail.outbox.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:mail-dispatcher-test"})
+class MailDispatcherTest {
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private MailDispatcher mailDispatcher;
+    @Autowired
+    private MailOutboxService mailOutboxService;
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+    @Autowired
+    private EmailVerificationService emailVerificationService;
+    @Autowired
+    private MailOutboxPurgeJob mailOutboxPurgeJob;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void verificationCodeIsQueuedThenDeliveredAndConfirmed() throws Exception {
+        emailVerificationService.sendCode("verify@nemo.com");
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+
+        while (mailDispatcher.dispatchBatch() > 0) {
+            // drain
+        }
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        Matcher matcher = Pattern.compile("\\d{6}").matcher((String) received[0].getContent());
+        assertThat(matcher.find()).isTrue();
+        String code = matcher.group();
+
+        assertThatThrownBy(() -> emailVerificationService.confirm("verify@nemo.com", "wrong"))
+                .isInstanceOf(ApiException.class);
+        assertThatCode(() -> emailVerificationService.confirm("verify@nemo.com", code)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> emailVerificationService.sendCode("verify@nemo.com"))
+                .isInstanceOf(ApiException.class);
+        // 발송이 끝난 행에는 코드가 남지 않음
+        assertThat(outbox("verify@nemo.com").getBody()).isEmpty();
+    }
+
+    @Test
+    void codeIsLockedAfterMaxWrongAttempts() throws Exception {
+        emailVerificationService.sendCode("locked@nemo.com");
+        while (mailDispatcher.dispatchBatch() > 0) {
+            // drain
+        }
+        Matcher matcher = Pattern.compile("\\d{6}").matcher((String) greenMail.getReceivedMessages()[0].getContent());
+        assertThat(matcher.find()).isTrue();
+        String wrong = matcher.group().equals("000000") ? "111111" : "000000";
+
+        for (int i = 0; i < 7; i++) {
+            assertThatThrownBy(() -> emailVerificationService.confirm("locked@nemo.com", wrong))
+                    .isInstanceOf(ApiException.class);
+        }
+
+        assertThatThrownBy(() -> emailVerificationService.confirm("locked@nemo.com", matcher.group()))
+                .isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void expiredMailIsDroppedAndFinishedRowsArePurged() {
+        mailOutboxService.enqueue("expired@nemo.com", "subject", "code 123456", LocalDateTime.now().minusSeconds(1));
+        mailOutboxService.enqueue("kept@nemo.com", "subject", "body");
+
+        while (mailDispatcher.dispatchBatch() > 0) {
+            // drain
+        }
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        MailOutbox expired = outbox("expired@nemo.com");
+        assertThat(expired.getStatus()).isEqualTo(MailOutboxStatus.FAILED);
+        assertThat(expired.getBody()).isEmpty();
+
+        assertThat(mailOutboxPurgeJob.purgeFinishedBefore(LocalDateTime.now().minusDays(1))).isZero();
+        assertThat(mailOutboxPurgeJob.purgeFinishedBefore(LocalDateTime.now().plusDays(1))).isGreaterThanOrEqualTo(2);
+        assertThat(mailOutboxRepository.findAll()).noneMatch(m -> m.getRecipient().equals("kept@nemo.com"));
+    }
+
+    @Test
+    void failedDeliveryIsRetriedWithBackoff() {
+        JavaMailSenderImpl unreachable = new JavaMailSenderImpl();
+        unreachable.setHost("localhost");
+        unreachable.setPort(1);
+        MailDispatcher dispatcher = new MailDispatcher(mailOutboxRepository, unreachable, transactionManager,
+                new SimpleMeterRegistry(), true, "no-reply@nemo.app", 50, 3, Duration.ofMinutes(1), Duration.ofMinutes(2));
+        mailOutboxService.enqueue("retry@nemo.com", "subject", "body");
+        LocalDateTime before = LocalDateTime.now();
+
+        while (dispatcher.dispatchBatch() > 0) {
+            // drain
+        }
+
+        MailOutbox mail = outbox("retry@nemo.com");
+        assertThat(mail.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(mail.getAttempts()).isEqualTo(1);
+        assertThat(mail.getClaimToken()).isNull();
+        assertThat(mail.getNextAttemptAt()).isAfter(before.plusSeconds(50));
+    }
+
+    private MailOutbox outbox(String recipient) {
+        return mailOutboxRepository.findAll().stream()
+                .filter(m -> m.getRecipient().equals(recipient))
+                .findFirst().orElseThrow();
+    }
+}
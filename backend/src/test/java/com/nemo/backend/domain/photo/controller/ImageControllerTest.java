@@ -0,0 +1,118 @@
+package com.nemo.backend.domain.photo.controller;
+
+import com.nemo.backend.domain.photo.storage.PhotoStorage;
+import com.nemo.backend.domain.photo.storage.StoredContent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exercises the image endpoint over a real Tomcat connector, so the sendfile
+ * path is the one under test.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ImageControllerTest {
+    private static final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private PhotoStorage photoStorage;
+
+    private byte[] bytes;
+    private String hash;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // sendfile 은 48KB 이상에서만 쓰이므로 그보다 큰 JPEG 형태의 데이터를 사용
+        bytes = new byte[200_000];
+        new Random(7).nextBytes(bytes);
+        bytes[0] = (byte) 0xff;
+        bytes[1] = (byte) 0xd8;
+        bytes[2] = (byte) 0xff;
+        StoredContent stored = photoStorage.store(new ByteArrayInputStream(bytes));
+        hash = stored.contentHash();
+    }
+
+    @Test
+    void servesWholeFileWithImmutableCachingHeaders() throws Exception {
+        HttpResponse<byte[]> response = get("/api/images/" + hash, null, null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo(bytes);
+        assertThat(response.headers().firstValue("ETag")).hasValue("\"" + hash + "\"");
+        assertThat(response.headers().firstValue("Cache-Control")).hasValue("public, max-age=31536000, immutable");
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("image/jpeg");
+    }
+
+    @Test
+    void answersMatchingEtagWithNotModified() throws Exception {
+        HttpResponse<byte[]> response = get("/api/images/" + hash, "If-None-Match", "\"" + hash + "\"");
+
+        assertThat(response.statusCode()).isEqualTo(304);
+        assertThat(response.body()).isEmpty();
+    }
+
+    @Test
+    void servesByteRanges() throws Exception {
+        HttpResponse<byte[]> middle = get("/api/images/" + hash, "Range", "bytes=100-199");
+        HttpResponse<byte[]> suffix = get("/api/images/" + hash, "Range", "bytes=-10");
+        HttpResponse<byte[]> beyond = get("/api/images/" + hash, "Range", "bytes=300000-");
+
+        assertThat(middle.statusCode()).isEqualTo(206);
+        assertThat(middle.headers().firstValue("Content-Range")).hasValue("bytes 100-199/" + bytes.length);
+        assertThat(middle.body()).isEqualTo(Arrays.copyOfRange(bytes, 100, 200));
+        assertThat(suffix.body()).isEqualTo(Arrays.copyOfRange(bytes, bytes.length - 10, bytes.length));
+        assertThat(beyond.statusCode()).isEqualTo(416);
+        assertThat(beyond.headers().firstValue("Content-Range")).hasValue("bytes */" + bytes.length);
+        assertThat(get("/api/images/" + hash, "Range", "bytes=" + "9".repeat(30) + "-").statusCode()).isEqualTo(416);
+    }
+
+    @Test
+    void ignoresInvalidRangesAndClampsTheEnd() throws Exception {
+        // 끝이 시작보다 앞인 구간은 형식 오류: Range 가 없는 것처럼 전체를 보냄
+        HttpResponse<byte[]> reversed = get("/api/images/" + hash, "Range", "bytes=9-3");
+        HttpResponse<byte[]> past = get("/api/images/" + hash, "Range", "bytes=10-" + "9".repeat(30));
+
+        assertThat(reversed.statusCode()).isEqualTo(200);
+        assertThat(reversed.headers().firstValue("Content-Range")).isEmpty();
+        assertThat(reversed.body()).isEqualTo(bytes);
+        assertThat(past.statusCode()).isEqualTo(206);
+        assertThat(past.headers().firstValue("Content-Range"))
+                .hasValue("bytes 10-" + (bytes.length - 1) + "/" + bytes.length);
+        assertThat(past.body()).isEqualTo(Arrays.copyOfRange(bytes, 10, bytes.length));
+    }
+
+    @Test
+    void unknownOrMalformedHashIsNotFoundAndNotCached() throws Exception {
+        HttpResponse<byte[]> unknown = get("/api/images/" + "0".repeat(64), null, null);
+        HttpResponse<byte[]> pendingThumbnail = get("/api/images/" + hash + "/512", null, null);
+
+        assertThat(unknown.statusCode()).isEqualTo(404);
+        assertThat(get("/api/images/not-a-hash", null, null).statusCode()).isEqualTo(404);
+        assertThat(pendingThumbnail.statusCode()).isEqualTo(404);
+        assertThat(pendingThumbnail.headers().firstValue("Cache-Control")).hasValue("no-store");
+        assertThat(pendingThumbnail.headers().firstValue("ETag")).isEmpty();
+        assertThat(unknown.headers().firstValue("Cache-Control")).hasValue("no-store");
+    }
+
+    private HttpResponse<byte[]> get(String path, String header, String value) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (header != null) {
+            request.header(header, value);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
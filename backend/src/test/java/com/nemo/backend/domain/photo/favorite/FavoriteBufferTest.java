@@ -0,0 +1,133 @@
+package com.nemo.backend.domain.photo.favorite;
+
+import com.nemo.backend.domain.photo.dto.PhotoResponse;
+import com.nemo.backend.domain.photo.repository.PhotoRepository;
+import com.nemo.backend.domain.photo.service.PhotoService;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import com.nemo.backend.support.TestFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 예약 flush 가 끼어들지 않도록 주기를 길게 두고 flush() 를 직접 호출
+@SpringBootTest(properties = "photo.favorite.flush-interval=PT1H")
+class FavoriteBufferTest {
+    @Autowired
+    private FavoriteBuffer favoriteBuffer;
+    @Autowired
+    private PhotoService photoService;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PhotoRepository photoRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void repeatedTogglesCoalesceIntoOneWrite() {
+        Long userId = fixtures.saveUser("favorites").getId();
+        Long photoId = fixtures.photo(userId).insert();
+
+        assertThat(favoriteBuffer.toggle(userId, photoId)).isTrue();
+        assertThat(favoriteBuffer.toggle(userId, photoId)).isFalse();
+        assertThat(favoriteBuffer.toggle(userId, photoId)).isTrue();
+
+        // flush 전에도 본인 조회에는 토글이 보임
+        assertThat(storedFavorite(photoId)).isFalse();
+        PhotoResponse listed = photoService.list(userId, null, 10).getContent().get(0);
+        assertThat(listed.isFavorite()).isTrue();
+
+        assertThat(favoriteBuffer.flush()).isEqualTo(1);
+        assertThat(storedFavorite(photoId)).isTrue();
+        assertThat(favoriteBuffer.flush()).isZero();
+    }
+
+    @Test
+    void toggleBackToStoredStateWritesNothing() {
+        Long userId = fixtures.saveUser("favorites").getId();
+        Long photoId = fixtures.photo(userId).insert();
+        favoriteBuffer.toggle(userId, photoId);
+        favoriteBuffer.flush();
+
+        assertThat(favoriteBuffer.toggle(userId, photoId)).isFalse();
+        assertThat(favoriteBuffer.toggle(userId, photoId)).isTrue();
+
+        assertThat(favoriteBuffer.flush()).isZero();
+        assertThat(storedFavorite(photoId)).isTrue();
+        // 버퍼가 비면 다음 토글은 DB 값을 기준으로 함
+        assertThat(favoriteBuffer.toggle(userId, photoId)).isFalse();
+        favoriteBuffer.flush();
+        assertThat(storedFavorite(photoId)).isFalse();
+    }
+
+    @Test
+    void otherUsersPhotoIsNotFound() {
+        Long ownerId = fixtures.saveUser("favorites").getId();
+        Long photoId = fixtures.photo(ownerId).insert();
+        Long otherId = fixtures.saveUser("favorites").getId();
+
+        assertThatThrownBy(() -> favoriteBuffer.toggle(otherId, photoId))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PHOTO_NOT_FOUND));
+        assertThat(favoriteBuffer.flush()).isZero();
+    }
+
+    @Test
+    void concurrentTogglesAndFlushesNeverLoseATap() throws Exception {
+        for (FavoriteBuffer.Durability durability : FavoriteBuffer.Durability.values()) {
+            FavoriteBuffer buffer = new FavoriteBuffer(photoRepository, jdbcTemplate, transactionManager,
+                    new SimpleMeterRegistry(), durability, 100_000, 500);
+            Long userId = fixtures.saveUser("favorites").getId();
+            Long photoId = fixtures.photo(userId).insert();
+            ExecutorService pool = Executors.newFixedThreadPool(5);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> tappers = new ArrayList<>();
+            // 4 명이 각자 짝수 번 누르므로 최종 값은 처음과 같아야 함
+            for (int i = 0; i < 4; i++) {
+                tappers.add(pool.submit(() -> {
+                    start.await();
+                    for (int tap = 0; tap < 50; tap++) {
+                        buffer.toggle(userId, photoId);
+                    }
+                    return null;
+                }));
+            }
+            Future<?> flusher = pool.submit(() -> {
+                start.await();
+                while (!tappers.stream().allMatch(Future::isDone)) {
+                    buffer.flush();
+                }
+                return null;
+            });
+            start.countDown();
+            for (Future<?> tapper : tappers) {
+                tapper.get();
+            }
+            flusher.get();
+            pool.shutdown();
+            buffer.flush();
+
+            assertThat(storedFavorite(photoId)).as(durability.name()).isFalse();
+        }
+    }
+
+    private boolean storedFavorite(Long photoId) {
+        return jdbcTemplate.queryForObject("select favorite from photo where id = ?", Boolean.class, photoId);
+    }
+}
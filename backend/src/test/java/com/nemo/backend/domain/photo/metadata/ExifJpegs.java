@@ -0,0 +1,102 @@
+package com.nemo.backend.domain.photo.metadata;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds small JPEG files carrying hand-written EXIF and XMP segments, the
+ * way camera apps and booth printers lay them out.
+ */
+public final class ExifJpegs {
+
+    private ExifJpegs() {
+    }
+
+    /** 2025-07-01 14:30:15 +09:00, 37°33'59.4"N 126°58'40.8"E (서울시청), orientation 6. */
+    public static byte[] seoulCityHall(int width, int height) throws IOException {
+        ByteBuffer tiff = ByteBuffer.allocate(210);
+        tiff.put((byte) 'M').put((byte) 'M').putShort((short) 42).putInt(8);
+        // IFD0 (8): Orientation, ExifIFD, GPS IFD
+        tiff.putShort((short) 3);
+        entry(tiff, 0x0112, 3, 1, 6 << 16);
+        entry(tiff, 0x8769, 4, 1, 50);
+        entry(tiff, 0x8825, 4, 1, 80);
+        tiff.putInt(0);
+        // Exif IFD (50): DateTimeOriginal, OffsetTimeOriginal
+        tiff.putShort((short) 2);
+        entry(tiff, 0x9003, 2, 20, 134);
+        entry(tiff, 0x9011, 2, 7, 154);
+        tiff.putInt(0);
+        // GPS IFD (80)
+        tiff.putShort((short) 4);
+        entry(tiff, 1, 2, 2, 'N' << 24);
+        entry(tiff, 2, 5, 3, 162);
+        entry(tiff, 3, 2, 2, 'E' << 24);
+        entry(tiff, 4, 5, 3, 186);
+        tiff.putInt(0);
+        tiff.put("2025:07:01 14:30:15\0".getBytes(StandardCharsets.US_ASCII));
+        tiff.put("+09:00\0\0".getBytes(StandardCharsets.US_ASCII));
+        tiff.putInt(37).putInt(1).putInt(33).putInt(1).putInt(594).putInt(10);
+        tiff.putInt(126).putInt(1).putInt(58).putInt(1).putInt(408).putInt(10);
+        return withApp1(jpeg(width, height), "Exif\0\0", tiff.array());
+    }
+
+    /**
+     * 2023-01-01 09:00:00 stored only as the IFD0 DateTime (file modified)
+     * tag, whose entry declares {@code declaredCount} bytes.
+     */
+    public static byte[] modifiedOnly(int declaredCount) throws IOException {
+        ByteBuffer tiff = ByteBuffer.allocate(46);
+        tiff.put((byte) 'M').put((byte) 'M').putShort((short) 42).putInt(8);
+        tiff.putShort((short) 1);
+        entry(tiff, 0x0132, 2, declaredCount, 26);
+        tiff.putInt(0);
+        tiff.put("2023:01:01 09:00:00\0".getBytes(StandardCharsets.US_ASCII));
+        return withApp1(jpeg(64, 48), "Exif\0\0", tiff.array());
+    }
+
+    /** JPEG whose only metadata is an XMP packet. */
+    public static byte[] withXmp(String xmp) throws IOException {
+        return withXmp(jpeg(64, 48), xmp);
+    }
+
+    /** Adds an XMP packet in front of the existing segments of {@code jpeg}. */
+    public static byte[] withXmp(byte[] jpeg, String xmp) {
+        return withApp1(jpeg, "http://ns.adobe.com/xap/1.0/\0", xmp.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static byte[] jpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setColor(Color.PINK);
+            g.fillRect(0, 0, width, height);
+        } finally {
+            g.dispose();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private static void entry(ByteBuffer tiff, int tag, int type, int count, int value) {
+        tiff.putShort((short) tag).putShort((short) type).putInt(count).putInt(value);
+    }
+
+    /** SOI 바로 뒤에 APP1 세그먼트를 끼워 넣음 */
+    private static byte[] withApp1(byte[] jpeg, String identifier, byte[] payload) {
+        byte[] id = identifier.getBytes(StandardCharsets.US_ASCII);
+        int length = 2 + id.length + payload.length;
+        ByteBuffer out = ByteBuffer.allocate(jpeg.length + 2 + length);
+        out.put(jpeg, 0, 2);
+        out.put((byte) 0xFF).put((byte) 0xE1).putShort((short) length).put(id).put(payload);
+        out.put(jpeg, 2, jpeg.length - 2);
+        return out.array();
+    }
+}
@@ -0,0 +1,105 @@
+package com.nemo.backend.domain.photo.metadata;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ImageMetadataReaderTest {
+
+    @Test
+    void readsExifCaptureTimeLocationOrientationAndFrameSize() throws Exception {
+        ImageMetadata metadata = ImageMetadataReader.read(ExifJpegs.seoulCityHall(120, 80));
+
+        LocalDateTime expected = OffsetDateTime.of(2025, 7, 1, 14, 30, 15, 0, ZoneOffset.ofHours(9))
+                .atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        assertThat(metadata.takenAt()).isEqualTo(expected);
+        assertThat(metadata.latitude()).isCloseTo(37.5665, within(1e-4));
+        assertThat(metadata.longitude()).isCloseTo(126.978, within(1e-4));
+        assertThat(metadata.orientation()).isEqualTo(6);
+        assertThat(metadata.width()).isEqualTo(120);
+        assertThat(metadata.height()).isEqualTo(80);
+    }
+
+    @Test
+    void fallsBackToXmp() throws Exception {
+        byte[] jpeg = ExifJpegs.withXmp("<x:xmpmeta><rdf:Description exif:DateTimeOriginal=\"2024-05-05T10:00:00\""
+                + " exif:GPSLatitude=\"35,10.776N\" exif:GPSLongitude=\"129,4.536E\"/></x:xmpmeta>");
+
+        ImageMetadata metadata = ImageMetadataReader.read(jpeg);
+
+        assertThat(metadata.takenAt()).isEqualTo(LocalDateTime.of(2024, 5, 5, 10, 0));
+        assertThat(metadata.latitude()).isCloseTo(35.1796, within(1e-4));
+        assertThat(metadata.longitude()).isCloseTo(129.0756, within(1e-4));
+        assertThat(metadata.width()).isEqualTo(64);
+    }
+
+    @Test
+    void xmpCaptureDateWinsOverTheExifModifiedTime() throws Exception {
+        assertThat(ImageMetadataReader.read(ExifJpegs.modifiedOnly(20)).takenAt())
+                .isEqualTo(LocalDateTime.of(2023, 1, 1, 9, 0));
+
+        // withXmp 는 SOI 바로 뒤에 끼우므로 XMP 가 EXIF 보다 앞에 옴; 순서와 무관해야 함
+        byte[] jpeg = ExifJpegs.withXmp(ExifJpegs.modifiedOnly(20),
+                "<x:xmpmeta><rdf:Description exif:DateTimeOriginal=\"2022-10-03T18:20:00\"/></x:xmpmeta>");
+
+        assertThat(ImageMetadataReader.read(jpeg).takenAt()).isEqualTo(LocalDateTime.of(2022, 10, 3, 18, 20));
+    }
+
+    @Test
+    void hostileAsciiCountsAreClampedToTheSegment() throws Exception {
+        ImageMetadata huge = ImageMetadataReader.read(ExifJpegs.modifiedOnly(Integer.MAX_VALUE - 8));
+        assertThat(huge.takenAt()).isEqualTo(LocalDateTime.of(2023, 1, 1, 9, 0));
+        assertThat(huge.width()).isEqualTo(64);
+
+        ImageMetadata negative = ImageMetadataReader.read(ExifJpegs.modifiedOnly(Integer.MIN_VALUE));
+        assertThat(negative.takenAt()).isNull();
+        assertThat(negative.width()).isEqualTo(64);
+    }
+
+    @Test
+    void readsPngDimensions() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(30, 90, BufferedImage.TYPE_INT_ARGB), "png", out);
+
+        ImageMetadata metadata = ImageMetadataReader.read(out.toByteArray());
+
+        assertThat(metadata.width()).isEqualTo(30);
+        assertThat(metadata.height()).isEqualTo(90);
+        assertThat(metadata.takenAt()).isNull();
+    }
+
+    @Test
+    void truncatedOrForeignHeadersYieldWhatWasRead() throws Exception {
+        byte[] jpeg = ExifJpegs.seoulCityHall(120, 80);
+
+        // EXIF 세그먼트 중간에서 잘린 경우: 예외 없이 빈 값
+        ImageMetadata truncated = ImageMetadataReader.read(Arrays.copyOf(jpeg, 60));
+
+        assertThat(truncated.takenAt()).isNull();
+        assertThat(truncated.hasLocation()).isFalse();
+        assertThat(ImageMetadataReader.read("not an image".getBytes())).isEqualTo(ImageMetadata.EMPTY);
+    }
+
+    @Test
+    void headCaptureKeepsOnlyTheLimit() throws Exception {
+        byte[] jpeg = ExifJpegs.seoulCityHall(400, 300);
+        HeadCapturingInputStream in = new HeadCapturingInputStream(new ByteArrayInputStream(jpeg), 1024);
+
+        byte[] all = in.readAllBytes();
+
+        assertThat(all).isEqualTo(jpeg);
+        assertThat(in.head()).isEqualTo(Arrays.copyOf(jpeg, 1024));
+        assertThat(ImageMetadataReader.read(in.head()).hasLocation()).isTrue();
+    }
+}
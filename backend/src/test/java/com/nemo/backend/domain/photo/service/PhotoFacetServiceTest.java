@@ -0,0 +1,120 @@
+package com.nemo.backend.domain.photo.service;
+
+import com.nemo.backend.domain.photo.dto.FacetCountResponse;
+import com.nemo.backend.domain.photo.dto.PhotoFacetsResponse;
+import com.nemo.backend.domain.photo.dto.PhotoResponse;
+import com.nemo.backend.domain.photo.dto.PhotoUploadRequest;
+import com.nemo.backend.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PhotoFacetServiceTest {
+    @Autowired
+    private PhotoService photoService;
+    @Autowired
+    private PhotoFacetService photoFacetService;
+    @Autowired
+    private FacetBackfillJob facetBackfillJob;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void countersFollowInsertsAndDeletes() {
+        Long userId = fixtures.saveUser("facets").getId();
+        PhotoResponse first = upload(userId, "인생네컷", List.of("QR업로드", "친구"));
+        upload(userId, "인생네컷", List.of("QR업로드"));
+        // 멀티파트에서는 JSON 배열 문자열이 쉼표로 잘려 들어옴
+        upload(userId, "하츄핑", List.of("[\"QR업로드\"", "\"가족\"]"));
+
+        photoService.delete(userId, first.getPhotoId());
+
+        PhotoFacetsResponse facets = photoFacetService.facets(userId);
+        assertThat(counts(facets.getBrands())).containsExactly(Map.entry("인생네컷", 1L), Map.entry("하츄핑", 1L));
+        assertThat(counts(facets.getTags())).containsExactly(Map.entry("QR업로드", 2L), Map.entry("가족", 1L));
+        assertThat(counts(facets.getBrands())).isEqualTo(groupByBrand(userId));
+    }
+
+    @Test
+    void concurrentUploadsCreateOneExactCounter() throws Exception {
+        Long userId = fixtures.saveUser("facets").getId();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<PhotoResponse>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return upload(userId, "포토이즘", List.of("동시"));
+            }));
+        }
+        start.countDown();
+        for (Future<PhotoResponse> result : results) {
+            result.get();
+        }
+        pool.shutdown();
+
+        PhotoFacetsResponse facets = photoFacetService.facets(userId);
+        assertThat(counts(facets.getBrands())).containsExactly(Map.entry("포토이즘", 8L));
+        assertThat(counts(facets.getTags())).containsExactly(Map.entry("동시", 8L));
+    }
+
+    @Test
+    void backfillCountsPhotosSavedBeforeTheCountersOnce() {
+        Long userId = fixtures.saveUser("facets").getId();
+        // 카운터 도입 전에 저장된 사진 (facets_counted = false)
+        Long legacy = fixtures.photo(userId).insert();
+        Long tagged = fixtures.photo(userId).insert();
+        jdbcTemplate.update("insert into photo_tag (photo_id, tag) values (?, '졸업')", tagged);
+        upload(userId, "인생네컷", List.of("졸업"));
+        assertThat(counts(photoFacetService.facets(userId).getBrands())).containsExactly(Map.entry("인생네컷", 1L));
+
+        facetBackfillJob.backfill();
+
+        PhotoFacetsResponse facets = photoFacetService.facets(userId);
+        assertThat(counts(facets.getBrands())).containsExactly(Map.entry("인생네컷", 3L));
+        assertThat(counts(facets.getTags())).containsExactly(Map.entry("졸업", 2L));
+        assertThat(facetBackfillJob.backfill()).isZero();
+
+        photoService.delete(userId, legacy);
+        assertThat(counts(photoFacetService.facets(userId).getBrands())).isEqualTo(groupByBrand(userId));
+    }
+
+    private PhotoResponse upload(Long userId, String brand, List<String> tags) {
+        PhotoUploadRequest request = new PhotoUploadRequest();
+        request.setBrand(brand);
+        request.setTagList(tags);
+        MockMultipartFile image = new MockMultipartFile("image", "photo.jpg", "image/jpeg",
+                UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
+        return photoService.upload(userId, image, request);
+    }
+
+    private Map<String, Long> groupByBrand(Long userId) {
+        return jdbcTemplate.queryForList("select brand, count(*) as cnt from photo where user_id = ? group by brand",
+                        userId).stream()
+                .collect(Collectors.toMap(row -> (String) row.get("BRAND"), row -> ((Number) row.get("CNT")).longValue()));
+    }
+
+    private static Map<String, Long> counts(List<FacetCountResponse> facets) {
+        return facets.stream().collect(Collectors.toMap(FacetCountResponse::getValue, FacetCountResponse::getCount,
+                (a, b) -> a, LinkedHashMap::new));
+    }
+}
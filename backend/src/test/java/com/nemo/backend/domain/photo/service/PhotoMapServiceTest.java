@@ -0,0 +1,142 @@
+package com.nemo.backend.domain.photo.service;
+
+import com.nemo.backend.domain.photo.dto.MapClusterResponse;
+import com.nemo.backend.domain.photo.dto.MapPhotoResponse;
+import com.nemo.backend.domain.photo.dto.MapPhotosResponse;
+import com.nemo.backend.domain.photo.entity.Photo;
+import com.nemo.backend.domain.photo.repository.PhotoRepository;
+import com.nemo.backend.domain.user.entity.User;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import com.nemo.backend.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class PhotoMapServiceTest {
+    @Autowired
+    private PhotoMapService photoMapService;
+    @Autowired
+    private PhotoRepository photoRepository;
+    @Autowired
+    private GeohashBackfillJob geohashBackfillJob;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void photosAreFilteredByTheExactBox() {
+        User user = fixtures.saveUser("map");
+        Photo seoul = savePhoto(user, 37.5665, 126.9780);
+        savePhoto(user, 37.5512, 126.9882);
+        savePhoto(user, 35.1796, 129.0756); // 부산
+        savePhoto(user, null, null);
+        savePhoto(fixtures.saveUser("map"), 37.5665, 126.9780);
+
+        MapPhotosResponse response = photoMapService.photos(user.getId(), 37.56, 126.97, 37.57, 126.98, 100);
+
+        assertThat(response.isTruncated()).isFalse();
+        assertThat(response.getPhotos()).extracting(MapPhotoResponse::getPhotoId).containsExactly(seoul.getId());
+    }
+
+    @Test
+    void photosAreTruncatedNewestFirst() {
+        User user = fixtures.saveUser("map");
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(savePhoto(user, 37.5 + i * 0.01, 127.0).getId());
+        }
+        jdbcTemplate.update("update photo set created_at = ? where id = ?",
+                LocalDateTime.now().plusDays(1), ids.get(0));
+
+        MapPhotosResponse response = photoMapService.photos(user.getId(), 37.0, 126.0, 38.0, 128.0, 3);
+
+        assertThat(response.isTruncated()).isTrue();
+        assertThat(response.getPhotos()).extracting(MapPhotoResponse::getPhotoId)
+                .containsExactly(ids.get(0), ids.get(4), ids.get(3));
+    }
+
+    @Test
+    void clustersAreCountedPerCell() {
+        User user = fixtures.saveUser("map");
+        for (int i = 0; i < 3; i++) {
+            savePhoto(user, 37.55 + i * 0.01, 126.98);
+        }
+        Photo newest = savePhoto(user, 35.1796, 129.0756);
+        savePhoto(user, 35.1800, 129.0760);
+        // 이전 데이터처럼 id 순서와 업로드 순서가 다른 경우: 대표 사진은 업로드 시각 기준
+        jdbcTemplate.update("update photo set created_at = ? where id = ?",
+                LocalDateTime.now().plusDays(1), newest.getId());
+
+        List<MapClusterResponse> clusters = photoMapService.clusters(user.getId(), 33.0, 124.0, 39.0, 131.0, 7);
+
+        assertThat(clusters).extracting(MapClusterResponse::getCount).containsExactlyInAnyOrder(3L, 2L);
+        MapClusterResponse busan = clusters.stream().filter(c -> c.getCount() == 2).findFirst().orElseThrow();
+        assertThat(busan.getLatitude()).isBetween(35.1796, 35.1800);
+        assertThat(busan.getPhotoId()).isEqualTo(newest.getId());
+    }
+
+    @Test
+    void boxCrossingTheAntimeridianIsSplit() {
+        User user = fixtures.saveUser("map");
+        Photo fiji = savePhoto(user, -17.7, 178.0);
+        Photo samoa = savePhoto(user, -13.8, -172.0);
+        savePhoto(user, -15.0, 0.0);
+
+        MapPhotosResponse response = photoMapService.photos(user.getId(), -20.0, 170.0, -10.0, -170.0, 100);
+
+        assertThat(response.getPhotos()).extracting(MapPhotoResponse::getPhotoId)
+                .containsExactly(samoa.getId(), fiji.getId());
+    }
+
+    @Test
+    void photosSavedBeforeTheGeohashColumnAreBackfilled() {
+        User user = fixtures.saveUser("map");
+        Photo legacy = savePhoto(user, 37.5665, 126.9780);
+        Photo unlocated = savePhoto(user, null, null);
+        // 컬럼 도입 전 행처럼 geohash 를 비움
+        jdbcTemplate.update("update photo set geohash = null where id = ?", legacy.getId());
+        assertThat(photoMapService.photos(user.getId(), 37.56, 126.97, 37.57, 126.98, 100).getPhotos()).isEmpty();
+
+        assertThat(geohashBackfillJob.backfill()).isPositive();
+
+        assertThat(photoMapService.photos(user.getId(), 37.56, 126.97, 37.57, 126.98, 100).getPhotos())
+                .extracting(MapPhotoResponse::getPhotoId).containsExactly(legacy.getId());
+        assertThat(photoRepository.findById(unlocated.getId()).orElseThrow().getGeohash()).isNull();
+        assertThat(geohashBackfillJob.backfill()).isZero();
+    }
+
+    @Test
+    void invalidBoundsAreRejected() {
+        assertThatThrownBy(() -> photoMapService.photos(1L, 40.0, 126.0, 30.0, 127.0, 10))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_MAP_BOUNDS));
+    }
+
+    @Test
+    void zoomMapsToCoarserCellsWhenZoomedOut() {
+        assertThat(PhotoMapService.precisionForZoom(0)).isEqualTo(1);
+        assertThat(PhotoMapService.precisionForZoom(10)).isGreaterThan(PhotoMapService.precisionForZoom(5));
+        assertThat(PhotoMapService.precisionForZoom(22)).isLessThanOrEqualTo(12);
+    }
+
+    private Photo savePhoto(User user, Double latitude, Double longitude) {
+        return photoRepository.save(Photo.builder()
+                .user(user)
+                .brand("인생네컷")
+                .imageUrl("/api/images/x")
+                .latitude(latitude)
+                .longitude(longitude)
+                .build());
+    }
+}
@@ -0,0 +1,126 @@
+package com.nemo.backend.domain.photo.service;
+
+import com.nemo.backend.domain.user.entity.User;
+import com.nemo.backend.domain.user.repository.UserRepository;
+import com.nemo.backend.global.util.KeysetCursor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares OFFSET paging with the keyset query used by
+ * {@link com.nemo.backend.domain.photo.repository.PhotoRepository#findPage}
+ * over one user's photos as the page depth grows.  Besides latency it reports the rows H2 scanned for each
+ * query ({@code EXPLAIN ANALYZE}), which is what grows with depth on a
+ * disk-backed database: OFFSET walks every skipped row, keyset seeks to the
+ * cursor and reads one page.  Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class PhotoPaginationBenchmarkTest {
+    private static final int PHOTOS = 50_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int REPEAT = 30;
+    private static final int[] PAGES = {0, 100, 500, 1_000, 2_400};
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+    // PhotoRepository.findPage 의 JPQL 이 생성하는 SQL 과 같은 형태
+    private static final String OFFSET_SQL = "select * from photo where user_id = ? "
+            + "order by user_id, created_at desc, id desc offset ? rows fetch first ? rows only";
+    private static final String KEYSET_SQL = "select * from photo where user_id = ? "
+            + "and created_at <= ? and (created_at < ? or id < ?) "
+            + "order by user_id, created_at desc, id desc fetch first ? rows only";
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void keysetCostDoesNotGrowWithPageDepth() {
+        User user = new User();
+        user.setEmail("pagination-benchmark@nemo.com");
+        user.setNickname("bench");
+        Long userId = userRepository.save(user).getId();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>(PHOTOS);
+        for (int i = 0; i < PHOTOS; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+            rows.add(new Object[]{userId, createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate("insert into photo (id, user_id, brand, image_url, thumbnail_status, created_at, updated_at) "
+                + "values (next value for photo_seq, ?, '인생네컷', '/api/images/x', 'READY', ?, ?)", rows);
+
+        long firstKeyset = 0;
+        long lastKeyset = 0;
+        long lastOffsetScanned = 0;
+        System.out.println("page depth | offset us | offset rows scanned | keyset us | keyset rows scanned");
+        for (int page : PAGES) {
+            KeysetCursor cursor = cursorBefore(userId, page);
+            Timestamp createdAt = Timestamp.valueOf(cursor.createdAt());
+            long id = cursor.id();
+            long offset = measure(() -> jdbcTemplate.queryForList(OFFSET_SQL,
+                    userId, page * PAGE_SIZE, PAGE_SIZE));
+            long keyset = measure(() -> jdbcTemplate.queryForList(KEYSET_SQL,
+                    userId, createdAt, createdAt, id, PAGE_SIZE));
+            long offsetScanned = scanned(OFFSET_SQL, userId, page * PAGE_SIZE, PAGE_SIZE);
+            long keysetScanned = scanned(KEYSET_SQL, userId, createdAt, createdAt, id, PAGE_SIZE);
+            System.out.printf("%10d | %9d | %19d | %9d | %19d%n",
+                    page, offset / 1_000, offsetScanned, keyset / 1_000, keysetScanned);
+
+            assertThat(keysetScanned).isLessThanOrEqualTo(PAGE_SIZE + 1);
+            if (page == 0) {
+                firstKeyset = keyset;
+            }
+            lastKeyset = keyset;
+            lastOffsetScanned = offsetScanned;
+        }
+        assertThat(lastOffsetScanned).isGreaterThan((long) PAGES[PAGES.length - 1] * PAGE_SIZE);
+        assertThat(lastKeyset).isLessThan(firstKeyset * 3);
+    }
+
+    /** 첫 페이지는 KeysetCursor.FIRST, 이후는 직전 페이지의 마지막 행이 커서 */
+    private KeysetCursor cursorBefore(Long userId, int page) {
+        if (page == 0) {
+            return KeysetCursor.FIRST;
+        }
+        Map<String, Object> anchor = jdbcTemplate.queryForMap(
+                "select created_at, id from photo where user_id = ? order by created_at desc, id desc "
+                        + "limit 1 offset ?", userId, page * PAGE_SIZE - 1);
+        return new KeysetCursor(((Timestamp) anchor.get("CREATED_AT")).toLocalDateTime(),
+                ((Number) anchor.get("ID")).longValue());
+    }
+
+    private long scanned(String sql, Object... args) {
+        String plan = jdbcTemplate.queryForObject("explain analyze " + sql, String.class, args);
+        long max = 0;
+        Matcher matcher = SCAN_COUNT.matcher(plan);
+        while (matcher.find()) {
+            max = Math.max(max, Long.parseLong(matcher.group(1)));
+        }
+        return max;
+    }
+
+    private static long measure(Supplier<?> query) {
+        for (int i = 0; i < 5; i++) {
+            query.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - start) / REPEAT;
+    }
+}
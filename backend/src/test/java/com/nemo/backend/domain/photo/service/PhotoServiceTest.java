@@ -0,0 +1,138 @@
+package com.nemo.backend.domain.photo.service;
+
+import com.nemo.backend.domain.photo.dto.DuplicatePhotoResponse;
+import com.nemo.backend.domain.photo.dto.PhotoResponse;
+import com.nemo.backend.domain.photo.dto.PhotoUploadRequest;
+import com.nemo.backend.domain.photo.metadata.ExifJpegs;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import com.nemo.backend.global.response.CursorPageResponse;
+import com.nemo.backend.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+class PhotoServiceTest {
+    @Autowired
+    private PhotoService photoService;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void cursorPagesCoverEveryPhotoOnceNewestFirst() {
+        Long userId = fixtures.saveUser("photos").getId();
+        LocalDateTime base = LocalDateTime.of(2025, 7, 1, 12, 0);
+        // 같은 createdAt 이 여러 개여도 id 로 순서가 확정되어야 함
+        for (int i = 0; i < 25; i++) {
+            fixtures.photo(userId).createdAt(base.plusMinutes(i / 3)).insert();
+        }
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageResponse<PhotoResponse> page = photoService.list(userId, cursor, 10);
+            page.getContent().forEach(photo -> seen.add(photo.getPhotoId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        List<Long> expected = jdbcTemplate.queryForList(
+                "select id from photo where user_id = ? order by created_at desc, id desc", Long.class, userId);
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void tamperedCursorIsRejected() {
+        Long userId = fixtures.saveUser("photos").getId();
+
+        assertThatThrownBy(() -> photoService.list(userId, "not-a-cursor", 10))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR));
+    }
+
+    @Test
+    void reuploadedCopyIsFlaggedAsPossibleDuplicate() throws Exception {
+        Long userId = fixtures.saveUser("photos").getId();
+        BufferedImage strip = strip();
+        PhotoResponse original = photoService.upload(userId, image(strip, "png"), uploadRequest());
+        PhotoResponse copy = photoService.upload(userId, image(strip, "jpg"), uploadRequest());
+        // 다른 사용자의 사진과는 비교하지 않음
+        PhotoResponse otherUsers = photoService.upload(fixtures.saveUser("photos").getId(), image(strip, "jpg"), uploadRequest());
+
+        assertThat(original.getPossibleDuplicateOf()).isNull();
+        assertThat(copy.getPossibleDuplicateOf()).isEqualTo(original.getPhotoId());
+        assertThat(otherUsers.getPossibleDuplicateOf()).isNull();
+        assertThat(photoService.duplicates(userId, copy.getPhotoId()))
+                .extracting(DuplicatePhotoResponse::getPhotoId)
+                .containsExactly(original.getPhotoId());
+    }
+
+    @Test
+    void headerMetadataOverridesClientUploadTime() throws Exception {
+        Long userId = fixtures.saveUser("photos").getId();
+        PhotoUploadRequest request = uploadRequest();
+        request.setTakenAt("2030-01-01T00:00:00");
+        MockMultipartFile image = new MockMultipartFile("image", "exif.jpg", "image/jpeg",
+                ExifJpegs.seoulCityHall(120, 80));
+
+        PhotoResponse photo = photoService.upload(userId, image, request);
+
+        assertThat(photo.getTakenAt().getYear()).isEqualTo(2025);
+        assertThat(photo.getLatitude()).isCloseTo(37.5665, within(1e-4));
+        assertThat(photo.getLongitude()).isCloseTo(126.978, within(1e-4));
+        assertThat(photo.getWidth()).isEqualTo(120);
+        assertThat(photo.getOrientation()).isEqualTo(6);
+    }
+
+    private static BufferedImage strip() {
+        BufferedImage image = new BufferedImage(300, 900, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, 300, 900);
+            g.setColor(Color.MAGENTA);
+            g.fillOval(40, 60, 180, 160);
+            g.setColor(Color.DARK_GRAY);
+            g.fillRect(120, 380, 140, 200);
+            g.setColor(Color.ORANGE);
+            g.fillRect(20, 680, 200, 120);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    private static MockMultipartFile image(BufferedImage image, String format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return new MockMultipartFile("image", "strip." + format,
+                format.equals("png") ? "image/png" : "image/jpeg", out.toByteArray());
+    }
+
+    private static PhotoUploadRequest uploadRequest() {
+        PhotoUploadRequest request = new PhotoUploadRequest();
+        request.setBrand("인생네컷");
+        return request;
+    }
+}
@@ -0,0 +1,190 @@
+package com.nemo.backend.domain.photo.service;
+
+import com.nemo.backend.domain.photo.dto.QrImportRequest;
+import com.nemo.backend.domain.user.entity.User;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import com.sun.net.httpserver.HttpServer;
+import com.nemo.backend.support.TestFixtures;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs QR imports against a local HTTP server standing in for a booth.
+ */
+@SpringBootTest(properties = {"photo.qr.extra-allowed-hosts=localhost", "photo.qr.request-timeout=2s"})
+class QrImportServiceTest {
+    private static final byte[] IMAGE = "booth image bytes".getBytes(StandardCharsets.UTF_8);
+    private static final AtomicInteger hits = new AtomicInteger();
+    private static HttpServer booth;
+
+    @Autowired
+    private QrImportService qrImportService;
+    @Autowired
+    private TestFixtures fixtures;
+
+    @BeforeAll
+    static void startBooth() throws Exception {
+        booth = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        booth.setExecutor(Executors.newCachedThreadPool());
+        booth.createContext("/photo", exchange -> {
+            hits.incrementAndGet();
+            try {
+                // 동시 요청이 겹치도록 느린 부스 서버를 흉내냄
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "image/jpeg");
+            exchange.sendResponseHeaders(200, IMAGE.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(IMAGE);
+            }
+        });
+        booth.createContext("/stall", exchange -> {
+            // 헤더와 본문 일부만 보내고 멈춘 부스 서버
+            exchange.getResponseHeaders().set("Content-Type", "image/jpeg");
+            exchange.sendResponseHeaders(200, IMAGE.length * 2L);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(IMAGE);
+                out.flush();
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException ignored) {
+                // 가져오는 쪽이 연결을 끊음
+            }
+        });
+        booth.createContext("/expired", exchange -> {
+            byte[] page = "<html>만료된 QR</html>".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/html");
+            exchange.sendResponseHeaders(404, page.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(page);
+            }
+        });
+        booth.start();
+    }
+
+    @AfterAll
+    static void stopBooth() {
+        booth.stop(0);
+    }
+
+    @Test
+    void sameQrIsFetchedOnceAcrossRescansAndUsers() {
+        User owner = fixtures.saveUser("qr");
+        User friend = fixtures.saveUser("qr");
+        String qr = boothUrl("/photo?session=" + UUID.randomUUID() + "&print=1");
+        int before = hits.get();
+
+        QrImportService.Result first = qrImportService.importPhoto(owner.getId(), request(qr));
+        // 파라미터 순서나 fragment 가 달라도 같은 QR 로 취급
+        QrImportService.Result rescan = qrImportService.importPhoto(owner.getId(),
+                request("QR: " + qr.replace("session=", "print=1&session=").replace("&print=1", "") + "#top"));
+        QrImportService.Result shared = qrImportService.importPhoto(friend.getId(), request(qr));
+
+        assertThat(hits.get() - before).isEqualTo(1);
+        assertThat(first.created()).isTrue();
+        assertThat(rescan.created()).isFalse();
+        assertThat(rescan.photo().getPhotoId()).isEqualTo(first.photo().getPhotoId());
+        assertThat(shared.created()).isTrue();
+        assertThat(shared.photo().getPhotoId()).isNotEqualTo(first.photo().getPhotoId());
+        assertThat(shared.photo().getImageUrl()).isEqualTo(first.photo().getImageUrl());
+        assertThat(first.photo().getBrand()).isEqualTo("기타");
+    }
+
+    @Test
+    void concurrentScansShareOneDownload() throws Exception {
+        String qr = boothUrl("/photo?session=" + UUID.randomUUID());
+        int before = hits.get();
+        ExecutorService pool = Executors.newFixedThreadPool(5);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<QrImportService.Result>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Long userId = fixtures.saveUser("qr").getId();
+            results.add(pool.submit(() -> {
+                start.await();
+                return qrImportService.importPhoto(userId, request(qr));
+            }));
+        }
+        start.countDown();
+        for (Future<QrImportService.Result> result : results) {
+            assertThat(result.get().created()).isTrue();
+        }
+        pool.shutdown();
+
+        assertThat(hits.get() - before).isEqualTo(1);
+    }
+
+    @Test
+    void stalledBodiesHitTheDeadlineWithoutBlockingOtherImports() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(6);
+        List<Future<?>> stalled = new ArrayList<>();
+        long started = System.nanoTime();
+        for (int i = 0; i < 6; i++) {
+            Long userId = fixtures.saveUser("qr").getId();
+            String qr = boothUrl("/stall?session=" + UUID.randomUUID());
+            stalled.add(pool.submit(() -> assertThatThrownBy(() -> qrImportService.importPhoto(userId, request(qr)))
+                    .isInstanceOfSatisfying(ApiException.class,
+                            e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.QR_FETCH_FAILED))));
+        }
+        // 멈춘 본문이 여럿이어도 다른 가져오기는 기다리지 않음
+        Thread.sleep(300);
+        Long userId = fixtures.saveUser("qr").getId();
+        assertThat(qrImportService.importPhoto(userId, request(boothUrl("/photo?session=" + UUID.randomUUID())))
+                .created()).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(2));
+
+        for (Future<?> result : stalled) {
+            result.get();
+        }
+        pool.shutdown();
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(8));
+    }
+
+    @Test
+    void expiredOrForeignQrIsRejected() {
+        Long userId = fixtures.saveUser("qr").getId();
+
+        assertThatThrownBy(() -> qrImportService.importPhoto(userId, request(boothUrl("/expired"))))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_QR_CODE));
+        assertThatThrownBy(() -> qrImportService.importPhoto(userId, request("http://10.0.0.1/photo")))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_QR_CODE));
+        assertThatThrownBy(() -> qrImportService.importPhoto(userId, request("not a url")))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_QR_CODE));
+    }
+
+    private static String boothUrl(String path) {
+        return "http://localhost:" + booth.getAddress().getPort() + path;
+    }
+
+    private static QrImportRequest request(String qrCode) {
+        QrImportRequest request = new QrImportRequest();
+        request.setQrCode(qrCode);
+        return request;
+    }
+}
@@ -0,0 +1,67 @@
+package com.nemo.backend.domain.photo.similarity;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures duplicate lookups in a {@link HammingIndex} holding as many
+ * photos as a heavy user would have, against a linear scan of the same
+ * hashes.  Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class HammingIndexBenchmarkTest {
+    private static final int PHOTOS = 50_000;
+    private static final int QUERIES = 20_000;
+    private static final int MAX_DISTANCE = 6;
+
+    @Test
+    void lookupsStaySubMillisecond() {
+        SplittableRandom random = new SplittableRandom(7);
+        long[] hashes = new long[PHOTOS];
+        HammingIndex index = new HammingIndex();
+        long insertStart = System.nanoTime();
+        for (int i = 0; i < PHOTOS; i++) {
+            hashes[i] = random.nextLong();
+            index.add(hashes[i], i);
+        }
+        long insertNanos = System.nanoTime() - insertStart;
+        long[] queries = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            // 절반은 기존 사진의 변형 (재업로드), 절반은 새 사진
+            queries[i] = i % 2 == 0 ? hashes[random.nextInt(PHOTOS)] ^ (1L << random.nextInt(64)) : random.nextLong();
+        }
+
+        long matches = 0;
+        for (int round = 0; round < 3; round++) {
+            matches = 0;
+            for (long query : queries) {
+                matches += index.search(query, MAX_DISTANCE).size();
+            }
+        }
+        long indexStart = System.nanoTime();
+        for (long query : queries) {
+            matches += index.search(query, MAX_DISTANCE).size();
+        }
+        double indexMicros = (System.nanoTime() - indexStart) / 1e3 / QUERIES;
+
+        long scanStart = System.nanoTime();
+        long scanned = 0;
+        for (int q = 0; q < QUERIES / 10; q++) {
+            for (long hash : hashes) {
+                if (Long.bitCount(queries[q] ^ hash) <= MAX_DISTANCE) {
+                    scanned++;
+                }
+            }
+        }
+        double scanMicros = (System.nanoTime() - scanStart) / 1e3 / (QUERIES / 10);
+
+        System.out.printf("hamming index: %d photos, insert %.2f us/photo, lookup %.1f us (linear scan %.1f us), "
+                + "%d matches%n", PHOTOS, insertNanos / 1e3 / PHOTOS, indexMicros, scanMicros, matches + scanned);
+        assertThat(indexMicros).isLessThan(1_000);
+        assertThat(indexMicros).isLessThan(scanMicros);
+    }
+}
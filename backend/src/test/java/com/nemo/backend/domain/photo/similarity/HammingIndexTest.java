@@ -0,0 +1,75 @@
+package com.nemo.backend.domain.photo.similarity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HammingIndexTest {
+
+    @Test
+    void searchMatchesBruteForce() {
+        SplittableRandom random = new SplittableRandom(42);
+        HammingIndex index = new HammingIndex();
+        List<Long> hashes = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            // 무작위 해시와 그 근처 변형을 섞어 가까운 이웃이 실제로 생기게 함
+            long hash = i % 3 == 0
+                    ? random.nextLong()
+                    : flipBits(hashes.get(random.nextInt(hashes.size())), random.nextInt(8), random);
+            hashes.add(hash);
+            index.add(hash, i);
+        }
+
+        for (int q = 0; q < 200; q++) {
+            long query = flipBits(hashes.get(random.nextInt(hashes.size())), random.nextInt(4), random);
+            int maxDistance = random.nextInt(HammingIndex.MAX_DISTANCE + 1);
+            List<HammingIndex.Match> expected = new ArrayList<>();
+            for (int i = 0; i < hashes.size(); i++) {
+                int distance = Long.bitCount(query ^ hashes.get(i));
+                if (distance <= maxDistance) {
+                    expected.add(new HammingIndex.Match(i, distance));
+                }
+            }
+
+            List<HammingIndex.Match> actual = index.search(query, maxDistance);
+
+            assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(actual).isSortedAccordingTo((a, b) -> Integer.compare(a.distance(), b.distance()));
+        }
+    }
+
+    @Test
+    void addIsIdempotentAndRemovedSlotsAreReused() {
+        HammingIndex index = new HammingIndex();
+        assertThat(index.add(0b1010L, 1)).isTrue();
+        assertThat(index.add(0b1010L, 1)).isFalse();
+        assertThat(index.add(0b1010L, 2)).isTrue();
+        assertThat(index.add(0b1011L, 3)).isTrue();
+
+        assertThat(index.remove(0b1010L, 1)).isTrue();
+        assertThat(index.remove(0b1010L, 1)).isFalse();
+        assertThat(index.add(-1L, 4)).isTrue();
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search(0b1010L, 1)).extracting(HammingIndex.Match::photoId).containsExactly(2L, 3L);
+        assertThat(index.search(-1L, 0)).extracting(HammingIndex.Match::photoId).containsExactly(4L);
+    }
+
+    @Test
+    void distancesBeyondThePigeonholeBoundAreRejected() {
+        assertThatThrownBy(() -> new HammingIndex().search(0L, HammingIndex.MAX_DISTANCE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long flipBits(long hash, int bits, SplittableRandom random) {
+        for (int i = 0; i < bits; i++) {
+            hash ^= 1L << random.nextInt(64);
+        }
+        return hash;
+    }
+}
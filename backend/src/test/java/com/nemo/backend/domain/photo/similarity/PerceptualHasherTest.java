@@ -0,0 +1,109 @@
+package com.nemo.backend.domain.photo.similarity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PerceptualHasherTest {
+    private final PerceptualHasher hasher = new PerceptualHasher(new SimpleMeterRegistry());
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void reencodedAndResizedCopiesStayClose() throws Exception {
+        BufferedImage strip = fourCutStrip(1);
+        long original = hasher.hash(png(strip, "original.png"));
+        long recompressed = hasher.hash(jpeg(strip, 0.5f, "recompressed.jpg"));
+        long resized = hasher.hash(jpeg(resize(strip, 0.4), 0.8f, "resized.jpg"));
+
+        assertThat(Long.bitCount(original ^ recompressed)).isLessThanOrEqualTo(3);
+        assertThat(Long.bitCount(original ^ resized)).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void differentPhotosAreFarApart() throws Exception {
+        long first = hasher.hash(png(fourCutStrip(1), "first.png"));
+        long second = hasher.hash(png(fourCutStrip(2), "second.png"));
+
+        assertThat(Long.bitCount(first ^ second)).isGreaterThan(12);
+    }
+
+    @Test
+    void undecodableFilesHaveNoHash() throws Exception {
+        Path file = Files.writeString(dir.resolve("note.txt"), "not an image");
+
+        assertThat(hasher.hash(file)).isNull();
+    }
+
+    /** 네컷 사진처럼 세로로 네 칸이 이어진 이미지 (칸마다 다른 색 블록) */
+    private static BufferedImage fourCutStrip(long seed) {
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(600, 1800, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, 600, 1800);
+            for (int cut = 0; cut < 4; cut++) {
+                for (int block = 0; block < 12; block++) {
+                    g.setColor(new Color(random.nextInt(0xffffff)));
+                    g.fillRect(40 + random.nextInt(400), 40 + cut * 430 + random.nextInt(250),
+                            60 + random.nextInt(200), 60 + random.nextInt(150));
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    private static BufferedImage resize(BufferedImage source, double ratio) {
+        int width = (int) (source.getWidth() * ratio);
+        int height = (int) (source.getHeight() * ratio);
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = resized.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return resized;
+    }
+
+    private Path png(BufferedImage image, String name) throws Exception {
+        Path file = dir.resolve(name);
+        ImageIO.write(image, "png", file.toFile());
+        return file;
+    }
+
+    private Path jpeg(BufferedImage image, float quality, String name) throws Exception {
+        Path file = dir.resolve(name);
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(file.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return file;
+    }
+}
@@ -0,0 +1,106 @@
+package com.nemo.backend.domain.photo.storage;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Streams concurrent large uploads through {@link PhotoStorage} and reports
+ * throughput and heap allocated per upload.  The allocation figure must stay
+ * flat regardless of file size, which shows the body is never buffered in
+ * memory.  Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class PhotoStorageBenchmarkTest {
+    private static final int THREADS = 4;
+    private static final int UPLOADS_PER_THREAD = 4;
+    private static final long UPLOAD_BYTES = 32L << 20;
+
+    @TempDir
+    Path root;
+
+    @Test
+    void allocationPerUploadDoesNotGrowWithFileSize() throws Exception {
+        PhotoStorage storage = new PhotoStorage(root.toString());
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long seed = t;
+            results.add(pool.submit(() -> {
+                start.await();
+                long tid = Thread.currentThread().threadId();
+                long before = threads.getThreadAllocatedBytes(tid);
+                for (int i = 0; i < UPLOADS_PER_THREAD; i++) {
+                    storage.store(new RandomStream(seed * 1_000 + i, UPLOAD_BYTES));
+                }
+                return threads.getThreadAllocatedBytes(tid) - before;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        long allocated = 0;
+        for (Future<Long> result : results) {
+            allocated += result.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+
+        int uploads = THREADS * UPLOADS_PER_THREAD;
+        double mbPerSecond = (uploads * (double) UPLOAD_BYTES / (1 << 20)) / (elapsed / 1e9);
+        long allocatedPerUpload = allocated / uploads;
+        System.out.printf("photo storage: %d x %d MB uploads, %.1f MB/s, %d KB allocated/upload%n",
+                uploads, UPLOAD_BYTES >> 20, mbPerSecond, allocatedPerUpload >> 10);
+        // 파일 크기(32MB)와 무관하게 청크 버퍼 수준에 머물러야 함
+        assertThat(allocatedPerUpload).isLessThan(UPLOAD_BYTES / 8);
+    }
+
+    /** 메모리에 올리지 않고 의사난수 바이트를 흘려보내는 입력 스트림 */
+    private static final class RandomStream extends InputStream {
+        private final SplittableRandom random;
+        private long remaining;
+
+        RandomStream(long seed, long size) {
+            this.random = new SplittableRandom(seed);
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining == 0) {
+                return -1;
+            }
+            remaining--;
+            return random.nextInt(256);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (remaining == 0) {
+                return -1;
+            }
+            int n = (int) Math.min(len, remaining);
+            for (int i = 0; i < n; i++) {
+                b[off + i] = (byte) random.nextInt(256);
+            }
+            remaining -= n;
+            return n;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.nemo.backend.domain.photo.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PhotoStorageTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void storesUnderContentHashAndDeduplicatesIdenticalUploads() throws Exception {
+        PhotoStorage storage = new PhotoStorage(root.toString());
+        byte[] bytes = "four-cut photo bytes".getBytes(StandardCharsets.UTF_8);
+        String expectedHash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+
+        StoredContent first = storage.store(new ByteArrayInputStream(bytes));
+        StoredContent second = storage.storeCopying(new ByteArrayInputStream(bytes));
+
+        assertThat(first.contentHash()).isEqualTo(expectedHash);
+        assertThat(first.sizeBytes()).isEqualTo(bytes.length);
+        assertThat(first.created()).isTrue();
+        assertThat(second.contentHash()).isEqualTo(expectedHash);
+        assertThat(second.created()).isFalse();
+        assertThat(Files.readAllBytes(storage.resolve(expectedHash))).isEqualTo(bytes);
+        // 복사 방식으로 저장해도 같은 해시 경로로 중복 제거되고 임시 파일은 남지 않아야 함
+        try (var leftovers = Files.list(root.resolve("tmp"))) {
+            assertThat(leftovers).isEmpty();
+        }
+    }
+
+    @Test
+    void rejectsHashesThatCouldEscapeTheRoot() throws Exception {
+        PhotoStorage storage = new PhotoStorage(root.toString());
+
+        assertThatThrownBy(() -> storage.resolve("../../etc/passwd"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
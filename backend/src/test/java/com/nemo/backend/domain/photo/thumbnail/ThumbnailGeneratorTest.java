@@ -0,0 +1,107 @@
+package com.nemo.backend.domain.photo.thumbnail;
+
+import com.nemo.backend.domain.photo.metadata.ExifJpegs;
+import com.nemo.backend.domain.photo.storage.PhotoStorage;
+import com.nemo.backend.domain.photo.storage.StoredContent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThumbnailGeneratorTest {
+
+    @TempDir
+    Path root;
+
+    private PhotoStorage storage;
+    private ThumbnailGenerator generator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storage = new PhotoStorage(root.toString());
+        generator = new ThumbnailGenerator(storage, new SimpleMeterRegistry(), new int[]{1080, 128, 512}, 0.85f, 262144);
+    }
+
+    @Test
+    void producesEverySizeKeepingAspectRatio() throws Exception {
+        String hash = store(image(2400, 1600, BufferedImage.TYPE_INT_RGB), "jpg");
+
+        assertThat(generator.generate(hash)).containsExactly(128, 512, 1080);
+
+        assertThat(dimensions(hash, 1080)).containsExactly(1080, 720);
+        assertThat(dimensions(hash, 512)).containsExactly(512, 341);
+        assertThat(dimensions(hash, 128)).containsExactly(128, 85);
+    }
+
+    @Test
+    void neverUpscalesSmallOriginals() throws Exception {
+        // 투명 PNG 도 JPEG 로 변환되어야 함
+        String hash = store(image(200, 300, BufferedImage.TYPE_INT_ARGB), "png");
+
+        generator.generate(hash);
+
+        assertThat(dimensions(hash, 1080)).containsExactly(200, 300);
+        assertThat(dimensions(hash, 128)).containsExactly(85, 128);
+    }
+
+    @Test
+    void appliesExifOrientationToDerivatives() throws Exception {
+        // orientation 6: 가로로 저장된 픽셀을 시계 방향으로 90도 돌려야 바로 선 사진
+        String hash = storage.store(new ByteArrayInputStream(ExifJpegs.seoulCityHall(2400, 1600))).contentHash();
+
+        generator.generate(hash);
+
+        assertThat(dimensions(hash, 1080)).containsExactly(720, 1080);
+        assertThat(dimensions(hash, 128)).containsExactly(85, 128);
+    }
+
+    @Test
+    void orientMovesCornersToTheirUprightPlace() {
+        BufferedImage source = new BufferedImage(3, 2, BufferedImage.TYPE_INT_RGB);
+        source.setRGB(0, 0, 0xFF0000);
+
+        assertThat(ThumbnailGenerator.orient(source, 6).getRGB(1, 0) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(ThumbnailGenerator.orient(source, 8).getRGB(0, 2) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(ThumbnailGenerator.orient(source, 3).getRGB(2, 1) & 0xFFFFFF).isEqualTo(0xFF0000);
+        assertThat(ThumbnailGenerator.orient(source, 2).getRGB(2, 0) & 0xFFFFFF).isEqualTo(0xFF0000);
+    }
+
+    @Test
+    void returnsNoSizesForUndecodableOriginals() throws Exception {
+        StoredContent stored = storage.store(
+                new ByteArrayInputStream("not an image".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(generator.generate(stored.contentHash())).isEmpty();
+    }
+
+    private String store(BufferedImage image, String format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return storage.store(new ByteArrayInputStream(out.toByteArray())).contentHash();
+    }
+
+    private int[] dimensions(String hash, int size) throws Exception {
+        BufferedImage derivative = ImageIO.read(storage.resolveDerivative(hash, size).toFile());
+        return new int[]{derivative.getWidth(), derivative.getHeight()};
+    }
+
+    private static BufferedImage image(int width, int height, int type) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.ORANGE);
+        g.fillRect(0, 0, width / 2, height);
+        g.dispose();
+        return image;
+    }
+}
@@ -0,0 +1,239 @@
+package com.nemo.backend.domain.purge.service;
+
+import com.nemo.backend.domain.album.service.AlbumService;
+import com.nemo.backend.domain.auth.service.AuthService;
+import com.nemo.backend.domain.mail.entity.MailOutbox;
+import com.nemo.backend.domain.mail.entity.MailOutboxStatus;
+import com.nemo.backend.domain.mail.repository.MailOutboxRepository;
+import com.nemo.backend.domain.photo.dto.PhotoUploadRequest;
+import com.nemo.backend.domain.photo.service.PhotoService;
+import com.nemo.backend.domain.photo.storage.PhotoStorage;
+import com.nemo.backend.domain.photo.storage.StoredContent;
+import com.nemo.backend.domain.purge.repository.PurgeRepository;
+import com.nemo.backend.domain.user.repository.UserRepository;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import com.nemo.backend.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 다른 테스트 컨텍스트의 PurgeWorker 가 같은 행을 동시에 정리하지 않도록 DB 를 따로 씀
+@SpringBootTest(properties = {"purge.interval=PT1H", "purge.chunk-size=2", "purge.content-grace=PT0S",
+        "spring.datasource.url=jdbc:h2:mem:purge-worker-test"})
+class PurgeWorkerTest {
+    @Autowired
+    private PurgeWorker purgeWorker;
+    @Autowired
+    private PurgeRepository purgeRepository;
+    @Autowired
+    private AlbumService albumService;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private PhotoService photoService;
+    @Autowired
+    private PhotoStorage photoStorage;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void deletedAlbumDisappearsAtOnceAndIsPurgedInChunks() throws Exception {
+        Long userId = fixtures.saveUser("purge-album").getId();
+        Long albumId = fixtures.insertAlbum(userId, "정리할 앨범");
+        String onlyHere = store(1);
+        String shared = store(2);
+        for (int i = 0; i < 4; i++) {
+            fixtures.photo(userId).album(albumId).content(onlyHere).insert();
+        }
+        Long tagged = fixtures.photo(userId).album(albumId).content(shared).insert();
+        jdbcTemplate.update("insert into photo_tag (photo_id, tag) values (?, '졸업')", tagged);
+        jdbcTemplate.update("insert into timeline (id, user_id, photo_id, created_at, updated_at) "
+                + "values (next value for timeline_seq, ?, ?, current_timestamp, current_timestamp)", userId, tagged);
+        Long kept = fixtures.photo(userId).content(shared).insert();
+        jdbcTemplate.update("insert into photo_facet (user_id, type, facet_value, photo_count) values (?, 'BRAND', '인생네컷', 6)",
+                userId);
+        jdbcTemplate.update("insert into photo_facet (user_id, type, facet_value, photo_count) values (?, 'TAG', '졸업', 1)",
+                userId);
+        // 업로드로 올라온 사진처럼 카운터에 반영된 상태로 둠
+        jdbcTemplate.update("update photo set facets_counted = true where user_id = ?", userId);
+
+        albumService.delete(userId, albumId);
+        assertThat(albumService.list(userId, null, 20).getContent()).isEmpty();
+        assertThatThrownBy(() -> albumService.addPhotos(userId, albumId, List.of(kept)))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ALBUM_NOT_FOUND));
+        assertThat(count("select count(*) from photo where album_id = ?", albumId)).isEqualTo(5);
+
+        // 첫 청크만 지운 뒤 멈춘 상황: 다음 실행이 이어서 끝냄
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> purgeRepository.deletePhotoChunk(
+                PurgeRepository.Scope.ALBUM, albumId,
+                purgeRepository.findPhotoChunk(PurgeRepository.Scope.ALBUM, albumId, 2).get(1).id(),
+                LocalDateTime.now()));
+        assertThat(count("select count(*) from photo where album_id = ?", albumId)).isEqualTo(3);
+
+        assertThat(purgeWorker.purgeAll()).isGreaterThanOrEqualTo(1);
+
+        assertThat(count("select count(*) from album where id = ?", albumId)).isZero();
+        assertThat(count("select count(*) from photo where user_id = ?", userId)).isEqualTo(1);
+        assertThat(count("select count(*) from timeline where photo_id = ?", tagged)).isZero();
+        assertThat(count("select count(*) from photo_tag where photo_id = ?", tagged)).isZero();
+        // 먼저 지워진 청크의 사진 2장은 패싯을 줄이지 않았으므로 6 - 3
+        assertThat(count("select photo_count from photo_facet where user_id = ? and type = 'BRAND'", userId))
+                .isEqualTo(3);
+        assertThat(count("select photo_count from photo_facet where user_id = ? and type = 'TAG'", userId)).isZero();
+        assertThat(photoStorage.exists(onlyHere)).isFalse();
+        assertThat(photoStorage.exists(shared)).isTrue();
+        assertThat(count("select count(*) from purged_content where content_hash in (?, ?)", onlyHere, shared))
+                .isZero();
+    }
+
+    @Test
+    void deletedAccountFreesEmailAtOnceAndIsPurgedInBackground() throws Exception {
+        String email = "purge-account-" + UUID.randomUUID() + "@nemo.com";
+        Long userId = fixtures.saveUser("purge", email).getId();
+        Long albumId = fixtures.insertAlbum(userId, "정리할 앨범");
+        String content = store(3);
+        for (int i = 0; i < 5; i++) {
+            fixtures.photo(userId).album(i % 2 == 0 ? albumId : null).content(content).insert();
+        }
+        Long friendId = fixtures.saveUser("purge-friend").getId();
+        jdbcTemplate.update("insert into friend (id, user_id, friend_id, created_at, updated_at) "
+                + "values (next value for friend_seq, ?, ?, current_timestamp, current_timestamp)", friendId, userId);
+        mailOutboxRepository.save(MailOutbox.builder().recipient(email).subject("인증").body("123456")
+                .status(MailOutboxStatus.PENDING).nextAttemptAt(LocalDateTime.now().plusHours(1)).build());
+
+        authService.deleteAccount(userId);
+        assertThat(count("select count(*) from mail_outbox where recipient = ?", email)).isZero();
+
+        assertThat(userRepository.findById(userId)).isEmpty();
+        assertThat(userRepository.findByEmail(email)).isEmpty();
+        assertThat(fixtures.saveUser("purge", email).getId()).isNotEqualTo(userId);
+        assertThat(count("select count(*) from photo where user_id = ?", userId)).isEqualTo(5);
+
+        purgeWorker.purgeAll();
+
+        assertThat(count("select count(*) from users where id = ?", userId)).isZero();
+        assertThat(count("select count(*) from photo where user_id = ?", userId)).isZero();
+        assertThat(count("select count(*) from album where user_id = ?", userId)).isZero();
+        assertThat(count("select count(*) from friend where friend_id = ?", userId)).isZero();
+        assertThat(photoStorage.exists(content)).isFalse();
+        assertThat(userRepository.findById(friendId)).isPresent();
+    }
+
+    @Test
+    void deletedPhotoQueuesItsOriginalAndTheSweepKeepsSharedContent() throws Exception {
+        Long userId = fixtures.saveUser("purge-photo").getId();
+        String onlyHere = store(4);
+        String shared = store(5);
+        Long single = fixtures.photo(userId).content(onlyHere).insert();
+        Long copy = fixtures.photo(userId).content(shared).insert();
+        fixtures.photo(fixtures.saveUser("purge-other").getId()).content(shared).insert();
+
+        photoService.delete(userId, single);
+        photoService.delete(userId, copy);
+        assertThat(count("select count(*) from purged_content where content_hash in (?, ?)", onlyHere, shared))
+                .isEqualTo(2);
+
+        purgeWorker.purgeAll();
+
+        assertThat(photoStorage.exists(onlyHere)).isFalse();
+        assertThat(photoStorage.exists(shared)).isTrue();
+        assertThat(count("select count(*) from purged_content where content_hash in (?, ?)", onlyHere, shared))
+                .isZero();
+    }
+
+    @Test
+    void qrImportDoesNotKeepAPurgedOriginalAlive() throws Exception {
+        Long userId = fixtures.saveUser("purge-qr").getId();
+        String content = store(6);
+        Long photoId = fixtures.photo(userId).content(content).insert();
+        jdbcTemplate.update("insert into qr_import (payload_key, source_url, content_hash, created_at, updated_at) "
+                + "values (?, 'https://booth.example/p/1', ?, current_timestamp, current_timestamp)",
+                UUID.randomUUID().toString().replace("-", ""), content);
+
+        photoService.delete(userId, photoId);
+        purgeWorker.purgeAll();
+
+        assertThat(photoStorage.exists(content)).isFalse();
+        assertThat(count("select count(*) from qr_import where content_hash = ?", content)).isZero();
+    }
+
+    @Test
+    void registeringQueuedContentTakesItBackFromTheSweep() throws Exception {
+        Long userId = fixtures.saveUser("purge-reupload").getId();
+        String content = store(7);
+        photoService.delete(userId, fixtures.photo(userId).content(content).insert());
+        assertThat(count("select count(*) from purged_content where content_hash = ?", content)).isEqualTo(1);
+
+        PhotoUploadRequest request = new PhotoUploadRequest();
+        request.setBrand("인생네컷");
+        photoService.register(userId, new StoredContent(content, 4096, false), "image/jpeg", request, null);
+        assertThat(count("select count(*) from purged_content where content_hash = ?", content)).isZero();
+        purgeWorker.purgeAll();
+        assertThat(photoStorage.exists(content)).isTrue();
+
+        // 정리가 먼저 끝나 파일이 사라졌으면 등록이 실패하고 호출자가 다시 저장함
+        String purged = store(8);
+        photoService.delete(userId, fixtures.photo(userId).content(purged).insert());
+        purgeWorker.purgeAll();
+        assertThatThrownBy(() -> photoService.register(userId, new StoredContent(purged, 4096, false),
+                "image/jpeg", request, null))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.IMAGE_NOT_FOUND));
+    }
+
+    @Test
+    void runIsSkippedWhileAnotherNodeHoldsTheLease() {
+        Long userId = fixtures.saveUser("purge-lease").getId();
+        Long albumId = fixtures.insertAlbum(userId, "다른 노드");
+        albumService.delete(userId, albumId);
+        purgeWorker.purgeAll();
+        jdbcTemplate.update("update purge_lease set holder = 'other-node', lease_until = ?",
+                LocalDateTime.now().plusHours(1));
+        Long laterId = fixtures.insertAlbum(userId, "나중에 지운 앨범");
+        albumService.delete(userId, laterId);
+
+        assertThat(purgeWorker.purgeAll()).isZero();
+        assertThat(count("select count(*) from album where id = ?", laterId)).isEqualTo(1);
+
+        // 임대가 만료되면 다음 실행이 가져감
+        jdbcTemplate.update("update purge_lease set lease_until = ?", LocalDateTime.now().minusSeconds(1));
+        assertThat(purgeWorker.purgeAll()).isGreaterThanOrEqualTo(1);
+        assertThat(count("select count(*) from album where id = ?", laterId)).isZero();
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    private String store(long seed) throws IOException {
+        byte[] bytes = new byte[4096];
+        new Random(seed).nextBytes(bytes);
+        // 다른 테스트가 같은 내용을 저장해 두었을 수 있으므로 실행마다 다른 바이트를 씀
+        byte[] unique = UUID.randomUUID().toString().getBytes();
+        System.arraycopy(unique, 0, bytes, 0, unique.length);
+        return photoStorage.store(new ByteArrayInputStream(bytes)).contentHash();
+    }
+}
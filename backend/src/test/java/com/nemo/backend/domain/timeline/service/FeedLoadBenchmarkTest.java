@@ -0,0 +1,138 @@
+package com.nemo.backend.domain.timeline.service;
+
+import com.nemo.backend.domain.user.entity.User;
+import com.nemo.backend.global.util.KeysetCursor;
+import com.nemo.backend.support.TestFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reads the first page of a friends feed as the reader's friend count grows,
+ * once from the precomputed inbox ({@code feed_entry}) and once by joining
+ * every friend's timeline at read time.  Reports latency and the rows H2
+ * scanned ({@code EXPLAIN ANALYZE}): the pull query reads and sorts every
+ * post of every friend, the inbox query seeks to the cursor and reads one
+ * page.  The service column is the whole {@link TimelineService#feed} call,
+ * including the read-time merge of high-degree authors.  In-memory H2 sorts
+ * a few thousand rows quickly, so the rows scanned are the number to watch;
+ * on a disk-backed database they are pages read.  Run with
+ * {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class FeedLoadBenchmarkTest {
+    private static final int[] FRIENDS = {10, 100, 1_000};
+    private static final int POSTS_PER_FRIEND = 20;
+    private static final int PAGE_SIZE = 20;
+    private static final int REPEAT = 30;
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+    // FeedEntryRepository.findInboxPage 가 고르는 행과 같은 형태
+    private static final String INBOX_SQL = "select e.timeline_id, e.posted_at from feed_entry e where e.owner_id = ? "
+            + "and e.posted_at <= ? and (e.posted_at < ? or e.timeline_id < ?) "
+            + "order by e.owner_id, e.posted_at desc, e.timeline_id desc fetch first ? rows only";
+    private static final String PULL_SQL = "select t.id, t.created_at from timeline t "
+            + "join friend f on f.friend_id = t.user_id where f.user_id = ? "
+            + "and t.created_at <= ? and (t.created_at < ? or t.id < ?) "
+            + "order by t.created_at desc, t.id desc fetch first ? rows only";
+
+    @Autowired
+    private TimelineService timelineService;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void inboxCostDoesNotGrowWithFriendCount() {
+        Timestamp first = Timestamp.valueOf(KeysetCursor.FIRST.createdAt());
+        long firstId = KeysetCursor.FIRST.id();
+        System.out.println("friends | inbox us | inbox rows scanned | pull us | pull rows scanned | service us");
+        for (int friends : FRIENDS) {
+            Long readerId = populate(friends);
+            long inbox = measure(() -> jdbcTemplate.queryForList(INBOX_SQL,
+                    readerId, first, first, firstId, PAGE_SIZE + 1));
+            long pull = measure(() -> jdbcTemplate.queryForList(PULL_SQL,
+                    readerId, first, first, firstId, PAGE_SIZE + 1));
+            long service = measure(() -> timelineService.feed(readerId, null, PAGE_SIZE));
+            long inboxScanned = scanned(INBOX_SQL, readerId, first, first, firstId, PAGE_SIZE + 1);
+            long pullScanned = scanned(PULL_SQL, readerId, first, first, firstId, PAGE_SIZE + 1);
+            System.out.printf("%7d | %8d | %18d | %7d | %17d | %10d%n",
+                    friends, inbox / 1_000, inboxScanned, pull / 1_000, pullScanned, service / 1_000);
+
+            assertThat(inboxScanned).isLessThanOrEqualTo(PAGE_SIZE + 1);
+            assertThat(pullScanned).isGreaterThanOrEqualTo((long) friends * POSTS_PER_FRIEND);
+        }
+    }
+
+    /** 친구 {@code friends} 명이 각각 글을 쓰고 복사까지 끝난 상태를 만들고 읽는 사용자 id 를 반환 */
+    private Long populate(int friends) {
+        Long readerId = fixtures.saveUser("reader").getId();
+        List<User> authors = new ArrayList<>(friends);
+        for (int i = 0; i < friends; i++) {
+            authors.add(fixtures.saveUser("friend" + i));
+        }
+        List<Object[]> edges = new ArrayList<>(friends * 2);
+        List<Object[]> photos = new ArrayList<>(friends);
+        for (User author : authors) {
+            edges.add(new Object[]{readerId, author.getId()});
+            edges.add(new Object[]{author.getId(), readerId});
+            photos.add(new Object[]{author.getId()});
+        }
+        jdbcTemplate.batchUpdate("insert into friend (id, user_id, friend_id, created_at, updated_at) "
+                + "values (next value for friend_seq, ?, ?, current_timestamp, current_timestamp)", edges);
+        jdbcTemplate.batchUpdate("insert into photo (id, user_id, brand, image_url, thumbnail_status, created_at, updated_at) "
+                + "values (next value for photo_seq, ?, '인생네컷', '/api/images/x', 'READY', "
+                + "current_timestamp, current_timestamp)", photos);
+
+        // 친구들의 글이 시간순으로 섞이도록 작성 시각을 번갈아 배정
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> posts = new ArrayList<>(friends * POSTS_PER_FRIEND);
+        for (int i = 0; i < POSTS_PER_FRIEND; i++) {
+            for (int f = 0; f < friends; f++) {
+                Timestamp createdAt = Timestamp.valueOf(base.plusSeconds((long) i * friends + f));
+                posts.add(new Object[]{createdAt, createdAt, authors.get(f).getId()});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into timeline (id, user_id, photo_id, fanout_status, fanout_cursor, "
+                + "created_at, updated_at) select next value for timeline_seq, p.user_id, p.id, 'DONE', 0, ?, ? "
+                + "from photo p where p.user_id = ?", posts);
+        jdbcTemplate.update("insert into feed_entry (owner_id, timeline_id, author_id, posted_at) "
+                + "select f.user_id, t.id, t.user_id, t.created_at from friend f "
+                + "join timeline t on t.user_id = f.friend_id where f.user_id = ?", readerId);
+        return readerId;
+    }
+
+    private long scanned(String sql, Object... args) {
+        String plan = jdbcTemplate.queryForObject("explain analyze " + sql, String.class, args);
+        long max = 0;
+        Matcher matcher = SCAN_COUNT.matcher(plan);
+        while (matcher.find()) {
+            max = Math.max(max, Long.parseLong(matcher.group(1)));
+        }
+        return max;
+    }
+
+    private static long measure(Supplier<?> query) {
+        for (int i = 0; i < 5; i++) {
+            query.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - start) / REPEAT;
+    }
+}
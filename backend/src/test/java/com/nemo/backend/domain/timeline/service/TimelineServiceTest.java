@@ -0,0 +1,172 @@
+package com.nemo.backend.domain.timeline.service;
+
+import com.nemo.backend.domain.friend.entity.Friend;
+import com.nemo.backend.domain.friend.repository.FriendRepository;
+import com.nemo.backend.domain.friend.service.FriendService;
+import com.nemo.backend.domain.photo.service.PhotoService;
+import com.nemo.backend.domain.timeline.dto.FeedItemResponse;
+import com.nemo.backend.domain.timeline.entity.FanoutStatus;
+import com.nemo.backend.domain.timeline.repository.TimelineRepository;
+import com.nemo.backend.domain.user.entity.User;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.global.exception.ErrorCode;
+import com.nemo.backend.global.response.CursorPageResponse;
+import com.nemo.backend.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 다른 테스트 컨텍스트의 sweep 이 다른 설정으로 복사하지 않도록 DB 를 따로 씀
+@SpringBootTest(properties = {"feed.fanout.batch-size=2", "feed.fanout.max-degree=5",
+        "feed.fanout.sweep-interval=PT1H", "spring.datasource.url=jdbc:h2:mem:timeline-service-test"})
+class TimelineServiceTest {
+    @Autowired
+    private TimelineService timelineService;
+    @Autowired
+    private FeedFanout feedFanout;
+    @Autowired
+    private PhotoService photoService;
+    @Autowired
+    private TimelineRepository timelineRepository;
+    @Autowired
+    private FriendRepository friendRepository;
+    @Autowired
+    private FriendService friendService;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void postIsCopiedToEveryFriendInBatches() {
+        User author = fixtures.saveUser("author");
+        User stranger = fixtures.saveUser("stranger");
+        List<User> friends = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            friends.add(befriend(author, fixtures.saveUser("friend" + i)));
+        }
+
+        Long timelineId = timelineService.post(author.getId(), fixtures.photo(author.getId()).insert(), "졸업 사진");
+        // 작성자 본인의 피드에는 커밋과 함께 바로 보임
+        assertThat(ids(timelineService.feed(author.getId(), null, 20))).containsExactly(timelineId);
+        feedFanout.fanOut(timelineId);
+
+        assertThat(timelineRepository.findById(timelineId).orElseThrow().getFanoutStatus())
+                .isEqualTo(FanoutStatus.DONE);
+        assertThat(count("select count(*) from feed_entry where timeline_id = ?", timelineId)).isEqualTo(6);
+        for (User friend : friends) {
+            CursorPageResponse<FeedItemResponse> feed = timelineService.feed(friend.getId(), null, 20);
+            assertThat(ids(feed)).containsExactly(timelineId);
+            assertThat(feed.getContent().get(0).getAuthorNickname()).isEqualTo(author.getNickname());
+            assertThat(feed.getContent().get(0).getContent()).isEqualTo("졸업 사진");
+        }
+        assertThat(timelineService.feed(stranger.getId(), null, 20).getContent()).isEmpty();
+
+        // 이미 끝난 글을 다시 복사해도 중복되지 않음
+        feedFanout.fanOut(timelineId);
+        assertThat(count("select count(*) from feed_entry where timeline_id = ?", timelineId)).isEqualTo(6);
+    }
+
+    @Test
+    void highDegreeAuthorIsMergedAtReadTimeOnTheSameCursor() {
+        User reader = fixtures.saveUser("reader");
+        User popular = fixtures.saveUser("popular");
+        User regular = befriend(reader, fixtures.saveUser("regular"));
+        befriend(popular, reader);
+        for (int i = 0; i < 5; i++) {
+            befriend(popular, fixtures.saveUser("fan" + i));
+        }
+
+        List<Long> posted = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            posted.add(post(popular));
+            posted.add(post(regular));
+        }
+        assertThat(timelineRepository.findById(posted.get(0)).orElseThrow().getFanoutStatus())
+                .isEqualTo(FanoutStatus.SKIPPED);
+        assertThat(count("select count(*) from feed_entry where author_id = ? and owner_id <> ?",
+                popular.getId(), popular.getId())).isZero();
+        assertThat(count("select count(*) from feed_pull_author where author_id = ?", popular.getId())).isEqualTo(1);
+
+        List<Long> read = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponse<FeedItemResponse> page = timelineService.feed(reader.getId(), cursor, 4);
+            read.addAll(ids(page));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertThat(read).containsExactlyElementsOf(posted.reversed());
+    }
+
+    @Test
+    void unfriendingRemovesEachOthersPostsFromBothFeeds() {
+        User author = fixtures.saveUser("author");
+        User friend = befriend(author, fixtures.saveUser("friend"));
+        User other = befriend(author, fixtures.saveUser("other"));
+        Long byAuthor = post(author);
+        Long byFriend = post(friend);
+
+        friendService.remove(author.getId(), friend.getId());
+
+        assertThat(ids(timelineService.feed(author.getId(), null, 20))).containsExactly(byAuthor);
+        assertThat(ids(timelineService.feed(friend.getId(), null, 20))).containsExactly(byFriend);
+        assertThat(ids(timelineService.feed(other.getId(), null, 20))).containsExactly(byAuthor);
+    }
+
+    @Test
+    void deletingThePhotoRemovesItFromEveryFeed() {
+        User author = fixtures.saveUser("author");
+        User friend = befriend(author, fixtures.saveUser("friend"));
+        Long photoId = fixtures.photo(author.getId()).insert();
+        Long timelineId = timelineService.post(author.getId(), photoId, null);
+        feedFanout.fanOut(timelineId);
+        assertThat(ids(timelineService.feed(friend.getId(), null, 20))).containsExactly(timelineId);
+
+        photoService.delete(author.getId(), photoId);
+
+        assertThat(timelineService.feed(friend.getId(), null, 20).getContent()).isEmpty();
+        assertThat(count("select count(*) from feed_entry where timeline_id = ?", timelineId)).isZero();
+        assertThat(timelineRepository.findById(timelineId)).isEmpty();
+    }
+
+    @Test
+    void postRejectsSomeoneElsesPhotoAndOverlongContent() {
+        User author = fixtures.saveUser("author");
+        Long other = fixtures.photo(fixtures.saveUser("other").getId()).insert();
+        assertThatThrownBy(() -> timelineService.post(author.getId(), other, null))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PHOTO_NOT_FOUND));
+        assertThatThrownBy(() -> timelineService.post(author.getId(), fixtures.photo(author.getId()).insert(),
+                "가".repeat(TimelineService.MAX_CONTENT_LENGTH + 1)))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_TIMELINE_REQUEST));
+    }
+
+    private Long post(User author) {
+        Long timelineId = timelineService.post(author.getId(), fixtures.photo(author.getId()).insert(), null);
+        feedFanout.fanOut(timelineId);
+        return timelineId;
+    }
+
+    // 친구 관계는 방향별로 한 행씩 저장
+    private User befriend(User user, User friend) {
+        friendRepository.save(Friend.builder().user(user).friend(friend).build());
+        friendRepository.save(Friend.builder().user(friend).friend(user).build());
+        return friend;
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    private static List<Long> ids(CursorPageResponse<FeedItemResponse> page) {
+        return page.getContent().stream().map(FeedItemResponse::getTimelineId).toList();
+    }
+}
@@ -0,0 +1,51 @@
+package com.nemo.backend.domain.user.service;
+
+import com.nemo.backend.domain.auth.service.AuthService;
+import com.nemo.backend.domain.user.dto.UpdateUserRequest;
+import com.nemo.backend.domain.user.entity.User;
+import com.nemo.backend.global.exception.ApiException;
+import com.nemo.backend.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class UserServiceTest {
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserProfileCache userProfileCache;
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void profileIsCachedAndRefreshedOnUpdate() {
+        User user = fixtures.saveUser("before", "cache-update@nemo.com");
+        long hits = userProfileCache.stats().hitCount();
+
+        assertThat(userService.getProfile(user.getId()).getNickname()).isEqualTo("before");
+        assertThat(userService.getProfile(user.getId()).getNickname()).isEqualTo("before");
+        assertThat(userProfileCache.stats().hitCount()).isEqualTo(hits + 1);
+
+        UpdateUserRequest request = new UpdateUserRequest();
+        request.setNickname("after");
+        userService.updateProfile(user.getId(), request);
+
+        assertThat(userService.getProfile(user.getId()).getNickname()).isEqualTo("after");
+    }
+
+    @Test
+    void deletedAccountIsEvicted() {
+        User user = fixtures.saveUser("before", "cache-delete@nemo.com");
+        userService.getProfile(user.getId());
+
+        authService.deleteAccount(user.getId());
+
+        assertThatThrownBy(() -> userService.getProfile(user.getId())).isInstanceOf(ApiException.class);
+    }
+}
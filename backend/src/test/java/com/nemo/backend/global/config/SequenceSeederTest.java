@@ -0,0 +1,38 @@
+package com.nemo.backend.global.config;
+
+import com.nemo.backend.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 시퀀스를 앞으로 옮기므로 다른 테스트와 DB 를 나눔
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:sequence-seeder-test")
+class SequenceSeederTest {
+    @Autowired
+    private SequenceSeeder sequenceSeeder;
+    @Autowired
+    private TestFixtures fixtures;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void sequenceBehindExistingIdsIsMovedPastThemAndNeverBack() {
+        // identity 컬럼 시절에 들어간 행처럼 시퀀스보다 큰 id
+        Long legacyId = nextValue() + 10_000;
+        jdbcTemplate.update("update users set id = ? where id = ?", legacyId, fixtures.saveUser("legacy").getId());
+
+        sequenceSeeder.seed();
+
+        long next = nextValue();
+        assertThat(next - SequenceSeeder.ALLOCATION_SIZE).isGreaterThanOrEqualTo(legacyId);
+        sequenceSeeder.seed();
+        assertThat(nextValue()).isGreaterThan(next);
+    }
+
+    private long nextValue() {
+        return jdbcTemplate.queryForObject("select next value for users_seq", Long.class);
+    }
+}
@@ -0,0 +1,41 @@
+package com.nemo.backend.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountingBloomFilterTest {
+
+    @Test
+    void addedValuesAreFoundAndRemovedValuesDisappear() {
+        CountingBloomFilter filter = new CountingBloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.add("user" + i + "@nemo.com");
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(filter.mightContain("user" + i + "@nemo.com")).isTrue();
+        }
+        for (int i = 0; i < 1000; i++) {
+            filter.remove("user" + i + "@nemo.com");
+        }
+        assertThat(filter.mightContain("user1@nemo.com")).isFalse();
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("member" + i + "@nemo.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("stranger" + i + "@nemo.com")) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
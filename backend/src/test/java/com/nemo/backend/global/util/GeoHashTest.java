@@ -0,0 +1,37 @@
+package com.nemo.backend.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoHashTest {
+
+    @Test
+    void encodesKnownPoint() {
+        assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHash.encode(37.5665, 126.9780, 5)).isEqualTo("wydm9");
+    }
+
+    @Test
+    void coverContainsEveryCornerWithinTheCellBudget() {
+        double south = 37.4, west = 126.8, north = 37.7, east = 127.2;
+        List<String> cells = GeoHash.cover(south, west, north, east, 8);
+
+        assertThat(cells).hasSizeLessThanOrEqualTo(8).isSorted();
+        int precision = cells.get(0).length();
+        assertThat(cells).contains(
+                GeoHash.encode(south, west, precision),
+                GeoHash.encode(south, east, precision),
+                GeoHash.encode(north, west, precision),
+                GeoHash.encode(north, east, precision));
+    }
+
+    @Test
+    void nextPrefixCarriesAndOverflows() {
+        assertThat(GeoHash.nextPrefix("wydm9")).isEqualTo("wydmb");
+        assertThat(GeoHash.nextPrefix("wz")).isEqualTo("x0");
+        assertThat(GeoHash.nextPrefix("zz")).isNull();
+    }
+}
@@ -0,0 +1,112 @@
+package com.nemo.backend.support;
+
+import com.nemo.backend.domain.user.entity.User;
+import com.nemo.backend.domain.user.repository.UserRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Test data shared by the integration tests.  Users get a unique email so
+ * tests sharing one in-memory database never collide; photo rows are
+ * inserted with plain SQL so a test can set columns (status, timestamps,
+ * album) that the upload path would fill in itself.
+ */
+@Component
+public class TestFixtures {
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public TestFixtures(UserRepository userRepository, JdbcTemplate jdbcTemplate) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** {@code nickname} 으로 시작하는 고유한 이메일을 가진 사용자를 저장 */
+    public User saveUser(String nickname) {
+        return saveUser(nickname, nickname + "-" + UUID.randomUUID() + "@nemo.com");
+    }
+
+    public User saveUser(String nickname, String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setNickname(nickname);
+        return userRepository.save(user);
+    }
+
+    public Long insertAlbum(Long userId, String name) {
+        Long id = jdbcTemplate.queryForObject("select next value for album_seq", Long.class);
+        jdbcTemplate.update("insert into album (id, user_id, name, created_at, updated_at) "
+                + "values (?, ?, ?, current_timestamp, current_timestamp)", id, userId, name);
+        return id;
+    }
+
+    /** Starts a photo row owned by {@code userId}; call {@link PhotoRow#insert()} to write it. */
+    public PhotoRow photo(Long userId) {
+        return new PhotoRow(userId);
+    }
+
+    public final class PhotoRow {
+        private final Long userId;
+        private Long albumId;
+        private String imageUrl = "/api/images/x";
+        private String contentHash;
+        private String thumbnailStatus = "PENDING";
+        private String thumbnailSizes;
+        private LocalDateTime takenAt;
+        private LocalDateTime createdAt = LocalDateTime.now();
+
+        private PhotoRow(Long userId) {
+            this.userId = userId;
+        }
+
+        public PhotoRow album(Long albumId) {
+            this.albumId = albumId;
+            return this;
+        }
+
+        public PhotoRow imageUrl(String imageUrl) {
+            this.imageUrl = imageUrl;
+            return this;
+        }
+
+        /** 저장소의 원본을 가리키도록 이미지 URL 도 함께 설정 */
+        public PhotoRow content(String contentHash) {
+            this.contentHash = contentHash;
+            this.imageUrl = "/api/images/" + contentHash;
+            return this;
+        }
+
+        public PhotoRow thumbnails(String status, String sizes) {
+            this.thumbnailStatus = status;
+            this.thumbnailSizes = sizes;
+            return this;
+        }
+
+        public PhotoRow takenAt(LocalDateTime takenAt) {
+            this.takenAt = takenAt;
+            return this;
+        }
+
+        public PhotoRow createdAt(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        /** Inserts the row and returns its id. */
+        public Long insert() {
+            Long id = jdbcTemplate.queryForObject("select next value for photo_seq", Long.class);
+            Timestamp created = Timestamp.valueOf(createdAt);
+            jdbcTemplate.update("insert into photo (id, user_id, album_id, brand, image_url, content_hash, taken_at, "
+                            + "thumbnail_status, thumbnail_sizes, created_at, updated_at) "
+                            + "values (?, ?, ?, '인생네컷', ?, ?, ?, ?, ?, ?, ?)",
+                    id, userId, albumId, imageUrl, contentHash,
+                    takenAt == null ? null : Timestamp.valueOf(takenAt),
+                    thumbnailStatus, thumbnailSizes, created, created);
+            return id;
+        }
+    }
+}